@@ -0,0 +1,30 @@
+package com.minecraft.job.admin.config;
+
+import com.minecraft.job.common.funnel.service.DomainFunnelService;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistoryPartitionRepository;
+import com.minecraft.job.common.recruitmentProcess.service.RecruitmentProcessHistoryPartitionManager;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ComponentScans;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * admin 은 메일과 관리 API 가 쓰는 빈만 가져온다. common 전체를 스캔하면 api 에서 돌 @Scheduled 작업까지 admin 에서 돈다.
+ */
+@EntityScan(basePackages = "com.minecraft.job.common")
+@EnableJpaRepositories(basePackages = {"com.minecraft.job.common"})
+@ComponentScans({
+        @ComponentScan(value = "com.minecraft.job.common.mail"),
+        @ComponentScan(value = "com.minecraft.job.common.support"),
+        @ComponentScan(value = "com.minecraft.job.integration.mail")
+})
+@Import({
+        DomainFunnelService.class,
+        RecruitmentProcessHistoryPartitionRepository.class,
+        RecruitmentProcessHistoryPartitionManager.class
+})
+@Configuration
+public class CommonModuleConfiguration {
+}
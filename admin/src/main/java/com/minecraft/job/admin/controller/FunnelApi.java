@@ -0,0 +1,34 @@
+package com.minecraft.job.admin.controller;
+
+import com.minecraft.job.admin.controller.dto.FunnelDto.FunnelRebuildResponse;
+import com.minecraft.job.admin.controller.dto.FunnelDto.FunnelResponse;
+import com.minecraft.job.common.funnel.domain.FunnelRollupId;
+import com.minecraft.job.common.funnel.service.FunnelService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import static com.minecraft.job.common.funnel.domain.FunnelScope.RECRUITMENT;
+import static com.minecraft.job.common.funnel.domain.FunnelScope.TEAM;
+
+@RestController
+@RequestMapping("/funnel")
+@RequiredArgsConstructor
+public class FunnelApi {
+
+    private final FunnelService funnelService;
+
+    @GetMapping("/recruitment")
+    public FunnelResponse getRecruitmentFunnel(@RequestParam Long recruitmentId) {
+        return FunnelResponse.create(funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, recruitmentId)));
+    }
+
+    @GetMapping("/team")
+    public FunnelResponse getTeamFunnel(@RequestParam Long teamId) {
+        return FunnelResponse.create(funnelService.getFunnel(FunnelRollupId.of(TEAM, teamId)));
+    }
+
+    @PostMapping("/rebuild")
+    public FunnelRebuildResponse rebuild() {
+        return new FunnelRebuildResponse(funnelService.rebuild());
+    }
+}
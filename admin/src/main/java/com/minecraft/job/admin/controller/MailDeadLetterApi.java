@@ -0,0 +1,36 @@
+package com.minecraft.job.admin.controller;
+
+import com.minecraft.job.admin.controller.dto.MailDeadLetterDto.MailDeadLetterListResponse;
+import com.minecraft.job.admin.controller.dto.MailDeadLetterReplayDto.MailDeadLetterReplayRequest;
+import com.minecraft.job.admin.controller.dto.MailDeadLetterReplayDto.MailDeadLetterReplayResponse;
+import com.minecraft.job.common.mail.service.MailDeadLetterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/mail-dead-letter")
+@RequiredArgsConstructor
+public class MailDeadLetterApi {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final MailDeadLetterService mailDeadLetterService;
+
+    @GetMapping
+    public MailDeadLetterListResponse getDeadLetters(
+            @RequestParam(required = false) String template,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PageRequest pageRequest = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by(Sort.Direction.DESC, "id"));
+
+        return MailDeadLetterListResponse.create(mailDeadLetterService.getDeadLetters(template, pageRequest));
+    }
+
+    @PostMapping("/replay")
+    public MailDeadLetterReplayResponse replay(@RequestBody MailDeadLetterReplayRequest req) {
+        return new MailDeadLetterReplayResponse(mailDeadLetterService.replay(req.ids()));
+    }
+}
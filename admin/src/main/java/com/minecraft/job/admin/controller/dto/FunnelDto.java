@@ -0,0 +1,45 @@
+package com.minecraft.job.admin.controller.dto;
+
+import com.minecraft.job.common.funnel.domain.FunnelRollup;
+import com.minecraft.job.common.funnel.domain.FunnelScope;
+
+import java.time.LocalDateTime;
+
+public class FunnelDto {
+
+    public record FunnelResponse(
+            FunnelScope scope,
+            Long targetId,
+            long applied,
+            long inProgress,
+            long passed,
+            long failed,
+            long canceled,
+            double inProgressRate,
+            double passRate,
+            Long medianTimeToDecisionSeconds,
+            LocalDateTime updatedAt
+    ) {
+
+        public static FunnelResponse create(FunnelRollup funnelRollup) {
+            return new FunnelResponse(
+                    funnelRollup.getId().getScope(),
+                    funnelRollup.getId().getTargetId(),
+                    funnelRollup.getApplied(),
+                    funnelRollup.getInProgress(),
+                    funnelRollup.getPassed(),
+                    funnelRollup.getFailed(),
+                    funnelRollup.getCanceled(),
+                    funnelRollup.inProgressRate(),
+                    funnelRollup.passRate(),
+                    funnelRollup.medianTimeToDecisionSeconds(),
+                    funnelRollup.getUpdatedAt()
+            );
+        }
+    }
+
+    public record FunnelRebuildResponse(
+            int funnelCount
+    ) {
+    }
+}
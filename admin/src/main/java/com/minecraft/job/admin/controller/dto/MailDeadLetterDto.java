@@ -0,0 +1,50 @@
+package com.minecraft.job.admin.controller.dto;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MailDeadLetterDto {
+
+    public record MailDeadLetterListResponse(
+            List<MailDeadLetterData> deadLetters,
+            int page,
+            int size,
+            long totalCount
+    ) {
+
+        public static MailDeadLetterListResponse create(Page<MailDeadLetter> page) {
+            return new MailDeadLetterListResponse(
+                    page.getContent().stream().map(MailDeadLetterData::create).toList(),
+                    page.getNumber(),
+                    page.getSize(),
+                    page.getTotalElements()
+            );
+        }
+    }
+
+    public record MailDeadLetterData(
+            Long id,
+            String recipients,
+            String template,
+            int attempts,
+            String lastError,
+            LocalDateTime createdAt,
+            LocalDateTime deadAt
+    ) {
+
+        public static MailDeadLetterData create(MailDeadLetter mailDeadLetter) {
+            return new MailDeadLetterData(
+                    mailDeadLetter.getId(),
+                    mailDeadLetter.getRecipients(),
+                    mailDeadLetter.getTemplate(),
+                    mailDeadLetter.getAttempts(),
+                    mailDeadLetter.getLastError(),
+                    mailDeadLetter.getCreatedAt(),
+                    mailDeadLetter.getDeadAt()
+            );
+        }
+    }
+}
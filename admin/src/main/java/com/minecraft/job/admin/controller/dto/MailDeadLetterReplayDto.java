@@ -0,0 +1,16 @@
+package com.minecraft.job.admin.controller.dto;
+
+import java.util.List;
+
+public class MailDeadLetterReplayDto {
+
+    public record MailDeadLetterReplayRequest(
+            List<Long> ids
+    ) {
+    }
+
+    public record MailDeadLetterReplayResponse(
+            int replayedCount
+    ) {
+    }
+}
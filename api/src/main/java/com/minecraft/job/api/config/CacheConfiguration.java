@@ -0,0 +1,28 @@
+package com.minecraft.job.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 트랜잭션 안에서의 evict 는 커밋 이후로 미뤄서, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 한다.
+ * 다른 인스턴스에서의 변경은 expireAfterWrite 이내에 반영된다.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfiguration {
+
+    public static final String REVIEW_SCORE_HISTOGRAM = "reviewScoreHistogram";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.spec:maximumSize=10000,expireAfterWrite=60s}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(REVIEW_SCORE_HISTOGRAM);
+        cacheManager.setCacheSpecification(spec);
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
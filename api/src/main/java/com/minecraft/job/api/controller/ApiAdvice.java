@@ -1,5 +1,6 @@
 package com.minecraft.job.api.controller;
 
+import com.minecraft.job.common.support.ErrorCode;
 import com.minecraft.job.common.support.MinecraftJobException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,17 +19,14 @@ public class ApiAdvice {
 
     @ExceptionHandler(Exception.class)
     public ErrorResponse exception(Exception ex) {
-        return new ErrorResponse(new ErrorData("에러가 발생했습니다."));
+        return new ErrorResponse(new ErrorData(null, "에러가 발생했습니다."));
     }
 
     @ExceptionHandler(MinecraftJobException.class)
     public ErrorResponse exception(MinecraftJobException ex) {
-
-        System.out.println("debug");
-
         final String message = messageSource.getMessage(ex.getMessage(), null, Locale.getDefault());
 
-        return new ErrorResponse(new ErrorData(message));
+        return new ErrorResponse(new ErrorData(ex.getErrorCode(), message));
     }
 
     @Getter
@@ -40,6 +38,7 @@ public class ApiAdvice {
     @Getter
     @AllArgsConstructor
     public static class ErrorData {
+        private ErrorCode code;
         private String message;
     }
 }
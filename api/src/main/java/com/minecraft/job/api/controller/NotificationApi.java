@@ -0,0 +1,29 @@
+package com.minecraft.job.api.controller;
+
+import com.minecraft.job.api.controller.dto.NotificationInboxDto.NotificationInboxResponse;
+import com.minecraft.job.api.controller.dto.NotificationReadDto.NotificationReadRequest;
+import com.minecraft.job.api.service.NotificationAppService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/notification")
+@RequiredArgsConstructor
+public class NotificationApi {
+
+    private final NotificationAppService notificationAppService;
+
+    @GetMapping
+    public NotificationInboxResponse inbox(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return NotificationInboxResponse.create(notificationAppService.getInbox(userId, cursor, size));
+    }
+
+    @PostMapping("/read")
+    public void read(@RequestBody NotificationReadRequest req) {
+        notificationAppService.read(req.userId(), req.lastNotificationId());
+    }
+}
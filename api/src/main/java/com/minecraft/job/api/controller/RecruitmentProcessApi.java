@@ -1,18 +1,34 @@
 package com.minecraft.job.api.controller;
 
+import com.minecraft.job.api.service.RecruitmentProcessAppService;
+import com.minecraft.job.api.service.RecruitmentProcessExportBody;
+import com.minecraft.job.api.service.RecruitmentProcessExportFormat;
+import com.minecraft.job.api.service.RecruitmentProcessStream;
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
 import com.minecraft.job.common.recruitmentProcess.service.RecruitmentProcessService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+
+import static com.minecraft.job.api.controller.dto.RecruitmentProcessApplicationDto.RecruitmentProcessApplicationsResponse;
+import static com.minecraft.job.api.controller.dto.RecruitmentProcessBulkDto.RecruitmentProcessBulkRequest;
+import static com.minecraft.job.api.controller.dto.RecruitmentProcessBulkDto.RecruitmentProcessBulkResponse;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessCancelDto.RecruitmentProcessCancelRequest;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessCreateDto.*;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessFailDto.RecruitmentProcessFailRequest;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessInProgressDto.RecruitmentProcessInProgressRequest;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessPassDto.RecruitmentProcessPassRequest;
+import static com.minecraft.job.api.controller.dto.RecruitmentProcessPipelineDto.RecruitmentProcessApplicantsResponse;
+import static com.minecraft.job.api.controller.dto.RecruitmentProcessPipelineDto.RecruitmentProcessPipelineResponse;
 
 @RestController
 @RequestMapping("/recruitment-process")
@@ -20,6 +36,8 @@ import static com.minecraft.job.api.controller.dto.RecruitmentProcessPassDto.Rec
 public class RecruitmentProcessApi {
 
     private final RecruitmentProcessService recruitmentProcessService;
+    private final RecruitmentProcessAppService recruitmentProcessAppService;
+    private final RecruitmentProcessStream recruitmentProcessStream;
 
     @PostMapping
     public RecruitmentProcessResponse create(@RequestBody RecruitmentProcessCreateRequest req) {
@@ -47,4 +65,78 @@ public class RecruitmentProcessApi {
     public void fail(@RequestBody RecruitmentProcessFailRequest req) {
         recruitmentProcessService.fail(req.recruitmentProcessId(), req.teamId(), req.leaderId());
     }
+
+    @PostMapping("/bulk")
+    public RecruitmentProcessBulkResponse bulk(@RequestBody RecruitmentProcessBulkRequest req) {
+        return RecruitmentProcessBulkResponse.create(
+                recruitmentProcessService.changeStatus(req.recruitmentProcessIds(), req.teamId(), req.leaderId(), req.status()));
+    }
+
+    @GetMapping("/pipeline")
+    public RecruitmentProcessPipelineResponse pipeline(
+            @RequestParam Long recruitmentId,
+            @RequestParam Long teamId,
+            @RequestParam Long leaderId
+    ) {
+        return RecruitmentProcessPipelineResponse.create(recruitmentProcessAppService.getPipeline(recruitmentId, teamId, leaderId));
+    }
+
+    @GetMapping("/pipeline/applicants")
+    public RecruitmentProcessApplicantsResponse applicants(
+            @RequestParam Long recruitmentId,
+            @RequestParam Long teamId,
+            @RequestParam Long leaderId,
+            @RequestParam RecruitmentProcessStatus status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return RecruitmentProcessApplicantsResponse.create(
+                recruitmentProcessAppService.getApplicants(recruitmentId, teamId, leaderId, status, cursor, size));
+    }
+
+    @GetMapping("/mine")
+    public RecruitmentProcessApplicationsResponse mine(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return RecruitmentProcessApplicationsResponse.create(recruitmentProcessAppService.getApplications(userId, cursor, size));
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 이 있으면 압축해서 보낸다.
+     * 본문을 요청의 비동기 처리에 등록해 이 요청에만 내보내기 시간 제한을 걸고, 본문이 돌지 않고 끝나도 자리를 돌려받는다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam Long recruitmentId,
+            @RequestParam Long teamId,
+            @RequestParam Long leaderId,
+            @RequestParam(defaultValue = "CSV") RecruitmentProcessExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        RecruitmentProcessExportBody body = recruitmentProcessAppService.exportApplicants(recruitmentId, teamId, leaderId, format, gzip);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(RecruitmentProcessExportBody.class.getName(), body);
+
+        String filename = "recruitment-" + recruitmentId + "-applicants." + format.getExtension();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .headers(headers -> {
+                    if (gzip) {
+                        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+                })
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam Long userId) {
+        return recruitmentProcessStream.subscribe(userId);
+    }
 }
@@ -3,16 +3,15 @@ package com.minecraft.job.api.controller;
 import com.minecraft.job.api.controller.dto.ReviewActivateDto.ReviewActivateRequest;
 import com.minecraft.job.api.controller.dto.ReviewCreateDto.ReviewCreateRequest;
 import com.minecraft.job.api.controller.dto.ReviewCreateDto.ReviewCreateResponse;
+import com.minecraft.job.api.controller.dto.ReviewFeedDto.ReviewFeedResponse;
 import com.minecraft.job.api.controller.dto.ReviewInactivateDto.ReviewInactivateRequest;
+import com.minecraft.job.api.controller.dto.ReviewScoreDistributionDto.ReviewScoreDistributionResponse;
 import com.minecraft.job.api.controller.dto.ReviewUpdateDto.ReviewUpdateRequest;
 import com.minecraft.job.api.service.ReviewAppService;
 import com.minecraft.job.common.review.domain.Review;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/review")
@@ -28,6 +27,15 @@ public class ReviewApi {
         return ReviewCreateResponse.create(pair);
     }
 
+    @GetMapping
+    public ReviewFeedResponse feed(
+            @RequestParam Long teamId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ReviewFeedResponse.create(reviewAppService.getFeed(teamId, cursor, size));
+    }
+
     @PostMapping("/update")
     public void update(@RequestBody ReviewUpdateRequest req) {
         reviewAppService.update(req.toDto());
@@ -42,4 +50,9 @@ public class ReviewApi {
     public void inactivate(@RequestBody ReviewInactivateRequest req) {
         reviewAppService.inactivate(req.toDto());
     }
+
+    @GetMapping("/score-distribution")
+    public ReviewScoreDistributionResponse getScoreDistribution(@RequestParam Long teamId) {
+        return ReviewScoreDistributionResponse.create(teamId, reviewAppService.getScoreHistogram(teamId));
+    }
 }
@@ -5,13 +5,13 @@ import com.minecraft.job.api.controller.dto.TeamCreateDto.TeamCreateData;
 import com.minecraft.job.api.controller.dto.TeamCreateDto.TeamCreateRequest;
 import com.minecraft.job.api.controller.dto.TeamCreateDto.TeamCreateResponse;
 import com.minecraft.job.api.controller.dto.TeamInactivateDto.TeamInactivateRequest;
+import com.minecraft.job.api.controller.dto.TeamRankingDto.TeamRankResponse;
+import com.minecraft.job.api.controller.dto.TeamRankingDto.TeamRankingResponse;
+import com.minecraft.job.api.service.TeamRankingAppService;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.service.TeamService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import static com.minecraft.job.api.controller.dto.TeamUpdateDto.TeamUpdateRequest;
 
@@ -21,6 +21,7 @@ import static com.minecraft.job.api.controller.dto.TeamUpdateDto.TeamUpdateReque
 public class TeamApi {
 
     private final TeamService teamService;
+    private final TeamRankingAppService teamRankingAppService;
 
     @PostMapping
     public TeamCreateResponse create(@RequestBody TeamCreateRequest req) {
@@ -46,4 +47,18 @@ public class TeamApi {
 
         teamService.activate(req.teamId(), req.userId());
     }
+
+    @GetMapping("/ranking")
+    public TeamRankingResponse ranking(
+            @RequestParam(required = false) Double cursorScore,
+            @RequestParam(required = false) Long cursorTeamId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return TeamRankingResponse.create(teamRankingAppService.getRanking(cursorScore, cursorTeamId, size));
+    }
+
+    @GetMapping("/ranking/{teamId}")
+    public TeamRankResponse rank(@PathVariable Long teamId) {
+        return TeamRankResponse.create(teamRankingAppService.getRank(teamId));
+    }
 }
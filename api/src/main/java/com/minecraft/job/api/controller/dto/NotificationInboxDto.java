@@ -0,0 +1,40 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.common.notification.domain.Notification;
+import com.minecraft.job.common.notification.domain.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class NotificationInboxDto {
+
+    public record NotificationInboxResponse(
+            List<NotificationData> notifications,
+            long unreadCount,
+            String nextCursor
+    ) {
+
+        public static NotificationInboxResponse create(com.minecraft.job.api.service.dto.NotificationInboxDto inbox) {
+            return new NotificationInboxResponse(
+                    inbox.notifications().stream().map(NotificationData::create).toList(),
+                    inbox.unreadCount(),
+                    inbox.nextCursor()
+            );
+        }
+    }
+
+    public record NotificationData(
+            Long id,
+            NotificationType type,
+            Long targetId,
+            String message,
+            boolean read,
+            LocalDateTime createdAt
+    ) {
+
+        public static NotificationData create(Notification notification) {
+            return new NotificationData(notification.getId(), notification.getType(), notification.getTargetId(),
+                    notification.getMessage(), notification.isRead(), notification.getCreatedAt());
+        }
+    }
+}
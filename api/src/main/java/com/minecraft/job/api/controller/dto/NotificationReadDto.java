@@ -0,0 +1,7 @@
+package com.minecraft.job.api.controller.dto;
+
+public class NotificationReadDto {
+
+    public record NotificationReadRequest(Long userId, Long lastNotificationId) {
+    }
+}
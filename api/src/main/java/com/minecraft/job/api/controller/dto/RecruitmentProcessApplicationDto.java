@@ -0,0 +1,43 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicationsDto;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplication;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RecruitmentProcessApplicationDto {
+
+    public record RecruitmentProcessApplicationsResponse(
+            List<RecruitmentProcessApplicationData> applications,
+            String nextCursor
+    ) {
+
+        public static RecruitmentProcessApplicationsResponse create(RecruitmentProcessApplicationsDto applications) {
+            return new RecruitmentProcessApplicationsResponse(
+                    applications.applications().stream().map(RecruitmentProcessApplicationData::create).toList(),
+                    applications.nextCursor()
+            );
+        }
+    }
+
+    public record RecruitmentProcessApplicationData(
+            Long recruitmentProcessId,
+            Long recruitmentId,
+            String recruitmentTitle,
+            Long teamId,
+            String teamName,
+            Long resumeId,
+            RecruitmentProcessStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime closedAt
+    ) {
+
+        public static RecruitmentProcessApplicationData create(RecruitmentProcessApplication application) {
+            return new RecruitmentProcessApplicationData(application.recruitmentProcessId(), application.recruitmentId(),
+                    application.recruitmentTitle(), application.teamId(), application.teamName(), application.resumeId(),
+                    application.status(), application.createdAt(), application.closedAt());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult.Failure;
+
+import java.util.List;
+
+public class RecruitmentProcessBulkDto {
+
+    public record RecruitmentProcessBulkRequest(
+            List<Long> recruitmentProcessIds,
+            Long teamId,
+            Long leaderId,
+            RecruitmentProcessStatus status
+    ) {
+    }
+
+    public record RecruitmentProcessBulkResponse(
+            List<RecruitmentProcessBulkData> results
+    ) {
+
+        public static RecruitmentProcessBulkResponse create(List<RecruitmentProcessTransitionResult> results) {
+            return new RecruitmentProcessBulkResponse(results.stream().map(RecruitmentProcessBulkData::create).toList());
+        }
+    }
+
+    public record RecruitmentProcessBulkData(
+            Long recruitmentProcessId,
+            boolean success,
+            Failure failure
+    ) {
+
+        public static RecruitmentProcessBulkData create(RecruitmentProcessTransitionResult result) {
+            return new RecruitmentProcessBulkData(result.recruitmentProcessId(), result.isSuccess(), result.failure());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicantsDto;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplicant;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class RecruitmentProcessPipelineDto {
+
+    public record RecruitmentProcessPipelineResponse(
+            Long recruitmentId,
+            Map<RecruitmentProcessStatus, Long> counts,
+            long total
+    ) {
+
+        public static RecruitmentProcessPipelineResponse create(com.minecraft.job.api.service.dto.RecruitmentProcessPipelineDto pipeline) {
+            return new RecruitmentProcessPipelineResponse(pipeline.recruitmentId(), pipeline.counts(), pipeline.total());
+        }
+    }
+
+    public record RecruitmentProcessApplicantsResponse(
+            List<RecruitmentProcessApplicantData> applicants,
+            Long nextCursor
+    ) {
+
+        public static RecruitmentProcessApplicantsResponse create(RecruitmentProcessApplicantsDto applicants) {
+            return new RecruitmentProcessApplicantsResponse(
+                    applicants.applicants().stream().map(RecruitmentProcessApplicantData::create).toList(),
+                    applicants.nextCursor()
+            );
+        }
+    }
+
+    public record RecruitmentProcessApplicantData(
+            Long recruitmentProcessId,
+            Long userId,
+            String userNickname,
+            Long resumeId,
+            RecruitmentProcessStatus status,
+            LocalDateTime createdAt
+    ) {
+
+        public static RecruitmentProcessApplicantData create(RecruitmentProcessApplicant applicant) {
+            return new RecruitmentProcessApplicantData(applicant.recruitmentProcessId(), applicant.userId(), applicant.userNickname(),
+                    applicant.resumeId(), applicant.status(), applicant.createdAt());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.common.review.domain.ReviewFeedItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ReviewFeedDto {
+
+    public record ReviewFeedResponse(
+            List<ReviewFeedData> reviews,
+            String nextCursor
+    ) {
+
+        public static ReviewFeedResponse create(com.minecraft.job.api.service.dto.ReviewFeedDto feed) {
+            return new ReviewFeedResponse(
+                    feed.reviews().stream().map(ReviewFeedData::create).toList(),
+                    feed.nextCursor()
+            );
+        }
+    }
+
+    public record ReviewFeedData(
+            Long id,
+            String content,
+            Long score,
+            String userNickname,
+            LocalDateTime createdAt
+    ) {
+
+        public static ReviewFeedData create(ReviewFeedItem item) {
+            return new ReviewFeedData(item.id(), item.content(), item.score(), item.userNickname(), item.createdAt());
+        }
+    }
+}
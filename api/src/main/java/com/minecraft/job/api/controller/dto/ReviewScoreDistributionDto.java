@@ -0,0 +1,31 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.common.review.domain.ReviewScoreHistogram;
+
+import java.util.List;
+
+public class ReviewScoreDistributionDto {
+
+    public record ReviewScoreDistributionResponse(
+            Long teamId,
+            List<Long> counts,
+            Long total,
+            Long median,
+            Long p25,
+            Long p75,
+            Long p90
+    ) {
+
+        public static ReviewScoreDistributionResponse create(Long teamId, ReviewScoreHistogram histogram) {
+            return new ReviewScoreDistributionResponse(
+                    teamId,
+                    histogram.counts(),
+                    histogram.total(),
+                    histogram.median(),
+                    histogram.percentile(25),
+                    histogram.percentile(75),
+                    histogram.percentile(90)
+            );
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.minecraft.job.api.controller.dto;
+
+import com.minecraft.job.api.service.dto.TeamRankDto;
+
+import java.util.List;
+
+public class TeamRankingDto {
+
+    public record TeamRankingResponse(List<TeamRankingData> teams) {
+
+        public static TeamRankingResponse create(List<TeamRankDto> teams) {
+            return new TeamRankingResponse(teams.stream().map(TeamRankingData::create).toList());
+        }
+    }
+
+    public record TeamRankResponse(TeamRankingData team) {
+
+        public static TeamRankResponse create(TeamRankDto team) {
+            return new TeamRankResponse(TeamRankingData.create(team));
+        }
+    }
+
+    public record TeamRankingData(Long rank, Long teamId, String name, Double score) {
+
+        public static TeamRankingData create(TeamRankDto team) {
+            return new TeamRankingData(team.rank(), team.teamId(), team.name(), team.score());
+        }
+    }
+}
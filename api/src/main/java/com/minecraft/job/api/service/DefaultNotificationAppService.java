@@ -0,0 +1,116 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.NotificationCursor;
+import com.minecraft.job.api.service.dto.NotificationInboxDto;
+import com.minecraft.job.common.notification.domain.Notification;
+import com.minecraft.job.common.notification.domain.NotificationType;
+import com.minecraft.job.common.notification.service.NotificationService;
+import com.minecraft.job.common.recruitmentProcess.domain.*;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamInactivateEvent;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+import static com.minecraft.job.common.notification.domain.NotificationType.*;
+import static com.minecraft.job.common.support.Preconditions.require;
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
+
+/**
+ * 도메인 이벤트를 알림함에 쌓는다. 메일 발행과 같이 BEFORE_COMMIT 에서 도메인 변경과 한 트랜잭션으로 쓴다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DefaultNotificationAppService implements NotificationAppService {
+
+    private static final int MAX_INBOX_SIZE = 100;
+
+    private final NotificationService notificationService;
+    private final RecruitmentProcessRepository recruitmentProcessRepository;
+    private final TeamRepository teamRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationInboxDto getInbox(Long userId, String cursor, int size) {
+        require(0 < size);
+        require(size <= MAX_INBOX_SIZE);
+
+        NotificationCursor inboxCursor = NotificationCursor.decode(cursor);
+
+        List<Notification> notifications
+                = notificationService.getInbox(userId, inboxCursor == null ? null : inboxCursor.id(), size + 1);
+        long unreadCount = notificationService.getUnreadCount(userId);
+
+        if (notifications.size() <= size) {
+            return new NotificationInboxDto(notifications, unreadCount, null);
+        }
+
+        List<Notification> page = notifications.subList(0, size);
+
+        return new NotificationInboxDto(page, unreadCount, new NotificationCursor(page.get(size - 1).getId()).encode());
+    }
+
+    @Override
+    public void read(Long userId, Long lastNotificationId) {
+        notificationService.read(userId, lastNotificationId);
+    }
+
+    @TransactionalEventListener(value = RecruitmentProcessCreateEvent.class, phase = BEFORE_COMMIT)
+    public void onRecruitmentProcessCreateListener(RecruitmentProcessCreateEvent event) {
+        notificationService.publish(List.of(event.leaderId()), RECRUITMENT_PROCESS_CREATE, event.recruitmentProcessId(),
+                RECRUITMENT_PROCESS_CREATE.message(event.userNickname(), event.recruitmentName()));
+    }
+
+    @TransactionalEventListener(value = RecruitmentProcessInProgressEvent.class, phase = BEFORE_COMMIT)
+    public void onRecruitmentProcessInProgressListener(RecruitmentProcessInProgressEvent event) {
+        notificationService.publish(List.of(event.userId()), RECRUITMENT_PROCESS_IN_PROGRESS, event.recruitmentProcessId(),
+                RECRUITMENT_PROCESS_IN_PROGRESS.message(event.recruitmentName()));
+    }
+
+    @TransactionalEventListener(value = RecruitmentProcessPassEvent.class, phase = BEFORE_COMMIT)
+    public void onRecruitmentProcessPassListener(RecruitmentProcessPassEvent event) {
+        notificationService.publish(List.of(event.userId()), RECRUITMENT_PROCESS_PASS, event.recruitmentProcessId(),
+                RECRUITMENT_PROCESS_PASS.message(event.recruitmentName()));
+    }
+
+    @TransactionalEventListener(value = RecruitmentProcessFailEvent.class, phase = BEFORE_COMMIT)
+    public void onRecruitmentProcessFailListener(RecruitmentProcessFailEvent event) {
+        notificationService.publish(List.of(event.userId()), RECRUITMENT_PROCESS_FAIL, event.recruitmentProcessId(),
+                RECRUITMENT_PROCESS_FAIL.message(event.recruitmentName()));
+    }
+
+    @TransactionalEventListener(value = RecruitmentProcessBulkEvent.class, phase = BEFORE_COMMIT)
+    public void onRecruitmentProcessBulkListener(RecruitmentProcessBulkEvent event) {
+        NotificationType type = switch (event.status()) {
+            case IN_PROGRESS -> RECRUITMENT_PROCESS_IN_PROGRESS;
+            case PASSED -> RECRUITMENT_PROCESS_PASS;
+            case FAILED -> RECRUITMENT_PROCESS_FAIL;
+            default -> throw new IllegalArgumentException("unsupported status: " + event.status());
+        };
+
+        notificationService.publishAll(event.items().stream()
+                .map(item -> Notification.create(item.userId(), type, item.recruitmentProcessId(), type.message(item.recruitmentName())))
+                .toList());
+    }
+
+    /**
+     * 팀의 채용공고에 진행 중인 지원자 모두에게 한 번에 쓴다.
+     */
+    @TransactionalEventListener(value = TeamInactivateEvent.class, phase = BEFORE_COMMIT)
+    public void onTeamInactivateListener(TeamInactivateEvent event) {
+        List<Long> userIds = recruitmentProcessRepository.findAllOpenUserIdByTeamId(event.teamId());
+
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Team team = teamRepository.findById(event.teamId()).orElseThrow();
+
+        notificationService.publish(userIds, TEAM_INACTIVATE, team.getId(), TEAM_INACTIVATE.message(team.getName()));
+    }
+}
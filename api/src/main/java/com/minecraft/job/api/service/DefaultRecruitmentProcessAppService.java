@@ -1,103 +1,187 @@
 package com.minecraft.job.api.service;
 
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicantsDto;
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicationCursor;
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicationsDto;
+import com.minecraft.job.api.service.dto.RecruitmentProcessPipelineDto;
 import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
 import com.minecraft.job.common.recruitmentProcess.domain.*;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
 import com.minecraft.job.integration.mail.Mail;
-import com.minecraft.job.integration.mail.MailApi;
+import com.minecraft.job.integration.mail.MailPublisher;
 import com.minecraft.job.integration.mail.MailTemplate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
 import java.util.Map;
 
+import static com.minecraft.job.common.support.Preconditions.require;
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class DefaultRecruitmentProcessAppService implements RecruitmentProcessAppService {
 
+    private static final int MAX_APPLICANTS_SIZE = 100;
+    private static final int MAX_APPLICATIONS_SIZE = 100;
+
+    private final MailPublisher mailPublisher;
     private final RecruitmentProcessRepository recruitmentProcessRepository;
-    private final MailApi mailApi;
+    private final RecruitmentProcessStatusCountRepository recruitmentProcessStatusCountRepository;
+    private final RecruitmentRepository recruitmentRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final RecruitmentProcessExporter recruitmentProcessExporter;
+
+    /**
+     * 상태별 지원자 수는 채용공고마다 한 줄인 recruitment_process_status_count 에서 읽으므로 지원자 수와 상관없다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RecruitmentProcessPipelineDto getPipeline(Long recruitmentId, Long teamId, Long leaderId) {
+        requireLeader(recruitmentId, teamId, leaderId);
+
+        Map<RecruitmentProcessStatus, Long> counts = recruitmentProcessStatusCountRepository.findById(recruitmentId)
+                .map(RecruitmentProcessStatusCount::toMap)
+                .orElseGet(RecruitmentProcessStatusCount::empty);
+
+        return new RecruitmentProcessPipelineDto(recruitmentId, counts);
+    }
 
-    @Async
-    @TransactionalEventListener(RecruitmentProcessCreateEvent.class)
-    public void onCreateRecruitmentProcessListener(RecruitmentProcessCreateEvent event) throws Exception {
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(event.recruitmentProcessId()).orElseThrow();
-        Recruitment recruitment = recruitmentProcess.getRecruitment();
+    @Override
+    @Transactional(readOnly = true)
+    public RecruitmentProcessApplicantsDto getApplicants(Long recruitmentId, Long teamId, Long leaderId, RecruitmentProcessStatus status, Long cursor, int size) {
+        require(0 < size);
+        require(size <= MAX_APPLICANTS_SIZE);
 
-        String recruitmentName = recruitment.getTitle();
-        String teamName = recruitment.getTeamName();
-        String leaderEmail = recruitment.getTeamOfLeaderEmail();
-        String userNickname = recruitmentProcess.getUserNickname();
+        requireLeader(recruitmentId, teamId, leaderId);
 
-        mailApi.send(new Mail(
-                new String[]{leaderEmail},
-                MailTemplate.RECRUITMENT_PROCESS_CREATE,
-                Map.of("teamName", teamName, "userNickname", userNickname,
-                        "recruitmentName", recruitmentName)
-        ));
+        List<RecruitmentProcessApplicant> applicants = recruitmentProcessRepository.findApplicants(recruitmentId, status, cursor, size + 1);
+
+        if (applicants.size() <= size) {
+            return new RecruitmentProcessApplicantsDto(applicants, null);
+        }
+
+        List<RecruitmentProcessApplicant> page = applicants.subList(0, size);
+
+        return new RecruitmentProcessApplicantsDto(page, page.get(size - 1).recruitmentProcessId());
     }
 
-    @Async
-    @TransactionalEventListener(RecruitmentProcessInProgressEvent.class)
-    public void onCreateRecruitmentProcessListener(RecruitmentProcessInProgressEvent event) throws Exception {
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(event.recruitmentProcessId()).orElseThrow();
-        Recruitment recruitment = recruitmentProcess.getRecruitment();
+    /**
+     * 페이지마다 쿼리 하나. 채용공고, 팀은 join 해서 필요한 컬럼만 읽으므로 엔티티를 만들지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RecruitmentProcessApplicationsDto getApplications(Long userId, String cursor, int size) {
+        require(0 < size);
+        require(size <= MAX_APPLICATIONS_SIZE);
 
-        String recruitmentName = recruitment.getTitle();
-        String teamName = recruitment.getTeamName();
-        String userEmail = recruitmentProcess.getUserEmail();
-        String userNickname = recruitmentProcess.getUserNickname();
+        RecruitmentProcessApplicationCursor applicationCursor = RecruitmentProcessApplicationCursor.decode(cursor);
 
-        mailApi.send(new Mail(
-                new String[]{userEmail},
-                MailTemplate.RECRUITMENT_PROCESS_INPROGRESS,
-                Map.of("userNickname", userNickname,
-                        "recruitmentName", recruitmentName,
-                        "teamName", teamName)
-        ));
+        List<RecruitmentProcessApplication> applications = applicationCursor == null
+                ? recruitmentProcessRepository.findApplications(userId, null, null, size + 1)
+                : recruitmentProcessRepository.findApplications(userId, applicationCursor.createdAt(), applicationCursor.id(), size + 1);
+
+        if (applications.size() <= size) {
+            return new RecruitmentProcessApplicationsDto(applications, null);
+        }
+
+        List<RecruitmentProcessApplication> page = applications.subList(0, size);
+        RecruitmentProcessApplication last = page.get(size - 1);
+
+        return new RecruitmentProcessApplicationsDto(page,
+                new RecruitmentProcessApplicationCursor(last.createdAt(), last.recruitmentProcessId()).encode());
     }
 
-    @Async
-    @TransactionalEventListener(RecruitmentProcessPassEvent.class)
-    public void onCreateRecruitmentProcessListener(RecruitmentProcessPassEvent event) throws Exception {
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(event.recruitmentProcessId()).orElseThrow();
-        Recruitment recruitment = recruitmentProcess.getRecruitment();
+    /**
+     * 팀장인지는 여기서 확인하고, 지원자는 응답을 쓸 때 트랜잭션 밖에서 읽는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RecruitmentProcessExportBody exportApplicants(Long recruitmentId, Long teamId, Long leaderId, RecruitmentProcessExportFormat format, boolean gzip) {
+        requireLeader(recruitmentId, teamId, leaderId);
 
-        String recruitmentName = recruitment.getTitle();
-        String teamName = recruitment.getTeamName();
-        String userEmail = recruitmentProcess.getUserEmail();
-        String userNickname = recruitmentProcess.getUserNickname();
+        return recruitmentProcessExporter.export(recruitmentId, format, gzip);
+    }
 
-        mailApi.send(new Mail(
-                new String[]{userEmail},
-                MailTemplate.RECRUITMENT_PROCESS_PASS,
-                Map.of("userNickname", userNickname,
-                        "recruitmentName", recruitmentName,
-                        "teamName", teamName)
+    private void requireLeader(Long recruitmentId, Long teamId, Long leaderId) {
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).orElseThrow();
+        Team team = teamRepository.findById(teamId).orElseThrow();
+        User leader = userRepository.findById(leaderId).orElseThrow();
+
+        require(recruitment.ofTeam(team));
+        require(team.ofUser(leader));
+    }
+
+    @TransactionalEventListener(value = RecruitmentProcessCreateEvent.class, phase = BEFORE_COMMIT)
+    public void onCreateRecruitmentProcessListener(RecruitmentProcessCreateEvent event) {
+        mailPublisher.publish(new Mail(
+                new String[]{event.leaderEmail()},
+                MailTemplate.RECRUITMENT_PROCESS_CREATE,
+                Map.of("teamName", event.teamName(), "userNickname", event.userNickname(),
+                        "recruitmentName", event.recruitmentName())
         ));
     }
 
+    @TransactionalEventListener(value = RecruitmentProcessInProgressEvent.class, phase = BEFORE_COMMIT)
+    public void onCreateRecruitmentProcessListener(RecruitmentProcessInProgressEvent event) {
+        mailPublisher.publish(new Mail(
+                new String[]{event.userEmail()},
+                MailTemplate.RECRUITMENT_PROCESS_INPROGRESS,
+                Map.of("userNickname", event.userNickname(),
+                        "recruitmentName", event.recruitmentName(),
+                        "teamName", event.teamName())
+        ));
+    }
 
-    @Async
-    @TransactionalEventListener(RecruitmentProcessFailEvent.class)
-    public void onCreateRecruitmentProcessListener(RecruitmentProcessFailEvent event) throws Exception {
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(event.recruitmentProcessId()).orElseThrow();
-        Recruitment recruitment = recruitmentProcess.getRecruitment();
+    @TransactionalEventListener(value = RecruitmentProcessPassEvent.class, phase = BEFORE_COMMIT)
+    public void onCreateRecruitmentProcessListener(RecruitmentProcessPassEvent event) {
+        mailPublisher.publish(new Mail(
+                new String[]{event.userEmail()},
+                MailTemplate.RECRUITMENT_PROCESS_PASS,
+                Map.of("userNickname", event.userNickname(),
+                        "recruitmentName", event.recruitmentName(),
+                        "teamName", event.teamName())
+        ));
+    }
 
-        String recruitmentName = recruitment.getTitle();
-        String teamName = recruitment.getTeamName();
-        String userEmail = recruitmentProcess.getUserEmail();
-        String userNickname = recruitmentProcess.getUserNickname();
 
-        mailApi.send(new Mail(
-                new String[]{userEmail},
+    @TransactionalEventListener(value = RecruitmentProcessFailEvent.class, phase = BEFORE_COMMIT)
+    public void onCreateRecruitmentProcessListener(RecruitmentProcessFailEvent event) {
+        mailPublisher.publish(new Mail(
+                new String[]{event.userEmail()},
                 MailTemplate.RECRUITMENT_PROCESS_FAIL,
-                Map.of("userNickname", userNickname,
-                        "recruitmentName", recruitmentName,
-                        "teamName", teamName)
+                Map.of("userNickname", event.userNickname(),
+                        "recruitmentName", event.recruitmentName(),
+                        "teamName", event.teamName())
         ));
     }
+
+    @TransactionalEventListener(value = RecruitmentProcessBulkEvent.class, phase = BEFORE_COMMIT)
+    public void onCreateRecruitmentProcessListener(RecruitmentProcessBulkEvent event) {
+        MailTemplate mailTemplate = switch (event.status()) {
+            case IN_PROGRESS -> MailTemplate.RECRUITMENT_PROCESS_INPROGRESS;
+            case PASSED -> MailTemplate.RECRUITMENT_PROCESS_PASS;
+            case FAILED -> MailTemplate.RECRUITMENT_PROCESS_FAIL;
+            default -> throw new IllegalArgumentException("unsupported status: " + event.status());
+        };
+
+        for (RecruitmentProcessBulkEvent.Item item : event.items()) {
+            mailPublisher.publish(new Mail(
+                    new String[]{item.userEmail()},
+                    mailTemplate,
+                    Map.of("userNickname", item.userNickname(),
+                            "recruitmentName", item.recruitmentName(),
+                            "teamName", item.teamName())
+            ));
+        }
+    }
 }
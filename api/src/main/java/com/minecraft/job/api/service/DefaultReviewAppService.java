@@ -2,71 +2,87 @@ package com.minecraft.job.api.service;
 
 import com.minecraft.job.api.service.dto.ReviewActivateDto;
 import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.api.service.dto.ReviewFeedCursor;
+import com.minecraft.job.api.service.dto.ReviewFeedDto;
 import com.minecraft.job.api.service.dto.ReviewInactivateDto;
 import com.minecraft.job.api.service.dto.ReviewUpdateDto;
 import com.minecraft.job.common.review.domain.Review;
 import com.minecraft.job.common.review.domain.ReviewCreateEvent;
+import com.minecraft.job.common.review.domain.ReviewFeedItem;
 import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.review.domain.ReviewScoreHistogram;
 import com.minecraft.job.common.review.service.ReviewService;
+import com.minecraft.job.common.support.RetryOnConflict;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
-import com.minecraft.job.common.team.service.TeamService;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
 import com.minecraft.job.integration.mail.Mail;
-import com.minecraft.job.integration.mail.MailApi;
+import com.minecraft.job.integration.mail.MailPublisher;
 import com.minecraft.job.integration.mail.MailTemplate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.util.Pair;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import javax.transaction.Transactional;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.LongStream;
 
+import static com.minecraft.job.api.config.CacheConfiguration.REVIEW_SCORE_HISTOGRAM;
 import static com.minecraft.job.common.support.Preconditions.require;
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
 
 @Service
 @Transactional
+@RetryOnConflict
 @RequiredArgsConstructor
 public class DefaultReviewAppService implements ReviewAppService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ReviewService reviewService;
     private final ReviewRepository reviewRepository;
-    private final TeamService teamService;
+    private final TeamRatingWriter teamRatingWriter;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
-    private final MailApi mailApi;
+    private final MailPublisher mailPublisher;
 
     @Override
+    @CacheEvict(cacheNames = REVIEW_SCORE_HISTOGRAM, key = "#dto.teamId()")
     public Pair<Review, Double> create(ReviewCreateDto dto) {
         Review review = reviewService.create(dto.userId(), dto.teamId(), dto.content(), dto.score());
 
-        double averagePoint = setAveragePoint(dto.teamId());
+        teamRatingWriter.apply(dto.teamId(), 1L, review.getScore());
 
-        return Pair.of(review, averagePoint);
+        return Pair.of(review, teamRatingWriter.getAveragePoint(dto.teamId()));
     }
 
     @Override
+    @CacheEvict(cacheNames = REVIEW_SCORE_HISTOGRAM, key = "#dto.teamId()")
     public void update(ReviewUpdateDto dto) {
+        Review review = reviewRepository.findById(dto.reviewId()).orElseThrow();
+        Long beforeScore = review.getScore();
+
         reviewService.update(dto.reviewId(), dto.userId(), dto.teamId(), dto.content(), dto.score());
 
-        setAveragePoint(dto.teamId());
+        teamRatingWriter.apply(dto.teamId(), 0L, dto.score() - beforeScore);
     }
 
     @Override
+    @CacheEvict(cacheNames = REVIEW_SCORE_HISTOGRAM, key = "#dto.teamId()")
     public void activate(ReviewActivateDto dto) {
         reviewService.active(dto.reviewId());
 
         reviewService.update(dto.reviewId(), dto.userId(), dto.teamId(), dto.content(), dto.score());
 
-        setAveragePoint(dto.teamId());
+        teamRatingWriter.apply(dto.teamId(), 1L, dto.score());
     }
 
     @Override
+    @CacheEvict(cacheNames = REVIEW_SCORE_HISTOGRAM, key = "#dto.teamId()")
     public void inactivate(ReviewInactivateDto dto) {
         Review review = reviewRepository.findById(dto.reviewId()).orElseThrow();
         User user = userRepository.findById(dto.userId()).orElseThrow();
@@ -77,42 +93,46 @@ public class DefaultReviewAppService implements ReviewAppService {
 
         reviewService.inactive(dto.reviewId());
 
-        setAveragePoint(dto.teamId());
+        teamRatingWriter.apply(dto.teamId(), -1L, -review.getScore());
     }
 
-    private double setAveragePoint(Long teamId) {
-        Team team = teamRepository.findById(teamId).orElseThrow();
-
-        List<Review> reviews = reviewRepository.findAllActivated(team);
+    @Override
+    @Cacheable(cacheNames = REVIEW_SCORE_HISTOGRAM, key = "#teamId")
+    public ReviewScoreHistogram getScoreHistogram(Long teamId) {
+        return reviewService.getScoreHistogram(teamId);
+    }
 
-        double averagePoint = reviews.stream()
-                .flatMapToLong(it -> LongStream.of(it.getScore()))
-                .average()
-                .orElseThrow();
+    @Override
+    public ReviewFeedDto getFeed(Long teamId, String cursor, int size) {
+        require(0 < size);
+        require(size <= MAX_FEED_SIZE);
 
-        averagePoint = Math.round(averagePoint * 10) / 10.0;
+        ReviewFeedCursor feedCursor = ReviewFeedCursor.decode(cursor);
 
-        teamService.applyAveragePoint(teamId, averagePoint);
+        List<ReviewFeedItem> reviews = feedCursor == null
+                ? reviewRepository.findFeed(teamId, null, null, size + 1)
+                : reviewRepository.findFeed(teamId, feedCursor.createdAt(), feedCursor.id(), size + 1);
 
-        return averagePoint;
-    }
+        if (reviews.size() <= size) {
+            return new ReviewFeedDto(reviews, null);
+        }
 
-    @Async
-    @TransactionalEventListener(ReviewCreateEvent.class)
-    public void onCreateReviewListener(ReviewCreateEvent event) throws Exception {
-        Review review = reviewRepository.findById(event.reviewId()).orElseThrow();
+        List<ReviewFeedItem> page = reviews.subList(0, size);
+        ReviewFeedItem last = page.get(size - 1);
 
-        String leaderEmail = review.getTeamOfLeaderEmail();
-        String teamName = review.getTeamName();
-        String userNickname = review.getUserNickname();
-        Long score = review.getScore();
-        Double averagePoint = review.getTeamOfAveragePoint();
+        return new ReviewFeedDto(page, new ReviewFeedCursor(last.createdAt(), last.id()).encode());
+    }
 
-        mailApi.send(new Mail(
-                new String[]{leaderEmail},
+    /**
+     * 커밋 직전이라 create 에서 apply 한 평점까지 반영된 값을 보낸다.
+     */
+    @TransactionalEventListener(value = ReviewCreateEvent.class, phase = BEFORE_COMMIT)
+    public void onCreateReviewListener(ReviewCreateEvent event) {
+        mailPublisher.publish(new Mail(
+                new String[]{event.leaderEmail()},
                 MailTemplate.REVIEW_CREATE,
-                Map.of("teamName", teamName, "userNickname", userNickname,
-                        "score", score, "averagePoint", averagePoint)
+                Map.of("teamName", event.teamName(), "userNickname", event.userNickname(),
+                        "score", event.score(), "averagePoint", teamRatingWriter.getAveragePoint(event.teamId()))
         ));
     }
 }
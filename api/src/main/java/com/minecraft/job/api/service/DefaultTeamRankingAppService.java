@@ -0,0 +1,120 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.TeamRankDto;
+import com.minecraft.job.common.support.MinecraftJobException;
+import com.minecraft.job.common.team.domain.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.minecraft.job.common.support.ErrorCode.NOT_RANKED_TEAM;
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * 팀 랭킹은 DB 를 정렬하지 않고 메모리 인덱스에서 조회한다.
+ * 시작 시 활성화된 팀으로 채우고, 팀 평점 변경/생성/활성화/비활성화 이벤트로 갱신한다.
+ * 다른 서버에서 일어난 변경은 주기적인 reload 로 따라잡는다. reload 가 DB 를 읽는 동안 이 서버에서 반영된 변경은 덮지 않는다.
+ * 인덱스에 없는 팀(비활성화된 팀)의 순위는 NOT_RANKED_TEAM 으로 실패한다.
+ * <p>
+ * bayesian 옵션을 켜면 (priorWeight * priorMean + scoreSum) / (priorWeight + reviewCount) 로 정렬해서
+ * 리뷰가 적은 팀의 점수를 priorMean 쪽으로 당긴다.
+ */
+@Service
+public class DefaultTeamRankingAppService implements TeamRankingAppService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final TeamRepository teamRepository;
+    private final TeamRankingIndex teamRankingIndex = new TeamRankingIndex();
+
+    private final boolean bayesian;
+    private final double priorWeight;
+    private final double priorMean;
+
+    public DefaultTeamRankingAppService(
+            TeamRepository teamRepository,
+            @Value("${team.ranking.bayesian.enabled:false}") boolean bayesian,
+            @Value("${team.ranking.bayesian.prior-weight:10}") double priorWeight,
+            @Value("${team.ranking.bayesian.prior-mean:3.0}") double priorMean
+    ) {
+        this.teamRepository = teamRepository;
+        this.bayesian = bayesian;
+        this.priorWeight = priorWeight;
+        this.priorMean = priorMean;
+    }
+
+    @Override
+    public List<TeamRankDto> getRanking(Double cursorScore, Long cursorTeamId, int size) {
+        require(0 < size);
+        require(size <= MAX_SIZE);
+
+        List<TeamRankingIndex.Entry> entries = teamRankingIndex.findAfter(cursorScore, cursorTeamId, size);
+
+        Map<Long, String> names = teamRepository.findAllById(entries.stream().map(TeamRankingIndex.Entry::teamId).toList())
+                .stream()
+                .collect(Collectors.toMap(Team::getId, Team::getName));
+
+        return entries.stream()
+                .filter(entry -> names.containsKey(entry.teamId()))
+                .map(entry -> new TeamRankDto(entry.rank(), entry.teamId(), names.get(entry.teamId()), entry.score()))
+                .toList();
+    }
+
+    @Override
+    public TeamRankDto getRank(Long teamId) {
+        TeamRankingIndex.Entry entry = teamRankingIndex.find(teamId).orElseThrow(() -> new MinecraftJobException(NOT_RANKED_TEAM));
+        Team team = teamRepository.findById(teamId).orElseThrow();
+
+        return new TeamRankDto(entry.rank(), entry.teamId(), team.getName(), entry.score());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${team.ranking.reload-millis:300000}", initialDelayString = "${team.ranking.reload-millis:300000}")
+    public void reload() {
+        long since = teamRankingIndex.sequence();
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (TeamRating rating : teamRepository.findAllActivatedRating()) {
+            scores.put(rating.getTeamId(), score(rating.getAveragePoint(), rating.getReviewCount(), rating.getScoreSum()));
+        }
+
+        teamRankingIndex.reset(scores, since);
+    }
+
+    @TransactionalEventListener(TeamCreateEvent.class)
+    public void onCreateTeamListener(TeamCreateEvent event) {
+        teamRankingIndex.put(event.teamId(), score(0.0, 0L, 0L));
+    }
+
+    @TransactionalEventListener(TeamRatingChangeEvent.class)
+    public void onChangeTeamRatingListener(TeamRatingChangeEvent event) {
+        teamRankingIndex.replace(event.teamId(), score(event.averagePoint(), event.reviewCount(), event.scoreSum()));
+    }
+
+    @TransactionalEventListener(TeamActivateEvent.class)
+    public void onActivateTeamListener(TeamActivateEvent event) {
+        teamRankingIndex.put(event.teamId(), score(event.averagePoint(), event.reviewCount(), event.scoreSum()));
+    }
+
+    @TransactionalEventListener(TeamInactivateEvent.class)
+    public void onInactivateTeamListener(TeamInactivateEvent event) {
+        teamRankingIndex.remove(event.teamId());
+    }
+
+    private double score(Double averagePoint, Long reviewCount, Long scoreSum) {
+        if (!bayesian) {
+            return averagePoint;
+        }
+
+        return (priorWeight * priorMean + scoreSum) / (priorWeight + reviewCount);
+    }
+}
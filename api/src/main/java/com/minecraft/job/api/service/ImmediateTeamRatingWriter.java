@@ -0,0 +1,29 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.team.service.TeamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "team.rating.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class ImmediateTeamRatingWriter implements TeamRatingWriter {
+
+    private final TeamService teamService;
+    private final TeamRepository teamRepository;
+
+    @Override
+    public void apply(Long teamId, Long reviewCountDelta, Long scoreSumDelta) {
+        teamService.applyReviewScore(teamId, reviewCountDelta, scoreSumDelta);
+    }
+
+    /**
+     * apply 가 같은 영속성 컨텍스트의 팀을 바꿨으므로 다시 조회하지 않는다.
+     */
+    @Override
+    public Double getAveragePoint(Long teamId) {
+        return teamRepository.findById(teamId).orElseThrow().getAveragePoint();
+    }
+}
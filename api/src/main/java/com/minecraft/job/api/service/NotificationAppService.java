@@ -0,0 +1,10 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.NotificationInboxDto;
+
+public interface NotificationAppService {
+
+    NotificationInboxDto getInbox(Long userId, String cursor, int size);
+
+    void read(Long userId, Long lastNotificationId);
+}
@@ -1,4 +1,17 @@
 package com.minecraft.job.api.service;
 
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicantsDto;
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicationsDto;
+import com.minecraft.job.api.service.dto.RecruitmentProcessPipelineDto;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+
 public interface RecruitmentProcessAppService {
+
+    RecruitmentProcessPipelineDto getPipeline(Long recruitmentId, Long teamId, Long leaderId);
+
+    RecruitmentProcessApplicantsDto getApplicants(Long recruitmentId, Long teamId, Long leaderId, RecruitmentProcessStatus status, Long cursor, int size);
+
+    RecruitmentProcessApplicationsDto getApplications(Long userId, String cursor, int size);
+
+    RecruitmentProcessExportBody exportApplicants(Long recruitmentId, Long teamId, Long leaderId, RecruitmentProcessExportFormat format, boolean gzip);
 }
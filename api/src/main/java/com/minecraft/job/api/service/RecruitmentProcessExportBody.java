@@ -0,0 +1,66 @@
+package com.minecraft.job.api.service;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 내보내기 자리 하나를 잡고 있는 응답 본문.
+ * <p>
+ * 자리는 본문을 다 쓰거나 실패했을 때 돌려준다. 본문이 아예 돌지 않고 끝나는 경우(실행 전에 시간이 지나거나
+ * 작업이 거절되거나 연결이 끊긴 경우)에도 돌려받도록 요청의 CallableProcessingInterceptor 로 등록해서 쓴다.
+ * 두 쪽에서 불려도 자리는 한 번만 돌려준다.
+ */
+public class RecruitmentProcessExportBody implements StreamingResponseBody, CallableProcessingInterceptor {
+
+    private final StreamingResponseBody delegate;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    RecruitmentProcessExportBody(StreamingResponseBody delegate, Semaphore permits, long timeoutMillis) {
+        this.delegate = delegate;
+        this.permits = permits;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try {
+            delegate.writeTo(out);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 비동기 처리를 시작하기 전에 불린다. 이 요청에만 내보내기 시간 제한을 건다.
+     */
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeoutMillis);
+        }
+    }
+
+    /**
+     * 응답이 어떻게 끝나든 불린다.
+     */
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        release();
+    }
+
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.minecraft.job.api.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessExportRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessExportRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+import static com.minecraft.job.common.support.ErrorCode.TOO_MANY_EXPORTS;
+import static com.minecraft.job.common.support.Preconditions.notNull;
+import static com.minecraft.job.common.support.Preconditions.validate;
+
+/**
+ * 채용공고의 지원자 전체를 CSV 나 NDJSON 으로 응답에 바로 쓴다.
+ * <p>
+ * DB 에서 한 줄 읽을 때마다 한 줄 쓰고 버퍼만 들고 있으므로 지원자 수와 상관없이 메모리를 일정하게 쓴다.
+ * 내보내는 동안 DB 커넥션을 하나 잡고 있으므로 동시에 max-concurrent 개까지만 받는다.
+ * 클라이언트가 끊으면 쓰기가 실패하고, 쿼리를 취소해 남은 줄은 읽지 않는다.
+ * 한 번에 오래 걸리므로 시간 제한은 전역 설정 대신 내보내기 요청에만 timeout-millis 로 건다.
+ * <p>
+ * 본문을 쓰기 시작하면 상태 코드는 이미 200 으로 나갔으므로, 중간에 실패해도 클라이언트는 상태 코드로 알 수 없다.
+ * 그래서 지원자를 다 쓴 뒤에만 마지막 줄에 쓴 지원자 수를 남긴다(CSV 는 {@code #rows=N}, NDJSON 은 {@code {"rows":N}}).
+ * 마지막 줄이 없거나 수가 맞지 않으면 잘린 파일이다.
+ */
+@Slf4j
+@Component
+public class RecruitmentProcessExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_TRAILER_PREFIX = "#rows=";
+    private static final String NDJSON_TRAILER_FIELD = "rows";
+
+    private static final String CSV_HEADER = "recruitmentProcessId,userId,userEmail,userNickname,status,appliedAt,"
+            + "resumeId,resumeTitle,resumeContent,resumeTrainingHistory";
+
+    private final RecruitmentProcessExportRepository recruitmentProcessExportRepository;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    private final Counter rowCounter;
+    private final Counter canceledCounter;
+
+    public RecruitmentProcessExporter(
+            RecruitmentProcessExportRepository recruitmentProcessExportRepository,
+            ObjectMapper objectMapper,
+            @Value("${recruitment-process.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${recruitment-process.export.timeout-millis:1800000}") long timeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.recruitmentProcessExportRepository = recruitmentProcessExportRepository;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeoutMillis = timeoutMillis;
+
+        this.rowCounter = meterRegistry.counter("recruitment-process.export.rows");
+        this.canceledCounter = meterRegistry.counter("recruitment-process.export.canceled");
+    }
+
+    /**
+     * 자리가 없으면 바로 실패한다. 돌려받은 본문은 응답을 다 쓰거나, 돌지 않고 끝났을 때 자리를 돌려준다.
+     */
+    public RecruitmentProcessExportBody export(Long recruitmentId, RecruitmentProcessExportFormat format, boolean gzip) {
+        notNull(recruitmentId);
+        notNull(format);
+
+        validate(permits.tryAcquire(), TOO_MANY_EXPORTS);
+
+        return new RecruitmentProcessExportBody(out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, BUFFER_SIZE);
+                write(recruitmentId, format, gzipOut);
+                gzipOut.finish();
+            } else {
+                write(recruitmentId, format, out);
+            }
+        }, permits, timeoutMillis);
+    }
+
+    /**
+     * 지원자를 다 쓴 뒤 마지막 줄에 쓴 지원자 수를 남긴다. out 은 닫지 않는다.
+     *
+     * @return 쓴 지원자 수
+     */
+    public long write(Long recruitmentId, RecruitmentProcessExportFormat format, OutputStream out) throws IOException {
+        RowWriter writer = format == RecruitmentProcessExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+
+        try {
+            long rows = recruitmentProcessExportRepository.streamAll(recruitmentId, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish(rows);
+            rowCounter.increment(rows);
+
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw canceled(recruitmentId, e.getCause());
+        } catch (IOException e) {
+            throw canceled(recruitmentId, e);
+        }
+    }
+
+    private IOException canceled(Long recruitmentId, IOException cause) {
+        canceledCounter.increment();
+        log.info("recruitment process export canceled. recruitmentId={}, cause={}", recruitmentId, cause.toString());
+
+        return cause;
+    }
+
+    private interface RowWriter {
+
+        void write(RecruitmentProcessExportRow row) throws IOException;
+
+        /**
+         * 쓴 지원자 수를 마지막 줄로 쓰고 내보낸다.
+         */
+        void finish(long rows) throws IOException;
+    }
+
+    /**
+     * RFC 4180. 사용자가 쓴 값이 =, +, -, @, 탭으로 시작하면 스프레드시트가 수식으로 읽지 않도록 ' 를 붙인다.
+     * ' 는 따옴표로 감싸는지와 상관없이 붙인다.
+     */
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(RecruitmentProcessExportRow row) throws IOException {
+            writer.write(String.valueOf(row.recruitmentProcessId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.userId()));
+            writer.write(',');
+            writeText(row.userEmail());
+            writer.write(',');
+            writeText(row.userNickname());
+            writer.write(',');
+            writer.write(row.status().name());
+            writer.write(',');
+            writer.write(row.appliedAt() == null ? "" : row.appliedAt().toString());
+            writer.write(',');
+            writer.write(String.valueOf(row.resumeId()));
+            writer.write(',');
+            writeText(row.resumeTitle());
+            writer.write(',');
+            writeText(row.resumeContent());
+            writer.write(',');
+            writeText(row.resumeTrainingHistory());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish(long rows) throws IOException {
+            writer.write(CSV_TRAILER_PREFIX);
+            writer.write(String.valueOf(rows));
+            writer.write("\r\n");
+            writer.flush();
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+
+            String text = "=+-@\t".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+            boolean quote = text.chars().anyMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n');
+
+            if (!quote) {
+                writer.write(text);
+                return;
+            }
+
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * 한 줄에 지원자 하나. 날짜 형식은 API 응답과 같은 ObjectMapper 설정을 따른다.
+     */
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(RecruitmentProcessExportRow row) throws IOException {
+            generator.writeObject(row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish(long rows) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(NDJSON_TRAILER_FIELD, rows);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.RecruitmentProcessStatusChangeDto;
+import com.minecraft.job.common.recruitmentProcess.domain.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.*;
+import static com.minecraft.job.common.support.Preconditions.notNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 채용과정 상태 변경(서류 합격, 최종 합격, 불합격, 중도 취소)을 지원자에게 SSE 로 보낸다.
+ * 구독은 이 노드에만 있고, 커밋된 도메인 이벤트로 채운다.
+ * <p>
+ * 연결마다 스레드를 잡지 않는다. 보낼 이벤트는 연결마다 buffer-size 만큼만 쌓고, send-threads 개의 스레드가 나눠서 보낸다.
+ * 쌓인 이벤트를 다 받지 못한 느린 연결은 끊는다. 클라이언트는 다시 연결해서 현재 상태를 조회한다.
+ * <p>
+ * heartbeat 마다 쉬고 있는 연결에 주석 한 줄을 보내서 끊긴 연결을 걷어낸다.
+ * 다른 작업이 공유 스케줄러를 오래 잡아도 밀리지 않도록 heartbeat 는 전용 스레드에서 돈다.
+ */
+@Slf4j
+@Component
+public class RecruitmentProcessStream {
+
+    private static final String EVENT_NAME = "status";
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+
+    public RecruitmentProcessStream(
+            @Value("${recruitment-process.stream.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${recruitment-process.stream.buffer-size:16}") int bufferSize,
+            @Value("${recruitment-process.stream.send-threads:4}") int sendThreads,
+            @Value("${recruitment-process.stream.heartbeat-millis:30000}") long heartbeatMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.executor = Executors.newFixedThreadPool(sendThreads, daemonThreadFactory("recruitment-process-stream-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                daemonThreadFactory("recruitment-process-stream-heartbeat-"));
+
+        this.sentCounter = meterRegistry.counter("recruitment-process.stream.sent");
+        this.droppedCounter = meterRegistry.counter("recruitment-process.stream.dropped");
+
+        Gauge.builder("recruitment-process.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeatQuietly, heartbeatMillis, heartbeatMillis, MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        notNull(userId);
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        subscribers.compute(userId, (key, userSubscribers) -> {
+            Set<Subscriber> result = userSubscribers == null ? ConcurrentHashMap.newKeySet() : userSubscribers;
+            result.add(subscriber);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+
+        return emitter;
+    }
+
+    public void publish(Long userId, RecruitmentProcessStatusChangeDto change) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+
+        if (userSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.offer(SseEmitter.event().name(EVENT_NAME).data(change));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public void heartbeat() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+
+        heartbeatScheduler.shutdown();
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(RecruitmentProcessInProgressEvent.class)
+    public void onRecruitmentProcessInProgressListener(RecruitmentProcessInProgressEvent event) {
+        publish(event.userId(), new RecruitmentProcessStatusChangeDto(
+                event.recruitmentProcessId(), IN_PROGRESS, event.recruitmentName(), event.teamName()));
+    }
+
+    @TransactionalEventListener(RecruitmentProcessPassEvent.class)
+    public void onRecruitmentProcessPassListener(RecruitmentProcessPassEvent event) {
+        publish(event.userId(), new RecruitmentProcessStatusChangeDto(
+                event.recruitmentProcessId(), PASSED, event.recruitmentName(), event.teamName()));
+    }
+
+    @TransactionalEventListener(RecruitmentProcessFailEvent.class)
+    public void onRecruitmentProcessFailListener(RecruitmentProcessFailEvent event) {
+        publish(event.userId(), new RecruitmentProcessStatusChangeDto(
+                event.recruitmentProcessId(), FAILED, event.recruitmentName(), event.teamName()));
+    }
+
+    @TransactionalEventListener(RecruitmentProcessCancelEvent.class)
+    public void onRecruitmentProcessCancelListener(RecruitmentProcessCancelEvent event) {
+        publish(event.userId(), new RecruitmentProcessStatusChangeDto(
+                event.recruitmentProcessId(), CANCELED, event.recruitmentName(), event.teamName()));
+    }
+
+    @TransactionalEventListener(RecruitmentProcessBulkEvent.class)
+    public void onRecruitmentProcessBulkListener(RecruitmentProcessBulkEvent event) {
+        for (RecruitmentProcessBulkEvent.Item item : event.items()) {
+            publish(item.userId(), new RecruitmentProcessStatusChangeDto(
+                    item.recruitmentProcessId(), event.status(), item.recruitmentName(), item.teamName()));
+        }
+    }
+
+    /**
+     * 예외가 나면 다음 heartbeat 가 잡히지 않으므로 여기서 삼킨다.
+     */
+    private void heartbeatQuietly() {
+        try {
+            heartbeat();
+        } catch (RuntimeException ex) {
+            log.warn("recruitment process stream heartbeat failed", ex);
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String threadNamePrefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    /**
+     * 연결 하나. 큐와 상태 몇 개만 가지므로 쉬고 있는 연결은 수백 바이트만 차지한다.
+     */
+    private class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+
+            if (!queue.offer(event)) {
+                droppedCounter.increment();
+                log.warn("recruitment process stream subscriber is too slow, closing. userId={}", userId);
+
+                close();
+                emitter.complete();
+                return;
+            }
+
+            schedule();
+        }
+
+        private void heartbeat() {
+            if (queue.isEmpty()) {
+                offer(SseEmitter.event().comment(""));
+            }
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                    sentCounter.increment();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // 끊긴 연결. 컨테이너가 onError/onCompletion 을 부른다.
+                close();
+            } finally {
+                draining.set(false);
+            }
+
+            if (!closed.get() && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unsubscribe(this);
+            }
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.minecraft.job.api.service;
 
 import com.minecraft.job.api.service.dto.ReviewActivateDto;
 import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.api.service.dto.ReviewFeedDto;
 import com.minecraft.job.api.service.dto.ReviewInactivateDto;
 import com.minecraft.job.api.service.dto.ReviewUpdateDto;
 import com.minecraft.job.common.review.domain.Review;
+import com.minecraft.job.common.review.domain.ReviewScoreHistogram;
 import org.springframework.data.util.Pair;
 
 public interface ReviewAppService {
@@ -16,4 +18,8 @@ public interface ReviewAppService {
     void activate(ReviewActivateDto dto);
 
     void inactivate(ReviewInactivateDto dto);
+
+    ReviewScoreHistogram getScoreHistogram(Long teamId);
+
+    ReviewFeedDto getFeed(Long teamId, String cursor, int size);
 }
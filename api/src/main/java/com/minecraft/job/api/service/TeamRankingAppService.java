@@ -0,0 +1,14 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.TeamRankDto;
+
+import java.util.List;
+
+public interface TeamRankingAppService {
+
+    List<TeamRankDto> getRanking(Double cursorScore, Long cursorTeamId, int size);
+
+    TeamRankDto getRank(Long teamId);
+
+    void reload();
+}
@@ -0,0 +1,312 @@
+package com.minecraft.job.api.service;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 랭킹 인덱스
+ * 점수 내림차순, 같은 점수는 팀 id 오름차순으로 정렬한다.
+ * <p>
+ * 노드마다 서브트리 크기를 가진 treap 이라 추가/삭제/순위 조회/커서 이후 조회가 모두 O(log n) 이다.
+ * 갱신은 드물고 조회가 많으므로 read-write lock 으로 보호한다.
+ * <p>
+ * 갱신마다 팀별로 순번을 남긴다. DB 스냅샷으로 다시 채울 때 스냅샷을 읽기 시작한 뒤에 갱신된 팀은
+ * 스냅샷의 더 오래된 값으로 덮지 않는다.
+ */
+public class TeamRankingIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final Map<Long, Long> updatedSequences = new HashMap<>();
+    private long sequence;
+    private Node root;
+
+    public void put(Long teamId, double score) {
+        lock.writeLock().lock();
+        try {
+            Double before = scores.put(teamId, score);
+
+            if (before != null) {
+                root = remove(root, before, teamId);
+            }
+
+            root = insert(root, new Node(score, teamId));
+            updatedSequences.put(teamId, ++sequence);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replace(Long teamId, double score) {
+        lock.writeLock().lock();
+        try {
+            Double before = scores.replace(teamId, score);
+
+            if (before == null) {
+                return;
+            }
+
+            root = remove(root, before, teamId);
+            root = insert(root, new Node(score, teamId));
+            updatedSequences.put(teamId, ++sequence);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long teamId) {
+        lock.writeLock().lock();
+        try {
+            Double before = scores.remove(teamId);
+
+            if (before != null) {
+                root = remove(root, before, teamId);
+            }
+
+            updatedSequences.put(teamId, ++sequence);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷을 읽기 전에 불러서, 그 뒤의 갱신을 reset 에 알려준다.
+     */
+    public long sequence() {
+        lock.readLock().lock();
+        try {
+            return sequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * since 이후에 갱신되거나 제거된 팀은 지금 값을 남기고, 나머지는 스냅샷으로 바꾼다.
+     *
+     * @param since 스냅샷을 읽기 시작하기 전의 sequence()
+     */
+    public void reset(Map<Long, Double> snapshot, long since) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Double> merged = new HashMap<>(snapshot);
+
+            for (Map.Entry<Long, Long> updated : updatedSequences.entrySet()) {
+                if (updated.getValue() <= since) {
+                    continue;
+                }
+
+                Double score = scores.get(updated.getKey());
+
+                if (score == null) {
+                    merged.remove(updated.getKey());
+                } else {
+                    merged.put(updated.getKey(), score);
+                }
+            }
+
+            Node root = null;
+            for (Map.Entry<Long, Double> entry : merged.entrySet()) {
+                root = insert(root, new Node(entry.getValue(), entry.getKey()));
+            }
+
+            this.scores.clear();
+            this.scores.putAll(merged);
+            this.root = root;
+
+            updatedSequences.values().removeIf(sequence -> sequence <= since);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Entry> find(Long teamId) {
+        lock.readLock().lock();
+        try {
+            Double score = scores.get(teamId);
+
+            if (score == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new Entry(count(score, teamId, false) + 1, teamId, score));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * cursor 다음 순위부터 size 개를 반환한다. cursor 가 없으면 1위부터 반환한다.
+     */
+    public List<Entry> findAfter(Double cursorScore, Long cursorTeamId, int size) {
+        lock.readLock().lock();
+        try {
+            boolean hasCursor = cursorScore != null && cursorTeamId != null;
+            long rank = hasCursor ? count(cursorScore, cursorTeamId, true) : 0;
+
+            Deque<Node> stack = new ArrayDeque<>();
+            Node node = root;
+            while (node != null) {
+                if (!hasCursor || compare(node.score, node.teamId, cursorScore, cursorTeamId) > 0) {
+                    stack.push(node);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+
+            List<Entry> entries = new ArrayList<>(size);
+            while (!stack.isEmpty() && entries.size() < size) {
+                Node current = stack.pop();
+
+                entries.add(new Entry(++rank, current.teamId, current.score));
+
+                node = current.right;
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }
+
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long count(double score, long teamId, boolean inclusive) {
+        long count = 0;
+
+        Node node = root;
+        while (node != null) {
+            int compare = compare(node.score, node.teamId, score, teamId);
+
+            if (compare < 0 || (inclusive && compare == 0)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+
+        return count;
+    }
+
+    private static Node insert(Node root, Node node) {
+        Node[] split = split(root, node.score, node.teamId);
+
+        return merge(merge(split[0], node), split[1]);
+    }
+
+    private static Node remove(Node node, double score, long teamId) {
+        if (node == null) {
+            return null;
+        }
+
+        int compare = compare(score, teamId, node.score, node.teamId);
+
+        if (compare == 0) {
+            return merge(node.left, node.right);
+        }
+
+        if (compare < 0) {
+            node.left = remove(node.left, score, teamId);
+        } else {
+            node.right = remove(node.right, score, teamId);
+        }
+
+        node.update();
+
+        return node;
+    }
+
+    private static Node[] split(Node node, double score, long teamId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+
+        if (compare(node.score, node.teamId, score, teamId) < 0) {
+            Node[] split = split(node.right, score, teamId);
+            node.right = split[0];
+            node.update();
+
+            return new Node[]{node, split[1]};
+        }
+
+        Node[] split = split(node.left, score, teamId);
+        node.left = split[1];
+        node.update();
+
+        return new Node[]{split[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        right.update();
+
+        return right;
+    }
+
+    private static int compare(double score, long teamId, double otherScore, long otherTeamId) {
+        int compare = Double.compare(otherScore, score);
+
+        return compare != 0 ? compare : Long.compare(teamId, otherTeamId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public record Entry(
+            Long rank,
+            Long teamId,
+            Double score
+    ) {
+    }
+
+    private static class Node {
+
+        private final double score;
+        private final long teamId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(double score, long teamId) {
+            this.score = score;
+            this.teamId = teamId;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
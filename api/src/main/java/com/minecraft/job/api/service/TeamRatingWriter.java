@@ -0,0 +1,11 @@
+package com.minecraft.job.api.service;
+
+public interface TeamRatingWriter {
+
+    void apply(Long teamId, Long reviewCountDelta, Long scoreSumDelta);
+
+    /**
+     * 같은 트랜잭션에서 apply 한 증감분까지 반영된 팀 평점.
+     */
+    Double getAveragePoint(Long teamId);
+}
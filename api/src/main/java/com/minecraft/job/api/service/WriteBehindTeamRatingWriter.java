@@ -0,0 +1,174 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.review.domain.ReviewScoreSummary;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.service.TeamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 리뷰 작성 시 팀 row 를 바로 갱신하지 않고, 커밋 후 "팀 평점 갱신 필요" 표시만 남긴다.
+ * window 마다 표시된 팀을 한 번씩 다시 계산해서 반영하므로, 같은 팀에 몰린 리뷰들이 팀 row 락을 두고 경합하지 않는다.
+ * <p>
+ * flush 는 이 writer 전용 스레드에서 돌므로 @Scheduled 작업이 공유하는 스케줄러 스레드에 밀리지 않는다.
+ * 그래서 팀 평점은 커밋된 리뷰보다 최대 window + 한 번의 flush 시간만큼 늦게 반영된다.
+ * flush 한 번은 표시된 팀마다 리뷰 집계 한 번과 팀 갱신 한 번이므로 표시된 팀 수에 비례한다.
+ * 계산 중 실패한 팀은 표시를 되돌려 다음 window 에 다시 계산한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "team.rating.write-behind.enabled", havingValue = "true")
+public class WriteBehindTeamRatingWriter implements TeamRatingWriter {
+
+    private final ReviewRepository reviewRepository;
+    private final TeamService teamService;
+
+    private final Map<Long, Long> dirtyTeams = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter markedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Timer stalenessTimer;
+
+    public WriteBehindTeamRatingWriter(
+            ReviewRepository reviewRepository,
+            TeamService teamService,
+            @Value("${team.rating.write-behind.window-millis:1000}") long windowMillis,
+            MeterRegistry meterRegistry
+    ) {
+        require(windowMillis > 0);
+
+        this.reviewRepository = reviewRepository;
+        this.teamService = teamService;
+
+        this.markedCounter = meterRegistry.counter("team.rating.write-behind.marked");
+        this.flushedCounter = meterRegistry.counter("team.rating.write-behind.flushed");
+        this.failedCounter = meterRegistry.counter("team.rating.write-behind.failed");
+        this.stalenessTimer = meterRegistry.timer("team.rating.write-behind.staleness");
+
+        Gauge.builder("team.rating.write-behind.pending", dirtyTeams, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("team.rating.write-behind.oldest.age", this, it -> it.getOldestPendingNanos() / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("team-rating-write-behind-"));
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, MILLISECONDS);
+    }
+
+    @Override
+    public void apply(Long teamId, Long reviewCountDelta, Long scoreSumDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(teamId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(teamId);
+            }
+        });
+    }
+
+    /**
+     * 팀 row 는 아직 반영 전일 수 있으므로 커밋 전의 리뷰까지 포함해 review 테이블에서 계산한다.
+     */
+    @Override
+    public Double getAveragePoint(Long teamId) {
+        ReviewScoreSummary summary = reviewRepository.summarizeActivated(teamId);
+
+        return Team.calculateAveragePoint(summary.getReviewCount(), summary.getScoreSum());
+    }
+
+    /**
+     * 돌고 있는 flush 가 끝나기를 기다린 뒤, 남은 표시를 마지막으로 한 번 반영한다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+
+        if (!scheduler.awaitTermination(30, SECONDS)) {
+            log.warn("team rating write-behind flush did not finish before shutdown.");
+        }
+
+        flush();
+    }
+
+    public void flush() {
+        for (Long teamId : dirtyTeams.keySet()) {
+            Long markedAt = dirtyTeams.remove(teamId);
+
+            if (markedAt == null) {
+                continue;
+            }
+
+            try {
+                ReviewScoreSummary summary = reviewRepository.summarizeActivated(teamId);
+
+                teamService.applyReviewAggregate(teamId, summary.getReviewCount(), summary.getScoreSum());
+
+                flushedCounter.increment();
+                stalenessTimer.record(System.nanoTime() - markedAt, NANOSECONDS);
+            } catch (RuntimeException ex) {
+                dirtyTeams.merge(teamId, markedAt, Math::min);
+
+                failedCounter.increment();
+                log.warn("team rating write-behind flush failed. teamId={}", teamId, ex);
+            }
+        }
+    }
+
+    /**
+     * 예약된 작업이 예외를 던지면 다음 실행이 취소되므로 여기서 멈춘다.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("team rating write-behind flush failed.", ex);
+        }
+    }
+
+    public int getPendingCount() {
+        return dirtyTeams.size();
+    }
+
+    public long getOldestPendingNanos() {
+        long now = System.nanoTime();
+
+        return dirtyTeams.values().stream()
+                .mapToLong(markedAt -> now - markedAt)
+                .max()
+                .orElse(0L);
+    }
+
+    private void mark(Long teamId) {
+        dirtyTeams.putIfAbsent(teamId, System.nanoTime());
+
+        markedCounter.increment();
+    }
+}
@@ -0,0 +1,30 @@
+package com.minecraft.job.api.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 마지막으로 내려준 알림의 id. 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public record NotificationCursor(
+        Long id
+) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            return new NotificationCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("invalid cursor", ex);
+        }
+    }
+}
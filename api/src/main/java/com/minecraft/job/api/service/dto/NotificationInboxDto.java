@@ -0,0 +1,12 @@
+package com.minecraft.job.api.service.dto;
+
+import com.minecraft.job.common.notification.domain.Notification;
+
+import java.util.List;
+
+public record NotificationInboxDto(
+        List<Notification> notifications,
+        long unreadCount,
+        String nextCursor
+) {
+}
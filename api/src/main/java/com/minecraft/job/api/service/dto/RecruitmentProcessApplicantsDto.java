@@ -0,0 +1,11 @@
+package com.minecraft.job.api.service.dto;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplicant;
+
+import java.util.List;
+
+public record RecruitmentProcessApplicantsDto(
+        List<RecruitmentProcessApplicant> applicants,
+        Long nextCursor
+) {
+}
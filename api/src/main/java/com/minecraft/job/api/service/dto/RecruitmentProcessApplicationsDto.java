@@ -0,0 +1,11 @@
+package com.minecraft.job.api.service.dto;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplication;
+
+import java.util.List;
+
+public record RecruitmentProcessApplicationsDto(
+        List<RecruitmentProcessApplication> applications,
+        String nextCursor
+) {
+}
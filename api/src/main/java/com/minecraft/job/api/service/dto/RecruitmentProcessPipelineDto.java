@@ -0,0 +1,15 @@
+package com.minecraft.job.api.service.dto;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+
+import java.util.Map;
+
+public record RecruitmentProcessPipelineDto(
+        Long recruitmentId,
+        Map<RecruitmentProcessStatus, Long> counts
+) {
+
+    public long total() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
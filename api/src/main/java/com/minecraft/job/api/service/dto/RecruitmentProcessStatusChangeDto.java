@@ -0,0 +1,11 @@
+package com.minecraft.job.api.service.dto;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+
+public record RecruitmentProcessStatusChangeDto(
+        Long recruitmentProcessId,
+        RecruitmentProcessStatus status,
+        String recruitmentName,
+        String teamName
+) {
+}
@@ -0,0 +1,11 @@
+package com.minecraft.job.api.service.dto;
+
+import com.minecraft.job.common.review.domain.ReviewFeedItem;
+
+import java.util.List;
+
+public record ReviewFeedDto(
+        List<ReviewFeedItem> reviews,
+        String nextCursor
+) {
+}
@@ -0,0 +1,9 @@
+package com.minecraft.job.api.service.dto;
+
+public record TeamRankDto(
+        Long rank,
+        Long teamId,
+        String name,
+        Double score
+) {
+}
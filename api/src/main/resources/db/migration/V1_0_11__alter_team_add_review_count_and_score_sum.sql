@@ -0,0 +1,13 @@
+alter table team
+    add column review_count bigint;
+
+alter table team
+    add column score_sum bigint;
+
+update team t
+    left join (select team_id, count(*) as review_count, sum(score) as score_sum
+               from review
+               where status = 'ACTIVATED'
+               group by team_id) r on r.team_id = t.id
+set t.review_count = coalesce(r.review_count, 0),
+    t.score_sum    = coalesce(r.score_sum, 0);
@@ -0,0 +1,23 @@
+create table review_score_distribution
+(
+    team_id bigint not null,
+    score0  bigint not null default 0,
+    score1  bigint not null default 0,
+    score2  bigint not null default 0,
+    score3  bigint not null default 0,
+    score4  bigint not null default 0,
+    score5  bigint not null default 0,
+    primary key (team_id)
+) engine = InnoDB;
+
+insert into review_score_distribution (team_id, score0, score1, score2, score3, score4, score5)
+select t.id,
+       coalesce(sum(r.score = 0), 0),
+       coalesce(sum(r.score = 1), 0),
+       coalesce(sum(r.score = 2), 0),
+       coalesce(sum(r.score = 3), 0),
+       coalesce(sum(r.score = 4), 0),
+       coalesce(sum(r.score = 5), 0)
+from team t
+    left join review r on r.team_id = t.id and r.status = 'ACTIVATED'
+group by t.id;
@@ -0,0 +1 @@
+create index idx_review_team_status_created_at on review (team_id, status, created_at, id);
@@ -0,0 +1,5 @@
+alter table team
+    add column version bigint not null default 0;
+
+alter table recruitment_process
+    add column version bigint not null default 0;
@@ -0,0 +1,14 @@
+create table mail_outbox
+(
+    id         bigint not null auto_increment,
+    recipients varchar(1000),
+    template   varchar(255),
+    payload    longtext,
+    status     varchar(255),
+    created_at datetime(6),
+    claimed_at datetime(6),
+    sent_at    datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_mail_outbox_status_id on mail_outbox (status, id);
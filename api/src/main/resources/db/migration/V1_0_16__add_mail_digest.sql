@@ -0,0 +1,11 @@
+create table mail_digest
+(
+    id         bigint not null auto_increment,
+    recipient  varchar(255),
+    template   varchar(255),
+    payload    longtext,
+    created_at datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_mail_digest_template_recipient_id on mail_digest (template, recipient, id);
@@ -0,0 +1,19 @@
+alter table mail_outbox
+    add column attempts        integer not null default 0,
+    add column next_attempt_at datetime(6),
+    add column last_error      varchar(1000);
+
+create table mail_dead_letter
+(
+    id         bigint  not null auto_increment,
+    recipients varchar(1000),
+    template   varchar(255),
+    payload    longtext,
+    attempts   integer not null,
+    last_error varchar(1000),
+    created_at datetime(6),
+    dead_at    datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_mail_dead_letter_template_id on mail_dead_letter (template, id);
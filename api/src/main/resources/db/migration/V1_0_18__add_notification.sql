@@ -0,0 +1,16 @@
+create table notification
+(
+    id         bigint not null auto_increment,
+    user_id    bigint,
+    type       varchar(255),
+    target_id  bigint,
+    message    varchar(255),
+    read_at    datetime(6),
+    created_at datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_notification_user_id_id on notification (user_id, id);
+
+alter table user
+    add column unread_notification_count bigint not null default 0;
@@ -0,0 +1,22 @@
+create table recruitment_process_status_count
+(
+    recruitment_id bigint not null,
+    waiting        bigint not null default 0,
+    in_progress    bigint not null default 0,
+    passed         bigint not null default 0,
+    canceled       bigint not null default 0,
+    failed         bigint not null default 0,
+    primary key (recruitment_id)
+) engine = InnoDB;
+
+insert into recruitment_process_status_count (recruitment_id, waiting, in_progress, passed, canceled, failed)
+select recruitment_id,
+       coalesce(sum(status = 'WAITING'), 0),
+       coalesce(sum(status = 'IN_PROGRESS'), 0),
+       coalesce(sum(status = 'PASSED'), 0),
+       coalesce(sum(status = 'CANCELED'), 0),
+       coalesce(sum(status = 'FAILED'), 0)
+from recruitment_process
+group by recruitment_id;
+
+create index idx_recruitment_process_recruitment_id_status_id on recruitment_process (recruitment_id, status, id);
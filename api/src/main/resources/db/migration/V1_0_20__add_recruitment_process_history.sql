@@ -0,0 +1,38 @@
+alter table recruitment_process
+    add column status_changed_at datetime(6);
+
+update recruitment_process
+set status_changed_at = coalesce(closed_at, created_at);
+
+create table recruitment_process_history
+(
+    id                     bigint       not null auto_increment,
+    recruitment_process_id bigint       not null,
+    recruitment_id         bigint       not null,
+    from_status            varchar(255) not null,
+    to_status              varchar(255) not null,
+    duration_seconds       bigint       not null,
+    since_applied_seconds  bigint       not null,
+    changed_at             datetime(6)  not null,
+    primary key (id, changed_at),
+    key idx_recruitment_process_history_recruitment_process_id_id (recruitment_process_id, id)
+) engine = InnoDB
+    partition by range columns (changed_at) (
+        partition p202610 values less than ('2026-11-01'),
+        partition p202611 values less than ('2026-12-01'),
+        partition p202612 values less than ('2027-01-01'),
+        partition p202701 values less than ('2027-02-01'),
+        partition pmax values less than (maxvalue)
+        );
+
+create table recruitment_process_stage_duration
+(
+    recruitment_id       bigint not null,
+    waiting_count        bigint not null default 0,
+    waiting_seconds      bigint not null default 0,
+    in_progress_count    bigint not null default 0,
+    in_progress_seconds  bigint not null default 0,
+    hired_count          bigint not null default 0,
+    time_to_hire_seconds bigint not null default 0,
+    primary key (recruitment_id)
+) engine = InnoDB;
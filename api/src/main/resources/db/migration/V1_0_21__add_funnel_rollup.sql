@@ -0,0 +1,13 @@
+create table funnel_rollup
+(
+    scope            varchar(255) not null,
+    target_id        bigint       not null,
+    applied          bigint       not null default 0,
+    in_progress      bigint       not null default 0,
+    passed           bigint       not null default 0,
+    failed           bigint       not null default 0,
+    canceled         bigint       not null default 0,
+    time_to_decision longblob,
+    updated_at       datetime(6),
+    primary key (scope, target_id)
+) engine = InnoDB;
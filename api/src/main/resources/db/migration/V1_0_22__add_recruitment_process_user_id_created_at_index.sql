@@ -0,0 +1 @@
+create index idx_recruitment_process_user_id_created_at_id on recruitment_process (user_id, created_at, id);
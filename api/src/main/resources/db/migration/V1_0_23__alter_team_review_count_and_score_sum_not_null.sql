@@ -0,0 +1,13 @@
+update team t
+    left join (select team_id, count(*) as review_count, sum(score) as score_sum
+               from review
+               where status = 'ACTIVATED'
+               group by team_id) r on r.team_id = t.id
+set t.review_count = coalesce(r.review_count, 0),
+    t.score_sum    = coalesce(r.score_sum, 0)
+where t.review_count is null
+   or t.score_sum is null;
+
+alter table team
+    modify column review_count bigint not null default 0,
+    modify column score_sum bigint not null default 0;
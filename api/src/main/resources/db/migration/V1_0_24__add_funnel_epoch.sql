@@ -0,0 +1,9 @@
+create table funnel_epoch
+(
+    id    bigint not null,
+    epoch bigint not null default 0,
+    primary key (id)
+) engine = InnoDB;
+
+insert into funnel_epoch (id, epoch)
+values (1, 0);
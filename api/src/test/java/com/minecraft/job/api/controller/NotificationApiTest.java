@@ -0,0 +1,140 @@
+package com.minecraft.job.api.controller;
+
+import com.minecraft.job.api.controller.dto.NotificationReadDto.NotificationReadRequest;
+import com.minecraft.job.api.fixture.RecruitmentFixture;
+import com.minecraft.job.api.fixture.ResumeFixture;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.DefaultNotificationAppService;
+import com.minecraft.job.api.support.ApiTest;
+import com.minecraft.job.common.notification.domain.Notification;
+import com.minecraft.job.common.notification.service.NotificationService;
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamInactivateEvent;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static com.minecraft.job.common.notification.domain.NotificationType.RECRUITMENT_PROCESS_PASS;
+import static com.minecraft.job.common.notification.domain.NotificationType.TEAM_INACTIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class NotificationApiTest extends ApiTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private DefaultNotificationAppService notificationAppService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private RecruitmentProcessRepository recruitmentProcessRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserFixture.create());
+    }
+
+    @Test
+    void 알림함_조회_성공() throws Exception {
+        for (long targetId = 1; targetId <= 3; targetId++) {
+            notificationService.publish(List.of(user.getId()), RECRUITMENT_PROCESS_PASS, targetId, "message" + targetId);
+        }
+
+        String body = mockMvc.perform(get("/notification")
+                        .param("userId", user.getId().toString())
+                        .param("size", "2"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.notifications.length()").value(2),
+                        jsonPath("$.notifications[0].message").value("message3"),
+                        jsonPath("$.notifications[0].read").value(false),
+                        jsonPath("$.unreadCount").value(3),
+                        jsonPath("$.nextCursor").isNotEmpty()
+                )
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/notification")
+                        .param("userId", user.getId().toString())
+                        .param("cursor", nextCursor)
+                        .param("size", "2"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.notifications.length()").value(1),
+                        jsonPath("$.notifications[0].message").value("message1"),
+                        jsonPath("$.nextCursor").isEmpty()
+                );
+    }
+
+    @Test
+    void 알림_읽음_성공() throws Exception {
+        notificationService.publish(List.of(user.getId()), RECRUITMENT_PROCESS_PASS, 1L, "message");
+
+        Notification notification = notificationService.getInbox(user.getId(), null, 1).get(0);
+
+        NotificationReadRequest req = new NotificationReadRequest(user.getId(), notification.getId());
+
+        mockMvc.perform(post("/notification/read")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        assertThat(notificationService.getUnreadCount(user.getId())).isZero();
+    }
+
+    @Test
+    void 팀_비활성화_알림__진행_중인_지원자_모두에게() {
+        User leader = userRepository.save(UserFixture.getAnotherUser("leader"));
+        Team team = teamRepository.save(TeamFixture.create(leader));
+        Recruitment recruitment = recruitmentRepository.save(RecruitmentFixture.create(team));
+
+        List<User> applicants = List.of(user,
+                userRepository.save(UserFixture.getAnotherUser("applicant1")),
+                userRepository.save(UserFixture.getAnotherUser("applicant2")));
+
+        for (User applicant : applicants) {
+            recruitmentProcessRepository.save(RecruitmentProcess.create(recruitment, applicant, resumeRepository.save(ResumeFixture.create(applicant))));
+        }
+
+        notificationAppService.onTeamInactivateListener(new TeamInactivateEvent(team.getId()));
+
+        for (User applicant : applicants) {
+            assertThat(notificationService.getInbox(applicant.getId(), null, 10))
+                    .singleElement()
+                    .satisfies(notification -> assertThat(notification.getType()).isEqualTo(TEAM_INACTIVATE));
+            assertThat(notificationService.getUnreadCount(applicant.getId())).isEqualTo(1L);
+        }
+        assertThat(notificationService.getInbox(leader.getId(), null, 10)).isEmpty();
+    }
+}
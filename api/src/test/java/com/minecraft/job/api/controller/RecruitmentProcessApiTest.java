@@ -4,11 +4,14 @@ import com.minecraft.job.api.fixture.RecruitmentFixture;
 import com.minecraft.job.api.fixture.ResumeFixture;
 import com.minecraft.job.api.fixture.TeamFixture;
 import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.RecruitmentProcessStream;
 import com.minecraft.job.api.support.ApiTest;
 import com.minecraft.job.common.recruitment.domain.Recruitment;
 import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessPassEvent;
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.recruitmentProcess.service.RecruitmentProcessService;
 import com.minecraft.job.common.resume.domain.Resume;
 import com.minecraft.job.common.resume.domain.ResumeRepository;
 import com.minecraft.job.common.team.domain.Team;
@@ -19,7 +22,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+
+import static com.minecraft.job.api.controller.dto.RecruitmentProcessBulkDto.RecruitmentProcessBulkRequest;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessCancelDto.RecruitmentProcessCancelRequest;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessCreateDto.RecruitmentProcessCreateRequest;
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessFailDto.RecruitmentProcessFailRequest;
@@ -27,8 +35,14 @@ import static com.minecraft.job.api.controller.dto.RecruitmentProcessInProgressD
 import static com.minecraft.job.api.controller.dto.RecruitmentProcessPassDto.RecruitmentProcessPassRequest;
 import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class RecruitmentProcessApiTest extends ApiTest {
@@ -43,6 +57,10 @@ public class RecruitmentProcessApiTest extends ApiTest {
     private ResumeRepository resumeRepository;
     @Autowired
     private RecruitmentProcessRepository recruitmentProcessRepository;
+    @Autowired
+    private RecruitmentProcessStream recruitmentProcessStream;
+    @Autowired
+    private RecruitmentProcessService recruitmentProcessService;
 
     private User user;
     private User leader;
@@ -72,6 +90,21 @@ public class RecruitmentProcessApiTest extends ApiTest {
                 );
     }
 
+    @Test
+    void 채용과정_생성_실패__이미_지원함() throws Exception {
+        RecruitmentProcessCreateRequest recruitmentProcessCreateRequest = new RecruitmentProcessCreateRequest(recruitment.getId(), user.getId(), resume.getId());
+
+        recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        mockMvc.perform(post("/recruitment-process")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(recruitmentProcessCreateRequest)))
+                .andExpectAll(
+                        jsonPath("$.error.code").value("ALREADY_APPLIED_RECRUITMENT"),
+                        jsonPath("$.error.message").isNotEmpty()
+                );
+    }
+
     @Test
     void 채용과정_서류합격_성공() throws Exception {
         RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.save(RecruitmentProcess.create(recruitment, user, resume));
@@ -144,4 +177,152 @@ public class RecruitmentProcessApiTest extends ApiTest {
 
         assertThat(findRecruitmentProcess.getStatus()).isEqualTo(FAILED);
     }
+
+    @Test
+    void 채용과정_일괄_상태_변경_성공() throws Exception {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.save(RecruitmentProcess.create(recruitment, user, resume));
+
+        RecruitmentProcessBulkRequest req = new RecruitmentProcessBulkRequest(
+                List.of(recruitmentProcess.getId(), Long.MAX_VALUE), team.getId(), leader.getId(), IN_PROGRESS);
+
+        mockMvc.perform(post("/recruitment-process/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.results.length()").value(2),
+                        jsonPath("$.results[0].recruitmentProcessId").value(recruitmentProcess.getId()),
+                        jsonPath("$.results[0].success").value(true),
+                        jsonPath("$.results[1].success").value(false),
+                        jsonPath("$.results[1].failure").value("NOT_FOUND")
+                );
+
+        assertThat(recruitmentProcessRepository.findById(recruitmentProcess.getId()).orElseThrow().getStatus()).isEqualTo(IN_PROGRESS);
+    }
+
+    @Test
+    void 채용과정_파이프라인_상태별_카운트_조회_성공() throws Exception {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        recruitmentProcessService.inProgress(recruitmentProcess.getId(), team.getId(), leader.getId());
+
+        mockMvc.perform(get("/recruitment-process/pipeline")
+                        .param("recruitmentId", recruitment.getId().toString())
+                        .param("teamId", team.getId().toString())
+                        .param("leaderId", leader.getId().toString()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.recruitmentId").value(recruitment.getId()),
+                        jsonPath("$.counts.WAITING").value(0),
+                        jsonPath("$.counts.IN_PROGRESS").value(1),
+                        jsonPath("$.total").value(1)
+                );
+    }
+
+    @Test
+    void 채용과정_파이프라인_지원자_조회_성공() throws Exception {
+        User another = userRepository.save(UserFixture.getAnotherUser("another"));
+        Resume anotherResume = resumeRepository.save(ResumeFixture.create(another));
+
+        RecruitmentProcess first = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        RecruitmentProcess second = recruitmentProcessService.create(recruitment.getId(), another.getId(), anotherResume.getId());
+
+        mockMvc.perform(get("/recruitment-process/pipeline/applicants")
+                        .param("recruitmentId", recruitment.getId().toString())
+                        .param("teamId", team.getId().toString())
+                        .param("leaderId", leader.getId().toString())
+                        .param("status", WAITING.name())
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.applicants.length()").value(1),
+                        jsonPath("$.applicants[0].recruitmentProcessId").value(second.getId()),
+                        jsonPath("$.applicants[0].userNickname").value(another.getNickname()),
+                        jsonPath("$.nextCursor").value(second.getId())
+                );
+
+        mockMvc.perform(get("/recruitment-process/pipeline/applicants")
+                        .param("recruitmentId", recruitment.getId().toString())
+                        .param("teamId", team.getId().toString())
+                        .param("leaderId", leader.getId().toString())
+                        .param("status", WAITING.name())
+                        .param("cursor", second.getId().toString())
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.applicants[0].recruitmentProcessId").value(first.getId()),
+                        jsonPath("$.nextCursor").isEmpty()
+                );
+    }
+
+    @Test
+    void 내_지원_내역_조회_성공() throws Exception {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.save(RecruitmentProcess.create(recruitment, user, resume));
+
+        mockMvc.perform(get("/recruitment-process/mine")
+                        .param("userId", user.getId().toString()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.applications.length()").value(1),
+                        jsonPath("$.applications[0].recruitmentProcessId").value(recruitmentProcess.getId()),
+                        jsonPath("$.applications[0].recruitmentTitle").value(recruitment.getTitle()),
+                        jsonPath("$.applications[0].teamName").value(team.getName()),
+                        jsonPath("$.applications[0].status").value(WAITING.name()),
+                        jsonPath("$.nextCursor").isEmpty()
+                );
+    }
+
+    /**
+     * 지원자는 응답을 쓰는 스레드의 커넥션으로 읽으므로 이 테스트 트랜잭션에서 만든 지원자는 보이지 않는다. 헤더만 확인한다.
+     */
+    @Test
+    void 채용과정_지원자_내보내기_성공() throws Exception {
+        MvcResult result = mockMvc.perform(get("/recruitment-process/export")
+                        .param("recruitmentId", recruitment.getId().toString())
+                        .param("teamId", team.getId().toString())
+                        .param("leaderId", leader.getId().toString())
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string("Content-Disposition", "attachment; filename=\"recruitment-" + recruitment.getId() + "-applicants.csv\""),
+                        header().doesNotExist("Content-Encoding"),
+                        content().string(startsWith("recruitmentProcessId,userId,"))
+                );
+    }
+
+    @Test
+    void 채용과정_상태_변경_스트림_성공() throws Exception {
+        MvcResult result = mockMvc.perform(get("/recruitment-process/stream")
+                        .param("userId", user.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        recruitmentProcessStream.onRecruitmentProcessPassListener(new RecruitmentProcessPassEvent(
+                1L, recruitment.getTitle(), team.getName(), user.getId(), user.getEmail(), user.getNickname()));
+
+        String content = awaitContent(result.getResponse(), "event:status");
+
+        assertThat(content)
+                .contains("\"recruitmentProcessId\":1")
+                .contains("\"status\":\"PASSED\"");
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            String content = response.getContentAsString();
+
+            if (content.contains(expected)) {
+                return content;
+            }
+
+            Thread.sleep(50);
+        }
+
+        return response.getContentAsString();
+    }
 }
@@ -4,9 +4,11 @@ import com.minecraft.job.api.controller.dto.ReviewActivateDto.ReviewActivateRequ
 import com.minecraft.job.api.controller.dto.ReviewCreateDto.ReviewCreateRequest;
 import com.minecraft.job.api.controller.dto.ReviewInactivateDto.ReviewInactivateRequest;
 import com.minecraft.job.api.controller.dto.ReviewUpdateDto.ReviewUpdateRequest;
-import com.minecraft.job.api.fixture.ReviewFixture;
 import com.minecraft.job.api.fixture.TeamFixture;
 import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.ReviewAppService;
+import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.api.service.dto.ReviewInactivateDto;
 import com.minecraft.job.api.support.ApiTest;
 import com.minecraft.job.common.review.domain.Review;
 import com.minecraft.job.common.review.domain.ReviewRepository;
@@ -22,12 +24,16 @@ import org.springframework.http.MediaType;
 import static com.minecraft.job.common.review.domain.ReviewStatus.ACTIVATED;
 import static com.minecraft.job.common.review.domain.ReviewStatus.INACTIVATED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class ReviewApiTest extends ApiTest {
 
+    @Autowired
+    private ReviewAppService reviewAppService;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
@@ -69,7 +75,7 @@ class ReviewApiTest extends ApiTest {
 
     @Test
     void 리뷰_수정_성공() throws Exception {
-        Review review = reviewRepository.save(ReviewFixture.create(user, team));
+        Review review = createReview();
 
         ReviewUpdateRequest req = new ReviewUpdateRequest(review.getId(), user.getId(), team.getId(), "updateContent", 1L);
 
@@ -88,9 +94,8 @@ class ReviewApiTest extends ApiTest {
 
     @Test
     void 리뷰_활성화_성공() throws Exception {
-        Review review = ReviewFixture.create(user, team);
-        review.inactivate();
-        review = reviewRepository.save(review);
+        Review review = createReview();
+        reviewAppService.inactivate(new ReviewInactivateDto(review.getId(), user.getId(), team.getId()));
 
         ReviewActivateRequest req = new ReviewActivateRequest(review.getId(), user.getId(), team.getId(), "content", 1L);
 
@@ -110,7 +115,7 @@ class ReviewApiTest extends ApiTest {
 
     @Test
     void 리뷰_비활성화_성공() throws Exception {
-        Review review = reviewRepository.save(ReviewFixture.create(user, team));
+        Review review = createReview();
 
         ReviewInactivateRequest req = new ReviewInactivateRequest(review.getId(), user.getId(), team.getId());
         mockMvc.perform(post("/review/inactivate")
@@ -124,4 +129,57 @@ class ReviewApiTest extends ApiTest {
         assertThat(findReview.getStatus()).isEqualTo(INACTIVATED);
         assertThat(findTeam.getAveragePoint()).isEqualTo(0);
     }
+
+    @Test
+    void 리뷰_점수_분포_조회_성공() throws Exception {
+        createReview();
+
+        mockMvc.perform(get("/review/score-distribution")
+                        .param("teamId", team.getId().toString()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.teamId").value(team.getId()),
+                        jsonPath("$.counts[3]").value(1L),
+                        jsonPath("$.total").value(1L),
+                        jsonPath("$.median").value(3L),
+                        jsonPath("$.p90").value(3L)
+                );
+    }
+
+    @Test
+    void 리뷰_피드_조회_성공() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            User reviewer = userRepository.save(UserFixture.getAnotherUser("reviewer" + i));
+            reviewAppService.create(new ReviewCreateDto(reviewer.getId(), team.getId(), "content" + i, 3L));
+        }
+
+        String body = mockMvc.perform(get("/review")
+                        .param("teamId", team.getId().toString())
+                        .param("size", "2"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.reviews.length()").value(2),
+                        jsonPath("$.reviews[0].content").value("content2"),
+                        jsonPath("$.reviews[0].userNickname").isNotEmpty(),
+                        jsonPath("$.nextCursor").isNotEmpty()
+                )
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/review")
+                        .param("teamId", team.getId().toString())
+                        .param("cursor", nextCursor)
+                        .param("size", "2"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.reviews.length()").value(1),
+                        jsonPath("$.reviews[0].content").value("content0"),
+                        jsonPath("$.nextCursor").isEmpty()
+                );
+    }
+
+    private Review createReview() {
+        return reviewAppService.create(new ReviewCreateDto(user.getId(), team.getId(), "content", 3L)).getFirst();
+    }
 }
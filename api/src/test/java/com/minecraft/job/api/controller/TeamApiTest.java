@@ -6,6 +6,7 @@ import com.minecraft.job.api.controller.dto.TeamInactivateDto.TeamInactivateRequ
 import com.minecraft.job.api.controller.dto.TeamUpdateDto.TeamUpdateRequest;
 import com.minecraft.job.api.fixture.TeamFixture;
 import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.TeamRankingAppService;
 import com.minecraft.job.api.support.ApiTest;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
@@ -20,6 +21,7 @@ import org.springframework.http.MediaType;
 import static com.minecraft.job.common.team.domain.TeamStatus.ACTIVATED;
 import static com.minecraft.job.common.team.domain.TeamStatus.INACTIVATED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -35,6 +37,9 @@ class TeamApiTest extends ApiTest {
     @Autowired
     private TeamService teamService;
 
+    @Autowired
+    private TeamRankingAppService teamRankingAppService;
+
     private Team team;
     private User user;
 
@@ -109,4 +114,56 @@ class TeamApiTest extends ApiTest {
 
         assertThat(findTeam.getStatus()).isEqualTo(ACTIVATED);
     }
+
+    @Test
+    void 팀_랭킹_조회_성공() throws Exception {
+        Team highTeam = teamRepository.save(TeamFixture.getFakeTeam(user));
+        highTeam.applyReviewScore(1L, 5L);
+        teamRepository.flush();
+
+        teamRankingAppService.reload();
+
+        mockMvc.perform(get("/team/ranking")
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.teams.length()").value(1),
+                        jsonPath("$.teams[0].rank").value(1),
+                        jsonPath("$.teams[0].teamId").value(highTeam.getId()),
+                        jsonPath("$.teams[0].name").value("fakeName")
+                );
+
+        mockMvc.perform(get("/team/ranking")
+                        .param("size", "1")
+                        .param("cursorScore", "5.0")
+                        .param("cursorTeamId", String.valueOf(highTeam.getId())))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.teams[0].rank").value(2),
+                        jsonPath("$.teams[0].teamId").value(team.getId())
+                );
+    }
+
+    @Test
+    void 팀_순위_조회_성공() throws Exception {
+        teamRankingAppService.reload();
+
+        mockMvc.perform(get("/team/ranking/{teamId}", team.getId()))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.team.teamId").value(team.getId()),
+                        jsonPath("$.team.rank").value(1),
+                        jsonPath("$.team.score").value(0.0)
+                );
+    }
+
+    @Test
+    void 팀_순위_조회_실패__랭킹에_없는_팀() throws Exception {
+        teamRankingAppService.reload();
+
+        mockMvc.perform(get("/team/ranking/{teamId}", team.getId() + 1))
+                .andExpectAll(
+                        jsonPath("$.error.code").value("NOT_RANKED_TEAM")
+                );
+    }
 }
@@ -0,0 +1,38 @@
+package com.minecraft.job.api.fixture;
+
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 지원자(사용자, 이력서, 채용과정)를 DB 안에서 insert ... select 로 만든다. 엔티티를 거치지 않으므로 백만 건도 테스트 JVM 메모리를 쓰지 않는다.
+ */
+public class ApplicantFixture {
+
+    public static void insertAll(JdbcTemplate jdbcTemplate, Recruitment recruitment, int count) {
+        String prefix = "applicant-" + recruitment.getId() + "-";
+
+        jdbcTemplate.execute("set session cte_max_recursion_depth = " + Math.max(1000, count));
+
+        jdbcTemplate.update("""
+                insert into user (email, password, nickname, interest, age, status, created_at)
+                with recursive seq (n) as (select 1 union all select n + 1 from seq where n < ?)
+                select concat(?, n), 'password', concat('nickname', n), 'interest', 20, 'ACTIVATED', now()
+                from seq
+                """, count, prefix);
+
+        jdbcTemplate.update("""
+                insert into resume (title, content, training_history, user_id, status, created_at)
+                select concat('title ', u.id), concat('content, "quoted"\n', u.id), 'trainingHistory', u.id, 'CREATED', now()
+                from user u
+                where u.email like ?
+                """, prefix + "%");
+
+        jdbcTemplate.update("""
+                insert into recruitment_process (recruitment_id, user_id, resume_id, status, created_at, status_changed_at, version)
+                select ?, r.user_id, r.id, 'WAITING', now(), now(), 0
+                from resume r
+                join user u on u.id = r.user_id
+                where u.email like ?
+                """, recruitment.getId(), prefix + "%");
+    }
+}
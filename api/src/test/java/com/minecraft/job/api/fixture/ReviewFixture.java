@@ -3,10 +3,35 @@ package com.minecraft.job.api.fixture;
 import com.minecraft.job.common.review.domain.Review;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.user.domain.User;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 public class ReviewFixture {
 
     public static Review create(User user, Team team) {
         return Review.create("content", 3L, user, team);
     }
+
+    /**
+     * 리뷰어와 ACTIVATED 리뷰를 DB 안에서 insert ... select 로 만든다. 점수는 1~5 를 돌아가며 쓴다.
+     * 팀의 review_count, score_sum 은 바꾸지 않는다.
+     */
+    public static void insertAll(JdbcTemplate jdbcTemplate, Team team, int count) {
+        String prefix = "reviewer-" + team.getId() + "-";
+
+        jdbcTemplate.execute("set session cte_max_recursion_depth = " + Math.max(1000, count));
+
+        jdbcTemplate.update("""
+                insert into user (email, password, nickname, interest, age, status, created_at)
+                with recursive seq (n) as (select 1 union all select n + 1 from seq where n < ?)
+                select concat(?, n), 'password', concat('reviewer', n), 'interest', 20, 'ACTIVATED', now()
+                from seq
+                """, count, prefix);
+
+        jdbcTemplate.update("""
+                insert into review (content, score, user_id, team_id, status, created_at)
+                select 'content', u.id % 5 + 1, u.id, ?, 'ACTIVATED', now()
+                from user u
+                where u.email like ?
+                """, team.getId(), prefix + "%");
+    }
 }
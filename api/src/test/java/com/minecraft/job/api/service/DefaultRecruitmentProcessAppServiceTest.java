@@ -0,0 +1,251 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.fixture.RecruitmentFixture;
+import com.minecraft.job.api.fixture.ResumeFixture;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.dto.RecruitmentProcessApplicationsDto;
+import com.minecraft.job.common.funnel.service.FunnelService;
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplication;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessBulkEvent;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessCreateEvent;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessPassEvent;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult;
+import com.minecraft.job.common.recruitmentProcess.service.RecruitmentProcessService;
+import com.minecraft.job.common.resume.domain.Resume;
+import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import com.minecraft.job.integration.mail.Mail;
+import com.minecraft.job.integration.mail.MailPublisher;
+import com.minecraft.job.integration.mail.MailTemplate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.IN_PROGRESS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Transactional
+@SpringBootTest
+@RecordApplicationEvents
+class DefaultRecruitmentProcessAppServiceTest {
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private DefaultRecruitmentProcessAppService recruitmentProcessAppService;
+
+    @Autowired
+    private RecruitmentProcessService recruitmentProcessService;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RecruitmentProcessRepository recruitmentProcessRepository;
+
+    @Autowired
+    private FunnelService funnelService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private MailPublisher mailPublisher;
+
+    private User user;
+    private User leader;
+    private Team team;
+    private Recruitment recruitment;
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserFixture.create());
+        leader = userRepository.save(UserFixture.getAnotherUser("leader"));
+
+        team = teamRepository.save(TeamFixture.create(leader));
+        recruitment = recruitmentRepository.save(RecruitmentFixture.create(team));
+        resume = resumeRepository.save(ResumeFixture.create(user));
+    }
+
+    @Test
+    void 채용과정_생성_메일__조회_없이_발송() throws Exception {
+        recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        RecruitmentProcessCreateEvent event = applicationEvents.stream(RecruitmentProcessCreateEvent.class).toList().get(0);
+
+        Statistics statistics = startCountingQueries();
+
+        recruitmentProcessAppService.onCreateRecruitmentProcessListener(event);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Mail mail = captureMail();
+
+        assertThat(mail.to()).containsExactly(leader.getEmail());
+        assertThat(mail.mailTemplate()).isEqualTo(MailTemplate.RECRUITMENT_PROCESS_CREATE);
+        assertThat(mail.values())
+                .containsEntry("teamName", team.getName())
+                .containsEntry("userNickname", user.getNickname())
+                .containsEntry("recruitmentName", recruitment.getTitle());
+    }
+
+    @Test
+    void 채용과정_최종합격_메일__조회_없이_발송() throws Exception {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        recruitmentProcessService.inProgress(recruitmentProcess.getId(), team.getId(), leader.getId());
+        recruitmentProcessService.pass(recruitmentProcess.getId(), team.getId(), leader.getId());
+
+        RecruitmentProcessPassEvent event = applicationEvents.stream(RecruitmentProcessPassEvent.class).toList().get(0);
+
+        Statistics statistics = startCountingQueries();
+
+        recruitmentProcessAppService.onCreateRecruitmentProcessListener(event);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Mail mail = captureMail();
+
+        assertThat(mail.to()).containsExactly(user.getEmail());
+        assertThat(mail.mailTemplate()).isEqualTo(MailTemplate.RECRUITMENT_PROCESS_PASS);
+        assertThat(mail.values())
+                .containsEntry("teamName", team.getName())
+                .containsEntry("userNickname", user.getNickname())
+                .containsEntry("recruitmentName", recruitment.getTitle());
+    }
+
+    /**
+     * 팀, 팀장, 채용과정 조회 세 번과 update 배치 하나, 상태별 지원자 수와 단계별 소요 시간 갱신, 퍼널 세대 공유 잠금 하나씩. 채용과정 수와 상관없다.
+     * 이력 insert 한 문장은 JdbcTemplate 으로 나가서 여기서 세지 않는다.
+     */
+    @Test
+    void 채용과정_일괄_상태_변경__조회와_update_를_한_번씩() {
+        List<Long> recruitmentProcessIds = IntStream.range(0, 30)
+                .mapToObj(i -> {
+                    User applicant = userRepository.save(UserFixture.getAnotherUser("applicant" + i));
+                    Resume applicantResume = resumeRepository.save(ResumeFixture.create(applicant));
+
+                    return recruitmentProcessRepository.save(RecruitmentProcess.create(recruitment, applicant, applicantResume)).getId();
+                })
+                .toList();
+
+        funnelService.lockEpoch();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = startCountingQueries();
+
+        List<RecruitmentProcessTransitionResult> results
+                = recruitmentProcessService.changeStatus(recruitmentProcessIds, team.getId(), leader.getId(), IN_PROGRESS);
+
+        entityManager.flush();
+
+        assertThat(results).allMatch(RecruitmentProcessTransitionResult::isSuccess);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    void 채용과정_일괄_상태_변경_메일__조회_없이_채용과정마다_발송() {
+        List<RecruitmentProcessBulkEvent.Item> items = IntStream.range(0, 3)
+                .mapToObj(i -> new RecruitmentProcessBulkEvent.Item((long) i, recruitment.getTitle(), team.getName(),
+                        user.getId(), user.getEmail(), user.getNickname()))
+                .toList();
+
+        Statistics statistics = startCountingQueries();
+
+        recruitmentProcessAppService.onCreateRecruitmentProcessListener(new RecruitmentProcessBulkEvent(IN_PROGRESS, items));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        verify(mailPublisher, times(3)).publish(any(Mail.class));
+    }
+
+    /**
+     * 채용공고, 팀을 join 한 쿼리 하나로 한 페이지를 읽는다. 지연 로딩으로 추가 쿼리가 나가지 않는다.
+     */
+    @Test
+    void 내_지원_내역_조회__페이지마다_쿼리_하나() {
+        List<Long> recruitmentProcessIds = IntStream.range(0, 3)
+                .mapToObj(i -> {
+                    Recruitment another = recruitmentRepository.save(RecruitmentFixture.create(team));
+
+                    return recruitmentProcessRepository.save(RecruitmentProcess.create(another, user, resume)).getId();
+                })
+                .toList();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = startCountingQueries();
+
+        RecruitmentProcessApplicationsDto first = recruitmentProcessAppService.getApplications(user.getId(), null, 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first.applications()).hasSize(2);
+        assertThat(first.applications().get(0).teamName()).isEqualTo(team.getName());
+        assertThat(first.nextCursor()).isNotNull();
+
+        statistics.clear();
+
+        RecruitmentProcessApplicationsDto second = recruitmentProcessAppService.getApplications(user.getId(), first.nextCursor(), 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(second.applications()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+
+        assertThat(List.of(first.applications().get(0), first.applications().get(1), second.applications().get(0)))
+                .extracting(RecruitmentProcessApplication::recruitmentProcessId)
+                .containsExactlyInAnyOrderElementsOf(recruitmentProcessIds);
+    }
+
+    private Statistics startCountingQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        return statistics;
+    }
+
+    private Mail captureMail() {
+        ArgumentCaptor<Mail> captor = ArgumentCaptor.forClass(Mail.class);
+        verify(mailPublisher).publish(captor.capture());
+
+        return captor.getValue();
+    }
+}
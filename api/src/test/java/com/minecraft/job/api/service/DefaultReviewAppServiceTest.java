@@ -7,27 +7,52 @@ import com.minecraft.job.api.service.dto.ReviewCreateDto;
 import com.minecraft.job.api.service.dto.ReviewInactivateDto;
 import com.minecraft.job.api.service.dto.ReviewUpdateDto;
 import com.minecraft.job.common.review.domain.Review;
+import com.minecraft.job.common.review.domain.ReviewCreateEvent;
 import com.minecraft.job.common.review.domain.ReviewRepository;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
+import com.minecraft.job.integration.mail.Mail;
+import com.minecraft.job.integration.mail.MailPublisher;
+import com.minecraft.job.integration.mail.MailTemplate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
+import javax.persistence.EntityManagerFactory;
 import javax.transaction.Transactional;
 
 import static com.minecraft.job.common.review.domain.ReviewStatus.ACTIVATED;
 import static com.minecraft.job.common.review.domain.ReviewStatus.INACTIVATED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
 
 @Transactional
 @SpringBootTest
+@RecordApplicationEvents
 class DefaultReviewAppServiceTest {
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private DefaultReviewAppService defaultReviewAppService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private MailPublisher mailPublisher;
+
     @Autowired
     private ReviewAppService reviewAppService;
 
@@ -54,15 +79,15 @@ class DefaultReviewAppServiceTest {
     @Test
     void 리뷰_생성_성공__평점_적용() {
         User user1 = userRepository.save(UserFixture.getAnotherUser("user1"));
-        reviewRepository.save(Review.create("content", 5L, user1, team));
+        createReview(user1, 5L);
 
         User user2 = userRepository.save(UserFixture.getAnotherUser("user2"));
-        reviewRepository.save(Review.create("content", 4L, user2, team));
+        createReview(user2, 4L);
 
         User fakeUser = userRepository.save(UserFixture.getFakerUser());
-        Review fakeReview = reviewRepository.save(Review.create("content", 5L, fakeUser, team));
+        Review fakeReview = createReview(fakeUser, 5L);
 
-        fakeReview.inactivate();
+        reviewAppService.inactivate(new ReviewInactivateDto(fakeReview.getId(), fakeUser.getId(), team.getId()));
 
         ReviewCreateDto dto = new ReviewCreateDto(user.getId(), team.getId(), "content", 1L);
         Review review = reviewAppService.create(dto).getFirst();
@@ -71,18 +96,20 @@ class DefaultReviewAppServiceTest {
         Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
 
         assertThat(findReview.getId()).isNotNull();
+        assertThat(findTeam.getReviewCount()).isEqualTo(3L);
+        assertThat(findTeam.getScoreSum()).isEqualTo(5 + 4 + 1);
         assertThat(findTeam.getAveragePoint()).isEqualTo(Math.round((5 + 4 + 1) / 3.0 * 10) / 10.0);
     }
 
     @Test
     void 리뷰_수정_성공__평점_적용() {
         User user1 = userRepository.save(UserFixture.getAnotherUser("user1"));
-        reviewRepository.save(Review.create("content", 5L, user1, team));
+        createReview(user1, 5L);
 
         User user2 = userRepository.save(UserFixture.getAnotherUser("user2"));
-        reviewRepository.save(Review.create("content", 4L, user2, team));
+        createReview(user2, 4L);
 
-        Review review = reviewRepository.save(Review.create("content", 3L, user, team));
+        Review review = createReview(user, 3L);
 
         ReviewUpdateDto dto = new ReviewUpdateDto(review.getId(), user.getId(), team.getId(), "updateContent", 1L);
         reviewAppService.update(dto);
@@ -97,14 +124,14 @@ class DefaultReviewAppServiceTest {
     @Test
     void 리뷰_활성화_성공__평점_적용() {
         User user1 = userRepository.save(UserFixture.getAnotherUser("user1"));
-        reviewRepository.save(Review.create("content", 5L, user1, team));
+        createReview(user1, 5L);
 
         User user2 = userRepository.save(UserFixture.getAnotherUser("user2"));
-        reviewRepository.save(Review.create("content", 4L, user2, team));
+        createReview(user2, 4L);
 
-        Review review = reviewRepository.save(Review.create("content", 3L, user, team));
+        Review review = createReview(user, 3L);
 
-        review.inactivate();
+        reviewAppService.inactivate(new ReviewInactivateDto(review.getId(), user.getId(), team.getId()));
 
         ReviewActivateDto dto = new ReviewActivateDto(review.getId(), user.getId(), team.getId(), "updateContent", 1L);
         reviewAppService.activate(dto);
@@ -114,18 +141,19 @@ class DefaultReviewAppServiceTest {
 
         assertThat(findReview.getId()).isNotNull();
         assertThat(findReview.getStatus()).isEqualTo(ACTIVATED);
+        assertThat(findTeam.getReviewCount()).isEqualTo(3L);
         assertThat(findTeam.getAveragePoint()).isEqualTo(Math.round((5 + 4 + 1) / 3.0 * 10) / 10.0);
     }
 
     @Test
     void 리뷰_비활성화_성공__평점_적용() {
         User user1 = userRepository.save(UserFixture.getAnotherUser("user1"));
-        reviewRepository.save(Review.create("content", 5L, user1, team));
+        createReview(user1, 5L);
 
         User user2 = userRepository.save(UserFixture.getAnotherUser("user2"));
-        reviewRepository.save(Review.create("content", 4L, user2, team));
+        createReview(user2, 4L);
 
-        Review review = reviewRepository.save(Review.create("content", 3L, user, team));
+        Review review = createReview(user, 3L);
 
         ReviewInactivateDto dto = new ReviewInactivateDto(review.getId(), user.getId(), team.getId());
         reviewAppService.inactivate(dto);
@@ -135,9 +163,23 @@ class DefaultReviewAppServiceTest {
 
         assertThat(findReview.getId()).isNotNull();
         assertThat(findReview.getStatus()).isEqualTo(INACTIVATED);
+        assertThat(findTeam.getReviewCount()).isEqualTo(2L);
         assertThat(findTeam.getAveragePoint()).isEqualTo(Math.round((5 + 4) / 2.0 * 10) / 10.0);
     }
 
+    @Test
+    void 리뷰_비활성화_성공__마지막_리뷰면_평점_0() {
+        Review review = createReview(user, 3L);
+
+        reviewAppService.inactivate(new ReviewInactivateDto(review.getId(), user.getId(), team.getId()));
+
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(findTeam.getReviewCount()).isZero();
+        assertThat(findTeam.getScoreSum()).isZero();
+        assertThat(findTeam.getAveragePoint()).isEqualTo(0.0);
+    }
+
     @Test
     void 리뷰_비활성화_실패__유저의_리뷰가_아님() {
         Review review = reviewRepository.save(Review.create("content", 3L, user, team));
@@ -159,4 +201,39 @@ class DefaultReviewAppServiceTest {
 
         assertThatIllegalArgumentException().isThrownBy(() -> reviewAppService.inactivate(dto));
     }
+
+    @Test
+    void 리뷰_생성_메일__조회_없이_발송() throws Exception {
+        User user1 = userRepository.save(UserFixture.getAnotherUser("user1"));
+        createReview(user1, 5L);
+
+        reviewAppService.create(new ReviewCreateDto(user.getId(), team.getId(), "content", 2L));
+
+        ReviewCreateEvent event = applicationEvents.stream(ReviewCreateEvent.class).toList().get(1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        defaultReviewAppService.onCreateReviewListener(event);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        ArgumentCaptor<Mail> captor = ArgumentCaptor.forClass(Mail.class);
+        verify(mailPublisher).publish(captor.capture());
+
+        Mail mail = captor.getValue();
+
+        assertThat(mail.to()).containsExactly(team.getLeaderEmail());
+        assertThat(mail.mailTemplate()).isEqualTo(MailTemplate.REVIEW_CREATE);
+        assertThat(mail.values())
+                .containsEntry("teamName", team.getName())
+                .containsEntry("userNickname", user.getNickname())
+                .containsEntry("score", 2L)
+                .containsEntry("averagePoint", 3.5);
+    }
+
+    private Review createReview(User user, Long score) {
+        return reviewAppService.create(new ReviewCreateDto(user.getId(), team.getId(), "content", score)).getFirst();
+    }
 }
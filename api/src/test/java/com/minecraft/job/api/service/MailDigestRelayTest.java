@@ -0,0 +1,96 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.common.mail.domain.MailDigestRepository;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import com.minecraft.job.integration.mail.Mail;
+import com.minecraft.job.integration.mail.MailDigestRelay;
+import com.minecraft.job.integration.mail.MailPublisher;
+import com.minecraft.job.integration.mail.MailTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "mail.outbox.relay-millis=3600000",
+        "mail.digest.flush-millis=3600000",
+        "mail.digest.windows.recruitment-process-create=0s"
+})
+class MailDigestRelayTest {
+
+    private static final int APPLICATION_COUNT = 200;
+
+    @Autowired
+    private MailDigestRelay mailDigestRelay;
+
+    @Autowired
+    private MailPublisher mailPublisher;
+
+    @Autowired
+    private MailDigestRepository mailDigestRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mailDigestRepository.deleteAllInBatch();
+        mailOutboxRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailDigestRepository.deleteAllInBatch();
+        mailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 이력서_지원_알림__받는_사람별_요약_메일_한_통으로_발송() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < APPLICATION_COUNT; i++) {
+                mailPublisher.publish(createMail(MailTemplate.RECRUITMENT_PROCESS_CREATE, "user" + i));
+            }
+        });
+
+        assertThat(mailDigestRepository.count()).isEqualTo(APPLICATION_COUNT);
+        assertThat(mailOutboxRepository.count()).isZero();
+
+        assertThat(mailDigestRelay.flush()).isEqualTo(1);
+
+        List<MailOutbox> mailOutboxes = mailOutboxRepository.findAll();
+
+        assertThat(mailOutboxes).hasSize(1);
+        assertThat(mailOutboxes.get(0).getTemplate()).isEqualTo("RECRUITMENT_PROCESS_CREATE_DIGEST");
+        assertThat(mailOutboxes.get(0).getRecipients()).isEqualTo("leader@gmail.com");
+        assertThat(mailOutboxes.get(0).getPayload()).contains("user0", "user" + (APPLICATION_COUNT - 1));
+        assertThat(mailDigestRepository.count()).isZero();
+    }
+
+    @Test
+    void digest_로_보내지_않는_템플릿__바로_아웃박스에_남음() {
+        transactionTemplate.executeWithoutResult(status ->
+                mailPublisher.publish(createMail(MailTemplate.RECRUITMENT_PROCESS_PASS, "user")));
+
+        assertThat(mailDigestRepository.count()).isZero();
+        assertThat(mailOutboxRepository.count()).isEqualTo(1);
+    }
+
+    private Mail createMail(MailTemplate mailTemplate, String userNickname) {
+        return new Mail(
+                new String[]{"leader@gmail.com"},
+                mailTemplate,
+                Map.of("teamName", "team", "recruitmentName", "recruitment", "userNickname", userNickname)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import com.minecraft.job.integration.mail.MailOutboxRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.SENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :api:benchmark 로만 돈다. LocalMailApi 로 아웃박스 메일을 모두 보낼 때까지 걸린 시간을 남긴다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "mail.outbox.relay-millis=3600000",
+        "mail.throttle.domains.[gmail.com].permits-per-second=1000000",
+        "mail.throttle.domains.[gmail.com].burst=1000000"
+})
+class MailOutboxRelayBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxRelayBenchmarkTest.class);
+
+    private static final int MAIL_COUNT = 2000;
+
+    @Autowired
+    private MailOutboxRelay mailOutboxRelay;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void relay_처리량__LocalMailApi() throws Exception {
+        List<MailOutbox> mailOutboxes = new ArrayList<>();
+        for (int i = 0; i < MAIL_COUNT; i++) {
+            mailOutboxes.add(MailOutbox.create("user" + i + "@gmail.com", "REVIEW_CREATE",
+                    "{\"teamName\":\"team\",\"userNickname\":\"user\",\"score\":4,\"averagePoint\":4.0}"));
+        }
+        mailOutboxRepository.saveAll(mailOutboxes);
+
+        long startedAt = System.nanoTime();
+
+        int claimed = 0;
+        while (claimed < MAIL_COUNT) {
+            claimed += mailOutboxRelay.relay();
+        }
+        awaitAllSent();
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        log.info("mail outbox relay: {} mails in {} ms ({} mails/s)",
+                MAIL_COUNT, elapsedNanos / 1_000_000, MAIL_COUNT * 1_000_000_000L / elapsedNanos);
+    }
+
+    private void awaitAllSent() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (mailOutboxRepository.findAll().stream().allMatch(mailOutbox -> mailOutbox.getStatus() == SENT)) {
+                return;
+            }
+
+            Thread.sleep(50);
+        }
+
+        assertThat(mailOutboxRepository.findAll()).allMatch(mailOutbox -> mailOutbox.getStatus() == SENT);
+    }
+}
@@ -0,0 +1,157 @@
+package com.minecraft.job.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import com.minecraft.job.common.mail.service.MailOutboxService;
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import com.minecraft.job.integration.mail.MailDispatcher;
+import com.minecraft.job.integration.mail.MailOutboxRelay;
+import com.minecraft.job.integration.mail.MailRetryPolicy;
+import com.minecraft.job.integration.mail.MailThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.PENDING;
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.SENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "mail.outbox.relay-millis=3600000",
+        "mail.throttle.domains.[gmail.com].permits-per-second=1000000",
+        "mail.throttle.domains.[gmail.com].burst=1000000"
+})
+class MailOutboxRelayTest {
+
+    @Autowired
+    private MailOutboxRelay mailOutboxRelay;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private ReviewAppService reviewAppService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailRetryPolicy mailRetryPolicy;
+
+    @Autowired
+    private MailThrottle mailThrottle;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAllInBatch();
+
+        user = userRepository.save(UserFixture.getAnotherUser("outbox-user"));
+
+        User leader = userRepository.save(UserFixture.getAnotherUser("outbox-leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 리뷰_작성__커밋되면_아웃박스에_남고_relay_가_발송() throws Exception {
+        reviewAppService.create(new ReviewCreateDto(user.getId(), team.getId(), "content", 4L));
+
+        List<MailOutbox> mailOutboxes = mailOutboxRepository.findAll();
+
+        assertThat(mailOutboxes).hasSize(1);
+        assertThat(mailOutboxes.get(0).getStatus()).isEqualTo(PENDING);
+        assertThat(mailOutboxes.get(0).getTemplate()).isEqualTo("REVIEW_CREATE");
+        assertThat(mailOutboxes.get(0).getRecipients()).isEqualTo(team.getLeaderEmail());
+
+        assertThat(mailOutboxRelay.relay()).isEqualTo(1);
+
+        awaitAllSent();
+    }
+
+    @Test
+    void 리뷰_작성__롤백되면_아웃박스에_남지_않음() {
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewAppService.create(new ReviewCreateDto(user.getId(), team.getId(), "content", 4L));
+
+            status.setRollbackOnly();
+        });
+
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void relay__큐가_받지_않으면_lease_를_기다리지_않고_PENDING_으로_되돌림() {
+        MailDispatcher rejectingDispatcher = mock(MailDispatcher.class);
+        when(rejectingDispatcher.getRemainingCapacity()).thenReturn(1);
+        when(rejectingDispatcher.dispatch(any(), any())).thenReturn(false);
+
+        MailOutboxRelay relay = new MailOutboxRelay(mailOutboxService, mailOutboxRepository, rejectingDispatcher,
+                mailRetryPolicy, mailThrottle, objectMapper, new SimpleMeterRegistry(), 100, 20, 60_000, 7);
+
+        mailOutboxRepository.save(MailOutbox.create("user@gmail.com", "REVIEW_CREATE",
+                "{\"teamName\":\"team\",\"userNickname\":\"user\",\"score\":4,\"averagePoint\":4.0}"));
+
+        assertThat(relay.relay()).isEqualTo(1);
+
+        MailOutbox mailOutbox = mailOutboxRepository.findAll().get(0);
+        assertThat(mailOutbox.getStatus()).isEqualTo(PENDING);
+        assertThat(mailOutbox.getAttempts()).isZero();
+        assertThat(relay.relay()).isEqualTo(1);
+    }
+
+    private void awaitAllSent() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (mailOutboxRepository.findAll().stream().allMatch(mailOutbox -> mailOutbox.getStatus() == SENT)) {
+                return;
+            }
+
+            Thread.sleep(50);
+        }
+
+        assertThat(mailOutboxRepository.findAll()).allMatch(mailOutbox -> mailOutbox.getStatus() == SENT);
+    }
+}
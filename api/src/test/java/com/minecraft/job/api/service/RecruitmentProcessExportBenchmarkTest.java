@@ -0,0 +1,110 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.fixture.ApplicantFixture;
+import com.minecraft.job.api.fixture.RecruitmentFixture;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.transaction.Transactional;
+import java.io.OutputStream;
+
+import static com.minecraft.job.api.service.RecruitmentProcessExportFormat.CSV;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :api:benchmark 로만 돈다. 힙을 작게 잡은 JVM 에서 지원자 백만 명을 내보낸다.
+ */
+@Tag("benchmark")
+@Transactional
+@SpringBootTest
+class RecruitmentProcessExportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecruitmentProcessExportBenchmarkTest.class);
+
+    private static final int APPLICANTS = 1_000_000;
+    private static final long HEAP_CEILING_BYTES = 32L * 1024 * 1024;
+    private static final long SAMPLE_EVERY_BYTES = 1024 * 1024;
+
+    @Autowired
+    private RecruitmentProcessExporter recruitmentProcessExporter;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 내보내는 중간중간 GC 를 돌려 살아 있는 힙을 잰다. 결과를 모아두면 지원자 수만큼 늘어나므로 상한을 넘는다.
+     */
+    @Test
+    void 지원자_내보내기__백만_명을_일정한_힙으로() throws Exception {
+        User leader = userRepository.save(UserFixture.getAnotherUser("leader"));
+        Team team = teamRepository.save(TeamFixture.create(leader));
+        Recruitment recruitment = recruitmentRepository.save(RecruitmentFixture.create(team));
+
+        ApplicantFixture.insertAll(jdbcTemplate, recruitment, APPLICANTS);
+
+        long baseline = liveHeap();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        long startedAt = System.nanoTime();
+        recruitmentProcessExporter.export(recruitment.getId(), CSV, true).writeTo(out);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long peakGrowth = Math.max(0, out.peak - baseline);
+
+        log.info("applicants={}, gzip={} bytes, peak heap growth={} KB, export={} ms ({} rows/s)",
+                APPLICANTS, out.written, peakGrowth / 1024, elapsedNanos / 1_000_000, Math.round(APPLICANTS * 1e9 / elapsedNanos));
+
+        assertThat(out.written).isPositive();
+        assertThat(peakGrowth).isLessThan(HEAP_CEILING_BYTES);
+    }
+
+    private static long liveHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 받은 바이트는 버리고, SAMPLE_EVERY_BYTES 마다 살아 있는 힙의 최댓값을 남긴다.
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private long written;
+        private long nextSampleAt = SAMPLE_EVERY_BYTES;
+        private long peak;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+
+            if (written >= nextSampleAt) {
+                peak = Math.max(peak, liveHeap());
+                nextSampleAt = written + SAMPLE_EVERY_BYTES;
+            }
+        }
+    }
+}
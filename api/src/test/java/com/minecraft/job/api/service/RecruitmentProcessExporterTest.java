@@ -0,0 +1,254 @@
+package com.minecraft.job.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minecraft.job.api.fixture.ApplicantFixture;
+import com.minecraft.job.api.fixture.RecruitmentFixture;
+import com.minecraft.job.api.fixture.ResumeFixture;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.resume.domain.Resume;
+import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.support.MinecraftJobException;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.transaction.Transactional;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.minecraft.job.api.service.RecruitmentProcessExportFormat.CSV;
+import static com.minecraft.job.api.service.RecruitmentProcessExportFormat.NDJSON;
+import static com.minecraft.job.common.support.ErrorCode.TOO_MANY_EXPORTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+@SpringBootTest
+class RecruitmentProcessExporterTest {
+
+    @Autowired
+    private RecruitmentProcessExporter recruitmentProcessExporter;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+    @Autowired
+    private ResumeRepository resumeRepository;
+    @Autowired
+    private RecruitmentProcessRepository recruitmentProcessRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Recruitment recruitment;
+    private RecruitmentProcess recruitmentProcess;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.create("user@minecraft.job", "password", "=cmd|' /C calc'!A0", "interest", 10L));
+        User leader = userRepository.save(UserFixture.getAnotherUser("leader"));
+        Team team = teamRepository.save(TeamFixture.create(leader));
+        recruitment = recruitmentRepository.save(RecruitmentFixture.create(team));
+        Resume resume = resumeRepository.save(Resume.create("title", "line1, \"quoted\"\nline2", "trainingHistory", user));
+
+        recruitmentProcess = recruitmentProcessRepository.saveAndFlush(RecruitmentProcess.create(recruitment, user, resume));
+    }
+
+    @Test
+    void 지원자_내보내기__CSV() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = recruitmentProcessExporter.write(recruitment.getId(), CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("recruitmentProcessId,userId,");
+        assertThat(lines[1])
+                .startsWith(recruitmentProcess.getId() + "," + user.getId() + ",user@minecraft.job,'=cmd|' /C calc'!A0,WAITING,")
+                .endsWith(",title,\"line1, \"\"quoted\"\"\nline2\",trainingHistory");
+        assertThat(lines[2]).isEqualTo("#rows=1");
+    }
+
+    @Test
+    void 지원자_내보내기__CSV_수식으로_읽힐_값은_따옴표와_상관없이_escape() throws Exception {
+        User applicant = userRepository.save(User.create("applicant@minecraft.job", "password", "-1+1", "interest", 10L));
+        Resume resume = resumeRepository.save(Resume.create("@SUM(A1)", "+1, 2", "\tcmd", applicant));
+        recruitmentProcessRepository.saveAndFlush(RecruitmentProcess.create(recruitment, applicant, resume));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        recruitmentProcessExporter.write(recruitment.getId(), CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines[2])
+                .contains(",applicant@minecraft.job,'-1+1,WAITING,")
+                .endsWith(",'@SUM(A1),\"'+1, 2\",'\tcmd");
+        assertThat(lines[3]).isEqualTo("#rows=2");
+    }
+
+    @Test
+    void 지원자_내보내기__NDJSON() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        recruitmentProcessExporter.write(recruitment.getId(), NDJSON, out);
+
+        String content = out.toString(StandardCharsets.UTF_8);
+        List<String> lines = content.lines().toList();
+        JsonNode row = objectMapper.readTree(lines.get(0));
+
+        assertThat(content).endsWith("\n").doesNotContain("\n ");
+        assertThat(lines).hasSize(2);
+        assertThat(row.get("recruitmentProcessId").asLong()).isEqualTo(recruitmentProcess.getId());
+        assertThat(row.get("userNickname").asText()).isEqualTo(user.getNickname());
+        assertThat(row.get("resumeContent").asText()).isEqualTo("line1, \"quoted\"\nline2");
+        assertThat(objectMapper.readTree(lines.get(1)).get("rows").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    void 지원자_내보내기__gzip() throws Exception {
+        ApplicantFixture.insertAll(jdbcTemplate, recruitment, 100);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recruitmentProcessExporter.export(recruitment.getId(), NDJSON, true).writeTo(out);
+
+        String content = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+
+        assertThat(content.lines()).hasSize(102);
+        assertThat(content).endsWith("{\"rows\":101}\n");
+    }
+
+    @Test
+    void 지원자_내보내기__클라이언트가_끊으면_쿼리를_취소하고_중단() {
+        ApplicantFixture.insertAll(jdbcTemplate, recruitment, 5_000);
+        double canceled = meterRegistry.counter("recruitment-process.export.canceled").count();
+
+        assertThatThrownBy(() -> recruitmentProcessExporter.export(recruitment.getId(), CSV, false).writeTo(new DisconnectingOutputStream(100_000)))
+                .isInstanceOf(IOException.class);
+
+        assertThat(meterRegistry.counter("recruitment-process.export.canceled").count()).isEqualTo(canceled + 1);
+        assertThat(recruitmentProcessRepository.count()).isEqualTo(5_001);
+    }
+
+    /**
+     * 상태 코드가 이미 나간 뒤라 중간에 실패하면 잘린 파일이 남는다. 마지막 줄이 없는 것으로 알아챈다.
+     */
+    @Test
+    void 지원자_내보내기__중간에_끊기면_마지막_줄을_쓰지_않음() {
+        ApplicantFixture.insertAll(jdbcTemplate, recruitment, 5_000);
+        DisconnectingOutputStream out = new DisconnectingOutputStream(100_000);
+
+        assertThatThrownBy(() -> recruitmentProcessExporter.write(recruitment.getId(), NDJSON, out))
+                .isInstanceOf(IOException.class);
+
+        String content = out.received();
+
+        assertThat(content).isNotEmpty().doesNotContain("{\"rows\":");
+    }
+
+    @Test
+    void 지원자_내보내기__동시에_max_concurrent_개까지만() throws Exception {
+        List<StreamingResponseBody> bodies = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                bodies.add(recruitmentProcessExporter.export(recruitment.getId(), CSV, false));
+            }
+
+            assertThatThrownBy(() -> recruitmentProcessExporter.export(recruitment.getId(), CSV, false))
+                    .isInstanceOf(MinecraftJobException.class)
+                    .extracting("errorCode").isEqualTo(TOO_MANY_EXPORTS);
+        } finally {
+            for (StreamingResponseBody body : bodies) {
+                body.writeTo(OutputStream.nullOutputStream());
+            }
+        }
+
+        recruitmentProcessExporter.export(recruitment.getId(), CSV, false).writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Test
+    void 지원자_내보내기__본문이_돌지_않고_끝나도_자리를_돌려줌() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            RecruitmentProcessExportBody body = recruitmentProcessExporter.export(recruitment.getId(), CSV, false);
+
+            body.afterCompletion(null, null);
+            body.afterCompletion(null, null);
+        }
+
+        List<RecruitmentProcessExportBody> bodies = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                bodies.add(recruitmentProcessExporter.export(recruitment.getId(), CSV, false));
+            }
+
+            assertThatThrownBy(() -> recruitmentProcessExporter.export(recruitment.getId(), CSV, false))
+                    .isInstanceOf(MinecraftJobException.class)
+                    .extracting("errorCode").isEqualTo(TOO_MANY_EXPORTS);
+        } finally {
+            bodies.forEach(RecruitmentProcessExportBody::release);
+        }
+    }
+
+    /**
+     * limit 바이트를 받은 뒤부터 쓰기가 실패한다. 끊긴 HTTP 연결을 흉내 낸다. 그때까지 받은 바이트는 남겨둔다.
+     */
+    private static class DisconnectingOutputStream extends OutputStream {
+
+        private final long limit;
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+        private DisconnectingOutputStream(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (received.size() + len > limit) {
+                throw new IOException("Broken pipe");
+            }
+
+            received.write(b, off, len);
+        }
+
+        private String received() {
+            return received.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.RecruitmentProcessStatusChangeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.PASSED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :api:benchmark 로만 돈다. 한 노드에 구독 10k 를 붙이고 모두에게 상태 변경을 한 번씩 보낸다.
+ * HTTP 연결 비용(소켓, 컨테이너 버퍼)은 빼고 구독 목록과 연결별 큐가 차지하는 메모리와 보내는 시간을 남긴다.
+ */
+@Tag("benchmark")
+class RecruitmentProcessStreamBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecruitmentProcessStreamBenchmarkTest.class);
+
+    private static final int SUBSCRIBERS = 10_000;
+
+    @Test
+    void 상태_변경_스트림__구독_10k_메모리와_전달_시간() throws Exception {
+        CountDownLatch received = new CountDownLatch(SUBSCRIBERS);
+        RecruitmentProcessStream stream = new RecruitmentProcessStream(0, 16, 4, 30_000, new SimpleMeterRegistry()) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new SseEmitter() {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        received.countDown();
+                    }
+                };
+            }
+        };
+
+        try {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+
+            for (long userId = 0; userId < SUBSCRIBERS; userId++) {
+                stream.subscribe(userId);
+            }
+
+            System.gc();
+            long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+            long startedAt = System.nanoTime();
+            for (long userId = 0; userId < SUBSCRIBERS; userId++) {
+                stream.publish(userId, new RecruitmentProcessStatusChangeDto(userId, PASSED, "recruitment", "team"));
+            }
+
+            assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            log.info("subscribers={}, heap/subscriber={} bytes, fan-out={} ms ({} events/s)",
+                    SUBSCRIBERS, Math.max(0, usedAfter - usedBefore) / SUBSCRIBERS,
+                    elapsedNanos / 1_000_000, SUBSCRIBERS * 1_000_000_000L / elapsedNanos);
+        } finally {
+            stream.close();
+        }
+    }
+}
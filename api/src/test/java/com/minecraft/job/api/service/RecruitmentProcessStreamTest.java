@@ -0,0 +1,134 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.service.dto.RecruitmentProcessStatusChangeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.PASSED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecruitmentProcessStreamTest {
+
+    private static final int SUBSCRIBERS = 10_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecruitmentProcessStream stream;
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    /**
+     * 한 노드에 구독 10k 를 붙이고 모두에게 상태 변경을 한 번씩 보낸다. 메모리와 시간은 RecruitmentProcessStreamBenchmarkTest 에서 잰다.
+     */
+    @Test
+    void 상태_변경_스트림__구독_10k_에게_모두_전달() throws Exception {
+        CountDownLatch received = new CountDownLatch(SUBSCRIBERS);
+        stream = new RecruitmentProcessStream(0, 16, 4, 30_000, meterRegistry) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(received, null);
+            }
+        };
+
+        for (long userId = 0; userId < SUBSCRIBERS; userId++) {
+            stream.subscribe(userId);
+        }
+
+        for (long userId = 0; userId < SUBSCRIBERS; userId++) {
+            stream.publish(userId, new RecruitmentProcessStatusChangeDto(userId, PASSED, "recruitment", "team"));
+        }
+
+        assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(stream.getSubscriberCount()).isEqualTo(SUBSCRIBERS);
+        assertThat(meterRegistry.counter("recruitment-process.stream.sent").count()).isEqualTo(SUBSCRIBERS);
+    }
+
+    @Test
+    void 상태_변경_스트림__느린_구독은_버퍼가_차면_끊음() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stream = new RecruitmentProcessStream(0, 2, 1, 30_000, meterRegistry) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(blocked, release);
+            }
+        };
+
+        stream.subscribe(1L);
+
+        RecruitmentProcessStatusChangeDto change = new RecruitmentProcessStatusChangeDto(1L, PASSED, "recruitment", "team");
+
+        stream.publish(1L, change);
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        stream.publish(1L, change);
+        stream.publish(1L, change);
+        stream.publish(1L, change);
+
+        release.countDown();
+
+        assertThat(stream.getSubscriberCount()).isZero();
+        assertThat(meterRegistry.counter("recruitment-process.stream.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 상태_변경_스트림__구독이_없는_사용자는_무시() {
+        stream = new RecruitmentProcessStream(0, 16, 1, 30_000, meterRegistry);
+
+        stream.publish(1L, new RecruitmentProcessStatusChangeDto(1L, PASSED, "recruitment", "team"));
+
+        assertThat(stream.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void 상태_변경_스트림__쉬는_연결에_전용_스레드로_heartbeat() throws Exception {
+        CountDownLatch received = new CountDownLatch(2);
+        stream = new RecruitmentProcessStream(0, 16, 1, 50, meterRegistry) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(received, null);
+            }
+        };
+
+        stream.subscribe(1L);
+
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("recruitment-process.stream.sent").count()).isGreaterThanOrEqualTo(2);
+    }
+
+    /**
+     * 보낸 이벤트를 센다. release 가 있으면 풀릴 때까지 보내기를 막아 느린 클라이언트를 흉내 낸다.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch sent;
+        private final CountDownLatch release;
+
+        private RecordingEmitter(CountDownLatch sent, CountDownLatch release) {
+            this.sent = sent;
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sent.countDown();
+
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
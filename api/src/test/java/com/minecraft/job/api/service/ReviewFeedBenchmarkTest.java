@@ -0,0 +1,120 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.fixture.ReviewFixture;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.common.review.domain.ReviewFeedItem;
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.minecraft.job.common.review.domain.ReviewStatus.ACTIVATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :api:benchmark 로만 돈다. 리뷰 20만 개인 팀의 마지막 쪽 페이지를 OFFSET 과 keyset 으로 읽어 비교한다.
+ * <p>
+ * 시간은 장비마다 다르므로 로그로만 남기고, MySQL 이 읽은 인덱스 row 수(Handler_read_*)로 비교한다.
+ */
+@Tag("benchmark")
+@Transactional
+@SpringBootTest
+class ReviewFeedBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewFeedBenchmarkTest.class);
+
+    private static final int REVIEWS = 200_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_OFFSET = REVIEWS - PAGE_SIZE * 10;
+    private static final int REPEAT = 20;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 리뷰_피드__깊은_페이지는_keyset_이_OFFSET_보다_적게_읽음() {
+        Team team = teamRepository.save(TeamFixture.create(userRepository.save(UserFixture.getAnotherUser("feed-leader"))));
+
+        ReviewFixture.insertAll(jdbcTemplate, team, REVIEWS);
+        jdbcTemplate.execute("analyze table review");
+
+        Map<String, Object> cursor = jdbcTemplate.queryForMap("""
+                select created_at, id
+                from review
+                where team_id = ? and status = 'ACTIVATED'
+                order by created_at desc, id desc
+                limit 1 offset ?
+                """, team.getId(), DEEP_OFFSET - 1);
+        LocalDateTime cursorCreatedAt = ((Timestamp) cursor.get("created_at")).toLocalDateTime();
+        Long cursorId = ((Number) cursor.get("id")).longValue();
+
+        Pageable offsetPage = PageRequest.of(DEEP_OFFSET / PAGE_SIZE, PAGE_SIZE);
+
+        Run offset = run(() -> reviewRepository.findFeedFirstInternal(team.getId(), ACTIVATED, offsetPage));
+        Run keyset = run(() -> reviewRepository.findFeed(team.getId(), cursorCreatedAt, cursorId, PAGE_SIZE));
+
+        log.info("review feed at offset {}: OFFSET {} rows read, {} us/page; keyset {} rows read, {} us/page",
+                DEEP_OFFSET, offset.rowsRead(), offset.microsPerPage(), keyset.rowsRead(), keyset.microsPerPage());
+
+        assertThat(keyset.items()).isEqualTo(offset.items());
+        assertThat(keyset.rowsRead())
+                .as("keyset %d rows read vs OFFSET %d rows read", keyset.rowsRead(), offset.rowsRead())
+                .isLessThan(offset.rowsRead() / 100);
+    }
+
+    /**
+     * 첫 실행에서 읽은 row 수를 재고(SHOW STATUS 자체가 읽는 수는 뺀다), 같은 쿼리를 REPEAT 번 더 돌려 평균 시간을 잰다.
+     */
+    private Run run(Supplier<List<ReviewFeedItem>> query) {
+        long overhead = -handlerReads() + handlerReads();
+
+        long before = handlerReads();
+        List<ReviewFeedItem> items = query.get();
+        long rowsRead = handlerReads() - before - overhead;
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            query.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new Run(items, rowsRead, elapsedNanos / 1_000 / REPEAT);
+    }
+
+    private long handlerReads() {
+        return jdbcTemplate.query("show session status like 'Handler_read%'", rs -> {
+            long sum = 0;
+            while (rs.next()) {
+                sum += rs.getLong(2);
+            }
+            return sum;
+        });
+    }
+
+    private record Run(List<ReviewFeedItem> items, long rowsRead, long microsPerPage) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.fixture.ReviewFixture;
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :api:benchmark 로만 돈다. 리뷰가 없는 팀과 10만 개인 팀에 같은 수의 리뷰를 쓰고 비교한다.
+ */
+@Tag("benchmark")
+@Transactional
+@SpringBootTest
+class ReviewWriteBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewWriteBenchmarkTest.class);
+
+    private static final int EXISTING_REVIEWS = 100_000;
+    private static final int WRITES = 200;
+
+    @Autowired
+    private ReviewAppService reviewAppService;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 쓰기 한 번의 쿼리 수가 팀의 리뷰 수와 상관없으면 쓰기 비용도 리뷰 수와 상관없다. 시간은 참고로 남긴다.
+     */
+    @Test
+    void 리뷰_쓰기__리뷰_10만_개인_팀도_쿼리_수가_같음() {
+        Team emptyTeam = teamRepository.save(TeamFixture.create(userRepository.save(UserFixture.getAnotherUser("empty-leader"))));
+        Team largeTeam = teamRepository.save(TeamFixture.create(userRepository.save(UserFixture.getAnotherUser("large-leader"))));
+
+        ReviewFixture.insertAll(jdbcTemplate, largeTeam, EXISTING_REVIEWS);
+        jdbcTemplate.update("""
+                update team t
+                set t.review_count = (select count(*) from review r where r.team_id = t.id),
+                    t.score_sum = (select sum(r.score) from review r where r.team_id = t.id)
+                where t.id = ?
+                """, largeTeam.getId());
+        entityManager.clear();
+
+        Measurement empty = measure(emptyTeam.getId(), "empty");
+        Measurement large = measure(largeTeam.getId(), "large");
+
+        log.info("review write: {} reviews -> {} statements/write, {} us/write; {} reviews -> {} statements/write, {} us/write",
+                0, empty.statementsPerWrite(), empty.microsPerWrite(),
+                EXISTING_REVIEWS, large.statementsPerWrite(), large.microsPerWrite());
+
+        assertThat(large.statementsPerWrite()).isEqualTo(empty.statementsPerWrite());
+    }
+
+    private Measurement measure(Long teamId, String name) {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < WRITES; i++) {
+            userIds.add(userRepository.save(UserFixture.getAnotherUser(name + "-writer-" + i)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        for (Long userId : userIds) {
+            reviewAppService.create(new ReviewCreateDto(userId, teamId, "content", 4L));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new Measurement(statistics.getPrepareStatementCount() / WRITES, elapsedNanos / 1_000 / WRITES);
+    }
+
+    private record Measurement(long statementsPerWrite, long microsPerWrite) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.minecraft.job.api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TeamRankingIndexTest {
+
+    private TeamRankingIndex teamRankingIndex;
+
+    @BeforeEach
+    void setUp() {
+        teamRankingIndex = new TeamRankingIndex();
+
+        teamRankingIndex.put(1L, 3.0);
+        teamRankingIndex.put(2L, 4.5);
+        teamRankingIndex.put(3L, 3.0);
+        teamRankingIndex.put(4L, 1.0);
+    }
+
+    @Test
+    void 랭킹_조회_성공__점수_내림차순_같은_점수는_id_오름차순() {
+        List<TeamRankingIndex.Entry> entries = teamRankingIndex.findAfter(null, null, 10);
+
+        assertThat(entries).extracting(TeamRankingIndex.Entry::teamId).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(entries).extracting(TeamRankingIndex.Entry::rank).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void 랭킹_조회_성공__커서_다음부터() {
+        List<TeamRankingIndex.Entry> entries = teamRankingIndex.findAfter(3.0, 1L, 2);
+
+        assertThat(entries).extracting(TeamRankingIndex.Entry::teamId).containsExactly(3L, 4L);
+        assertThat(entries).extracting(TeamRankingIndex.Entry::rank).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void 순위_조회_성공() {
+        assertThat(teamRankingIndex.find(3L)).get().extracting(TeamRankingIndex.Entry::rank).isEqualTo(3L);
+        assertThat(teamRankingIndex.find(5L)).isEmpty();
+    }
+
+    @Test
+    void 점수_변경_성공() {
+        teamRankingIndex.replace(4L, 5.0);
+
+        assertThat(teamRankingIndex.find(4L)).get().extracting(TeamRankingIndex.Entry::rank).isEqualTo(1L);
+        assertThat(teamRankingIndex.find(2L)).get().extracting(TeamRankingIndex.Entry::rank).isEqualTo(2L);
+        assertThat(teamRankingIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 점수_변경_무시__인덱스에_없는_팀() {
+        teamRankingIndex.replace(5L, 5.0);
+
+        assertThat(teamRankingIndex.find(5L)).isEmpty();
+        assertThat(teamRankingIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 팀_제거_성공() {
+        teamRankingIndex.remove(2L);
+
+        assertThat(teamRankingIndex.find(2L)).isEmpty();
+        assertThat(teamRankingIndex.find(1L)).get().extracting(TeamRankingIndex.Entry::rank).isEqualTo(1L);
+    }
+
+    @Test
+    void 다시_채우기_성공__많은_팀() {
+        Map<Long, Double> scores = new HashMap<>();
+        for (long teamId = 1; teamId <= 10_000; teamId++) {
+            scores.put(teamId, (teamId % 51) / 10.0);
+        }
+
+        teamRankingIndex.reset(scores, teamRankingIndex.sequence());
+
+        List<TeamRankingIndex.Entry> entries = teamRankingIndex.findAfter(null, null, 100);
+
+        assertThat(teamRankingIndex.size()).isEqualTo(10_000);
+        assertThat(entries).extracting(TeamRankingIndex.Entry::score).allMatch(score -> score == 5.0);
+        assertThat(teamRankingIndex.find(50L)).get().extracting(TeamRankingIndex.Entry::rank).isEqualTo(1L);
+    }
+
+    @Test
+    void 다시_채우기_성공__스냅샷을_읽은_뒤_바뀐_팀은_유지() {
+        long since = teamRankingIndex.sequence();
+
+        teamRankingIndex.replace(1L, 5.0);
+        teamRankingIndex.remove(2L);
+        teamRankingIndex.put(5L, 2.0);
+
+        teamRankingIndex.reset(Map.of(1L, 3.0, 2L, 4.5, 3L, 3.5, 6L, 0.5), since);
+
+        assertThat(teamRankingIndex.findAfter(null, null, 10))
+                .extracting(TeamRankingIndex.Entry::teamId, TeamRankingIndex.Entry::score)
+                .containsExactly(tuple(1L, 5.0), tuple(3L, 3.5), tuple(5L, 2.0), tuple(6L, 0.5));
+    }
+
+    @Test
+    void 다시_채우기_성공__스냅샷_이전의_갱신은_스냅샷으로_바뀜() {
+        teamRankingIndex.replace(1L, 5.0);
+
+        teamRankingIndex.reset(Map.of(1L, 2.0), teamRankingIndex.sequence());
+
+        assertThat(teamRankingIndex.size()).isEqualTo(1);
+        assertThat(teamRankingIndex.find(1L)).get().extracting(TeamRankingIndex.Entry::score).isEqualTo(2.0);
+    }
+}
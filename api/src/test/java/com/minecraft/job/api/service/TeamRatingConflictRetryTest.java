@@ -0,0 +1,139 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.review.domain.ReviewScoreSummary;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 같은 재시도 설정(max-attempts 3, backoff 20ms)으로 돈다.
+ * 한 팀에 16 개 스레드가 동시에 쓰는 것은 평소보다 훨씬 심한 경합이라 일부 요청은 재시도를 모두 소진할 수 있다.
+ * 소진된 요청은 리뷰까지 함께 롤백되므로, 팀 평점은 언제나 남아 있는 리뷰와 정확히 같아야 한다.
+ */
+@SpringBootTest(properties = "team.rating.write-behind.enabled=false")
+class TeamRatingConflictRetryTest {
+
+    private static final int REVIEWER_COUNT = 100;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private ReviewAppService reviewAppService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        User leader = userRepository.save(UserFixture.getAnotherUser("conflict-leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 리뷰_동시_작성__재시도를_소진해도_팀_평점이_유실되지_않음() throws Exception {
+        List<User> reviewers = new ArrayList<>();
+        for (int i = 0; i < REVIEWER_COUNT; i++) {
+            reviewers.add(userRepository.save(UserFixture.getAnotherUser("conflict-reviewer" + i)));
+        }
+
+        double exhaustedBefore = exhaustedCount();
+        long attemptsBefore = attemptsCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REVIEWER_COUNT; i++) {
+            User reviewer = reviewers.get(i);
+            long score = i % 6;
+
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return reviewAppService.create(new ReviewCreateDto(reviewer.getId(), team.getId(), "content", score));
+            }));
+        }
+
+        start.countDown();
+
+        int exhausted = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                if (!(ex.getCause() instanceof ConcurrencyFailureException)) {
+                    throw ex;
+                }
+
+                exhausted++;
+            }
+        }
+
+        executorService.shutdown();
+
+        ReviewScoreSummary summary = reviewRepository.summarizeActivated(team.getId());
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(summary.getReviewCount()).isEqualTo(REVIEWER_COUNT - exhausted);
+        assertThat(findTeam.getReviewCount()).isEqualTo(summary.getReviewCount());
+        assertThat(findTeam.getScoreSum()).isEqualTo(summary.getScoreSum());
+        if (summary.getReviewCount() > 0) {
+            assertThat(findTeam.getAveragePoint())
+                    .isEqualTo(Math.round((double) summary.getScoreSum() / summary.getReviewCount() * 10) / 10.0);
+        }
+        assertThat(exhaustedCount() - exhaustedBefore).isEqualTo(exhausted);
+        assertThat(attemptsCount() - attemptsBefore).isEqualTo(REVIEWER_COUNT);
+    }
+
+    private long attemptsCount() {
+        DistributionSummary attempts = meterRegistry.find("concurrency.attempts").tag("method", "DefaultReviewAppService.create").summary();
+
+        return attempts == null ? 0 : attempts.count();
+    }
+
+    private double exhaustedCount() {
+        return meterRegistry.find("concurrency.exhausted").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
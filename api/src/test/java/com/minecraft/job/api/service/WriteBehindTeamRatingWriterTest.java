@@ -0,0 +1,141 @@
+package com.minecraft.job.api.service;
+
+import com.minecraft.job.api.fixture.TeamFixture;
+import com.minecraft.job.api.fixture.UserFixture;
+import com.minecraft.job.api.service.dto.ReviewCreateDto;
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "team.rating.write-behind.enabled=true",
+        "team.rating.write-behind.window-millis=60000"
+})
+class WriteBehindTeamRatingWriterTest {
+
+    private static final int REVIEWER_COUNT = 500;
+
+    @Autowired
+    private ReviewAppService reviewAppService;
+
+    @Autowired
+    private WriteBehindTeamRatingWriter teamRatingWriter;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        User leader = userRepository.save(UserFixture.getAnotherUser("write-behind-leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 리뷰_작성__커밋_후_팀이_한번만_표시됨() {
+        for (int i = 0; i < 3; i++) {
+            User reviewer = userRepository.save(UserFixture.getAnotherUser("write-behind-reviewer" + i));
+
+            reviewAppService.create(new ReviewCreateDto(reviewer.getId(), team.getId(), "content", 4L));
+        }
+
+        assertThat(teamRatingWriter.getPendingCount()).isEqualTo(1);
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getReviewCount()).isZero();
+
+        teamRatingWriter.flush();
+
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(teamRatingWriter.getPendingCount()).isZero();
+        assertThat(findTeam.getReviewCount()).isEqualTo(3L);
+        assertThat(findTeam.getAveragePoint()).isEqualTo(4.0);
+    }
+
+    @Test
+    void 리뷰_작성__flush_전에도_응답_평점은_리뷰를_반영함() {
+        User reviewer1 = userRepository.save(UserFixture.getAnotherUser("write-behind-reviewer1"));
+        User reviewer2 = userRepository.save(UserFixture.getAnotherUser("write-behind-reviewer2"));
+
+        reviewAppService.create(new ReviewCreateDto(reviewer1.getId(), team.getId(), "content", 5L));
+        Double averagePoint = reviewAppService.create(new ReviewCreateDto(reviewer2.getId(), team.getId(), "content", 2L)).getSecond();
+
+        assertThat(averagePoint).isEqualTo(3.5);
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getAveragePoint()).isZero();
+
+        teamRatingWriter.flush();
+    }
+
+    @Test
+    void 리뷰_동시_작성__한_팀에_500명() throws Exception {
+        List<User> reviewers = new ArrayList<>();
+        for (int i = 0; i < REVIEWER_COUNT; i++) {
+            reviewers.add(userRepository.save(UserFixture.getAnotherUser("write-behind-reviewer" + i)));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(REVIEWER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REVIEWER_COUNT; i++) {
+            User reviewer = reviewers.get(i);
+            long score = i % 6;
+
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return reviewAppService.create(new ReviewCreateDto(reviewer.getId(), team.getId(), "content", score));
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executorService.shutdown();
+
+        assertThat(teamRatingWriter.getPendingCount()).isEqualTo(1);
+
+        teamRatingWriter.flush();
+
+        long scoreSum = 0;
+        for (int i = 0; i < REVIEWER_COUNT; i++) {
+            scoreSum += i % 6;
+        }
+
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(findTeam.getReviewCount()).isEqualTo(REVIEWER_COUNT);
+        assertThat(findTeam.getScoreSum()).isEqualTo(scoreSum);
+        assertThat(findTeam.getAveragePoint()).isEqualTo(Math.round((double) scoreSum / REVIEWER_COUNT * 10) / 10.0);
+    }
+}
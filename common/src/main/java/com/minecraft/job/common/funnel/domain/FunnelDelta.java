@@ -0,0 +1,46 @@
+package com.minecraft.job.common.funnel.domain;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+import lombok.Getter;
+
+/**
+ * 체크포인트 사이에 쌓인 퍼널 증감분. 단계 수는 그 단계에 도달한 채용과정 수라서 줄지 않는다.
+ * 결정까지 걸린 시간은 최종합격, 불합격 처리된 채용과정의 지원부터 결정까지의 초.
+ */
+@Getter
+public class FunnelDelta {
+
+    private long applied;
+    private long inProgress;
+    private long passed;
+    private long failed;
+    private long canceled;
+    private final QuantileSketch timeToDecision = new QuantileSketch();
+
+    public void add(RecruitmentProcessStatus status, long sinceAppliedSeconds) {
+        switch (status) {
+            case WAITING -> applied++;
+            case IN_PROGRESS -> inProgress++;
+            case PASSED -> {
+                passed++;
+                timeToDecision.add(sinceAppliedSeconds);
+            }
+            case FAILED -> {
+                failed++;
+                timeToDecision.add(sinceAppliedSeconds);
+            }
+            case CANCELED -> canceled++;
+        }
+    }
+
+    public FunnelDelta merge(FunnelDelta other) {
+        applied += other.applied;
+        inProgress += other.inProgress;
+        passed += other.passed;
+        failed += other.failed;
+        canceled += other.canceled;
+        timeToDecision.merge(other.timeToDecision);
+
+        return this;
+    }
+}
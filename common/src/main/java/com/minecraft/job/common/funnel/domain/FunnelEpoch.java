@@ -0,0 +1,32 @@
+package com.minecraft.job.common.funnel.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 퍼널 재구성 세대. 한 줄만 있다.
+ * <p>
+ * 채용과정을 바꾸는 트랜잭션은 이 줄을 공유 잠금으로 읽어 증감분에 세대를 붙이고, 재구성은 배타 잠금으로 잡고 세대를 올린 뒤
+ * recruitment_process 를 읽는다. 그래서 재구성 결과에는 이전 세대의 변경이 모두 들어 있고 새 세대의 변경은 하나도 없다.
+ * 이전 세대의 증감분은 어느 인스턴스에 남아 있든 merge 하지 않고 버린다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FunnelEpoch {
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    private Long epoch;
+
+    public void increase() {
+        epoch++;
+    }
+}
@@ -0,0 +1,54 @@
+package com.minecraft.job.common.funnel.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+import static com.minecraft.job.common.funnel.domain.FunnelEpoch.ID;
+
+public interface FunnelEpochRepository extends JpaRepository<FunnelEpoch, Long> {
+
+    /**
+     * 줄이 이미 있으면 쿼리 하나로 끝난다.
+     */
+    default FunnelEpoch findForShare() {
+        return findForShareInternal(ID).orElseGet(() -> {
+            insertIgnoreInternal(ID);
+
+            return findForShareInternal(ID).orElseThrow();
+        });
+    }
+
+    default FunnelEpoch findForUpdate() {
+        insertIgnoreInternal(ID);
+
+        return findForUpdateInternal(ID).orElseThrow();
+    }
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert ignore into funnel_epoch (id, epoch)
+                values (:id, 0)
+            """)
+    void insertIgnoreInternal(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+                select e
+                from FunnelEpoch e
+                where e.id = :id
+            """)
+    Optional<FunnelEpoch> findForShareInternal(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select e
+                from FunnelEpoch e
+                where e.id = :id
+            """)
+    Optional<FunnelEpoch> findForUpdateInternal(Long id);
+}
@@ -0,0 +1,106 @@
+package com.minecraft.job.common.funnel.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Lob;
+import java.time.LocalDateTime;
+
+import static com.minecraft.job.common.support.Preconditions.notNull;
+
+/**
+ * 시나리오
+ * 채용공고별, 팀별 퍼널. 지원 -> 서류합격 -> 최종합격 단계마다 도달한 채용과정 수와 결정까지 걸린 시간의 스케치를 담는다.
+ * <p>
+ * FunnelAggregator 가 이벤트로 모은 증감분을 체크포인트마다 merge 한다. 조회는 한 줄만 읽는다.
+ * <p>
+ * 재구성
+ * recruitment_process 를 한 번 훑어 모든 줄을 다시 쓴다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FunnelRollup {
+
+    @EmbeddedId
+    private FunnelRollupId id;
+
+    private Long applied = 0L;
+
+    private Long inProgress = 0L;
+
+    private Long passed = 0L;
+
+    private Long failed = 0L;
+
+    private Long canceled = 0L;
+
+    @Lob
+    private byte[] timeToDecision = new QuantileSketch().toBytes();
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    private FunnelRollup(FunnelRollupId id) {
+        this.id = id;
+    }
+
+    public static FunnelRollup create(FunnelRollupId id) {
+        notNull(id);
+
+        return new FunnelRollup(id);
+    }
+
+    public static FunnelRollup create(FunnelRollupId id, FunnelDelta delta) {
+        FunnelRollup funnelRollup = create(id);
+        funnelRollup.merge(delta);
+
+        return funnelRollup;
+    }
+
+    public void merge(FunnelDelta delta) {
+        notNull(delta);
+
+        this.applied += delta.getApplied();
+        this.inProgress += delta.getInProgress();
+        this.passed += delta.getPassed();
+        this.failed += delta.getFailed();
+        this.canceled += delta.getCanceled();
+
+        QuantileSketch sketch = timeToDecisionSketch();
+        sketch.merge(delta.getTimeToDecision());
+        this.timeToDecision = sketch.toBytes();
+
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public QuantileSketch timeToDecisionSketch() {
+        return QuantileSketch.fromBytes(timeToDecision);
+    }
+
+    /**
+     * 지원 -> 서류합격 전환율. 지원이 없으면 0.
+     */
+    public double inProgressRate() {
+        return rate(inProgress, applied);
+    }
+
+    /**
+     * 서류합격 -> 최종합격 전환율. 서류합격이 없으면 0.
+     */
+    public double passRate() {
+        return rate(passed, inProgress);
+    }
+
+    public Long medianTimeToDecisionSeconds() {
+        return timeToDecisionSketch().median();
+    }
+
+    private static double rate(long numerator, long denominator) {
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+}
@@ -0,0 +1,11 @@
+package com.minecraft.job.common.funnel.domain;
+
+import java.util.List;
+
+public interface FunnelRollupBulkRepository {
+
+    /**
+     * 재구성 때 영속성 컨텍스트를 거치지 않고 insert ... values (...), (...) 로 넣는다.
+     */
+    int insertAll(List<FunnelRollup> funnelRollups);
+}
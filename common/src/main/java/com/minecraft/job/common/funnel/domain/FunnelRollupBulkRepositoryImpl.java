@@ -0,0 +1,55 @@
+package com.minecraft.job.common.funnel.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+class FunnelRollupBulkRepositoryImpl implements FunnelRollupBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT = "insert into funnel_rollup "
+            + "(scope, target_id, applied, in_progress, passed, failed, canceled, time_to_decision, updated_at) values ";
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<FunnelRollup> funnelRollups) {
+        int inserted = 0;
+
+        for (int from = 0; from < funnelRollups.size(); from += CHUNK_SIZE) {
+            List<FunnelRollup> chunk = funnelRollups.subList(from, Math.min(from + CHUNK_SIZE, funnelRollups.size()));
+
+            inserted += jdbcTemplate.update(
+                    INSERT + String.join(", ", Collections.nCopies(chunk.size(), VALUES)),
+                    toArgs(chunk)
+            );
+        }
+
+        return inserted;
+    }
+
+    private Object[] toArgs(List<FunnelRollup> chunk) {
+        List<Object> args = new ArrayList<>(chunk.size() * 9);
+
+        for (FunnelRollup funnelRollup : chunk) {
+            args.add(funnelRollup.getId().getScope().name());
+            args.add(funnelRollup.getId().getTargetId());
+            args.add(funnelRollup.getApplied());
+            args.add(funnelRollup.getInProgress());
+            args.add(funnelRollup.getPassed());
+            args.add(funnelRollup.getFailed());
+            args.add(funnelRollup.getCanceled());
+            args.add(funnelRollup.getTimeToDecision());
+            args.add(Timestamp.valueOf(funnelRollup.getUpdatedAt()));
+        }
+
+        return args.toArray();
+    }
+}
@@ -0,0 +1,30 @@
+package com.minecraft.job.common.funnel.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.io.Serializable;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(staticName = "of")
+public class FunnelRollupId implements Serializable {
+
+    @Enumerated(value = EnumType.STRING)
+    private FunnelScope scope;
+
+    private Long targetId;
+
+    @Override
+    public String toString() {
+        return scope + ":" + targetId;
+    }
+}
@@ -0,0 +1,61 @@
+package com.minecraft.job.common.funnel.domain;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+import org.springframework.data.jpa.repository.*;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
+public interface FunnelRollupRepository extends JpaRepository<FunnelRollup, FunnelRollupId>, FunnelRollupBulkRepository {
+
+    /**
+     * 여러 인스턴스가 같은 줄에 증감분을 merge 하므로 줄을 먼저 만들어 두고 잠가서 읽는다.
+     */
+    default FunnelRollup findForMerge(FunnelRollupId id) {
+        insertIgnoreInternal(id.getScope().name(), id.getTargetId());
+
+        return findForUpdateInternal(id).orElseThrow();
+    }
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert ignore into funnel_rollup (scope, target_id, applied, in_progress, passed, failed, canceled, updated_at)
+                values (:scope, :targetId, 0, 0, 0, 0, 0, now(6))
+            """)
+    void insertIgnoreInternal(String scope, Long targetId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select f
+                from FunnelRollup f
+                where f.id = :id
+            """)
+    Optional<FunnelRollup> findForUpdateInternal(FunnelRollupId id);
+
+    /**
+     * 재구성용. MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 면 한 줄씩 받아오므로 채용과정 수와 상관없이 메모리에 다 올리지 않는다.
+     * 다 읽을 때까지 같은 커넥션으로 다른 쿼리를 보낼 수 없고, 다 쓰면 닫아야 한다.
+     */
+    default Stream<FunnelSource> streamAllSource() {
+        return streamAllSourceInternal(RecruitmentProcessStatus.IN_PROGRESS);
+    }
+
+    @QueryHints({
+            @QueryHint(name = FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = READ_ONLY, value = "true")
+    })
+    @Query("""
+                select new com.minecraft.job.common.funnel.domain.FunnelSource(r.id, r.team.id, rp.status, rp.createdAt, rp.closedAt, h.id)
+                from RecruitmentProcess rp
+                    join rp.recruitment r
+                    left join RecruitmentProcessHistory h
+                        on h.recruitmentProcessId = rp.id
+                        and h.toStatus = :inProgress
+            """)
+    Stream<FunnelSource> streamAllSourceInternal(RecruitmentProcessStatus inProgress);
+}
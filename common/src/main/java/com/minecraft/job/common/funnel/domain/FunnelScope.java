@@ -0,0 +1,6 @@
+package com.minecraft.job.common.funnel.domain;
+
+public enum FunnelScope {
+
+    RECRUITMENT, TEAM
+}
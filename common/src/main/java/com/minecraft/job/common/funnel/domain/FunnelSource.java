@@ -0,0 +1,34 @@
+package com.minecraft.job.common.funnel.domain;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 재구성 때 채용과정 한 줄에서 읽는 값. inProgressHistoryId 는 서류합격 이력이 남아 있으면 그 id.
+ */
+public record FunnelSource(
+        Long recruitmentId,
+        Long teamId,
+        RecruitmentProcessStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime closedAt,
+        Long inProgressHistoryId
+) {
+
+    /**
+     * 서류합격 이력이 보관 기간이 지나 지워졌으면 불합격, 중도취소 채용과정은 서류합격에 도달했는지 알 수 없어 세지 않는다.
+     */
+    public void addTo(FunnelDelta delta) {
+        delta.add(RecruitmentProcessStatus.WAITING, 0L);
+
+        if (status == RecruitmentProcessStatus.IN_PROGRESS || status == RecruitmentProcessStatus.PASSED || inProgressHistoryId != null) {
+            delta.add(RecruitmentProcessStatus.IN_PROGRESS, 0L);
+        }
+
+        if (status == RecruitmentProcessStatus.PASSED || status == RecruitmentProcessStatus.FAILED || status == RecruitmentProcessStatus.CANCELED) {
+            delta.add(status, Duration.between(createdAt, closedAt).toSeconds());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.minecraft.job.common.funnel.domain;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * 0 이상 정수 값의 분위수를 상대 오차 RELATIVE_ACCURACY 안에서 돌려주는 로그 버킷 스케치.
+ * 값 v 는 ceil(log_gamma(v)) 번째 버킷에 세고, 버킷끼리 더하면 되므로 어느 순서로 합쳐도 결과가 같다.
+ * 버킷 수는 값의 개수가 아니라 최댓값/최솟값 비율에만 비례한다. 초 단위 1년이면 1000개 이하.
+ */
+public class QuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        sketch.zeroCount = buffer.getLong();
+        sketch.count = sketch.zeroCount;
+
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            int index = buffer.getInt();
+            long bucketCount = buffer.getLong();
+
+            sketch.buckets.put(index, bucketCount);
+            sketch.count += bucketCount;
+        }
+
+        return sketch;
+    }
+
+    public void add(long value) {
+        require(value >= 0);
+
+        if (value == 0) {
+            zeroCount++;
+        } else {
+            buckets.merge(index(value), 1L, Long::sum);
+        }
+
+        count++;
+    }
+
+    public void merge(QuantileSketch other) {
+        zeroCount += other.zeroCount;
+        count += other.count;
+        other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Long median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * nearest-rank. 값이 없으면 null.
+     */
+    public Long quantile(double quantile) {
+        require(0 < quantile);
+        require(quantile <= 1);
+
+        if (count == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(quantile * count);
+
+        long cumulative = zeroCount;
+        if (cumulative >= rank) {
+            return 0L;
+        }
+
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            cumulative += bucket.getValue();
+
+            if (cumulative >= rank) {
+                return value(bucket.getKey());
+            }
+        }
+
+        return value(buckets.lastKey());
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + buckets.size() * (Integer.BYTES + Long.BYTES));
+
+        buffer.putLong(zeroCount);
+        buffer.putInt(buckets.size());
+        buckets.forEach((index, bucketCount) -> {
+            buffer.putInt(index);
+            buffer.putLong(bucketCount);
+        });
+
+        return buffer.array();
+    }
+
+    private static int index(long value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    /**
+     * 버킷 (gamma^(i-1), gamma^i] 안에서 상대 오차가 가장 작은 대표값.
+     */
+    private static long value(int index) {
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.minecraft.job.common.funnel.service;
+
+import com.minecraft.job.common.funnel.domain.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.minecraft.job.common.funnel.domain.FunnelScope.RECRUITMENT;
+import static com.minecraft.job.common.funnel.domain.FunnelScope.TEAM;
+import static com.minecraft.job.common.support.Preconditions.notNull;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DomainFunnelService implements FunnelService {
+
+    private final FunnelRollupRepository funnelRollupRepository;
+    private final FunnelEpochRepository funnelEpochRepository;
+
+    /**
+     * 채용과정을 바꾸는 트랜잭션 안에서 부른다. 커밋할 때까지 재구성이 세대를 올리지 못한다.
+     */
+    @Override
+    public long lockEpoch() {
+        return funnelEpochRepository.findForShare().getEpoch();
+    }
+
+    /**
+     * 재구성으로 세대가 바뀌었으면 이미 재구성에 들어간 증감분이므로 merge 하지 않고 false 를 반환한다.
+     */
+    @Override
+    public boolean merge(long epoch, FunnelRollupId id, FunnelDelta delta) {
+        notNull(id);
+        notNull(delta);
+
+        if (funnelEpochRepository.findForShare().getEpoch() != epoch) {
+            return false;
+        }
+
+        FunnelRollup funnelRollup = funnelRollupRepository.findForMerge(id);
+
+        funnelRollup.merge(delta);
+
+        return true;
+    }
+
+    /**
+     * 아직 집계된 채용과정이 없으면 비어 있는 퍼널.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FunnelRollup getFunnel(FunnelRollupId id) {
+        return funnelRollupRepository.findById(id).orElseGet(() -> FunnelRollup.create(id));
+    }
+
+    /**
+     * recruitment_process 를 한 번 훑어 채용공고별, 팀별 퍼널을 메모리에서 만들고 롤업 테이블을 통째로 바꾼다.
+     * 메모리는 채용과정 수가 아니라 채용공고, 팀 수에 비례한다. 바꾸는 동안 읽는 쪽은 커밋 전까지 이전 퍼널을 본다.
+     * <p>
+     * 먼저 세대를 배타 잠금으로 잡고 올린다. 진행 중인 채용과정 변경과 체크포인트가 끝나기를 기다리고, 재구성이 끝날 때까지 새 변경을 막는다.
+     * 잠근 뒤에 recruitment_process 를 처음 읽으므로 그 시점의 스냅샷에는 이전 세대의 변경이 모두 들어 있다.
+     */
+    @Override
+    public int rebuild() {
+        funnelEpochRepository.findForUpdate().increase();
+
+        Map<FunnelRollupId, FunnelDelta> deltas = new HashMap<>();
+
+        try (Stream<FunnelSource> sources = funnelRollupRepository.streamAllSource()) {
+            sources.forEach(source -> {
+                source.addTo(deltas.computeIfAbsent(FunnelRollupId.of(RECRUITMENT, source.recruitmentId()), id -> new FunnelDelta()));
+                source.addTo(deltas.computeIfAbsent(FunnelRollupId.of(TEAM, source.teamId()), id -> new FunnelDelta()));
+            });
+        }
+
+        List<FunnelRollup> funnelRollups = deltas.entrySet().stream()
+                .map(entry -> FunnelRollup.create(entry.getKey(), entry.getValue()))
+                .toList();
+
+        funnelRollupRepository.deleteAllInBatch();
+
+        return funnelRollupRepository.insertAll(funnelRollups);
+    }
+}
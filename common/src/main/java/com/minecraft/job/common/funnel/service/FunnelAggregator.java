@@ -0,0 +1,110 @@
+package com.minecraft.job.common.funnel.service;
+
+import com.minecraft.job.common.funnel.domain.FunnelDelta;
+import com.minecraft.job.common.funnel.domain.FunnelRollupId;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.minecraft.job.common.funnel.domain.FunnelScope.RECRUITMENT;
+import static com.minecraft.job.common.funnel.domain.FunnelScope.TEAM;
+
+/**
+ * 커밋된 채용과정 생성/상태 변경 이벤트를 받아 채용공고별, 팀별 퍼널 증감분을 메모리에 모으고,
+ * 체크포인트마다 키별로 롤업 테이블에 merge 한다. 증감분만 쓰므로 인스턴스가 여럿이어도 서로 덮어쓰지 않는다.
+ * <p>
+ * 증감분에는 변경한 트랜잭션에서 읽은 재구성 세대(FunnelEpoch)를 붙인다. 재구성으로 세대가 바뀌면 이전 세대의 증감분은
+ * 재구성 결과에 이미 들어 있으므로 merge 하지 않고 버린다.
+ * <p>
+ * merge 에 실패한 증감분은 다시 모아서 다음 체크포인트에 쓴다. 프로세스가 죽으면 마지막 체크포인트 이후 증감분은 잃고, 재구성으로 맞춘다.
+ * <p>
+ * funnel.stale: 세대가 바뀌어 버린 증감분 수
+ */
+@Slf4j
+@Component
+public class FunnelAggregator {
+
+    private final FunnelService funnelService;
+    private final Map<PendingKey, FunnelDelta> pending = new ConcurrentHashMap<>();
+    private final Counter staleCounter;
+
+    public FunnelAggregator(FunnelService funnelService, MeterRegistry meterRegistry) {
+        this.funnelService = funnelService;
+
+        Gauge.builder("funnel.pending", pending, Map::size)
+                .register(meterRegistry);
+        this.staleCounter = meterRegistry.counter("funnel.stale");
+    }
+
+    /**
+     * 변경한 트랜잭션 안에서 세대를 공유 잠금으로 읽어 두고, 커밋되면 그 세대로 모은다. 트랜잭션 밖에서 발행된 이벤트는 무시한다.
+     */
+    @EventListener
+    public void onRecruitmentProcessTransitionListener(RecruitmentProcessTransitionEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        long epoch = funnelService.lockEpoch();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                collect(epoch, event);
+            }
+        });
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${funnel.checkpoint-millis:10000}")
+    public void checkpoint() {
+        for (PendingKey key : List.copyOf(pending.keySet())) {
+            FunnelDelta delta = pending.remove(key);
+
+            if (delta == null) {
+                continue;
+            }
+
+            try {
+                if (!funnelService.merge(key.epoch(), key.id(), delta)) {
+                    staleCounter.increment();
+                }
+            } catch (RuntimeException ex) {
+                log.warn("funnel checkpoint failed. id={}", key.id(), ex);
+
+                pending.merge(key, delta, FunnelDelta::merge);
+            }
+        }
+    }
+
+    void collect(long epoch, RecruitmentProcessTransitionEvent event) {
+        for (RecruitmentProcessTransitionEvent.Item item : event.items()) {
+            add(new PendingKey(epoch, FunnelRollupId.of(RECRUITMENT, item.recruitmentId())), item);
+            add(new PendingKey(epoch, FunnelRollupId.of(TEAM, item.teamId())), item);
+        }
+    }
+
+    private void add(PendingKey key, RecruitmentProcessTransitionEvent.Item item) {
+        pending.compute(key, (k, delta) -> {
+            FunnelDelta target = delta == null ? new FunnelDelta() : delta;
+            target.add(item.toStatus(), item.sinceAppliedSeconds());
+
+            return target;
+        });
+    }
+
+    private record PendingKey(long epoch, FunnelRollupId id) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.minecraft.job.common.funnel.service;
+
+import com.minecraft.job.common.funnel.domain.FunnelDelta;
+import com.minecraft.job.common.funnel.domain.FunnelRollup;
+import com.minecraft.job.common.funnel.domain.FunnelRollupId;
+
+public interface FunnelService {
+
+    long lockEpoch();
+
+    boolean merge(long epoch, FunnelRollupId id, FunnelDelta delta);
+
+    FunnelRollup getFunnel(FunnelRollupId id);
+
+    int rebuild();
+}
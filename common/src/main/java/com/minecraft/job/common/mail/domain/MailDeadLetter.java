@@ -0,0 +1,82 @@
+package com.minecraft.job.common.mail.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.minecraft.job.common.support.Preconditions.notNull;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 시나리오
+ * 영구적으로 실패했거나 재시도를 모두 소진한 mail_outbox 를 옮겨 둔다.
+ * <p>
+ * 다시 보내기
+ * 새 mail_outbox 로 옮기고 지운다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_mail_dead_letter_template_id", columnList = "template, id")
+})
+public class MailDeadLetter {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(length = 1000)
+    private String recipients;
+
+    private String template;
+
+    @Lob
+    private String payload;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private final LocalDateTime deadAt = LocalDateTime.now();
+
+    private MailDeadLetter(String recipients, String template, String payload, int attempts, String lastError, LocalDateTime createdAt) {
+        this.recipients = recipients;
+        this.template = template;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+    }
+
+    public static MailDeadLetter create(MailOutbox mailOutbox, String error) {
+        notNull(mailOutbox);
+
+        return new MailDeadLetter(
+                mailOutbox.getRecipients(),
+                mailOutbox.getTemplate(),
+                mailOutbox.getPayload(),
+                mailOutbox.getAttempts(),
+                truncate(error),
+                mailOutbox.getCreatedAt()
+        );
+    }
+
+    static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,26 @@
+package com.minecraft.job.common.mail.domain;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface MailDeadLetterRepository extends JpaRepository<MailDeadLetter, Long> {
+
+    Page<MailDeadLetter> findAllByTemplate(String template, Pageable pageable);
+
+    /**
+     * 같은 dead letter 를 동시에 다시 보내서 메일이 두 번 나가지 않도록 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select m
+                from MailDeadLetter m
+                where m.id in :ids
+            """)
+    List<MailDeadLetter> findAllForReplay(List<Long> ids);
+}
@@ -0,0 +1,57 @@
+package com.minecraft.job.common.mail.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.util.Strings;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 시나리오
+ * digest 로 보내는 템플릿의 알림은 도메인 변경과 같은 트랜잭션에서 mail_outbox 대신 여기에 쌓인다.
+ * <p>
+ * 받는 사람 + 템플릿의 가장 오래된 알림이 digest 시간을 넘기면
+ * 쌓인 알림을 모두 지우고 요약 메일 한 통을 mail_outbox 에 남긴다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_mail_digest_template_recipient_id", columnList = "template, recipient, id")
+})
+public class MailDigest {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    private String recipient;
+
+    private String template;
+
+    @Lob
+    private String payload;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private MailDigest(String recipient, String template, String payload) {
+        this.recipient = recipient;
+        this.template = template;
+        this.payload = payload;
+    }
+
+    public static MailDigest create(String recipient, String template, String payload) {
+        require(Strings.isNotBlank(recipient));
+        require(Strings.isNotBlank(template));
+        require(Strings.isNotBlank(payload));
+
+        return new MailDigest(recipient, template, payload);
+    }
+}
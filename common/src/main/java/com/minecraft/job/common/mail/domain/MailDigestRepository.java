@@ -0,0 +1,32 @@
+package com.minecraft.job.common.mail.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailDigestRepository extends JpaRepository<MailDigest, Long> {
+
+    @Query("""
+                select m.recipient
+                from MailDigest m
+                where m.template = :template
+                group by m.recipient
+                having min(m.createdAt) <= :createdBefore
+            """)
+    List<String> findAllDueRecipient(String template, LocalDateTime createdBefore);
+
+    /**
+     * 여러 노드가 같은 받는 사람의 digest 를 동시에 보내지 않도록, 다른 트랜잭션이 잡은 row 는 건너뛴다.
+     */
+    @Query(nativeQuery = true, value = """
+                select *
+                from mail_digest
+                where template = :template
+                and recipient = :recipient
+                order by id
+                for update skip locked
+            """)
+    List<MailDigest> findAllForFlush(String template, String recipient);
+}
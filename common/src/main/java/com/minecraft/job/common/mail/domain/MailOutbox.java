@@ -0,0 +1,119 @@
+package com.minecraft.job.common.mail.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.util.Strings;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.*;
+import static com.minecraft.job.common.support.Preconditions.check;
+import static com.minecraft.job.common.support.Preconditions.require;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 시나리오
+ * 도메인 변경과 같은 트랜잭션에서 생성
+ * 상태 = PENDING
+ * <p>
+ * relay 가 가져감
+ * 상태 = SENDING, claimedAt 기록, attempts 증가
+ * claimedAt 이후 lease 안에 발송 완료되지 않으면 다른 relay 가 다시 가져간다.
+ * <p>
+ * 발송 완료
+ * 상태 = SENT
+ * <p>
+ * 일시적인 발송 실패
+ * 상태 = PENDING, nextAttemptAt 이후에 다시 가져간다.
+ * <p>
+ * 발송량 제한에 걸림
+ * 상태 = PENDING, 시도하지 않았으므로 attempts 를 되돌리고 nextAttemptAt 이후에 다시 가져간다.
+ * <p>
+ * 영구적인 실패 또는 재시도 소진
+ * mail_dead_letter 로 옮긴다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_mail_outbox_status_id", columnList = "status, id")
+})
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(length = 1000)
+    private String recipients;
+
+    private String template;
+
+    @Lob
+    private String payload;
+
+    @Enumerated(value = EnumType.STRING)
+    private MailOutboxStatus status = PENDING;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime sentAt;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private MailOutbox(String recipients, String template, String payload) {
+        this.recipients = recipients;
+        this.template = template;
+        this.payload = payload;
+    }
+
+    public static MailOutbox create(String recipients, String template, String payload) {
+        require(Strings.isNotBlank(recipients));
+        require(Strings.isNotBlank(template));
+        require(Strings.isNotBlank(payload));
+
+        return new MailOutbox(recipients, template, payload);
+    }
+
+    public void claim(LocalDateTime now) {
+        check(this.status != SENT);
+
+        this.status = SENDING;
+        this.claimedAt = now;
+        this.attempts++;
+    }
+
+    public void sent(LocalDateTime now) {
+        check(this.status == SENDING);
+
+        this.status = SENT;
+        this.sentAt = now;
+    }
+
+    public void retry(LocalDateTime nextAttemptAt, String error) {
+        check(this.status == SENDING);
+
+        this.status = PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = MailDeadLetter.truncate(error);
+    }
+
+    public void defer(LocalDateTime nextAttemptAt) {
+        check(this.status == SENDING);
+
+        this.status = PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.attempts--;
+    }
+}
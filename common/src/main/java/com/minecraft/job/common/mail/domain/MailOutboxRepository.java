@@ -0,0 +1,50 @@
+package com.minecraft.job.common.mail.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.SENT;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 여러 relay 가 동시에 가져가도 겹치지 않도록, 다른 트랜잭션이 잡은 row 는 건너뛴다.
+     * lease 가 지난 SENDING 은 발송 중 relay 가 죽은 것으로 보고 다시 가져간다.
+     * 재시도를 기다리는 PENDING 은 nextAttemptAt 이 지나야 가져간다.
+     */
+    @Query(nativeQuery = true, value = """
+                select *
+                from mail_outbox
+                where (status = 'PENDING' and (next_attempt_at is null or next_attempt_at <= :now))
+                   or (status = 'SENDING' and claimed_at < :leaseExpiredBefore)
+                order by id
+                limit :limit
+                for update skip locked
+            """)
+    List<MailOutbox> findAllForClaim(LocalDateTime now, LocalDateTime leaseExpiredBefore, int limit);
+
+    default Optional<LocalDateTime> findOldestUnsentCreatedAt() {
+        return findOldestCreatedAtInternal(SENT);
+    }
+
+    @Query("""
+                select min(m.createdAt)
+                from MailOutbox m
+                where m.status <> :status
+            """)
+    Optional<LocalDateTime> findOldestCreatedAtInternal(MailOutboxStatus status);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                delete from mail_outbox
+                where status = 'SENT'
+                and sent_at < :sentBefore
+                limit :limit
+            """)
+    int deleteSentBefore(LocalDateTime sentBefore, int limit);
+}
@@ -0,0 +1,5 @@
+package com.minecraft.job.common.mail.domain;
+
+public enum MailOutboxStatus {
+    PENDING, SENDING, SENT
+}
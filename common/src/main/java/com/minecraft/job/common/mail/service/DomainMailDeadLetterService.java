@@ -0,0 +1,46 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import com.minecraft.job.common.mail.domain.MailDeadLetterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DomainMailDeadLetterService implements MailDeadLetterService {
+
+    private final MailDeadLetterRepository mailDeadLetterRepository;
+    private final MailOutboxService mailOutboxService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MailDeadLetter> getDeadLetters(String template, Pageable pageable) {
+        if (template == null) {
+            return mailDeadLetterRepository.findAll(pageable);
+        }
+
+        return mailDeadLetterRepository.findAllByTemplate(template, pageable);
+    }
+
+    /**
+     * 새 mail_outbox 로 옮겨서 재시도 횟수를 처음부터 다시 센다. 이미 옮겨진 id 는 건너뛴다.
+     */
+    @Override
+    public int replay(List<Long> mailDeadLetterIds) {
+        List<MailDeadLetter> mailDeadLetters = mailDeadLetterRepository.findAllForReplay(mailDeadLetterIds);
+
+        for (MailDeadLetter mailDeadLetter : mailDeadLetters) {
+            mailOutboxService.append(mailDeadLetter.getRecipients(), mailDeadLetter.getTemplate(), mailDeadLetter.getPayload());
+        }
+
+        mailDeadLetterRepository.deleteAllInBatch(mailDeadLetters);
+
+        return mailDeadLetters.size();
+    }
+}
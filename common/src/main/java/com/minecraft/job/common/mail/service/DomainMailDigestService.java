@@ -0,0 +1,59 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDigest;
+import com.minecraft.job.common.mail.domain.MailDigestRepository;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DomainMailDigestService implements MailDigestService {
+
+    private final MailDigestRepository mailDigestRepository;
+    private final MailOutboxService mailOutboxService;
+
+    /**
+     * 도메인 변경과 함께 커밋되거나 함께 롤백되어야 하므로 이미 시작된 트랜잭션에서만 호출할 수 있다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public MailDigest append(String recipient, String template, String payload) {
+        return mailDigestRepository.save(MailDigest.create(recipient, template, payload));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> getDueRecipients(String template, LocalDateTime createdBefore) {
+        return mailDigestRepository.findAllDueRecipient(template, createdBefore);
+    }
+
+    /**
+     * 쌓인 알림을 지우고 요약 메일을 mail_outbox 에 남긴다. 요약 메일의 payload 는 {"items": [알림 payload, ...]} 이다.
+     * 다른 노드가 이미 잡고 있으면 아무것도 하지 않는다.
+     */
+    @Override
+    public Optional<MailOutbox> flush(String recipient, String template, String digestTemplate) {
+        List<MailDigest> mailDigests = mailDigestRepository.findAllForFlush(template, recipient);
+
+        if (mailDigests.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String payload = mailDigests.stream()
+                .map(MailDigest::getPayload)
+                .collect(Collectors.joining(",", "{\"items\":[", "]}"));
+
+        mailDigestRepository.deleteAllInBatch(mailDigests);
+
+        return Optional.of(mailOutboxService.append(recipient, digestTemplate, payload));
+    }
+}
@@ -0,0 +1,102 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import com.minecraft.job.common.mail.domain.MailDeadLetterRepository;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.SENDING;
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.SENT;
+import static com.minecraft.job.common.support.Preconditions.check;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DomainMailOutboxService implements MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDeadLetterRepository mailDeadLetterRepository;
+
+    /**
+     * 도메인 변경과 함께 커밋되거나 함께 롤백되어야 하므로 이미 시작된 트랜잭션에서만 호출할 수 있다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public MailOutbox append(String recipients, String template, String payload) {
+        return mailOutboxRepository.save(MailOutbox.create(recipients, template, payload));
+    }
+
+    @Override
+    public List<MailOutbox> claim(int limit, LocalDateTime leaseExpiredBefore) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<MailOutbox> mailOutboxes = mailOutboxRepository.findAllForClaim(now, leaseExpiredBefore, limit);
+
+        mailOutboxes.forEach(mailOutbox -> mailOutbox.claim(now));
+
+        return mailOutboxes;
+    }
+
+    @Override
+    public MailOutbox markSent(Long mailOutboxId) {
+        MailOutbox mailOutbox = mailOutboxRepository.findById(mailOutboxId).orElseThrow();
+
+        if (mailOutbox.getStatus() != SENT) {
+            mailOutbox.sent(LocalDateTime.now());
+        }
+
+        return mailOutbox;
+    }
+
+    /**
+     * lease 가 지나서 다른 relay 가 이미 보냈으면 아무것도 하지 않는다.
+     */
+    @Override
+    public MailOutbox retry(Long mailOutboxId, LocalDateTime nextAttemptAt, String error) {
+        MailOutbox mailOutbox = mailOutboxRepository.findById(mailOutboxId).orElseThrow();
+
+        if (mailOutbox.getStatus() == SENDING) {
+            mailOutbox.retry(nextAttemptAt, error);
+        }
+
+        return mailOutbox;
+    }
+
+    /**
+     * 보내지 않고 되돌리는 것이므로 한 트랜잭션에서 한꺼번에 처리한다.
+     */
+    @Override
+    public void defer(Map<Long, LocalDateTime> nextAttemptAtById) {
+        for (MailOutbox mailOutbox : mailOutboxRepository.findAllById(nextAttemptAtById.keySet())) {
+            if (mailOutbox.getStatus() == SENDING) {
+                mailOutbox.defer(nextAttemptAtById.get(mailOutbox.getId()));
+            }
+        }
+    }
+
+    @Override
+    public MailDeadLetter deadLetter(Long mailOutboxId, String error) {
+        MailOutbox mailOutbox = mailOutboxRepository.findById(mailOutboxId).orElseThrow();
+
+        check(mailOutbox.getStatus() != SENT);
+
+        MailDeadLetter mailDeadLetter = mailDeadLetterRepository.save(MailDeadLetter.create(mailOutbox, error));
+
+        mailOutboxRepository.delete(mailOutbox);
+
+        return mailDeadLetter;
+    }
+
+    @Override
+    public int purgeSent(LocalDateTime sentBefore, int limit) {
+        return mailOutboxRepository.deleteSentBefore(sentBefore, limit);
+    }
+}
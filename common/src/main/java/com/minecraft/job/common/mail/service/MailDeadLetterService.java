@@ -0,0 +1,14 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface MailDeadLetterService {
+
+    Page<MailDeadLetter> getDeadLetters(String template, Pageable pageable);
+
+    int replay(List<Long> mailDeadLetterIds);
+}
@@ -0,0 +1,17 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDigest;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MailDigestService {
+
+    MailDigest append(String recipient, String template, String payload);
+
+    List<String> getDueRecipients(String template, LocalDateTime createdBefore);
+
+    Optional<MailOutbox> flush(String recipient, String template, String digestTemplate);
+}
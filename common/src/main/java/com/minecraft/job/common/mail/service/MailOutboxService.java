@@ -0,0 +1,25 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface MailOutboxService {
+
+    MailOutbox append(String recipients, String template, String payload);
+
+    List<MailOutbox> claim(int limit, LocalDateTime leaseExpiredBefore);
+
+    MailOutbox markSent(Long mailOutboxId);
+
+    MailOutbox retry(Long mailOutboxId, LocalDateTime nextAttemptAt, String error);
+
+    void defer(Map<Long, LocalDateTime> nextAttemptAtById);
+
+    MailDeadLetter deadLetter(Long mailOutboxId, String error);
+
+    int purgeSent(LocalDateTime sentBefore, int limit);
+}
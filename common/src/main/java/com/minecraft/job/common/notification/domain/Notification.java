@@ -0,0 +1,77 @@
+package com.minecraft.job.common.notification.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.util.Strings;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.minecraft.job.common.support.Preconditions.notNull;
+import static com.minecraft.job.common.support.Preconditions.require;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 시나리오
+ * 도메인 이벤트가 발생하면 받는 사람마다 한 줄씩 같은 트랜잭션에서 쌓인다. 받는 사람이 많으면 한 번에 여러 줄을 넣는다.
+ * <p>
+ * 알림함은 (user_id, id) 내림차순으로 읽는다.
+ * <p>
+ * 읽음 처리
+ * readAt 활성화, user.unread_notification_count 감소
+ * <p>
+ * 조회가 잦으므로 사용자나 대상 엔티티와 연관관계를 맺지 않고 id 와 문구만 담는다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_notification_user_id_id", columnList = "user_id, id")
+})
+public class Notification {
+
+    public static final int MAX_MESSAGE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    private Long userId;
+
+    @Enumerated(value = EnumType.STRING)
+    private NotificationType type;
+
+    private Long targetId;
+
+    private String message;
+
+    private LocalDateTime readAt;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private Notification(Long userId, NotificationType type, Long targetId, String message) {
+        this.userId = userId;
+        this.type = type;
+        this.targetId = targetId;
+        this.message = message;
+    }
+
+    public static Notification create(Long userId, NotificationType type, Long targetId, String message) {
+        notNull(userId);
+        notNull(type);
+        require(Strings.isNotBlank(message));
+
+        return new Notification(userId, type, targetId, truncate(message));
+    }
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
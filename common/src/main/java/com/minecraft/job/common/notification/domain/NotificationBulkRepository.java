@@ -0,0 +1,12 @@
+package com.minecraft.job.common.notification.domain;
+
+import java.util.List;
+
+public interface NotificationBulkRepository {
+
+    /**
+     * IDENTITY 키는 JPA 배치 insert 가 되지 않으므로 여러 줄을 insert ... values (...), (...) 한 문장으로 넣는다.
+     * 영속성 컨텍스트를 거치지 않으므로 넣은 알림의 id 는 채워지지 않는다.
+     */
+    int insertAll(List<Notification> notifications);
+}
@@ -0,0 +1,50 @@
+package com.minecraft.job.common.notification.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+class NotificationBulkRepositoryImpl implements NotificationBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT = "insert into notification (user_id, type, target_id, message, created_at) values ";
+    private static final String VALUES = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<Notification> notifications) {
+        int inserted = 0;
+
+        for (int from = 0; from < notifications.size(); from += CHUNK_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + CHUNK_SIZE, notifications.size()));
+
+            inserted += jdbcTemplate.update(
+                    INSERT + String.join(", ", Collections.nCopies(chunk.size(), VALUES)),
+                    toArgs(chunk)
+            );
+        }
+
+        return inserted;
+    }
+
+    private Object[] toArgs(List<Notification> chunk) {
+        List<Object> args = new ArrayList<>(chunk.size() * 5);
+
+        for (Notification notification : chunk) {
+            args.add(notification.getUserId());
+            args.add(notification.getType().name());
+            args.add(notification.getTargetId());
+            args.add(notification.getMessage());
+            args.add(Timestamp.valueOf(notification.getCreatedAt()));
+        }
+
+        return args.toArray();
+    }
+}
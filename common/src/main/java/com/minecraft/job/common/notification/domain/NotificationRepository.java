@@ -0,0 +1,51 @@
+package com.minecraft.job.common.notification.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBulkRepository {
+
+    /**
+     * 최신순 id 내림차순. cursorId 가 없으면 첫 페이지, 있으면 cursorId 다음 알림부터 limit 개를 조회한다.
+     * notification(user_id, id) 인덱스 범위만 읽는다.
+     */
+    default List<Notification> findInbox(Long userId, Long cursorId, int limit) {
+        if (cursorId == null) {
+            return findInboxFirstInternal(userId, Pageable.ofSize(limit));
+        }
+
+        return findInboxAfterInternal(userId, cursorId, Pageable.ofSize(limit));
+    }
+
+    @Query("""
+                select n
+                from Notification n
+                where n.userId = :userId
+                order by n.id desc
+            """)
+    List<Notification> findInboxFirstInternal(Long userId, Pageable pageable);
+
+    @Query("""
+                select n
+                from Notification n
+                where n.userId = :userId
+                and n.id < :cursorId
+                order by n.id desc
+            """)
+    List<Notification> findInboxAfterInternal(Long userId, Long cursorId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update Notification n
+                set n.readAt = :readAt
+                where n.userId = :userId
+                and n.id <= :lastNotificationId
+                and n.readAt is null
+            """)
+    int markReadUntil(Long userId, Long lastNotificationId, LocalDateTime readAt);
+}
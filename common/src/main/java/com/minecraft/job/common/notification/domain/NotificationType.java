@@ -0,0 +1,22 @@
+package com.minecraft.job.common.notification.domain;
+
+/**
+ * 알림 종류. message 는 알림함에 보여줄 한 줄 문구의 형식이다.
+ */
+public enum NotificationType {
+    RECRUITMENT_PROCESS_CREATE("%s 님이 %s 에 지원했습니다."),
+    RECRUITMENT_PROCESS_IN_PROGRESS("%s 지원이 서류 합격했습니다."),
+    RECRUITMENT_PROCESS_PASS("%s 지원이 최종 합격했습니다."),
+    RECRUITMENT_PROCESS_FAIL("%s 지원이 불합격했습니다."),
+    TEAM_INACTIVATE("%s 팀이 비활성화되어 진행 중인 지원이 중단되었습니다.");
+
+    private final String format;
+
+    NotificationType(String format) {
+        this.format = format;
+    }
+
+    public String message(Object... args) {
+        return String.format(format, args);
+    }
+}
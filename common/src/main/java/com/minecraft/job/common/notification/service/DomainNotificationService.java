@@ -0,0 +1,99 @@
+package com.minecraft.job.common.notification.service;
+
+import com.minecraft.job.common.notification.domain.Notification;
+import com.minecraft.job.common.notification.domain.NotificationRepository;
+import com.minecraft.job.common.notification.domain.NotificationType;
+import com.minecraft.job.common.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static com.minecraft.job.common.support.Preconditions.notNull;
+import static com.minecraft.job.common.support.Preconditions.require;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DomainNotificationService implements NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 받는 사람마다 같은 알림을 한 줄씩 넣고 안 읽은 알림 수를 늘린다. 받는 사람이 여럿이어도 insert 와 update 는 한 번씩이다.
+     * 도메인 변경과 함께 커밋되거나 함께 롤백되어야 하므로 이미 시작된 트랜잭션에서만 호출할 수 있다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int publish(Collection<Long> userIds, NotificationType type, Long targetId, String message) {
+        List<Notification> notifications = userIds.stream()
+                .distinct()
+                .map(userId -> Notification.create(userId, type, targetId, message))
+                .toList();
+
+        return publishAll(notifications);
+    }
+
+    /**
+     * 서로 다른 알림 여러 개를 한 번에 넣는다. 안 읽은 알림 수는 늘어나는 양이 같은 사용자끼리 묶어서 update 한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int publishAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = notificationRepository.insertAll(notifications);
+
+        Map<Long, Long> countByUserId = notifications.stream()
+                .collect(Collectors.groupingBy(Notification::getUserId, TreeMap::new, Collectors.counting()));
+
+        Map<Long, List<Long>> userIdsByCount = countByUserId.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        userIdsByCount.forEach((count, userIds) -> userRepository.addUnreadNotificationCount(userIds, count));
+
+        return inserted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Notification> getInbox(Long userId, Long cursorId, int limit) {
+        notNull(userId);
+        require(0 < limit);
+
+        return notificationRepository.findInbox(userId, cursorId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return userRepository.findUnreadNotificationCount(userId).orElseThrow();
+    }
+
+    /**
+     * lastNotificationId 까지의 안 읽은 알림을 읽음 처리하고 그만큼 안 읽은 알림 수를 줄인다.
+     */
+    @Override
+    public int read(Long userId, Long lastNotificationId) {
+        notNull(userId);
+        notNull(lastNotificationId);
+
+        int read = notificationRepository.markReadUntil(userId, lastNotificationId, LocalDateTime.now());
+
+        if (read > 0) {
+            userRepository.addUnreadNotificationCount(List.of(userId), -read);
+        }
+
+        return read;
+    }
+}
@@ -0,0 +1,20 @@
+package com.minecraft.job.common.notification.service;
+
+import com.minecraft.job.common.notification.domain.Notification;
+import com.minecraft.job.common.notification.domain.NotificationType;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationService {
+
+    int publish(Collection<Long> userIds, NotificationType type, Long targetId, String message);
+
+    int publishAll(List<Notification> notifications);
+
+    List<Notification> getInbox(Long userId, Long cursorId, int limit);
+
+    long getUnreadCount(Long userId);
+
+    int read(Long userId, Long lastNotificationId);
+}
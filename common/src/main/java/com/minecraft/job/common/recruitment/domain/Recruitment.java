@@ -45,6 +45,10 @@ public class Recruitment {
         return this.team.ofUser(user);
     }
 
+    public Long getTeamId() {
+        return team.getId();
+    }
+
     public String getTeamName() {
         return team.getName();
     }
@@ -53,6 +57,10 @@ public class Recruitment {
         return team.getLeaderEmail();
     }
 
+    public Long getTeamOfLeaderId() {
+        return team.getLeaderId();
+    }
+
     private Recruitment(String title, String content, Team team) {
         this.title = title;
         this.content = content;
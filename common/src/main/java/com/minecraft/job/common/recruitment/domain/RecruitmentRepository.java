@@ -1,6 +1,21 @@
 package com.minecraft.job.common.recruitment.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
 
 public interface RecruitmentRepository extends JpaRepository<Recruitment, Long> {
+
+    /**
+     * 지원 알림에 필요한 팀, 팀장을 함께 읽는다.
+     */
+    @Query("""
+                select r
+                from Recruitment r
+                    join fetch r.team t
+                    join fetch t.user
+                where r.id = :recruitmentId
+            """)
+    Optional<Recruitment> findWithTeamAndLeaderById(Long recruitmentId);
 }
@@ -32,6 +32,8 @@ import static javax.persistence.GenerationType.IDENTITY;
  * <p>
  * closedAt 활성화
  * 상태 - PASSED, CANCELED, FAILED
+ * <p>
+ * statusChangedAt 은 현재 상태가 된 시각. 상태가 바뀔 때마다 갱신된다.
  */
 
 @Entity
@@ -41,12 +43,17 @@ import static javax.persistence.GenerationType.IDENTITY;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(uniqueConstraints = {
         @UniqueConstraint(
-                name = "uq_recruitment_user",
+                name = RecruitmentProcess.UNIQUE_RECRUITMENT_USER,
                 columnNames = {"recruitment_id", "user_id"}
         )
+}, indexes = {
+        @Index(name = "idx_recruitment_process_recruitment_id_status_id", columnList = "recruitment_id, status, id"),
+        @Index(name = "idx_recruitment_process_user_id_created_at_id", columnList = "user_id, created_at, id")
 })
 public class RecruitmentProcess {
 
+    public static final String UNIQUE_RECRUITMENT_USER = "uq_recruitment_user";
+
     @Id
     @GeneratedValue(strategy = IDENTITY)
     private Long id;
@@ -67,6 +74,11 @@ public class RecruitmentProcess {
 
     private LocalDateTime closedAt;
 
+    private LocalDateTime statusChangedAt = createdAt;
+
+    @Version
+    private Long version;
+
     public String getUserNickname() {
         return user.getNickname();
     }
@@ -75,6 +87,10 @@ public class RecruitmentProcess {
         return user.getEmail();
     }
 
+    public Long getUserId() {
+        return user.getId();
+    }
+
     public boolean ofUser(User user) {
         return this.user == user;
     }
@@ -96,10 +112,23 @@ public class RecruitmentProcess {
         return new RecruitmentProcess(recruitment, user, resume);
     }
 
+    /**
+     * 여러 채용과정을 한 번에 바꿀 때 쓴다. 바꿀 수 있는 상태는 IN_PROGRESS, PASSED, FAILED 이다.
+     */
+    public void changeStatus(RecruitmentProcessStatus status) {
+        switch (status) {
+            case IN_PROGRESS -> inProgress();
+            case PASSED -> pass();
+            case FAILED -> fail();
+            default -> throw new IllegalArgumentException("unsupported status: " + status);
+        }
+    }
+
     public void inProgress() {
         check(this.status == WAITING);
 
         this.status = IN_PROGRESS;
+        this.statusChangedAt = LocalDateTime.now();
     }
 
     public void pass() {
@@ -107,6 +136,7 @@ public class RecruitmentProcess {
 
         this.status = PASSED;
         this.closedAt = LocalDateTime.now();
+        this.statusChangedAt = closedAt;
     }
 
     public void cancel() {
@@ -114,6 +144,7 @@ public class RecruitmentProcess {
 
         this.status = CANCELED;
         this.closedAt = LocalDateTime.now();
+        this.statusChangedAt = closedAt;
     }
 
     public void fail() {
@@ -121,5 +152,6 @@ public class RecruitmentProcess {
 
         this.status = FAILED;
         this.closedAt = LocalDateTime.now();
+        this.statusChangedAt = closedAt;
     }
 }
@@ -0,0 +1,13 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import java.time.LocalDateTime;
+
+public record RecruitmentProcessApplicant(
+        Long recruitmentProcessId,
+        Long userId,
+        String userNickname,
+        Long resumeId,
+        RecruitmentProcessStatus status,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원자 본인이 보는 지원 내역 한 줄.
+ */
+public record RecruitmentProcessApplication(
+        Long recruitmentProcessId,
+        Long recruitmentId,
+        String recruitmentTitle,
+        Long teamId,
+        String teamName,
+        Long resumeId,
+        RecruitmentProcessStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime closedAt
+) {
+}
@@ -0,0 +1,37 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+
+import java.util.List;
+
+/**
+ * 한 번에 같은 상태로 바꾼 채용과정들. 리스너가 메일, 알림을 채용과정마다 따로 쓰지 않고 한 번에 쓸 수 있도록 한 이벤트로 묶는다.
+ */
+public record RecruitmentProcessBulkEvent(
+        RecruitmentProcessStatus status,
+        List<Item> items
+) {
+
+    public record Item(
+            Long recruitmentProcessId,
+            String recruitmentName,
+            String teamName,
+            Long userId,
+            String userEmail,
+            String userNickname
+    ) {
+
+        public static Item create(RecruitmentProcess recruitmentProcess) {
+            Recruitment recruitment = recruitmentProcess.getRecruitment();
+
+            return new Item(
+                    recruitmentProcess.getId(),
+                    recruitment.getTitle(),
+                    recruitment.getTeamName(),
+                    recruitmentProcess.getUserId(),
+                    recruitmentProcess.getUserEmail(),
+                    recruitmentProcess.getUserNickname()
+            );
+        }
+    }
+}
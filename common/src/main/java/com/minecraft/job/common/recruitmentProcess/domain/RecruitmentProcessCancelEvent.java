@@ -0,0 +1,26 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+
+public record RecruitmentProcessCancelEvent(
+        Long recruitmentProcessId,
+        String recruitmentName,
+        String teamName,
+        Long userId,
+        String userEmail,
+        String userNickname
+) {
+
+    public static RecruitmentProcessCancelEvent create(RecruitmentProcess recruitmentProcess) {
+        Recruitment recruitment = recruitmentProcess.getRecruitment();
+
+        return new RecruitmentProcessCancelEvent(
+                recruitmentProcess.getId(),
+                recruitment.getTitle(),
+                recruitment.getTeamName(),
+                recruitmentProcess.getUserId(),
+                recruitmentProcess.getUserEmail(),
+                recruitmentProcess.getUserNickname()
+        );
+    }
+}
@@ -1,4 +1,33 @@
 package com.minecraft.job.common.recruitmentProcess.domain;
 
-public record RecruitmentProcessCreateEvent(Long recruitmentProcessId) {
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+
+/**
+ * recruitmentId, userId 는 메일 외에 RecruitmentApplicantIndex 도 쓴다.
+ */
+public record RecruitmentProcessCreateEvent(
+        Long recruitmentProcessId,
+        Long recruitmentId,
+        String recruitmentName,
+        String teamName,
+        Long leaderId,
+        String leaderEmail,
+        Long userId,
+        String userNickname
+) {
+
+    public static RecruitmentProcessCreateEvent create(RecruitmentProcess recruitmentProcess) {
+        Recruitment recruitment = recruitmentProcess.getRecruitment();
+
+        return new RecruitmentProcessCreateEvent(
+                recruitmentProcess.getId(),
+                recruitment.getId(),
+                recruitment.getTitle(),
+                recruitment.getTeamName(),
+                recruitment.getTeamOfLeaderId(),
+                recruitment.getTeamOfLeaderEmail(),
+                recruitmentProcess.getUserId(),
+                recruitmentProcess.getUserNickname()
+        );
+    }
 }
@@ -0,0 +1,100 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+import static java.sql.ResultSet.CONCUR_READ_ONLY;
+import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+
+/**
+ * 채용공고의 지원자를 이력서와 함께 한 줄씩 읽는다.
+ * <p>
+ * fetch size 를 Integer.MIN_VALUE 로 두면 MySQL 드라이버가 결과를 모아두지 않고 한 줄씩 넘겨주므로 지원자 수와 상관없이 메모리를 일정하게 쓴다.
+ * 스트리밍하는 동안 커넥션을 잡고 있고, 같은 커넥션으로 다른 쿼리를 보낼 수 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecruitmentProcessExportRepository {
+
+    private static final String SELECT = """
+            select rp.id, rp.status, rp.created_at,
+                   u.id, u.email, u.nickname,
+                   r.id, r.title, r.content, r.training_history
+            from recruitment_process rp
+            join user u on u.id = rp.user_id
+            join resume r on r.id = rp.resume_id
+            where rp.recruitment_id = ?
+            order by rp.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 끝까지 읽지 못하고 실패하면(예: 클라이언트가 끊음, 쿼리 시간 초과) 남은 줄을 받지 않도록 쿼리를 취소하고 그대로 다시 던진다.
+     *
+     * @return 넘긴 줄 수
+     */
+    public long streamAll(Long recruitmentId, Consumer<RecruitmentProcessExportRow> consumer) {
+        Long rows = jdbcTemplate.execute(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, recruitmentId);
+            return ps;
+        }, (PreparedStatement ps) -> {
+            ResultSet rs = ps.executeQuery();
+            long count = 0;
+
+            try {
+                while (rs.next()) {
+                    consumer.accept(toRow(rs));
+                    count++;
+                }
+            } catch (Throwable e) {
+                cancelQuietly(ps, e);
+                throw e;
+            } finally {
+                JdbcUtils.closeResultSet(rs);
+            }
+
+            return count;
+        });
+
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * 취소하다 난 예외가 원래 예외를 가리지 않도록 붙여만 둔다.
+     */
+    private void cancelQuietly(PreparedStatement ps, Throwable cause) {
+        try {
+            ps.cancel();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private RecruitmentProcessExportRow toRow(ResultSet rs) throws SQLException {
+        Timestamp appliedAt = rs.getTimestamp(3);
+
+        return new RecruitmentProcessExportRow(
+                rs.getLong(1),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getString(6),
+                RecruitmentProcessStatus.valueOf(rs.getString(2)),
+                appliedAt == null ? null : appliedAt.toLocalDateTime(),
+                rs.getLong(7),
+                rs.getString(8),
+                rs.getString(9),
+                rs.getString(10)
+        );
+    }
+}
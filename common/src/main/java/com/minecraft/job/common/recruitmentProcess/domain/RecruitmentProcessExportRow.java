@@ -0,0 +1,17 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import java.time.LocalDateTime;
+
+public record RecruitmentProcessExportRow(
+        Long recruitmentProcessId,
+        Long userId,
+        String userEmail,
+        String userNickname,
+        RecruitmentProcessStatus status,
+        LocalDateTime appliedAt,
+        Long resumeId,
+        String resumeTitle,
+        String resumeContent,
+        String resumeTrainingHistory
+) {
+}
@@ -0,0 +1,86 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.minecraft.job.common.support.Preconditions.notNull;
+import static com.minecraft.job.common.support.Preconditions.require;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 시나리오
+ * 채용과정의 상태가 바뀔 때마다 한 줄씩 같은 트랜잭션에서 쌓인다. 고치거나 지우지 않는다.
+ * <p>
+ * durationSeconds 는 이전 상태에 머문 시간, sinceAppliedSeconds 는 지원부터 상태가 바뀐 시각까지의 시간.
+ * <p>
+ * 테이블은 changedAt 기준 월별 파티션이고, 오래된 파티션은 통째로 지운다.
+ * 조회가 잦지 않고 양이 많으므로 채용과정과 연관관계를 맺지 않고 id 만 담는다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_recruitment_process_history_recruitment_process_id_id", columnList = "recruitment_process_id, id")
+})
+public class RecruitmentProcessHistory {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    private Long recruitmentProcessId;
+
+    private Long recruitmentId;
+
+    @Enumerated(value = EnumType.STRING)
+    private RecruitmentProcessStatus fromStatus;
+
+    @Enumerated(value = EnumType.STRING)
+    private RecruitmentProcessStatus toStatus;
+
+    private Long durationSeconds;
+
+    private Long sinceAppliedSeconds;
+
+    private LocalDateTime changedAt;
+
+    private RecruitmentProcessHistory(Long recruitmentProcessId, Long recruitmentId, RecruitmentProcessStatus fromStatus, RecruitmentProcessStatus toStatus,
+                                      Long durationSeconds, Long sinceAppliedSeconds, LocalDateTime changedAt) {
+        this.recruitmentProcessId = recruitmentProcessId;
+        this.recruitmentId = recruitmentId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.durationSeconds = durationSeconds;
+        this.sinceAppliedSeconds = sinceAppliedSeconds;
+        this.changedAt = changedAt;
+    }
+
+    /**
+     * 상태를 바꾼 직후에 부른다. fromStatus, enteredAt 은 바꾸기 전의 status, statusChangedAt 이다.
+     */
+    public static RecruitmentProcessHistory create(RecruitmentProcess recruitmentProcess, RecruitmentProcessStatus fromStatus, LocalDateTime enteredAt) {
+        notNull(recruitmentProcess);
+        notNull(fromStatus);
+        notNull(enteredAt);
+        require(recruitmentProcess.getStatus() != fromStatus);
+
+        LocalDateTime changedAt = recruitmentProcess.getStatusChangedAt();
+
+        return new RecruitmentProcessHistory(
+                recruitmentProcess.getId(),
+                recruitmentProcess.getRecruitment().getId(),
+                fromStatus,
+                recruitmentProcess.getStatus(),
+                Duration.between(enteredAt, changedAt).toSeconds(),
+                Duration.between(recruitmentProcess.getCreatedAt(), changedAt).toSeconds(),
+                changedAt
+        );
+    }
+}
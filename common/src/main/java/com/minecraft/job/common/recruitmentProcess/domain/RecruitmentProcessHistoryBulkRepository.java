@@ -0,0 +1,12 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import java.util.List;
+
+public interface RecruitmentProcessHistoryBulkRepository {
+
+    /**
+     * 이력은 쌓기만 하므로 영속성 컨텍스트를 거치지 않고 insert ... values (...), (...) 한 문장으로 넣는다.
+     * 넣은 이력의 id 는 채워지지 않는다.
+     */
+    int insertAll(List<RecruitmentProcessHistory> histories);
+}
@@ -0,0 +1,53 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+class RecruitmentProcessHistoryBulkRepositoryImpl implements RecruitmentProcessHistoryBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT = "insert into recruitment_process_history "
+            + "(recruitment_process_id, recruitment_id, from_status, to_status, duration_seconds, since_applied_seconds, changed_at) values ";
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<RecruitmentProcessHistory> histories) {
+        int inserted = 0;
+
+        for (int from = 0; from < histories.size(); from += CHUNK_SIZE) {
+            List<RecruitmentProcessHistory> chunk = histories.subList(from, Math.min(from + CHUNK_SIZE, histories.size()));
+
+            inserted += jdbcTemplate.update(
+                    INSERT + String.join(", ", Collections.nCopies(chunk.size(), VALUES)),
+                    toArgs(chunk)
+            );
+        }
+
+        return inserted;
+    }
+
+    private Object[] toArgs(List<RecruitmentProcessHistory> chunk) {
+        List<Object> args = new ArrayList<>(chunk.size() * 7);
+
+        for (RecruitmentProcessHistory history : chunk) {
+            args.add(history.getRecruitmentProcessId());
+            args.add(history.getRecruitmentId());
+            args.add(history.getFromStatus().name());
+            args.add(history.getToStatus().name());
+            args.add(history.getDurationSeconds());
+            args.add(history.getSinceAppliedSeconds());
+            args.add(Timestamp.valueOf(history.getChangedAt()));
+        }
+
+        return args.toArray();
+    }
+}
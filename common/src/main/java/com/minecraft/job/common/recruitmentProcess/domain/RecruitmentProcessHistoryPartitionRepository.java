@@ -0,0 +1,58 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import com.minecraft.job.common.support.NamedLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * recruitment_process_history 는 changed_at 기준 range columns 파티션이다.
+ * 월마다 p{yyyyMM} 파티션 하나, 마지막은 항상 pmax(maxvalue) 이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecruitmentProcessHistoryPartitionRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+    private static final String LOCK_NAME = "recruitment_process_history_partition";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedLock namedLock;
+
+    /**
+     * 파티션되지 않은 테이블이면 빈 목록.
+     */
+    public List<String> findAllPartitionName() {
+        return jdbcTemplate.queryForList("""
+                select partition_name
+                from information_schema.partitions
+                where table_schema = database()
+                and table_name = 'recruitment_process_history'
+                and partition_name is not null
+                order by partition_ordinal_position
+                """, String.class);
+    }
+
+    /**
+     * pmax 를 잘라 lessThan 전까지를 담는 파티션을 만든다. pmax 가 비어 있으면 메타데이터만 바뀐다.
+     */
+    public void split(String partitionName, LocalDate lessThan) {
+        jdbcTemplate.execute("alter table recruitment_process_history reorganize partition " + MAX_PARTITION + " into ("
+                + "partition " + partitionName + " values less than ('" + lessThan + "'), "
+                + "partition " + MAX_PARTITION + " values less than (maxvalue))");
+    }
+
+    public void drop(String partitionName) {
+        jdbcTemplate.execute("alter table recruitment_process_history drop partition " + partitionName);
+    }
+
+    /**
+     * 이름 있는 lock 을 잡은 동안만 task 를 실행한다. 다른 노드가 잡고 있으면 기다리지 않고 false 를 반환한다.
+     */
+    public boolean runWithLock(Runnable task) {
+        return namedLock.runWithLock(LOCK_NAME, task);
+    }
+}
@@ -0,0 +1,10 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RecruitmentProcessHistoryRepository extends JpaRepository<RecruitmentProcessHistory, Long>, RecruitmentProcessHistoryBulkRepository {
+
+    List<RecruitmentProcessHistory> findAllByRecruitmentProcessIdOrderByIdAsc(Long recruitmentProcessId);
+}
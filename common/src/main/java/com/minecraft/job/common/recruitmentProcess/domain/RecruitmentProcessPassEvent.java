@@ -1,4 +1,26 @@
 package com.minecraft.job.common.recruitmentProcess.domain;
 
-public record RecruitmentProcessPassEvent(Long recruitmentProcessId) {
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+
+public record RecruitmentProcessPassEvent(
+        Long recruitmentProcessId,
+        String recruitmentName,
+        String teamName,
+        Long userId,
+        String userEmail,
+        String userNickname
+) {
+
+    public static RecruitmentProcessPassEvent create(RecruitmentProcess recruitmentProcess) {
+        Recruitment recruitment = recruitmentProcess.getRecruitment();
+
+        return new RecruitmentProcessPassEvent(
+                recruitmentProcess.getId(),
+                recruitment.getTitle(),
+                recruitment.getTeamName(),
+                recruitmentProcess.getUserId(),
+                recruitmentProcess.getUserEmail(),
+                recruitmentProcess.getUserNickname()
+        );
+    }
 }
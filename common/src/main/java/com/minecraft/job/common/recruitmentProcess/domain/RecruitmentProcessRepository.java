@@ -1,6 +1,136 @@
 package com.minecraft.job.common.recruitmentProcess.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.OPENED;
 
 public interface RecruitmentProcessRepository extends JpaRepository<RecruitmentProcess, Long> {
+
+    /**
+     * 상태 변경 이벤트에 필요한 채용공고, 팀, 지원자를 한 번에 읽는다.
+     */
+    @Query("""
+                select rp
+                from RecruitmentProcess rp
+                    join fetch rp.recruitment r
+                    join fetch r.team
+                    join fetch rp.user
+                where rp.id in :ids
+            """)
+    List<RecruitmentProcess> findAllWithRecruitmentAndUser(Collection<Long> ids);
+
+    /**
+     * 상태 변경 이벤트에 필요한 채용공고, 팀, 지원자를 한 번에 읽는다.
+     */
+    @Query("""
+                select rp
+                from RecruitmentProcess rp
+                    join fetch rp.recruitment r
+                    join fetch r.team
+                    join fetch rp.user
+                where rp.id = :id
+            """)
+    Optional<RecruitmentProcess> findWithRecruitmentAndUserById(Long id);
+
+    /**
+     * 채용공고에 지원한 사용자. uq_recruitment_user(recruitment_id, user_id) 인덱스만 읽는다.
+     */
+    @Query("""
+                select rp.user.id
+                from RecruitmentProcess rp
+                where rp.recruitment.id = :recruitmentId
+            """)
+    List<Long> findAllUserIdByRecruitmentId(Long recruitmentId);
+
+    /**
+     * 팀의 채용공고에 아직 진행 중(WAITING, IN_PROGRESS)인 지원자.
+     */
+    default List<Long> findAllOpenUserIdByTeamId(Long teamId) {
+        return findAllUserIdByTeamIdInternal(teamId, OPENED);
+    }
+
+    @Query("""
+                select distinct rp.user.id
+                from RecruitmentProcess rp
+                where rp.recruitment.team.id = :teamId
+                and rp.status in :statuses
+            """)
+    List<Long> findAllUserIdByTeamIdInternal(Long teamId, Collection<RecruitmentProcessStatus> statuses);
+
+    /**
+     * 채용공고의 한 상태 지원자를 최신순 id 내림차순으로 limit 개 조회한다. cursorId 가 있으면 그 다음부터 읽는다.
+     * 엔티티를 만들지 않고 recruitment_process(recruitment_id, status, id) 인덱스 범위만 읽는다.
+     */
+    default List<RecruitmentProcessApplicant> findApplicants(Long recruitmentId, RecruitmentProcessStatus status, Long cursorId, int limit) {
+        if (cursorId == null) {
+            return findApplicantsFirstInternal(recruitmentId, status, Pageable.ofSize(limit));
+        }
+
+        return findApplicantsAfterInternal(recruitmentId, status, cursorId, Pageable.ofSize(limit));
+    }
+
+    @Query("""
+                select new com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplicant(
+                    rp.id, u.id, u.nickname, rp.resume.id, rp.status, rp.createdAt)
+                from RecruitmentProcess rp
+                    join rp.user u
+                where rp.recruitment.id = :recruitmentId
+                and rp.status = :status
+                order by rp.id desc
+            """)
+    List<RecruitmentProcessApplicant> findApplicantsFirstInternal(Long recruitmentId, RecruitmentProcessStatus status, Pageable pageable);
+
+    @Query("""
+                select new com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplicant(
+                    rp.id, u.id, u.nickname, rp.resume.id, rp.status, rp.createdAt)
+                from RecruitmentProcess rp
+                    join rp.user u
+                where rp.recruitment.id = :recruitmentId
+                and rp.status = :status
+                and rp.id < :cursorId
+                order by rp.id desc
+            """)
+    List<RecruitmentProcessApplicant> findApplicantsAfterInternal(Long recruitmentId, RecruitmentProcessStatus status, Long cursorId, Pageable pageable);
+
+    /**
+     * 사용자의 지원 내역을 최신순 (createdAt, id) 내림차순으로 limit 개 조회한다. cursor 가 있으면 그 다음부터 읽는다.
+     * 채용공고, 팀을 join 해서 한 쿼리로 읽고 recruitment_process(user_id, created_at, id) 인덱스 범위만 훑는다.
+     */
+    default List<RecruitmentProcessApplication> findApplications(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorId == null) {
+            return findApplicationsFirstInternal(userId, Pageable.ofSize(limit));
+        }
+
+        return findApplicationsAfterInternal(userId, cursorCreatedAt, cursorId, Pageable.ofSize(limit));
+    }
+
+    @Query("""
+                select new com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplication(
+                    rp.id, r.id, r.title, t.id, t.name, rp.resume.id, rp.status, rp.createdAt, rp.closedAt)
+                from RecruitmentProcess rp
+                    join rp.recruitment r
+                    join r.team t
+                where rp.user.id = :userId
+                order by rp.createdAt desc, rp.id desc
+            """)
+    List<RecruitmentProcessApplication> findApplicationsFirstInternal(Long userId, Pageable pageable);
+
+    @Query("""
+                select new com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessApplication(
+                    rp.id, r.id, r.title, t.id, t.name, rp.resume.id, rp.status, rp.createdAt, rp.closedAt)
+                from RecruitmentProcess rp
+                    join rp.recruitment r
+                    join r.team t
+                where rp.user.id = :userId
+                and (rp.createdAt < :cursorCreatedAt or (rp.createdAt = :cursorCreatedAt and rp.id < :cursorId))
+                order by rp.createdAt desc, rp.id desc
+            """)
+    List<RecruitmentProcessApplication> findApplicationsAfterInternal(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable);
 }
@@ -0,0 +1,93 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.Duration;
+
+/**
+ * 채용공고별 단계에 머문 시간의 합과 건수. 상태가 바뀔 때 RecruitmentProcessStageDurationRepository.add 로만 갱신한다.
+ * <p>
+ * waiting, inProgress 는 그 상태를 벗어난 채용과정만 센다. hired 는 최종합격한 채용과정의 지원부터 합격까지의 시간이다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecruitmentProcessStageDuration {
+
+    @Id
+    private Long recruitmentId;
+
+    private Long waitingCount = 0L;
+
+    private Long waitingSeconds = 0L;
+
+    private Long inProgressCount = 0L;
+
+    private Long inProgressSeconds = 0L;
+
+    private Long hiredCount = 0L;
+
+    private Long timeToHireSeconds = 0L;
+
+    public Duration averageWaiting() {
+        return average(waitingSeconds, waitingCount);
+    }
+
+    public Duration averageInProgress() {
+        return average(inProgressSeconds, inProgressCount);
+    }
+
+    public Duration averageTimeToHire() {
+        return average(timeToHireSeconds, hiredCount);
+    }
+
+    private static Duration average(long seconds, long count) {
+        return count == 0 ? Duration.ZERO : Duration.ofSeconds(seconds / count);
+    }
+
+    /**
+     * 한 채용공고에서 한 트랜잭션 동안 바뀐 이력을 모은 증감분.
+     */
+    @Getter
+    public static class Delta {
+
+        private final Long recruitmentId;
+
+        private long waitingCount;
+        private long waitingSeconds;
+        private long inProgressCount;
+        private long inProgressSeconds;
+        private long hiredCount;
+        private long timeToHireSeconds;
+
+        public Delta(Long recruitmentId) {
+            this.recruitmentId = recruitmentId;
+        }
+
+        public void add(RecruitmentProcessHistory history) {
+            switch (history.getFromStatus()) {
+                case WAITING -> {
+                    waitingCount++;
+                    waitingSeconds += history.getDurationSeconds();
+                }
+                case IN_PROGRESS -> {
+                    inProgressCount++;
+                    inProgressSeconds += history.getDurationSeconds();
+                }
+                default -> {
+                }
+            }
+
+            if (history.getToStatus() == RecruitmentProcessStatus.PASSED) {
+                hiredCount++;
+                timeToHireSeconds += history.getSinceAppliedSeconds();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RecruitmentProcessStageDurationRepository extends JpaRepository<RecruitmentProcessStageDuration, Long> {
+
+    /**
+     * 증감분을 더한다. 채용공고의 줄이 없으면 만든다.
+     */
+    default void add(RecruitmentProcessStageDuration.Delta delta) {
+        addInternal(delta.getRecruitmentId(),
+                delta.getWaitingCount(), delta.getWaitingSeconds(),
+                delta.getInProgressCount(), delta.getInProgressSeconds(),
+                delta.getHiredCount(), delta.getTimeToHireSeconds());
+    }
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert into recruitment_process_stage_duration
+                    (recruitment_id, waiting_count, waiting_seconds, in_progress_count, in_progress_seconds, hired_count, time_to_hire_seconds)
+                values (:recruitmentId, :waitingCount, :waitingSeconds, :inProgressCount, :inProgressSeconds, :hiredCount, :timeToHireSeconds) as new
+                on duplicate key update waiting_count        = waiting_count + new.waiting_count,
+                                        waiting_seconds      = waiting_seconds + new.waiting_seconds,
+                                        in_progress_count    = in_progress_count + new.in_progress_count,
+                                        in_progress_seconds  = in_progress_seconds + new.in_progress_seconds,
+                                        hired_count          = hired_count + new.hired_count,
+                                        time_to_hire_seconds = time_to_hire_seconds + new.time_to_hire_seconds
+            """)
+    void addInternal(Long recruitmentId, long waitingCount, long waitingSeconds, long inProgressCount, long inProgressSeconds,
+                     long hiredCount, long timeToHireSeconds);
+}
@@ -12,4 +12,8 @@ public enum RecruitmentProcessStatus {
     public static final Set<RecruitmentProcessStatus> CAN_MOVE_CANCELED = unmodifiableSet(EnumSet.of(WAITING, IN_PROGRESS));
 
     public static final Set<RecruitmentProcessStatus> CAN_MOVE_FAILED = unmodifiableSet(EnumSet.of(WAITING, IN_PROGRESS));
+
+    public static final Set<RecruitmentProcessStatus> CAN_CHANGE_BY_LEADER = unmodifiableSet(EnumSet.of(IN_PROGRESS, PASSED, FAILED));
+
+    public static final Set<RecruitmentProcessStatus> OPENED = unmodifiableSet(EnumSet.of(WAITING, IN_PROGRESS));
 }
@@ -0,0 +1,55 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 채용공고별 상태별 지원자 수. 채용과정 생성/상태 변경 시 RecruitmentProcessStatusCountRepository.move 로만 갱신한다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecruitmentProcessStatusCount {
+
+    @Id
+    private Long recruitmentId;
+
+    private Long waiting = 0L;
+
+    private Long inProgress = 0L;
+
+    private Long passed = 0L;
+
+    private Long canceled = 0L;
+
+    private Long failed = 0L;
+
+    public static Map<RecruitmentProcessStatus, Long> empty() {
+        Map<RecruitmentProcessStatus, Long> counts = new EnumMap<>(RecruitmentProcessStatus.class);
+
+        for (RecruitmentProcessStatus status : RecruitmentProcessStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        return counts;
+    }
+
+    public Map<RecruitmentProcessStatus, Long> toMap() {
+        Map<RecruitmentProcessStatus, Long> counts = new EnumMap<>(RecruitmentProcessStatus.class);
+        counts.put(RecruitmentProcessStatus.WAITING, waiting);
+        counts.put(RecruitmentProcessStatus.IN_PROGRESS, inProgress);
+        counts.put(RecruitmentProcessStatus.PASSED, passed);
+        counts.put(RecruitmentProcessStatus.CANCELED, canceled);
+        counts.put(RecruitmentProcessStatus.FAILED, failed);
+
+        return counts;
+    }
+}
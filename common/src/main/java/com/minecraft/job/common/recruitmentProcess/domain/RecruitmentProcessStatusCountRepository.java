@@ -0,0 +1,39 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RecruitmentProcessStatusCountRepository extends JpaRepository<RecruitmentProcessStatusCount, Long> {
+
+    /**
+     * from 상태에서 count 만큼 빼고 to 상태에 더한다.
+     */
+    default void move(Long recruitmentId, RecruitmentProcessStatus from, RecruitmentProcessStatus to, long count) {
+        moveInternal(recruitmentId, from.name(), to.name(), count);
+    }
+
+    /**
+     * 새로 생성된 채용과정.
+     */
+    default void increase(Long recruitmentId, RecruitmentProcessStatus status) {
+        moveInternal(recruitmentId, "", status.name(), 1L);
+    }
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert into recruitment_process_status_count (recruitment_id, waiting, in_progress, passed, canceled, failed)
+                values (:recruitmentId,
+                        if(:to = 'WAITING', :count, 0) - if(:from = 'WAITING', :count, 0),
+                        if(:to = 'IN_PROGRESS', :count, 0) - if(:from = 'IN_PROGRESS', :count, 0),
+                        if(:to = 'PASSED', :count, 0) - if(:from = 'PASSED', :count, 0),
+                        if(:to = 'CANCELED', :count, 0) - if(:from = 'CANCELED', :count, 0),
+                        if(:to = 'FAILED', :count, 0) - if(:from = 'FAILED', :count, 0)) as new
+                on duplicate key update waiting     = waiting + new.waiting,
+                                        in_progress = in_progress + new.in_progress,
+                                        passed      = passed + new.passed,
+                                        canceled    = canceled + new.canceled,
+                                        failed      = failed + new.failed
+            """)
+    void moveInternal(Long recruitmentId, String from, String to, long count);
+}
@@ -0,0 +1,44 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import java.util.List;
+
+/**
+ * 채용과정이 생성되거나 상태가 바뀐 사실. 집계처럼 채용과정마다 다른 알림 문구가 필요 없는 리스너를 위한 이벤트.
+ * 생성은 fromStatus 가 null 이다. 한 트랜잭션에서 바뀐 채용과정을 한 이벤트로 묶는다.
+ */
+public record RecruitmentProcessTransitionEvent(
+        List<Item> items
+) {
+
+    public record Item(
+            Long recruitmentProcessId,
+            Long recruitmentId,
+            Long teamId,
+            RecruitmentProcessStatus fromStatus,
+            RecruitmentProcessStatus toStatus,
+            long sinceAppliedSeconds
+    ) {
+
+        public static Item create(RecruitmentProcess recruitmentProcess) {
+            return new Item(
+                    recruitmentProcess.getId(),
+                    recruitmentProcess.getRecruitment().getId(),
+                    recruitmentProcess.getRecruitment().getTeamId(),
+                    null,
+                    recruitmentProcess.getStatus(),
+                    0L
+            );
+        }
+
+        public static Item create(RecruitmentProcessHistory history, Long teamId) {
+            return new Item(
+                    history.getRecruitmentProcessId(),
+                    history.getRecruitmentId(),
+                    teamId,
+                    history.getFromStatus(),
+                    history.getToStatus(),
+                    history.getSinceAppliedSeconds()
+            );
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+/**
+ * 여러 채용과정의 상태를 한 번에 바꿀 때 채용과정마다의 결과. 성공하면 failure 는 null 이다.
+ */
+public record RecruitmentProcessTransitionResult(
+        Long recruitmentProcessId,
+        Failure failure
+) {
+
+    public enum Failure {
+        NOT_FOUND,
+        NOT_TEAM_RECRUITMENT,
+        INVALID_STATUS
+    }
+
+    public static RecruitmentProcessTransitionResult success(Long recruitmentProcessId) {
+        return new RecruitmentProcessTransitionResult(recruitmentProcessId, null);
+    }
+
+    public static RecruitmentProcessTransitionResult fail(Long recruitmentProcessId, Failure failure) {
+        return new RecruitmentProcessTransitionResult(recruitmentProcessId, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * 사용자 id 집합. id 를 상위 48비트 구간으로 나누고 구간마다 하위 16비트만 담는다.
+ * 구간에 값이 ARRAY_LIMIT 개 이하면 정렬된 char 배열(값 하나에 2바이트), 넘으면 65536 비트 bitmap(8KB)으로 바꾼다.
+ * 읽기와 쓰기가 섞여 들어오므로 메서드마다 잠근다. 집합 하나에 대한 잠금이라 경합은 같은 채용공고끼리만 생긴다.
+ */
+public class UserIdBitmap {
+
+    static final int ARRAY_LIMIT = 4096;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+    private int size;
+
+    public static UserIdBitmap of(Iterable<Long> userIds) {
+        UserIdBitmap bitmap = new UserIdBitmap();
+
+        for (Long userId : userIds) {
+            bitmap.add(userId);
+        }
+
+        return bitmap;
+    }
+
+    public synchronized boolean add(long userId) {
+        require(userId >= 0);
+
+        Container container = containers.computeIfAbsent(userId >>> 16, key -> new ArrayContainer());
+
+        if (!container.add((char) userId)) {
+            return false;
+        }
+
+        if (container instanceof ArrayContainer array && array.size > ARRAY_LIMIT) {
+            containers.put(userId >>> 16, array.toBitmap());
+        }
+
+        size++;
+
+        return true;
+    }
+
+    public synchronized boolean contains(long userId) {
+        Container container = containers.get(userId >>> 16);
+
+        return container != null && container.contains((char) userId);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private interface Container {
+
+        boolean add(char value);
+
+        boolean contains(char value);
+    }
+
+    private static class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+
+            if (index >= 0) {
+                return false;
+            }
+
+            int insertAt = -index - 1;
+
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+
+            return bitmap;
+        }
+    }
+
+    private static class BitmapContainer implements Container {
+
+        private final long[] words = new long[1 << 10];
+
+        @Override
+        public boolean add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+
+            return before != words[value >>> 6];
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+    }
+}
@@ -5,40 +5,79 @@ import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
 import com.minecraft.job.common.recruitmentProcess.domain.*;
 import com.minecraft.job.common.resume.domain.Resume;
 import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.support.MinecraftJobException;
+import com.minecraft.job.common.support.RetryOnConflict;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.CAN_CHANGE_BY_LEADER;
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult.Failure.*;
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess.UNIQUE_RECRUITMENT_USER;
+import static com.minecraft.job.common.support.ErrorCode.ALREADY_APPLIED_RECRUITMENT;
 import static com.minecraft.job.common.support.Preconditions.require;
+import static com.minecraft.job.common.support.Preconditions.validate;
 
 @Service
 @Transactional
+@RetryOnConflict
 @RequiredArgsConstructor
 public class DomainRecruitmentProcessService implements RecruitmentProcessService {
 
+    public static final int MAX_BULK_SIZE = 500;
+
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final ResumeRepository resumeRepository;
     private final RecruitmentRepository recruitmentRepository;
     private final RecruitmentProcessRepository recruitmentProcessRepository;
+    private final RecruitmentProcessStatusCountRepository recruitmentProcessStatusCountRepository;
+    private final RecruitmentProcessHistoryRepository recruitmentProcessHistoryRepository;
+    private final RecruitmentProcessStageDurationRepository recruitmentProcessStageDurationRepository;
+    private final RecruitmentApplicantIndex recruitmentApplicantIndex;
     private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 이미 지원했는지는 먼저 메모리에서 확인하고, 놓친 중복은 uq_recruitment_user 제약에서 같은 에러로 바꾼다.
+     */
     @Override
     public RecruitmentProcess create(Long recruitmentId, Long userId, Long resumeId) {
+        validate(!recruitmentApplicantIndex.hasApplied(recruitmentId, userId), ALREADY_APPLIED_RECRUITMENT);
+
         User user = userRepository.findById(userId).orElseThrow();
-        Recruitment recruitment = recruitmentRepository.findById(recruitmentId).orElseThrow();
+        Recruitment recruitment = recruitmentRepository.findWithTeamAndLeaderById(recruitmentId).orElseThrow();
         Resume resume = resumeRepository.findById(resumeId).orElseThrow();
 
         RecruitmentProcess recruitmentProcess = RecruitmentProcess.create(recruitment, user, resume);
 
-        recruitmentProcess = recruitmentProcessRepository.save(recruitmentProcess);
+        try {
+            recruitmentProcess = recruitmentProcessRepository.save(recruitmentProcess);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateApplication(ex)) {
+                throw new MinecraftJobException(ALREADY_APPLIED_RECRUITMENT, ex);
+            }
 
-        eventPublisher.publishEvent(new RecruitmentProcessCreateEvent(recruitmentProcess.getId()));
+            throw ex;
+        }
+
+        recruitmentProcessStatusCountRepository.increase(recruitmentId, recruitmentProcess.getStatus());
+
+        eventPublisher.publishEvent(RecruitmentProcessCreateEvent.create(recruitmentProcess));
+        eventPublisher.publishEvent(new RecruitmentProcessTransitionEvent(List.of(RecruitmentProcessTransitionEvent.Item.create(recruitmentProcess))));
 
         return recruitmentProcess;
     }
@@ -47,57 +86,176 @@ public class DomainRecruitmentProcessService implements RecruitmentProcessServic
     public void inProgress(Long recruitmentProcessId, Long teamId, Long leaderId) {
         Team team = teamRepository.findById(teamId).orElseThrow();
         User leader = userRepository.findById(leaderId).orElseThrow();
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(recruitmentProcessId).orElseThrow();
+        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findWithRecruitmentAndUserById(recruitmentProcessId).orElseThrow();
         Recruitment recruitment = recruitmentProcess.getRecruitment();
 
         require(recruitment.ofTeam(team));
         require(team.ofUser(leader));
 
+        RecruitmentProcessStatus before = recruitmentProcess.getStatus();
+        LocalDateTime enteredAt = recruitmentProcess.getStatusChangedAt();
+
         recruitmentProcess.inProgress();
 
-        eventPublisher.publishEvent(new RecruitmentProcessInProgressEvent(recruitmentProcess.getId()));
+        record(List.of(RecruitmentProcessHistory.create(recruitmentProcess, before, enteredAt)), teamId);
+
+        eventPublisher.publishEvent(RecruitmentProcessInProgressEvent.create(recruitmentProcess));
     }
 
     @Override
     public void pass(Long recruitmentProcessId, Long teamId, Long leaderId) {
         Team team = teamRepository.findById(teamId).orElseThrow();
         User leader = userRepository.findById(leaderId).orElseThrow();
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(recruitmentProcessId).orElseThrow();
+        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findWithRecruitmentAndUserById(recruitmentProcessId).orElseThrow();
         Recruitment recruitment = recruitmentProcess.getRecruitment();
 
         require(recruitment.ofTeam(team));
         require(team.ofUser(leader));
 
+        RecruitmentProcessStatus before = recruitmentProcess.getStatus();
+        LocalDateTime enteredAt = recruitmentProcess.getStatusChangedAt();
+
         recruitmentProcess.pass();
 
-        eventPublisher.publishEvent(new RecruitmentProcessPassEvent(recruitmentProcess.getId()));
+        record(List.of(RecruitmentProcessHistory.create(recruitmentProcess, before, enteredAt)), teamId);
+
+        eventPublisher.publishEvent(RecruitmentProcessPassEvent.create(recruitmentProcess));
     }
 
     @Override
     public void cancel(Long recruitmentProcessId, Long teamId, Long userId) {
         User user = userRepository.findById(userId).orElseThrow();
         Team team = teamRepository.findById(teamId).orElseThrow();
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(recruitmentProcessId).orElseThrow();
+        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findWithRecruitmentAndUserById(recruitmentProcessId).orElseThrow();
         Recruitment recruitment = recruitmentProcess.getRecruitment();
 
         require(recruitment.ofTeam(team));
         require(recruitmentProcess.ofUser(user));
 
+        RecruitmentProcessStatus before = recruitmentProcess.getStatus();
+        LocalDateTime enteredAt = recruitmentProcess.getStatusChangedAt();
+
         recruitmentProcess.cancel();
+
+        record(List.of(RecruitmentProcessHistory.create(recruitmentProcess, before, enteredAt)), teamId);
+
+        eventPublisher.publishEvent(RecruitmentProcessCancelEvent.create(recruitmentProcess));
     }
 
     @Override
     public void fail(Long recruitmentProcessId, Long teamId, Long leaderId) {
         Team team = teamRepository.findById(teamId).orElseThrow();
         User leader = userRepository.findById(leaderId).orElseThrow();
-        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findById(recruitmentProcessId).orElseThrow();
+        RecruitmentProcess recruitmentProcess = recruitmentProcessRepository.findWithRecruitmentAndUserById(recruitmentProcessId).orElseThrow();
         Recruitment recruitment = recruitmentProcess.getRecruitment();
 
         require(recruitment.ofTeam(team));
         require(team.ofUser(leader));
 
+        RecruitmentProcessStatus before = recruitmentProcess.getStatus();
+        LocalDateTime enteredAt = recruitmentProcess.getStatusChangedAt();
+
         recruitmentProcess.fail();
 
-        eventPublisher.publishEvent(new RecruitmentProcessFailEvent(recruitmentProcess.getId()));
+        record(List.of(RecruitmentProcessHistory.create(recruitmentProcess, before, enteredAt)), teamId);
+
+        eventPublisher.publishEvent(RecruitmentProcessFailEvent.create(recruitmentProcess));
+    }
+
+    /**
+     * 팀장 확인은 한 번, 채용과정은 한 쿼리로 읽어서 메모리에서 바꾸고 커밋할 때 update 를 JDBC 배치로 보낸다.
+     * 이력은 한 문장으로 쌓고, 상태별 지원자 수와 단계별 소요 시간은 채용공고마다 한 번씩 갱신한다.
+     * 채용과정마다 성공/실패를 돌려주고, 바뀐 채용과정은 이벤트 하나로 묶어서 발행한다.
+     */
+    @Override
+    public List<RecruitmentProcessTransitionResult> changeStatus(List<Long> recruitmentProcessIds, Long teamId, Long leaderId, RecruitmentProcessStatus status) {
+        require(CAN_CHANGE_BY_LEADER.contains(status));
+        require(!recruitmentProcessIds.isEmpty());
+        require(recruitmentProcessIds.size() <= MAX_BULK_SIZE);
+
+        Team team = teamRepository.findById(teamId).orElseThrow();
+        User leader = userRepository.findById(leaderId).orElseThrow();
+
+        require(team.ofUser(leader));
+
+        List<Long> ids = recruitmentProcessIds.stream().distinct().toList();
+
+        Map<Long, RecruitmentProcess> recruitmentProcesses = recruitmentProcessRepository.findAllWithRecruitmentAndUser(ids).stream()
+                .collect(Collectors.toMap(RecruitmentProcess::getId, Function.identity()));
+
+        List<RecruitmentProcessTransitionResult> results = new ArrayList<>(ids.size());
+        List<RecruitmentProcessBulkEvent.Item> items = new ArrayList<>();
+        List<RecruitmentProcessHistory> histories = new ArrayList<>();
+
+        for (Long id : ids) {
+            RecruitmentProcess recruitmentProcess = recruitmentProcesses.get(id);
+
+            if (recruitmentProcess == null) {
+                results.add(RecruitmentProcessTransitionResult.fail(id, NOT_FOUND));
+                continue;
+            }
+
+            if (!recruitmentProcess.getRecruitment().ofTeam(team)) {
+                results.add(RecruitmentProcessTransitionResult.fail(id, NOT_TEAM_RECRUITMENT));
+                continue;
+            }
+
+            RecruitmentProcessStatus before = recruitmentProcess.getStatus();
+            LocalDateTime enteredAt = recruitmentProcess.getStatusChangedAt();
+
+            try {
+                recruitmentProcess.changeStatus(status);
+            } catch (IllegalStateException ex) {
+                results.add(RecruitmentProcessTransitionResult.fail(id, INVALID_STATUS));
+                continue;
+            }
+
+            histories.add(RecruitmentProcessHistory.create(recruitmentProcess, before, enteredAt));
+
+            results.add(RecruitmentProcessTransitionResult.success(id));
+            items.add(RecruitmentProcessBulkEvent.Item.create(recruitmentProcess));
+        }
+
+        record(histories, teamId);
+
+        if (!items.isEmpty()) {
+            eventPublisher.publishEvent(new RecruitmentProcessBulkEvent(status, items));
+        }
+
+        return results;
+    }
+
+    /**
+     * 이력을 쌓고, 상태별 지원자 수는 (채용공고, 이전 상태, 다음 상태) 마다, 단계별 소요 시간은 채용공고마다 한 번씩 갱신한다.
+     * 모든 이력은 teamId 팀의 채용공고 것이어야 한다.
+     */
+    private void record(List<RecruitmentProcessHistory> histories, Long teamId) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        recruitmentProcessHistoryRepository.insertAll(histories);
+
+        Map<Move, Long> moved = new HashMap<>();
+        Map<Long, RecruitmentProcessStageDuration.Delta> durations = new HashMap<>();
+
+        for (RecruitmentProcessHistory history : histories) {
+            moved.merge(new Move(history.getRecruitmentId(), history.getFromStatus(), history.getToStatus()), 1L, Long::sum);
+            durations.computeIfAbsent(history.getRecruitmentId(), RecruitmentProcessStageDuration.Delta::new).add(history);
+        }
+
+        moved.forEach((move, count) -> recruitmentProcessStatusCountRepository.move(move.recruitmentId(), move.from(), move.to(), count));
+        durations.values().forEach(recruitmentProcessStageDurationRepository::add);
+
+        eventPublisher.publishEvent(new RecruitmentProcessTransitionEvent(
+                histories.stream().map(history -> RecruitmentProcessTransitionEvent.Item.create(history, teamId)).toList()));
+    }
+
+    private static boolean isDuplicateApplication(DataIntegrityViolationException ex) {
+        return ex.getMostSpecificCause().getMessage() != null
+                && ex.getMostSpecificCause().getMessage().contains(UNIQUE_RECRUITMENT_USER);
+    }
+
+    private record Move(Long recruitmentId, RecruitmentProcessStatus from, RecruitmentProcessStatus to) {
     }
 }
@@ -0,0 +1,57 @@
+package com.minecraft.job.common.recruitmentProcess.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessCreateEvent;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.UserIdBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 채용공고별 지원한 사용자 id 집합. 처음 묻는 채용공고만 한 번 읽어 두고, 커밋된 지원은 생성 이벤트로 더한다.
+ * <p>
+ * 지원을 취소해도 채용과정은 남아 다시 지원할 수 없으므로 빼는 일은 없다. 그래서 있다고 답하면 항상 맞다.
+ * 다른 인스턴스에서 들어온 지원이나 읽는 도중 커밋된 지원은 빠질 수 있고, 그때는 uq_recruitment_user 제약이 막는다.
+ */
+@Component
+public class RecruitmentApplicantIndex {
+
+    private final RecruitmentProcessRepository recruitmentProcessRepository;
+    private final Cache<Long, UserIdBitmap> applicants;
+
+    public RecruitmentApplicantIndex(
+            RecruitmentProcessRepository recruitmentProcessRepository,
+            @Value("${recruitment-process.applicant-index.maximum-size:10000}") long maximumSize,
+            @Value("${recruitment-process.applicant-index.expire-after-access-millis:600000}") long expireAfterAccessMillis
+    ) {
+        this.recruitmentProcessRepository = recruitmentProcessRepository;
+        this.applicants = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .build();
+    }
+
+    public boolean hasApplied(Long recruitmentId, Long userId) {
+        return applicants.get(recruitmentId, this::load).contains(userId);
+    }
+
+    /**
+     * 읽고 있는 채용공고면 읽기가 끝난 뒤에 더한다. 아직 읽지 않은 채용공고는 나중에 읽을 때 포함된다.
+     */
+    @TransactionalEventListener
+    public void onCreateRecruitmentProcessListener(RecruitmentProcessCreateEvent event) {
+        applicants.asMap().computeIfPresent(event.recruitmentId(), (recruitmentId, bitmap) -> {
+            bitmap.add(event.userId());
+
+            return bitmap;
+        });
+    }
+
+    private UserIdBitmap load(Long recruitmentId) {
+        return UserIdBitmap.of(recruitmentProcessRepository.findAllUserIdByRecruitmentId(recruitmentId));
+    }
+}
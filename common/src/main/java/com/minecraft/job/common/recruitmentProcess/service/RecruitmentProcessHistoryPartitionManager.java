@@ -0,0 +1,91 @@
+package com.minecraft.job.common.recruitmentProcess.service;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistoryPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistoryPartitionRepository.MAX_PARTITION;
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * 채용과정 이력의 월별 파티션을 미리 만들고, 보관 기간이 지난 파티션을 지운다.
+ * 파티션을 지우는 건 delete 와 달리 행 수와 상관없이 메타데이터만 바뀐다.
+ * 여러 번 돌아도 결과가 같다.
+ * <p>
+ * DDL 이므로 recruitment-process.history.partition.enabled 를 켠 admin 에서만 돌고,
+ * admin 이 여러 대여도 DB 의 이름 있는 lock 을 잡은 한 대만 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "recruitment-process.history.partition.enabled", havingValue = "true")
+public class RecruitmentProcessHistoryPartitionManager {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final RecruitmentProcessHistoryPartitionRepository recruitmentProcessHistoryPartitionRepository;
+    private final int aheadMonths;
+    private final int retentionMonths;
+
+    public RecruitmentProcessHistoryPartitionManager(
+            RecruitmentProcessHistoryPartitionRepository recruitmentProcessHistoryPartitionRepository,
+            @Value("${recruitment-process.history.partition-ahead-months:3}") int aheadMonths,
+            @Value("${recruitment-process.history.retention-months:24}") int retentionMonths
+    ) {
+        require(aheadMonths > 0);
+        require(retentionMonths > 0);
+
+        this.recruitmentProcessHistoryPartitionRepository = recruitmentProcessHistoryPartitionRepository;
+        this.aheadMonths = aheadMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${recruitment-process.history.partition-cron:0 0 3 * * *}")
+    public void maintain() {
+        maintain(YearMonth.now());
+    }
+
+    public void maintain(YearMonth now) {
+        if (!recruitmentProcessHistoryPartitionRepository.runWithLock(() -> maintainLocked(now))) {
+            log.info("recruitment_process_history partitions are maintained by another node.");
+        }
+    }
+
+    private void maintainLocked(YearMonth now) {
+        List<String> partitionNames = recruitmentProcessHistoryPartitionRepository.findAllPartitionName();
+
+        if (!partitionNames.contains(MAX_PARTITION)) {
+            log.warn("recruitment_process_history is not partitioned. partitions={}", partitionNames);
+            return;
+        }
+
+        for (int i = 0; i <= aheadMonths; i++) {
+            YearMonth month = now.plusMonths(i);
+            String partitionName = month.format(PARTITION_NAME);
+
+            if (!partitionNames.contains(partitionName)) {
+                recruitmentProcessHistoryPartitionRepository.split(partitionName, month.plusMonths(1).atDay(1));
+
+                log.info("recruitment_process_history partition added. partition={}", partitionName);
+            }
+        }
+
+        YearMonth oldest = now.minusMonths(retentionMonths);
+
+        for (String partitionName : partitionNames) {
+            if (partitionName.equals(MAX_PARTITION) || !YearMonth.parse(partitionName, PARTITION_NAME).isBefore(oldest)) {
+                continue;
+            }
+
+            recruitmentProcessHistoryPartitionRepository.drop(partitionName);
+
+            log.info("recruitment_process_history partition dropped. partition={}", partitionName);
+        }
+    }
+}
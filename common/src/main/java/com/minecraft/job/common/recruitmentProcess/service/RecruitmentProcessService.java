@@ -1,6 +1,10 @@
 package com.minecraft.job.common.recruitmentProcess.service;
 
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult;
+
+import java.util.List;
 
 public interface RecruitmentProcessService {
 
@@ -13,4 +17,6 @@ public interface RecruitmentProcessService {
     void cancel(Long recruitmentProcessId, Long teamId, Long userId);
 
     void fail(Long recruitmentProcessId, Long teamId, Long leaderId);
+
+    List<RecruitmentProcessTransitionResult> changeStatus(List<Long> recruitmentProcessIds, Long teamId, Long leaderId, RecruitmentProcessStatus status);
 }
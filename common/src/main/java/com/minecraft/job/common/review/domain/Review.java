@@ -21,6 +21,8 @@ import static com.minecraft.job.common.support.Preconditions.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(uniqueConstraints = {
         @UniqueConstraint(name = "uq_user_team", columnNames = {"user_id", "team_id"})
+}, indexes = {
+        @Index(name = "idx_review_team_status_created_at", columnList = "team_id, status, created_at, id")
 })
 public class Review {
 
@@ -1,6 +1,25 @@
 package com.minecraft.job.common.review.domain;
 
+/**
+ * 팀 평점은 담지 않는다. 평점을 언제 반영할지는 이벤트를 받는 쪽(app)이 정하므로, 필요하면 반영한 뒤에 읽는다.
+ */
 public record ReviewCreateEvent(
-        Long reviewId
+        Long reviewId,
+        Long teamId,
+        String leaderEmail,
+        String teamName,
+        String userNickname,
+        Long score
 ) {
+
+    public static ReviewCreateEvent create(Review review) {
+        return new ReviewCreateEvent(
+                review.getId(),
+                review.getTeam().getId(),
+                review.getTeamOfLeaderEmail(),
+                review.getTeamName(),
+                review.getUserNickname(),
+                review.getScore()
+        );
+    }
 }
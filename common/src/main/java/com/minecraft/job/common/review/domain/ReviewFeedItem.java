@@ -0,0 +1,12 @@
+package com.minecraft.job.common.review.domain;
+
+import java.time.LocalDateTime;
+
+public record ReviewFeedItem(
+        Long id,
+        String content,
+        Long score,
+        String userNickname,
+        LocalDateTime createdAt
+) {
+}
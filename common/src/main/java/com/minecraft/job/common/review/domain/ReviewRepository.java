@@ -1,9 +1,11 @@
 package com.minecraft.job.common.review.domain;
 
 import com.minecraft.job.common.team.domain.Team;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.minecraft.job.common.review.domain.ReviewStatus.ACTIVATED;
@@ -22,4 +24,50 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
                 and r.status = :status
             """)
     List<Review> findAllActivatedInternal(Team team, ReviewStatus status);
+
+    default ReviewScoreSummary summarizeActivated(Long teamId) {
+        return summarizeInternal(teamId, ACTIVATED);
+    }
+
+    @Query("""
+                select count(r) as reviewCount, coalesce(sum(r.score), 0) as scoreSum
+                from Review r
+                where r.team.id = :teamId
+                and r.status = :status
+            """)
+    ReviewScoreSummary summarizeInternal(Long teamId, ReviewStatus status);
+
+    /**
+     * 최신순 (createdAt, id) 내림차순. cursor 가 없으면 첫 페이지, 있으면 cursor 다음 리뷰부터 limit 개를 조회한다.
+     * 엔티티를 만들지 않고 review(team_id, status, created_at, id) 인덱스 범위만 읽는다.
+     */
+    default List<ReviewFeedItem> findFeed(Long teamId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return findFeedFirstInternal(teamId, ACTIVATED, Pageable.ofSize(limit));
+        }
+
+        return findFeedAfterInternal(teamId, ACTIVATED, cursorCreatedAt, cursorId, Pageable.ofSize(limit));
+    }
+
+    @Query("""
+                select new com.minecraft.job.common.review.domain.ReviewFeedItem(r.id, r.content, r.score, u.nickname, r.createdAt)
+                from Review r
+                    join r.user u
+                where r.team.id = :teamId
+                and r.status = :status
+                order by r.createdAt desc, r.id desc
+            """)
+    List<ReviewFeedItem> findFeedFirstInternal(Long teamId, ReviewStatus status, Pageable pageable);
+
+    @Query("""
+                select new com.minecraft.job.common.review.domain.ReviewFeedItem(r.id, r.content, r.score, u.nickname, r.createdAt)
+                from Review r
+                    join r.user u
+                where r.team.id = :teamId
+                and r.status = :status
+                and r.createdAt <= :cursorCreatedAt
+                and (r.createdAt < :cursorCreatedAt or r.id < :cursorId)
+                order by r.createdAt desc, r.id desc
+            """)
+    List<ReviewFeedItem> findFeedAfterInternal(Long teamId, ReviewStatus status, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable);
 }
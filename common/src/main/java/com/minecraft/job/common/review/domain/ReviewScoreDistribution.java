@@ -0,0 +1,39 @@
+package com.minecraft.job.common.review.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.util.List;
+
+/**
+ * 팀별 점수 분포. 리뷰 생성/수정/활성화/비활성화 시 ReviewScoreDistributionRepository.increase 로만 갱신한다.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewScoreDistribution {
+
+    @Id
+    private Long teamId;
+
+    private Long score0 = 0L;
+
+    private Long score1 = 0L;
+
+    private Long score2 = 0L;
+
+    private Long score3 = 0L;
+
+    private Long score4 = 0L;
+
+    private Long score5 = 0L;
+
+    public ReviewScoreHistogram toHistogram() {
+        return new ReviewScoreHistogram(List.of(score0, score1, score2, score3, score4, score5));
+    }
+}
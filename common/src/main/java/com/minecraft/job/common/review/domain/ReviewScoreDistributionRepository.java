@@ -0,0 +1,73 @@
+package com.minecraft.job.common.review.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ReviewScoreDistributionRepository extends JpaRepository<ReviewScoreDistribution, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert into review_score_distribution (team_id, score0, score1, score2, score3, score4, score5)
+                values (:teamId,
+                        if(:score = 0, :delta, 0), if(:score = 1, :delta, 0), if(:score = 2, :delta, 0),
+                        if(:score = 3, :delta, 0), if(:score = 4, :delta, 0), if(:score = 5, :delta, 0)) as new
+                on duplicate key update score0 = score0 + new.score0,
+                                        score1 = score1 + new.score1,
+                                        score2 = score2 + new.score2,
+                                        score3 = score3 + new.score3,
+                                        score4 = score4 + new.score4,
+                                        score5 = score5 + new.score5
+            """)
+    void increase(Long teamId, Long score, Long delta);
+
+    @Query(nativeQuery = true, value = """
+                select a.team_id
+                from (select t.id                          as team_id,
+                             coalesce(sum(r.score = 0), 0) as score0,
+                             coalesce(sum(r.score = 1), 0) as score1,
+                             coalesce(sum(r.score = 2), 0) as score2,
+                             coalesce(sum(r.score = 3), 0) as score3,
+                             coalesce(sum(r.score = 4), 0) as score4,
+                             coalesce(sum(r.score = 5), 0) as score5
+                      from team t
+                          left join review r on r.team_id = t.id and r.status = 'ACTIVATED'
+                      group by t.id) as a
+                    left join review_score_distribution d on d.team_id = a.team_id
+                where coalesce(d.score0, 0) <> a.score0
+                   or coalesce(d.score1, 0) <> a.score1
+                   or coalesce(d.score2, 0) <> a.score2
+                   or coalesce(d.score3, 0) <> a.score3
+                   or coalesce(d.score4, 0) <> a.score4
+                   or coalesce(d.score5, 0) <> a.score5
+            """)
+    List<Long> findAllDriftedTeamId();
+
+    /**
+     * insert ... select 에는 row alias 를 쓸 수 없으므로 집계를 derived table 로 감싸 그 컬럼을 참조한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+                insert into review_score_distribution (team_id, score0, score1, score2, score3, score4, score5)
+                select *
+                from (select t.id                          as actual_team_id,
+                             coalesce(sum(r.score = 0), 0) as actual_score0,
+                             coalesce(sum(r.score = 1), 0) as actual_score1,
+                             coalesce(sum(r.score = 2), 0) as actual_score2,
+                             coalesce(sum(r.score = 3), 0) as actual_score3,
+                             coalesce(sum(r.score = 4), 0) as actual_score4,
+                             coalesce(sum(r.score = 5), 0) as actual_score5
+                      from team t
+                          left join review r on r.team_id = t.id and r.status = 'ACTIVATED'
+                      group by t.id) as a
+                on duplicate key update score0 = actual_score0,
+                                        score1 = actual_score1,
+                                        score2 = actual_score2,
+                                        score3 = actual_score3,
+                                        score4 = actual_score4,
+                                        score5 = actual_score5
+            """)
+    int rebuild();
+}
@@ -0,0 +1,56 @@
+package com.minecraft.job.common.review.domain;
+
+import java.util.List;
+
+import static com.minecraft.job.common.review.domain.Review.MAX_SCORE;
+import static com.minecraft.job.common.review.domain.Review.MIN_SCORE;
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * 점수별 리뷰 수. counts 의 i 번째 값은 (MIN_SCORE + i) 점 리뷰 수이다.
+ * 백분위는 nearest-rank 방식이라 항상 실제 점수 중 하나를 반환한다.
+ */
+public record ReviewScoreHistogram(
+        List<Long> counts
+) {
+
+    public ReviewScoreHistogram {
+        require(counts.size() == MAX_SCORE - MIN_SCORE + 1);
+    }
+
+    public static ReviewScoreHistogram empty() {
+        return new ReviewScoreHistogram(List.of(0L, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    public long total() {
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    public Long median() {
+        return percentile(50);
+    }
+
+    public Long percentile(double percentile) {
+        require(0 < percentile);
+        require(percentile <= 100);
+
+        long total = total();
+
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100 * total);
+
+        long cumulative = 0;
+        for (int i = 0; i < counts.size(); i++) {
+            cumulative += counts.get(i);
+
+            if (cumulative >= rank) {
+                return MIN_SCORE + i;
+            }
+        }
+
+        return MAX_SCORE;
+    }
+}
@@ -0,0 +1,8 @@
+package com.minecraft.job.common.review.domain;
+
+public interface ReviewScoreSummary {
+
+    Long getReviewCount();
+
+    Long getScoreSum();
+}
@@ -3,6 +3,9 @@ package com.minecraft.job.common.review.service;
 import com.minecraft.job.common.review.domain.Review;
 import com.minecraft.job.common.review.domain.ReviewCreateEvent;
 import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.review.domain.ReviewScoreDistribution;
+import com.minecraft.job.common.review.domain.ReviewScoreDistributionRepository;
+import com.minecraft.job.common.review.domain.ReviewScoreHistogram;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
 import com.minecraft.job.common.user.domain.User;
@@ -21,6 +24,7 @@ import static com.minecraft.job.common.support.Preconditions.require;
 public class DomainReviewService implements ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ReviewScoreDistributionRepository reviewScoreDistributionRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final ApplicationEventPublisher eventPublisher;
@@ -28,13 +32,15 @@ public class DomainReviewService implements ReviewService {
     @Override
     public Review create(Long userId, Long teamId, String content, Long score) {
         User user = userRepository.findById(userId).orElseThrow();
-        Team team = teamRepository.findById(teamId).orElseThrow();
+        Team team = teamRepository.findWithLeaderById(teamId).orElseThrow();
 
         Review review = Review.create(content, score, user, team);
 
         review = reviewRepository.save(review);
 
-        eventPublisher.publishEvent(new ReviewCreateEvent(review.getId()));
+        reviewScoreDistributionRepository.increase(teamId, score, 1L);
+
+        eventPublisher.publishEvent(ReviewCreateEvent.create(review));
 
         return review;
     }
@@ -48,7 +54,14 @@ public class DomainReviewService implements ReviewService {
         require(review.ofUser(user));
         require(review.ofTeam(team));
 
+        Long beforeScore = review.getScore();
+
         review.update(content, score);
+
+        if (!beforeScore.equals(score)) {
+            reviewScoreDistributionRepository.increase(teamId, beforeScore, -1L);
+            reviewScoreDistributionRepository.increase(teamId, score, 1L);
+        }
     }
 
     @Override
@@ -56,6 +69,8 @@ public class DomainReviewService implements ReviewService {
         Review review = reviewRepository.findById(reviewId).orElseThrow();
 
         review.activate();
+
+        reviewScoreDistributionRepository.increase(review.getTeam().getId(), review.getScore(), 1L);
     }
 
     @Override
@@ -63,5 +78,14 @@ public class DomainReviewService implements ReviewService {
         Review review = reviewRepository.findById(reviewId).orElseThrow();
 
         review.inactivate();
+
+        reviewScoreDistributionRepository.increase(review.getTeam().getId(), review.getScore(), -1L);
+    }
+
+    @Override
+    public ReviewScoreHistogram getScoreHistogram(Long teamId) {
+        return reviewScoreDistributionRepository.findById(teamId)
+                .map(ReviewScoreDistribution::toHistogram)
+                .orElseGet(ReviewScoreHistogram::empty);
     }
 }
@@ -0,0 +1,59 @@
+package com.minecraft.job.common.review.service;
+
+import com.minecraft.job.common.review.domain.ReviewScoreDistributionRepository;
+import com.minecraft.job.common.support.NamedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 팀별 점수 분포는 리뷰 생성/수정/활성화/비활성화 시 증감분으로만 갱신된다.
+ * review 테이블을 한 번의 GROUP BY 로 다시 집계해 어긋난 팀을 보고하고 분포를 재구성한다.
+ * <p>
+ * review 전체를 훑으므로 review.score-distribution.check.enabled 를 켠 노드에서만 돌고,
+ * 그중에서도 DB 의 이름 있는 lock 을 잡은 한 대만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "review.score-distribution.check.enabled", havingValue = "true")
+public class ReviewScoreDistributionChecker {
+
+    private static final String LOCK_NAME = "review_score_distribution_check";
+
+    private final ReviewScoreDistributionRepository reviewScoreDistributionRepository;
+    private final NamedLock namedLock;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @return 어긋났던 팀 id. 다른 노드가 돌고 있으면 빈 목록
+     */
+    @Scheduled(cron = "${review.score-distribution.check-cron:0 30 4 * * *}")
+    public List<Long> check() {
+        return namedLock.callWithLock(LOCK_NAME, () -> transactionTemplate.execute(status -> checkLocked()))
+                .orElseGet(() -> {
+                    log.info("review score distribution is checked by another node.");
+
+                    return List.of();
+                });
+    }
+
+    private List<Long> checkLocked() {
+        List<Long> driftedTeamIds = reviewScoreDistributionRepository.findAllDriftedTeamId();
+
+        if (driftedTeamIds.isEmpty()) {
+            return driftedTeamIds;
+        }
+
+        int rebuilt = reviewScoreDistributionRepository.rebuild();
+
+        log.warn("review score distribution rebuilt. driftedTeamIds={}, rebuilt={}", driftedTeamIds, rebuilt);
+
+        return driftedTeamIds;
+    }
+}
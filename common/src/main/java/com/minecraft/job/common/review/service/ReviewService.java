@@ -1,6 +1,7 @@
 package com.minecraft.job.common.review.service;
 
 import com.minecraft.job.common.review.domain.Review;
+import com.minecraft.job.common.review.domain.ReviewScoreHistogram;
 
 public interface ReviewService {
 
@@ -11,4 +12,6 @@ public interface ReviewService {
     void active(Long reviewId);
 
     void inactive(Long reviewId);
+
+    ReviewScoreHistogram getScoreHistogram(Long teamId);
 }
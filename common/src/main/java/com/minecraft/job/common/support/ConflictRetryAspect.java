@@ -0,0 +1,137 @@
+package com.minecraft.job.common.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 트랜잭션 advice 보다 바깥에서 실행되어야 매 시도가 새 트랜잭션이 된다.
+ * <p>
+ * 기본 max-attempts 는 3 이다. 평소 한 팀에 동시에 쓰는 요청은 두세 개를 넘지 않는다.
+ * 재시도를 소진한 요청은 전체가 롤백되므로 잃는 값은 없다. 한 팀에 쓰기가 몰리는 경우는 재시도를 늘리지 않고 team.rating.write-behind 로 합친다.
+ * <p>
+ * concurrency.conflict: 충돌 횟수 (entity, type)
+ * concurrency.retry: 재시도 횟수 (entity)
+ * concurrency.exhausted: 재시도를 모두 소진한 호출 수 (entity)
+ * concurrency.attempts: 호출당 시도 횟수 분포 (method)
+ * concurrency.backoff: 재시도 전 대기 시간 분포
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Timer backoffTimer;
+
+    public ConflictRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${retry.conflict.max-attempts:3}") int maxAttempts,
+            @Value("${retry.conflict.backoff-millis:20}") long backoffMillis
+    ) {
+        require(maxAttempts > 0);
+        require(backoffMillis >= 0);
+
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.backoffTimer = Timer.builder("concurrency.backoff")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Around("@within(com.minecraft.job.common.support.RetryOnConflict) || @annotation(com.minecraft.job.common.support.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getTarget().getClass().getSimpleName() + "." + joinPoint.getSignature().getName();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+
+                recordAttempts(method, attempt);
+
+                return result;
+            } catch (ConcurrencyFailureException ex) {
+                String entity = entityOf(ex);
+                String type = ex instanceof ObjectOptimisticLockingFailureException ? "optimistic" : "lock";
+
+                Counter.builder("concurrency.conflict")
+                        .tag("entity", entity)
+                        .tag("type", type)
+                        .register(meterRegistry)
+                        .increment();
+
+                if (attempt >= maxAttempts) {
+                    Counter.builder("concurrency.exhausted").tag("entity", entity).register(meterRegistry).increment();
+                    recordAttempts(method, attempt);
+
+                    log.warn("conflict retry exhausted. method={}, entity={}, attempts={}", method, entity, attempt);
+
+                    throw ex;
+                }
+
+                Counter.builder("concurrency.retry").tag("entity", entity).register(meterRegistry).increment();
+
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void recordAttempts(String method, int attempts) {
+        DistributionSummary.builder("concurrency.attempts")
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(attempts);
+    }
+
+    /**
+     * 시도할수록 대기 상한을 두 배로 늘리고, 같은 순간 충돌한 요청들이 다시 함께 몰리지 않도록 full jitter 를 준다.
+     */
+    private void backoff(int attempt) throws InterruptedException {
+        if (backoffMillis == 0) {
+            return;
+        }
+
+        long bound = backoffMillis << Math.min(attempt - 1, 10);
+        long sleepMillis = ThreadLocalRandom.current().nextLong(bound + 1);
+
+        backoffTimer.record(sleepMillis, MILLISECONDS);
+
+        Thread.sleep(sleepMillis);
+    }
+
+    private String entityOf(ConcurrencyFailureException ex) {
+        if (ex instanceof ObjectOptimisticLockingFailureException optimistic && optimistic.getPersistentClassName() != null) {
+            String className = optimistic.getPersistentClassName();
+
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+
+        return "unknown";
+    }
+}
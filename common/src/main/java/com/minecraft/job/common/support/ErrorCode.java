@@ -8,7 +8,10 @@ import lombok.RequiredArgsConstructor;
 public enum ErrorCode {
 
     ALREADY_USED_EMAIL("error.already.used.email"),
-    NOT_SAME_PASSWORD("error.not.same.password");
+    NOT_SAME_PASSWORD("error.not.same.password"),
+    ALREADY_APPLIED_RECRUITMENT("error.already.applied.recruitment"),
+    TOO_MANY_EXPORTS("error.too.many.exports"),
+    NOT_RANKED_TEAM("error.not.ranked.team");
 
     private final String message;
 }
@@ -1,12 +1,22 @@
 package com.minecraft.job.common.support;
 
+import lombok.Getter;
+
+/**
+ * 예상한 규칙 위반. 원인 예외가 없으면 어디서 던졌는지가 errorCode 로 충분하므로 스택 트레이스를 채우지 않는다.
+ */
+@Getter
 public class MinecraftJobException extends RuntimeException {
 
+    private final ErrorCode errorCode;
+
     public MinecraftJobException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
     }
 
     public MinecraftJobException(ErrorCode errorCode, Throwable cause) {
         super(errorCode.getMessage(), cause);
+        this.errorCode = errorCode;
     }
 }
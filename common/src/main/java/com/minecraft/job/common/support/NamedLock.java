@@ -0,0 +1,59 @@
+package com.minecraft.job.common.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * MySQL 의 이름 있는 lock(get_lock) 으로 여러 노드 중 한 대만 작업을 돌린다.
+ * 다른 노드가 잡고 있으면 기다리지 않는다. lock 은 잡은 연결에 묶이므로 작업이 끝날 때까지 그 연결을 들고 있는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NamedLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return lock 을 잡지 못했으면 false
+     */
+    public boolean runWithLock(String name, Runnable task) {
+        return callWithLock(name, () -> {
+            task.run();
+
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * @return lock 을 잡지 못했으면 empty
+     */
+    public <T> Optional<T> callWithLock(String name, Supplier<T> task) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("select get_lock(?, 0)")) {
+                statement.setString(1, name);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                        return Optional.empty();
+                    }
+                }
+            }
+
+            try {
+                return Optional.of(task.get());
+            } finally {
+                try (PreparedStatement statement = connection.prepareStatement("select release_lock(?)")) {
+                    statement.setString(1, name);
+                    statement.execute();
+                }
+            }
+        });
+    }
+}
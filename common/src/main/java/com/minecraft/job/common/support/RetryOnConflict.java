@@ -0,0 +1,13 @@
+package com.minecraft.job.common.support;
+
+import java.lang.annotation.*;
+
+/**
+ * 버전 충돌이나 락 경합(ConcurrencyFailureException)으로 트랜잭션이 실패하면 새 트랜잭션으로 다시 실행한다.
+ * 이미 트랜잭션 안에서 호출되면 바깥 트랜잭션이 실패를 받아야 하므로 재시도하지 않는다.
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -46,6 +46,15 @@ public class Team {
     public static final Double MIN_AVERAGE_POINT = Review.MIN_SCORE.doubleValue();
     private Double averagePoint = 0.0;
 
+    @Column(nullable = false)
+    private Long reviewCount = 0L;
+
+    @Column(nullable = false)
+    private Long scoreSum = 0L;
+
+    @Version
+    private Long version;
+
     public boolean ofUser(User user) {
         return this.user == user;
     }
@@ -54,6 +63,10 @@ public class Team {
         return user.getEmail();
     }
 
+    public Long getLeaderId() {
+        return user.getId();
+    }
+
     private Team(String name, String description, Long memberNum, User user) {
         this.name = name;
         this.description = description;
@@ -78,6 +91,35 @@ public class Team {
         this.averagePoint = averagePoint;
     }
 
+    public void applyReviewScore(Long reviewCountDelta, Long scoreSumDelta) {
+        long reviewCount = this.reviewCount + reviewCountDelta;
+        long scoreSum = this.scoreSum + scoreSumDelta;
+
+        check(reviewCount >= 0);
+        check(scoreSum >= reviewCount * Review.MIN_SCORE);
+        check(scoreSum <= reviewCount * Review.MAX_SCORE);
+
+        this.reviewCount = reviewCount;
+        this.scoreSum = scoreSum;
+
+        applyAveragePoint(calculateAveragePoint(reviewCount, scoreSum));
+    }
+
+    public void applyReviewAggregate(Long reviewCount, Long scoreSum) {
+        applyReviewScore(reviewCount - this.reviewCount, scoreSum - this.scoreSum);
+    }
+
+    /**
+     * 소수 첫째 자리까지, 0.05 는 올린다. 부동소수 오차 없이 정수로 나누며 TeamRepository.reconcileRating 과 같은 식이다.
+     */
+    public static Double calculateAveragePoint(long reviewCount, long scoreSum) {
+        if (reviewCount == 0) {
+            return MIN_AVERAGE_POINT;
+        }
+
+        return (scoreSum * 20 + reviewCount) / (reviewCount * 2) / 10.0;
+    }
+
     public void update(String name, String description, Long memberNum) {
         require(Strings.isNotBlank(name));
         require(memberNum >= 0);
@@ -0,0 +1,9 @@
+package com.minecraft.job.common.team.domain;
+
+public record TeamActivateEvent(
+        Long teamId,
+        Double averagePoint,
+        Long reviewCount,
+        Long scoreSum
+) {
+}
@@ -0,0 +1,6 @@
+package com.minecraft.job.common.team.domain;
+
+public record TeamCreateEvent(
+        Long teamId
+) {
+}
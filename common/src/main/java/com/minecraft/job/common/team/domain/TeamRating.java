@@ -0,0 +1,12 @@
+package com.minecraft.job.common.team.domain;
+
+public interface TeamRating {
+
+    Long getTeamId();
+
+    Double getAveragePoint();
+
+    Long getReviewCount();
+
+    Long getScoreSum();
+}
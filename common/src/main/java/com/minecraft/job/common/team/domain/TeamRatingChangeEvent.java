@@ -0,0 +1,9 @@
+package com.minecraft.job.common.team.domain;
+
+public record TeamRatingChangeEvent(
+        Long teamId,
+        Double averagePoint,
+        Long reviewCount,
+        Long scoreSum
+) {
+}
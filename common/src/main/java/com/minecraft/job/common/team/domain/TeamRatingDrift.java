@@ -0,0 +1,14 @@
+package com.minecraft.job.common.team.domain;
+
+public interface TeamRatingDrift {
+
+    Long getTeamId();
+
+    Long getReviewCount();
+
+    Long getScoreSum();
+
+    Long getActualReviewCount();
+
+    Long getActualScoreSum();
+}
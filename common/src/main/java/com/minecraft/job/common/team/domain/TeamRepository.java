@@ -1,6 +1,70 @@
 package com.minecraft.job.common.team.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.minecraft.job.common.team.domain.TeamStatus.ACTIVATED;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    /**
+     * 리뷰 알림에 필요한 팀장을 함께 읽는다.
+     */
+    @Query("""
+                select t
+                from Team t
+                    join fetch t.user
+                where t.id = :teamId
+            """)
+    Optional<Team> findWithLeaderById(Long teamId);
+
+    default List<TeamRating> findAllActivatedRating() {
+        return findAllRatingInternal(ACTIVATED);
+    }
+
+    @Query("""
+                select t.id as teamId, t.averagePoint as averagePoint, t.reviewCount as reviewCount, t.scoreSum as scoreSum
+                from Team t
+                where t.status = :status
+            """)
+    List<TeamRating> findAllRatingInternal(TeamStatus status);
+
+    @Query(nativeQuery = true, value = """
+                select t.id                        as teamId,
+                       t.review_count              as reviewCount,
+                       t.score_sum                 as scoreSum,
+                       coalesce(r.review_count, 0) as actualReviewCount,
+                       coalesce(r.score_sum, 0)    as actualScoreSum
+                from team t
+                    left join (select team_id, count(*) as review_count, sum(score) as score_sum
+                               from review
+                               where status = 'ACTIVATED'
+                               group by team_id) r on r.team_id = t.id
+                where t.review_count <> coalesce(r.review_count, 0)
+                   or t.score_sum <> coalesce(r.score_sum, 0)
+            """)
+    List<TeamRatingDrift> findAllRatingDrift();
+
+    /**
+     * 평점은 Team.calculateAveragePoint 와 같은 정수 반올림(소수 첫째 자리, 0.05 는 올림)으로 계산한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+                update team t
+                    left join (select team_id, count(*) as review_count, sum(score) as score_sum
+                               from review
+                               where status = 'ACTIVATED'
+                               group by team_id) r on r.team_id = t.id
+                set t.review_count  = coalesce(r.review_count, 0),
+                    t.score_sum     = coalesce(r.score_sum, 0),
+                    t.average_point = coalesce((r.score_sum * 20 + r.review_count) div (r.review_count * 2) / 10, 0),
+                    t.version       = t.version + 1
+                where t.review_count <> coalesce(r.review_count, 0)
+                   or t.score_sum <> coalesce(r.score_sum, 0)
+            """)
+    int reconcileRating();
 }
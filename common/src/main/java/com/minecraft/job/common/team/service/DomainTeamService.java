@@ -1,10 +1,11 @@
 package com.minecraft.job.common.team.service;
 
-import com.minecraft.job.common.team.domain.Team;
-import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.support.RetryOnConflict;
+import com.minecraft.job.common.team.domain.*;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import static com.minecraft.job.common.support.Preconditions.require;
 
 @Service
 @Transactional
+@RetryOnConflict
 @RequiredArgsConstructor
 public class DomainTeamService implements TeamService {
 
@@ -19,13 +21,19 @@ public class DomainTeamService implements TeamService {
 
     private final UserRepository userRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public Team create(Long userId, String name, String description, Long memberNum) {
         User user = userRepository.findById(userId).orElseThrow();
 
         Team team = Team.create(name, description, memberNum, user);
 
-        return teamRepository.save(team);
+        team = teamRepository.save(team);
+
+        eventPublisher.publishEvent(new TeamCreateEvent(team.getId()));
+
+        return team;
     }
 
     @Override
@@ -33,6 +41,26 @@ public class DomainTeamService implements TeamService {
         Team team = teamRepository.findById(teamId).orElseThrow();
 
         team.applyAveragePoint(averagePoint);
+
+        publishRatingChange(team);
+    }
+
+    @Override
+    public void applyReviewScore(Long teamId, Long reviewCountDelta, Long scoreSumDelta) {
+        Team team = teamRepository.findById(teamId).orElseThrow();
+
+        team.applyReviewScore(reviewCountDelta, scoreSumDelta);
+
+        publishRatingChange(team);
+    }
+
+    @Override
+    public void applyReviewAggregate(Long teamId, Long reviewCount, Long scoreSum) {
+        Team team = teamRepository.findById(teamId).orElseThrow();
+
+        team.applyReviewAggregate(reviewCount, scoreSum);
+
+        publishRatingChange(team);
     }
 
     @Override
@@ -53,6 +81,8 @@ public class DomainTeamService implements TeamService {
         require(team.ofUser(user));
 
         team.inactivate();
+
+        eventPublisher.publishEvent(new TeamInactivateEvent(team.getId()));
     }
 
     @Override
@@ -63,5 +93,15 @@ public class DomainTeamService implements TeamService {
         require(team.ofUser(user));
 
         team.activate();
+
+        eventPublisher.publishEvent(new TeamActivateEvent(
+                team.getId(), team.getAveragePoint(), team.getReviewCount(), team.getScoreSum()
+        ));
+    }
+
+    private void publishRatingChange(Team team) {
+        eventPublisher.publishEvent(new TeamRatingChangeEvent(
+                team.getId(), team.getAveragePoint(), team.getReviewCount(), team.getScoreSum()
+        ));
     }
 }
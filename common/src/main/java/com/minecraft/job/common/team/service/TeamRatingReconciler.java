@@ -0,0 +1,67 @@
+package com.minecraft.job.common.team.service;
+
+import com.minecraft.job.common.support.NamedLock;
+import com.minecraft.job.common.team.domain.TeamRatingDrift;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 팀의 reviewCount, scoreSum 은 리뷰 생성/수정/활성화/비활성화 시 증감분으로만 갱신된다.
+ * 누락된 증감분이 있으면 review 테이블 기준으로 한 번에 다시 계산하고, 어긋난 팀을 보고한다.
+ * <p>
+ * 재계산은 team 전체를 훑는 UPDATE 이고 version 을 올리므로 team.rating.reconcile.enabled 를 켠 노드에서만 돌고,
+ * 그중에서도 DB 의 이름 있는 lock 을 잡은 한 대만 실행한다. lock 은 트랜잭션이 커밋된 뒤에 놓는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "team.rating.reconcile.enabled", havingValue = "true")
+public class TeamRatingReconciler {
+
+    private static final String LOCK_NAME = "team_rating_reconcile";
+
+    private final TeamRepository teamRepository;
+    private final NamedLock namedLock;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @return 어긋났던 팀. 다른 노드가 돌고 있으면 빈 목록
+     */
+    @Scheduled(cron = "${team.rating.reconcile-cron:0 0 4 * * *}")
+    public List<TeamRatingDrift> reconcile() {
+        return namedLock.callWithLock(LOCK_NAME, () -> transactionTemplate.execute(status -> reconcileLocked()))
+                .orElseGet(() -> {
+                    log.info("team rating is reconciled by another node.");
+
+                    return List.of();
+                });
+    }
+
+    private List<TeamRatingDrift> reconcileLocked() {
+        List<TeamRatingDrift> drifts = teamRepository.findAllRatingDrift();
+
+        if (drifts.isEmpty()) {
+            return drifts;
+        }
+
+        for (TeamRatingDrift drift : drifts) {
+            log.warn("team rating drift. teamId={}, reviewCount={}->{}, scoreSum={}->{}",
+                    drift.getTeamId(),
+                    drift.getReviewCount(), drift.getActualReviewCount(),
+                    drift.getScoreSum(), drift.getActualScoreSum());
+        }
+
+        int reconciled = teamRepository.reconcileRating();
+
+        log.warn("team rating reconciled. drifted={}, reconciled={}", drifts.size(), reconciled);
+
+        return drifts;
+    }
+}
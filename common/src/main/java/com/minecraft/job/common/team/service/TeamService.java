@@ -8,6 +8,10 @@ public interface TeamService {
 
     void applyAveragePoint(Long teamId, Double averagePoint);
 
+    void applyReviewScore(Long teamId, Long reviewCountDelta, Long scoreSumDelta);
+
+    void applyReviewAggregate(Long teamId, Long reviewCount, Long scoreSum);
+
     void update(Long teamId, Long userId, String name, String description, Long memberNum);
 
     void inactivate(Long teamId, Long userId);
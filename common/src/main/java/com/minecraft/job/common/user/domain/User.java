@@ -46,6 +46,13 @@ public class User {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /**
+     * 알림 쓰기/읽음 처리에서 UserRepository 의 update 쿼리로만 바꾼다.
+     * 엔티티를 저장할 때 읽어둔 값으로 덮어쓰지 않도록 insert/update 에서 뺀다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long unreadNotificationCount = 0L;
+
     private User(String email, String password, String nickname, String interest, Long age) {
         this.email = email;
         this.password = password;
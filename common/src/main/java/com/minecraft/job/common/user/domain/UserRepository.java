@@ -1,10 +1,28 @@
 package com.minecraft.job.common.user.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> getByEmail(String email);
+
+    @Query("""
+                select u.unreadNotificationCount
+                from User u
+                where u.id = :userId
+            """)
+    Optional<Long> findUnreadNotificationCount(Long userId);
+
+    @Modifying
+    @Query("""
+                update User u
+                set u.unreadNotificationCount = u.unreadNotificationCount + :delta
+                where u.id in :userIds
+            """)
+    int addUnreadNotificationCount(Collection<Long> userIds, long delta);
 }
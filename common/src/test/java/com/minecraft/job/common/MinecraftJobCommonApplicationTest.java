@@ -1,7 +1,18 @@
 package com.minecraft.job.common;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 class MinecraftJobCommonApplicationTest {
+
+    /**
+     * 라이브러리 모듈에는 actuator 가 없으므로 지표는 메모리에만 남긴다.
+     */
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
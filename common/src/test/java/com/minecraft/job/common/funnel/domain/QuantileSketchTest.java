@@ -0,0 +1,78 @@
+package com.minecraft.job.common.funnel.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static com.minecraft.job.common.funnel.domain.QuantileSketch.RELATIVE_ACCURACY;
+import static org.assertj.core.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    @Test
+    void 분위수_성공__상대_오차_안() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        for (long value = 1; value <= 10_000; value++) {
+            sketch.add(value);
+        }
+
+        assertThat(sketch.count()).isEqualTo(10_000L);
+        assertThat(sketch.median()).isCloseTo(5_000L, withinPercentage(RELATIVE_ACCURACY * 100));
+        assertThat(sketch.quantile(0.99)).isCloseTo(9_900L, withinPercentage(RELATIVE_ACCURACY * 100));
+        assertThat(sketch.quantile(1)).isCloseTo(10_000L, withinPercentage(RELATIVE_ACCURACY * 100));
+    }
+
+    @Test
+    void 분위수_성공__값이_없음() {
+        assertThat(new QuantileSketch().median()).isNull();
+    }
+
+    @Test
+    void 분위수_성공__0() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(100);
+
+        assertThat(sketch.median()).isZero();
+    }
+
+    @Test
+    void 분위수_실패__범위를_벗어남() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sketch.quantile(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> sketch.quantile(1.1));
+        assertThatIllegalArgumentException().isThrownBy(() -> sketch.add(-1));
+    }
+
+    @Test
+    void 합치기_성공__나눠_넣어도_한_번에_넣은_것과_같다() {
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch odd = new QuantileSketch();
+        QuantileSketch even = new QuantileSketch();
+
+        for (long value = 0; value < 1_000; value++) {
+            all.add(value * 7);
+            (value % 2 == 0 ? even : odd).add(value * 7);
+        }
+
+        odd.merge(even);
+
+        assertThat(odd.toBytes()).isEqualTo(all.toBytes());
+        assertThat(odd.count()).isEqualTo(all.count());
+    }
+
+    @Test
+    void 직렬화_성공() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        sketch.add(60);
+        sketch.add(86_400);
+
+        QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.count()).isEqualTo(3L);
+        assertThat(restored.median()).isEqualTo(sketch.median());
+        assertThat(QuantileSketch.fromBytes(null).count()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package com.minecraft.job.common.funnel.service;
+
+import com.minecraft.job.common.fixture.RecruitmentFixture;
+import com.minecraft.job.common.fixture.ResumeFixture;
+import com.minecraft.job.common.fixture.TeamFixture;
+import com.minecraft.job.common.fixture.UserFixture;
+import com.minecraft.job.common.funnel.domain.FunnelRollup;
+import com.minecraft.job.common.funnel.domain.FunnelRollupId;
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionEvent;
+import com.minecraft.job.common.recruitmentProcess.service.RecruitmentProcessService;
+import com.minecraft.job.common.resume.domain.Resume;
+import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.minecraft.job.common.funnel.domain.FunnelScope.RECRUITMENT;
+import static com.minecraft.job.common.funnel.domain.FunnelScope.TEAM;
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+@Transactional
+@SpringBootTest
+class FunnelAggregatorTest {
+
+    @Autowired
+    private FunnelAggregator funnelAggregator;
+
+    @Autowired
+    private FunnelService funnelService;
+
+    @Autowired
+    private RecruitmentProcessService recruitmentProcessService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    private User leader;
+    private Team team;
+    private Recruitment recruitment;
+
+    @BeforeEach
+    void setUp() {
+        leader = userRepository.save(UserFixture.getAntherUser("leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+        recruitment = recruitmentRepository.save(RecruitmentFixture.create(team));
+    }
+
+    @Test
+    void 퍼널_집계_성공__체크포인트마다_증감분을_더한다() {
+        RecruitmentProcessTransitionEvent event = new RecruitmentProcessTransitionEvent(List.of(
+                item(1L, null, WAITING, 0),
+                item(2L, null, WAITING, 0),
+                item(1L, WAITING, IN_PROGRESS, 600),
+                item(1L, IN_PROGRESS, PASSED, 3_600),
+                item(2L, WAITING, FAILED, 7_200)
+        ));
+
+        long epoch = funnelService.lockEpoch();
+
+        funnelAggregator.collect(epoch, event);
+        funnelAggregator.checkpoint();
+        funnelAggregator.collect(epoch, event);
+        funnelAggregator.checkpoint();
+
+        FunnelRollup funnel = funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, recruitment.getId()));
+
+        assertThat(funnel.getApplied()).isEqualTo(4L);
+        assertThat(funnel.getInProgress()).isEqualTo(2L);
+        assertThat(funnel.getPassed()).isEqualTo(2L);
+        assertThat(funnel.getFailed()).isEqualTo(2L);
+        assertThat(funnel.inProgressRate()).isEqualTo(0.5);
+        assertThat(funnel.passRate()).isEqualTo(1.0);
+        assertThat(funnel.medianTimeToDecisionSeconds()).isCloseTo(3_600L, withinPercentage(1));
+
+        assertThat(funnelService.getFunnel(FunnelRollupId.of(TEAM, team.getId())).getApplied()).isEqualTo(4L);
+    }
+
+    @Test
+    void 퍼널_조회_성공__집계된_채용과정이_없음() {
+        FunnelRollup funnel = funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, Long.MAX_VALUE));
+
+        assertThat(funnel.getApplied()).isZero();
+        assertThat(funnel.inProgressRate()).isZero();
+        assertThat(funnel.medianTimeToDecisionSeconds()).isNull();
+    }
+
+    @Test
+    void 퍼널_재구성_성공() {
+        User user = userRepository.save(UserFixture.create());
+        Resume resume = resumeRepository.save(ResumeFixture.create(user));
+        User another = userRepository.save(UserFixture.getAntherUser("another"));
+        Resume anotherResume = resumeRepository.save(ResumeFixture.create(another));
+
+        RecruitmentProcess passed = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        RecruitmentProcess failed = recruitmentProcessService.create(recruitment.getId(), another.getId(), anotherResume.getId());
+
+        recruitmentProcessService.inProgress(passed.getId(), team.getId(), leader.getId());
+        recruitmentProcessService.pass(passed.getId(), team.getId(), leader.getId());
+        recruitmentProcessService.inProgress(failed.getId(), team.getId(), leader.getId());
+        recruitmentProcessService.fail(failed.getId(), team.getId(), leader.getId());
+
+        assertThat(funnelService.rebuild()).isEqualTo(2);
+
+        FunnelRollup funnel = funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, recruitment.getId()));
+
+        assertThat(funnel.getApplied()).isEqualTo(2L);
+        assertThat(funnel.getInProgress()).isEqualTo(2L);
+        assertThat(funnel.getPassed()).isEqualTo(1L);
+        assertThat(funnel.getFailed()).isEqualTo(1L);
+        assertThat(funnel.timeToDecisionSketch().count()).isEqualTo(2L);
+
+        assertThat(funnelService.getFunnel(FunnelRollupId.of(TEAM, team.getId())).getApplied()).isEqualTo(2L);
+    }
+
+    @Test
+    void 퍼널_재구성_성공__재구성_전_세대의_증감분은_merge_하지_않음() {
+        long epoch = funnelService.lockEpoch();
+        funnelAggregator.collect(epoch, new RecruitmentProcessTransitionEvent(List.of(item(1L, null, WAITING, 0))));
+
+        funnelService.rebuild();
+        funnelAggregator.checkpoint();
+
+        assertThat(funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, recruitment.getId())).getApplied()).isZero();
+        assertThat(funnelService.lockEpoch()).isEqualTo(epoch + 1);
+    }
+
+    private RecruitmentProcessTransitionEvent.Item item(Long recruitmentProcessId, RecruitmentProcessStatus from, RecruitmentProcessStatus to, long sinceAppliedSeconds) {
+        return new RecruitmentProcessTransitionEvent.Item(recruitmentProcessId, recruitment.getId(), team.getId(), from, to, sinceAppliedSeconds);
+    }
+}
@@ -0,0 +1,197 @@
+package com.minecraft.job.common.funnel.service;
+
+import com.minecraft.job.common.fixture.RecruitmentFixture;
+import com.minecraft.job.common.fixture.ResumeFixture;
+import com.minecraft.job.common.fixture.TeamFixture;
+import com.minecraft.job.common.fixture.UserFixture;
+import com.minecraft.job.common.funnel.domain.FunnelEpochRepository;
+import com.minecraft.job.common.funnel.domain.FunnelRollup;
+import com.minecraft.job.common.funnel.domain.FunnelRollupId;
+import com.minecraft.job.common.funnel.domain.FunnelRollupRepository;
+import com.minecraft.job.common.recruitment.domain.Recruitment;
+import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistoryRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStageDurationRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatusCountRepository;
+import com.minecraft.job.common.recruitmentProcess.service.RecruitmentProcessService;
+import com.minecraft.job.common.resume.domain.Resume;
+import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.minecraft.job.common.funnel.domain.FunnelScope.RECRUITMENT;
+import static com.minecraft.job.common.funnel.domain.FunnelScope.TEAM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋된 변경의 이벤트로 증감분이 모여야 하므로 @Transactional 을 쓰지 않고, 끝나면 직접 지운다.
+ */
+@SpringBootTest
+class FunnelRebuildConcurrencyTest {
+
+    private static final int APPLICANTS = 40;
+    private static final int WRITERS = 8;
+    private static final int REBUILDS = 5;
+
+    @Autowired
+    private FunnelAggregator funnelAggregator;
+
+    @Autowired
+    private FunnelService funnelService;
+
+    @Autowired
+    private RecruitmentProcessService recruitmentProcessService;
+
+    @Autowired
+    private FunnelRollupRepository funnelRollupRepository;
+
+    @Autowired
+    private FunnelEpochRepository funnelEpochRepository;
+
+    @Autowired
+    private RecruitmentProcessHistoryRepository recruitmentProcessHistoryRepository;
+
+    @Autowired
+    private RecruitmentProcessStageDurationRepository recruitmentProcessStageDurationRepository;
+
+    @Autowired
+    private RecruitmentProcessStatusCountRepository recruitmentProcessStatusCountRepository;
+
+    @Autowired
+    private RecruitmentProcessRepository recruitmentProcessRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private RecruitmentRepository recruitmentRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User leader;
+    private Team team;
+    private Recruitment recruitment;
+    private List<Resume> resumes;
+
+    @BeforeEach
+    void setUp() {
+        leader = userRepository.save(UserFixture.getAntherUser("funnel-leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+        recruitment = recruitmentRepository.save(RecruitmentFixture.create(team));
+
+        resumes = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            User applicant = userRepository.save(UserFixture.getAntherUser("funnel-applicant" + i));
+            resumes.add(resumeRepository.save(ResumeFixture.create(applicant)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        funnelRollupRepository.deleteAllInBatch();
+        funnelEpochRepository.deleteAllInBatch();
+        recruitmentProcessHistoryRepository.deleteAllInBatch();
+        recruitmentProcessStageDurationRepository.deleteAllInBatch();
+        recruitmentProcessStatusCountRepository.deleteAllInBatch();
+        recruitmentProcessRepository.deleteAllInBatch();
+        resumeRepository.deleteAllInBatch();
+        recruitmentRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 지원과 상태 변경, 체크포인트, 재구성을 동시에 돌린다. 끝나고 남은 증감분까지 체크포인트한 퍼널이
+     * recruitment_process 에서 새로 재구성한 퍼널과 같으면 겹쳐 세거나 잃은 증감분이 없다.
+     */
+    @Test
+    void 퍼널_재구성__체크포인트와_동시에_돌아도_겹쳐_세지_않음() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 2);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int first = writer;
+            writers.add(executor.submit(() -> {
+                for (int i = first; i < APPLICANTS; i += WRITERS) {
+                    Resume resume = resumes.get(i);
+                    RecruitmentProcess recruitmentProcess
+                            = recruitmentProcessService.create(recruitment.getId(), resume.getUser().getId(), resume.getId());
+
+                    recruitmentProcessService.inProgress(recruitmentProcess.getId(), team.getId(), leader.getId());
+
+                    if (i % 2 == 0) {
+                        recruitmentProcessService.pass(recruitmentProcess.getId(), team.getId(), leader.getId());
+                    } else {
+                        recruitmentProcessService.fail(recruitmentProcess.getId(), team.getId(), leader.getId());
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        Future<?> checkpoints = executor.submit(() -> {
+            while (writing.get()) {
+                funnelAggregator.checkpoint();
+            }
+
+            return null;
+        });
+
+        Future<?> rebuilds = executor.submit(() -> {
+            for (int i = 0; i < REBUILDS; i++) {
+                funnelService.rebuild();
+                Thread.sleep(20);
+            }
+
+            return null;
+        });
+
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        rebuilds.get();
+        writing.set(false);
+        checkpoints.get();
+        executor.shutdown();
+
+        funnelAggregator.checkpoint();
+
+        FunnelRollup aggregated = funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, recruitment.getId()));
+        FunnelRollup aggregatedTeam = funnelService.getFunnel(FunnelRollupId.of(TEAM, team.getId()));
+
+        funnelService.rebuild();
+
+        FunnelRollup rebuilt = funnelService.getFunnel(FunnelRollupId.of(RECRUITMENT, recruitment.getId()));
+
+        assertThat(rebuilt.getApplied()).isEqualTo(APPLICANTS);
+        assertThat(rebuilt.getPassed()).isEqualTo(APPLICANTS / 2);
+        assertThat(aggregated.getApplied()).isEqualTo(rebuilt.getApplied());
+        assertThat(aggregated.getInProgress()).isEqualTo(rebuilt.getInProgress());
+        assertThat(aggregated.getPassed()).isEqualTo(rebuilt.getPassed());
+        assertThat(aggregated.getFailed()).isEqualTo(rebuilt.getFailed());
+        assertThat(aggregated.timeToDecisionSketch().count()).isEqualTo(rebuilt.timeToDecisionSketch().count());
+        assertThat(aggregatedTeam.getApplied()).isEqualTo(rebuilt.getApplied());
+    }
+}
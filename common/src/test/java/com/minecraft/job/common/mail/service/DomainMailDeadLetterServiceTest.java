@@ -0,0 +1,70 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import com.minecraft.job.common.mail.domain.MailDeadLetterRepository;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest
+class DomainMailDeadLetterServiceTest {
+
+    @Autowired
+    private MailDeadLetterService mailDeadLetterService;
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailDeadLetterRepository mailDeadLetterRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Test
+    void dead_letter_조회__템플릿으로_거름() {
+        MailDeadLetter reviewDeadLetter = createDeadLetter("REVIEW_CREATE");
+        createDeadLetter("RECRUITMENT_PROCESS_PASS");
+
+        Page<MailDeadLetter> page = mailDeadLetterService.getDeadLetters("REVIEW_CREATE", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(reviewDeadLetter);
+        assertThat(mailDeadLetterService.getDeadLetters(null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void dead_letter_다시_보내기__새_아웃박스로_옮김() {
+        MailDeadLetter mailDeadLetter = createDeadLetter("REVIEW_CREATE");
+
+        int replayed = mailDeadLetterService.replay(List.of(mailDeadLetter.getId()));
+
+        List<MailOutbox> mailOutboxes = mailOutboxRepository.findAll();
+
+        assertThat(replayed).isEqualTo(1);
+        assertThat(mailOutboxes).hasSize(1);
+        assertThat(mailOutboxes.get(0).getStatus()).isEqualTo(PENDING);
+        assertThat(mailOutboxes.get(0).getAttempts()).isZero();
+        assertThat(mailOutboxes.get(0).getPayload()).isEqualTo(mailDeadLetter.getPayload());
+        assertThat(mailDeadLetterRepository.findById(mailDeadLetter.getId())).isEmpty();
+        assertThat(mailDeadLetterService.replay(List.of(mailDeadLetter.getId()))).isZero();
+    }
+
+    private MailDeadLetter createDeadLetter(String template) {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", template, "{\"teamName\":\"team\"}");
+        mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+
+        return mailOutboxService.deadLetter(mailOutbox.getId(), "SMTPAddressFailedException: 550");
+    }
+}
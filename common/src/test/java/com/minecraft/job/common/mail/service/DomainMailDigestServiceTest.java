@@ -0,0 +1,58 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDigestRepository;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DomainMailDigestServiceTest {
+
+    @Autowired
+    private MailDigestService mailDigestService;
+
+    @Autowired
+    private MailDigestRepository mailDigestRepository;
+
+    @Test
+    @Transactional
+    void 메일_digest_대상_조회__가장_오래된_알림_기준() {
+        mailDigestService.append("leader@gmail.com", "RECRUITMENT_PROCESS_CREATE", "{}");
+        mailDigestService.append("another@gmail.com", "REVIEW_CREATE", "{}");
+
+        assertThat(mailDigestService.getDueRecipients("RECRUITMENT_PROCESS_CREATE", LocalDateTime.now().plusMinutes(1)))
+                .containsExactly("leader@gmail.com");
+        assertThat(mailDigestService.getDueRecipients("RECRUITMENT_PROCESS_CREATE", LocalDateTime.now().minusMinutes(1)))
+                .isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void 메일_digest_보내기_성공__요약_메일_한_통으로_묶음() {
+        mailDigestService.append("leader@gmail.com", "RECRUITMENT_PROCESS_CREATE", "{\"userNickname\":\"a\"}");
+        mailDigestService.append("leader@gmail.com", "RECRUITMENT_PROCESS_CREATE", "{\"userNickname\":\"b\"}");
+        mailDigestService.append("another@gmail.com", "RECRUITMENT_PROCESS_CREATE", "{\"userNickname\":\"c\"}");
+
+        MailOutbox mailOutbox = mailDigestService.flush("leader@gmail.com", "RECRUITMENT_PROCESS_CREATE", "RECRUITMENT_PROCESS_CREATE_DIGEST").orElseThrow();
+
+        assertThat(mailOutbox.getRecipients()).isEqualTo("leader@gmail.com");
+        assertThat(mailOutbox.getTemplate()).isEqualTo("RECRUITMENT_PROCESS_CREATE_DIGEST");
+        assertThat(mailOutbox.getPayload()).isEqualTo("{\"items\":[{\"userNickname\":\"a\"},{\"userNickname\":\"b\"}]}");
+        assertThat(mailDigestRepository.findAll()).hasSize(1);
+        assertThat(mailDigestService.flush("leader@gmail.com", "RECRUITMENT_PROCESS_CREATE", "RECRUITMENT_PROCESS_CREATE_DIGEST")).isEmpty();
+    }
+
+    @Test
+    void 메일_digest_생성_실패__트랜잭션_밖에서_호출() {
+        assertThatThrownBy(() -> mailDigestService.append("leader@gmail.com", "RECRUITMENT_PROCESS_CREATE", "{}"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
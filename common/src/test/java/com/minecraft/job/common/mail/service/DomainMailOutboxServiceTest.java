@@ -0,0 +1,116 @@
+package com.minecraft.job.common.mail.service;
+
+import com.minecraft.job.common.mail.domain.MailDeadLetter;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.minecraft.job.common.mail.domain.MailOutboxStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DomainMailOutboxServiceTest {
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Test
+    @Transactional
+    void 메일_아웃박스_가져가기_성공() {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}");
+
+        List<MailOutbox> claimed = mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+
+        assertThat(claimed).contains(mailOutbox);
+        assertThat(mailOutbox.getStatus()).isEqualTo(SENDING);
+        assertThat(mailOutbox.getClaimedAt()).isNotNull();
+        assertThat(mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1))).doesNotContain(mailOutbox);
+    }
+
+    @Test
+    @Transactional
+    void 메일_아웃박스_가져가기_성공__lease_가_지나면_다시_가져감() {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}");
+
+        mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+        mailOutboxRepository.flush();
+
+        List<MailOutbox> reclaimed = mailOutboxService.claim(10, LocalDateTime.now().plusMinutes(1));
+
+        assertThat(reclaimed).contains(mailOutbox);
+    }
+
+    @Test
+    @Transactional
+    void 메일_아웃박스_발송_완료() {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}");
+        mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+
+        mailOutboxService.markSent(mailOutbox.getId());
+        mailOutboxService.markSent(mailOutbox.getId());
+
+        assertThat(mailOutbox.getStatus()).isEqualTo(SENT);
+        assertThat(mailOutbox.getSentAt()).isNotNull();
+        assertThat(mailOutboxService.claim(10, LocalDateTime.now().plusMinutes(1))).doesNotContain(mailOutbox);
+    }
+
+    @Test
+    @Transactional
+    void 메일_아웃박스_재시도__다음_시도_시각_전에는_가져가지_않음() {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}");
+        mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+
+        mailOutboxService.retry(mailOutbox.getId(), LocalDateTime.now().plusMinutes(1), "SocketException: closed");
+        mailOutboxRepository.flush();
+
+        assertThat(mailOutbox.getStatus()).isEqualTo(PENDING);
+        assertThat(mailOutbox.getAttempts()).isEqualTo(1);
+        assertThat(mailOutbox.getLastError()).isEqualTo("SocketException: closed");
+        assertThat(mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1))).doesNotContain(mailOutbox);
+    }
+
+    @Test
+    @Transactional
+    void 메일_아웃박스_재시도__다음_시도_시각이_지나면_가져감() {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}");
+        mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+
+        mailOutboxService.retry(mailOutbox.getId(), LocalDateTime.now().minusSeconds(1), "SocketException: closed");
+        mailOutboxRepository.flush();
+
+        assertThat(mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1))).contains(mailOutbox);
+        assertThat(mailOutbox.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    void 메일_아웃박스_dead_letter__아웃박스에서_옮김() {
+        MailOutbox mailOutbox = mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}");
+        mailOutboxService.claim(10, LocalDateTime.now().minusMinutes(1));
+
+        MailDeadLetter mailDeadLetter = mailOutboxService.deadLetter(mailOutbox.getId(), "SMTPAddressFailedException: 550");
+
+        assertThat(mailDeadLetter.getRecipients()).isEqualTo("user@gmail.com");
+        assertThat(mailDeadLetter.getTemplate()).isEqualTo("REVIEW_CREATE");
+        assertThat(mailDeadLetter.getAttempts()).isEqualTo(1);
+        assertThat(mailDeadLetter.getLastError()).isEqualTo("SMTPAddressFailedException: 550");
+        assertThat(mailOutboxRepository.findById(mailOutbox.getId())).isEmpty();
+    }
+
+    @Test
+    void 메일_아웃박스_생성_실패__트랜잭션_밖에서_호출() {
+        assertThatThrownBy(() -> mailOutboxService.append("user@gmail.com", "REVIEW_CREATE", "{}"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
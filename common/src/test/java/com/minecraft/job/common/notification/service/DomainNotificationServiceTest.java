@@ -0,0 +1,104 @@
+package com.minecraft.job.common.notification.service;
+
+import com.minecraft.job.common.fixture.UserFixture;
+import com.minecraft.job.common.notification.domain.Notification;
+import com.minecraft.job.common.notification.domain.NotificationRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.minecraft.job.common.notification.domain.NotificationType.RECRUITMENT_PROCESS_PASS;
+import static com.minecraft.job.common.notification.domain.NotificationType.TEAM_INACTIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DomainNotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @Transactional
+    void 알림_생성_성공__안_읽은_알림_수_증가() {
+        User user = userRepository.save(UserFixture.create());
+
+        notificationService.publish(List.of(user.getId()), RECRUITMENT_PROCESS_PASS, 1L, "pass");
+        notificationService.publish(List.of(user.getId()), RECRUITMENT_PROCESS_PASS, 2L, "pass");
+
+        assertThat(notificationService.getInbox(user.getId(), null, 10))
+                .extracting(Notification::getTargetId)
+                .containsExactly(2L, 1L);
+        assertThat(notificationService.getUnreadCount(user.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @Transactional
+    void 알림_생성_성공__여러_받는_사람에게_한_번에() {
+        List<Long> userIds = IntStream.range(0, 3)
+                .mapToObj(i -> userRepository.save(UserFixture.getAntherUser("user" + i)).getId())
+                .toList();
+
+        int inserted = notificationService.publish(userIds, TEAM_INACTIVATE, 1L, "team");
+
+        assertThat(inserted).isEqualTo(3);
+        assertThat(notificationRepository.findAll())
+                .extracting(Notification::getUserId)
+                .containsExactlyInAnyOrderElementsOf(userIds);
+        userIds.forEach(userId -> assertThat(notificationService.getUnreadCount(userId)).isEqualTo(1L));
+    }
+
+    @Test
+    @Transactional
+    void 알림함_조회__커서_다음부터() {
+        User user = userRepository.save(UserFixture.create());
+
+        for (long targetId = 1; targetId <= 5; targetId++) {
+            notificationService.publish(List.of(user.getId()), RECRUITMENT_PROCESS_PASS, targetId, "pass");
+        }
+
+        List<Notification> first = notificationService.getInbox(user.getId(), null, 2);
+        List<Notification> second = notificationService.getInbox(user.getId(), first.get(1).getId(), 2);
+
+        assertThat(first).extracting(Notification::getTargetId).containsExactly(5L, 4L);
+        assertThat(second).extracting(Notification::getTargetId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @Transactional
+    void 알림_읽음_성공__안_읽은_알림_수_감소() {
+        User user = userRepository.save(UserFixture.create());
+
+        for (long targetId = 1; targetId <= 3; targetId++) {
+            notificationService.publish(List.of(user.getId()), RECRUITMENT_PROCESS_PASS, targetId, "pass");
+        }
+
+        List<Notification> inbox = notificationService.getInbox(user.getId(), null, 10);
+
+        assertThat(notificationService.read(user.getId(), inbox.get(1).getId())).isEqualTo(2);
+        assertThat(notificationService.read(user.getId(), inbox.get(1).getId())).isZero();
+        assertThat(notificationService.getUnreadCount(user.getId())).isEqualTo(1L);
+        assertThat(notificationService.getInbox(user.getId(), null, 10))
+                .extracting(Notification::isRead)
+                .containsExactly(false, true, true);
+    }
+
+    @Test
+    void 알림_생성_실패__트랜잭션_밖에서_호출() {
+        assertThatThrownBy(() -> notificationService.publish(List.of(1L), RECRUITMENT_PROCESS_PASS, 1L, "pass"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.minecraft.job.common.recruitmentProcess.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class UserIdBitmapTest {
+
+    @Test
+    void 사용자_id_집합_성공() {
+        UserIdBitmap bitmap = UserIdBitmap.of(List.of(1L, 65_536L, 1L << 40, 7L));
+
+        assertThat(bitmap.size()).isEqualTo(4);
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(65_536L)).isTrue();
+        assertThat(bitmap.contains(1L << 40)).isTrue();
+        assertThat(bitmap.contains(7L)).isTrue();
+        assertThat(bitmap.contains(2L)).isFalse();
+        assertThat(bitmap.contains(65_537L)).isFalse();
+    }
+
+    @Test
+    void 사용자_id_집합_성공__같은_id_는_한_번만() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+
+        assertThat(bitmap.add(3L)).isTrue();
+        assertThat(bitmap.add(3L)).isFalse();
+        assertThat(bitmap.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 사용자_id_집합_성공__구간에_값이_많으면_bitmap_으로_바꿔도_같다() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+
+        LongStream.range(0, UserIdBitmap.ARRAY_LIMIT * 2L).map(i -> i * 3).forEach(bitmap::add);
+
+        assertThat(bitmap.size()).isEqualTo(UserIdBitmap.ARRAY_LIMIT * 2);
+        assertThat(LongStream.range(0, UserIdBitmap.ARRAY_LIMIT * 2L).allMatch(i -> bitmap.contains(i * 3))).isTrue();
+        assertThat(bitmap.contains(1L)).isFalse();
+        assertThat(bitmap.add(0L)).isFalse();
+    }
+
+    @Test
+    void 사용자_id_집합_실패__음수() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new UserIdBitmap().add(-1L));
+    }
+}
@@ -4,27 +4,49 @@ import com.minecraft.job.common.fixture.RecruitmentFixture;
 import com.minecraft.job.common.fixture.ResumeFixture;
 import com.minecraft.job.common.fixture.TeamFixture;
 import com.minecraft.job.common.fixture.UserFixture;
+import com.minecraft.job.common.funnel.service.FunnelService;
 import com.minecraft.job.common.recruitment.domain.Recruitment;
 import com.minecraft.job.common.recruitment.domain.RecruitmentRepository;
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcess;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessBulkEvent;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessCancelEvent;
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessCreateEvent;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistory;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistoryRepository;
 import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStageDuration;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStageDurationRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatusCountRepository;
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult;
 import com.minecraft.job.common.resume.domain.Resume;
 import com.minecraft.job.common.resume.domain.ResumeRepository;
+import com.minecraft.job.common.support.MinecraftJobException;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessStatus.*;
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult.Failure.INVALID_STATUS;
+import static com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessTransitionResult.Failure.NOT_FOUND;
+import static com.minecraft.job.common.support.ErrorCode.ALREADY_APPLIED_RECRUITMENT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 @Transactional
@@ -53,6 +75,27 @@ public class DomainRecruitmentProcessServiceTest {
     @Autowired
     private ResumeRepository resumeRepository;
 
+    @Autowired
+    private RecruitmentProcessStatusCountRepository recruitmentProcessStatusCountRepository;
+
+    @Autowired
+    private RecruitmentProcessHistoryRepository recruitmentProcessHistoryRepository;
+
+    @Autowired
+    private RecruitmentProcessStageDurationRepository recruitmentProcessStageDurationRepository;
+
+    @Autowired
+    private RecruitmentApplicantIndex recruitmentApplicantIndex;
+
+    @Autowired
+    private FunnelService funnelService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Recruitment recruitment;
     private User user;
     private Team team;
@@ -81,6 +124,70 @@ public class DomainRecruitmentProcessServiceTest {
                 .isEqualTo(recruitmentProcess.getId());
     }
 
+    /**
+     * 지원자, 채용공고(팀, 팀장 join), 이력서 조회, insert, 상태별 카운트 upsert, 퍼널 세대 공유 잠금. 이벤트를 만들면서 지연 로딩하지 않는다.
+     */
+    @Test
+    void 채용과정_생성__이벤트_발행까지_쿼리_6개() {
+        recruitmentApplicantIndex.hasApplied(recruitment.getId(), user.getId());
+        funnelService.lockEpoch();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = startStatistics();
+
+        recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        RecruitmentProcessCreateEvent event = applicationEvents.stream(RecruitmentProcessCreateEvent.class).toList().get(0);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(event.teamName()).isEqualTo(team.getName());
+        assertThat(event.leaderEmail()).isEqualTo(team.getLeaderEmail());
+    }
+
+    @Test
+    void 채용과정_서류합격__이벤트를_만들면서_지연_로딩하지_않음() {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        Long leaderId = team.getLeaderId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = startStatistics();
+
+        recruitmentProcessService.inProgress(recruitmentProcess.getId(), team.getId(), leaderId);
+
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void 채용과정_생성_실패__이미_지원함__지원자_집합에서_확인() {
+        recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        recruitmentApplicantIndex.onCreateRecruitmentProcessListener(
+                applicationEvents.stream(RecruitmentProcessCreateEvent.class).toList().get(0));
+
+        assertThatExceptionOfType(MinecraftJobException.class)
+                .isThrownBy(() -> recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId()))
+                .satisfies(ex -> {
+                    assertThat(ex.getErrorCode()).isEqualTo(ALREADY_APPLIED_RECRUITMENT);
+                    assertThat(ex.getCause()).isNull();
+                    assertThat(ex.getStackTrace()).isEmpty();
+                });
+    }
+
+    @Test
+    void 채용과정_생성_실패__이미_지원함__유니크_제약에서_확인() {
+        recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        assertThatExceptionOfType(MinecraftJobException.class)
+                .isThrownBy(() -> recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId()))
+                .satisfies(ex -> {
+                    assertThat(ex.getErrorCode()).isEqualTo(ALREADY_APPLIED_RECRUITMENT);
+                    assertThat(ex.getCause()).isInstanceOf(DataIntegrityViolationException.class);
+                });
+    }
+
     @Test
     void 채용과정_서류합격_성공() {
         RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
@@ -169,6 +276,8 @@ public class DomainRecruitmentProcessServiceTest {
 
         assertThat(findRecruitmentProcess.getStatus()).isEqualTo(CANCELED);
         assertThat(findRecruitmentProcess.getClosedAt()).isNotNull();
+        assertThat(applicationEvents.stream(RecruitmentProcessCancelEvent.class).toList().get(0).userId())
+                .isEqualTo(user.getId());
     }
 
     @Test
@@ -230,4 +339,131 @@ public class DomainRecruitmentProcessServiceTest {
                 () -> recruitmentProcessService.fail(recruitmentProcess.getId(), team.getId(), fakeLeader.getId())
         );
     }
+
+    @Test
+    void 채용과정_일괄_상태_변경__채용과정마다_결과() {
+        User another = userRepository.save(UserFixture.getAntherUser("another"));
+        Resume anotherResume = resumeRepository.save(ResumeFixture.create(another));
+
+        RecruitmentProcess waiting = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        RecruitmentProcess inProgress = recruitmentProcessService.create(recruitment.getId(), another.getId(), anotherResume.getId());
+
+        User leader = team.getUser();
+
+        recruitmentProcessService.inProgress(inProgress.getId(), team.getId(), leader.getId());
+
+        List<RecruitmentProcessTransitionResult> results = recruitmentProcessService.changeStatus(
+                List.of(waiting.getId(), inProgress.getId(), Long.MAX_VALUE), team.getId(), leader.getId(), IN_PROGRESS);
+
+        assertThat(results).containsExactly(
+                RecruitmentProcessTransitionResult.success(waiting.getId()),
+                RecruitmentProcessTransitionResult.fail(inProgress.getId(), INVALID_STATUS),
+                RecruitmentProcessTransitionResult.fail(Long.MAX_VALUE, NOT_FOUND)
+        );
+        assertThat(recruitmentProcessRepository.findById(waiting.getId()).orElseThrow().getStatus()).isEqualTo(IN_PROGRESS);
+
+        List<RecruitmentProcessBulkEvent> events = applicationEvents.stream(RecruitmentProcessBulkEvent.class).toList();
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.status()).isEqualTo(IN_PROGRESS);
+            assertThat(event.items()).extracting(RecruitmentProcessBulkEvent.Item::recruitmentProcessId)
+                    .containsExactly(waiting.getId());
+        });
+    }
+
+    @Test
+    void 채용과정_일괄_상태_변경_실패__팀장이_아님() {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        User fakeLeader = userRepository.save(UserFixture.getFakerUser());
+
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> recruitmentProcessService.changeStatus(List.of(recruitmentProcess.getId()), team.getId(), fakeLeader.getId(), PASSED)
+        );
+    }
+
+    @Test
+    void 채용과정_일괄_상태_변경_실패__팀장이_바꿀_수_없는_상태() {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> recruitmentProcessService.changeStatus(List.of(recruitmentProcess.getId()), team.getId(), team.getUser().getId(), CANCELED)
+        );
+    }
+
+    @Test
+    void 채용과정_상태별_카운트__생성_상태변경_일괄변경에_따라_갱신() {
+        User another = userRepository.save(UserFixture.getAntherUser("another"));
+        Resume anotherResume = resumeRepository.save(ResumeFixture.create(another));
+
+        RecruitmentProcess first = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        RecruitmentProcess second = recruitmentProcessService.create(recruitment.getId(), another.getId(), anotherResume.getId());
+
+        User leader = team.getUser();
+
+        recruitmentProcessService.inProgress(first.getId(), team.getId(), leader.getId());
+        recruitmentProcessService.changeStatus(List.of(first.getId(), second.getId()), team.getId(), leader.getId(), FAILED);
+
+        assertThat(recruitmentProcessStatusCountRepository.findById(recruitment.getId()).orElseThrow().toMap())
+                .containsEntry(WAITING, 0L)
+                .containsEntry(IN_PROGRESS, 0L)
+                .containsEntry(FAILED, 2L);
+    }
+
+    @Test
+    void 채용과정_이력__상태가_바뀔_때마다_쌓이고_단계별_소요_시간이_누적() {
+        RecruitmentProcess recruitmentProcess = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+
+        User leader = team.getUser();
+
+        recruitmentProcess.setStatusChangedAt(LocalDateTime.now().minusHours(2));
+        recruitmentProcessService.inProgress(recruitmentProcess.getId(), team.getId(), leader.getId());
+
+        recruitmentProcess.setStatusChangedAt(LocalDateTime.now().minusHours(1));
+        recruitmentProcessService.pass(recruitmentProcess.getId(), team.getId(), leader.getId());
+
+        List<RecruitmentProcessHistory> histories
+                = recruitmentProcessHistoryRepository.findAllByRecruitmentProcessIdOrderByIdAsc(recruitmentProcess.getId());
+
+        assertThat(histories).hasSize(2);
+        assertThat(histories.get(0).getFromStatus()).isEqualTo(WAITING);
+        assertThat(histories.get(0).getToStatus()).isEqualTo(IN_PROGRESS);
+        assertThat(histories.get(0).getDurationSeconds()).isBetween(7200L, 7260L);
+        assertThat(histories.get(1).getFromStatus()).isEqualTo(IN_PROGRESS);
+        assertThat(histories.get(1).getToStatus()).isEqualTo(PASSED);
+        assertThat(histories.get(1).getDurationSeconds()).isBetween(3600L, 3660L);
+
+        RecruitmentProcessStageDuration stageDuration = recruitmentProcessStageDurationRepository.findById(recruitment.getId()).orElseThrow();
+
+        assertThat(stageDuration.getWaitingCount()).isEqualTo(1L);
+        assertThat(stageDuration.averageWaiting().toHours()).isEqualTo(2L);
+        assertThat(stageDuration.getInProgressCount()).isEqualTo(1L);
+        assertThat(stageDuration.averageInProgress().toHours()).isEqualTo(1L);
+        assertThat(stageDuration.getHiredCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 채용과정_이력__일괄_상태_변경은_채용과정마다_한_줄() {
+        User another = userRepository.save(UserFixture.getAntherUser("another"));
+        Resume anotherResume = resumeRepository.save(ResumeFixture.create(another));
+
+        RecruitmentProcess first = recruitmentProcessService.create(recruitment.getId(), user.getId(), resume.getId());
+        RecruitmentProcess second = recruitmentProcessService.create(recruitment.getId(), another.getId(), anotherResume.getId());
+
+        recruitmentProcessService.changeStatus(List.of(first.getId(), second.getId()), team.getId(), team.getUser().getId(), FAILED);
+
+        assertThat(recruitmentProcessHistoryRepository.findAll())
+                .extracting(RecruitmentProcessHistory::getRecruitmentProcessId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(recruitmentProcessStageDurationRepository.findById(recruitment.getId()).orElseThrow().getWaitingCount())
+                .isEqualTo(2L);
+    }
+
+    private Statistics startStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        return statistics;
+    }
 }
@@ -0,0 +1,101 @@
+package com.minecraft.job.common.recruitmentProcess.service;
+
+import com.minecraft.job.common.recruitmentProcess.domain.RecruitmentProcessHistoryPartitionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 스키마는 Hibernate 가 만들어서 파티션이 없으므로, 운영 스키마처럼 pmax 하나로 파티션을 나눈 뒤 돌린다.
+ * DDL 은 바로 커밋되므로 @Transactional 을 쓰지 않고 끝나면 파티션을 걷어낸다.
+ */
+@SpringBootTest(properties = "recruitment-process.history.partition.enabled=true")
+class RecruitmentProcessHistoryPartitionManagerTest {
+
+    @Autowired
+    private RecruitmentProcessHistoryPartitionRepository recruitmentProcessHistoryPartitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private RecruitmentProcessHistoryPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("alter table recruitment_process_history drop primary key, add primary key (id, changed_at)");
+        jdbcTemplate.execute("""
+                alter table recruitment_process_history
+                partition by range columns (changed_at) (partition pmax values less than (maxvalue))
+                """);
+
+        partitionManager = new RecruitmentProcessHistoryPartitionManager(recruitmentProcessHistoryPartitionRepository, 1, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("alter table recruitment_process_history remove partitioning");
+        jdbcTemplate.execute("alter table recruitment_process_history drop primary key, add primary key (id)");
+    }
+
+    @Test
+    void 파티션_관리__다음_달_파티션을_만듦() {
+        partitionManager.maintain(YearMonth.of(2026, 10));
+
+        assertThat(recruitmentProcessHistoryPartitionRepository.findAllPartitionName())
+                .containsExactly("p202610", "p202611", "pmax");
+    }
+
+    @Test
+    void 파티션_관리__여러_번_돌아도_결과가_같음() {
+        partitionManager.maintain(YearMonth.of(2026, 10));
+        partitionManager.maintain(YearMonth.of(2026, 10));
+
+        assertThat(recruitmentProcessHistoryPartitionRepository.findAllPartitionName())
+                .containsExactly("p202610", "p202611", "pmax");
+    }
+
+    @Test
+    void 파티션_관리__보관_기간이_지난_파티션을_지움() {
+        partitionManager.maintain(YearMonth.of(2026, 10));
+        partitionManager.maintain(YearMonth.of(2027, 1));
+
+        assertThat(recruitmentProcessHistoryPartitionRepository.findAllPartitionName())
+                .containsExactly("p202611", "p202701", "p202702", "pmax");
+    }
+
+    @Test
+    void 파티션_관리__다른_노드가_lock_을_잡고_있으면_건너뜀() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(query(connection, "select get_lock('recruitment_process_history_partition', 0)")).isEqualTo(1);
+
+            partitionManager.maintain(YearMonth.of(2026, 10));
+
+            query(connection, "select release_lock('recruitment_process_history_partition')");
+        }
+
+        assertThat(recruitmentProcessHistoryPartitionRepository.findAllPartitionName()).containsExactly("pmax");
+    }
+
+    private int query(Connection connection, String sql) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -11,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.minecraft.job.common.review.domain.ReviewStatus.ACTIVATED;
@@ -74,4 +76,55 @@ class ReviewRepositoryTest {
         assertThat(findReviews).containsExactly(review1, review2);
         assertThat(findReviews).doesNotContain(review3);
     }
+
+    @Test
+    void 리뷰_팀으로_활성화_상태_점수_집계() {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+        User user2 = userRepository.save(UserFixture.getAntherUser("user2"));
+        User user3 = userRepository.save(UserFixture.getAntherUser("user3"));
+
+        reviewRepository.save(Review.create("content", 4L, user1, team));
+        reviewRepository.save(Review.create("content", 3L, user2, team));
+        Review review3 = reviewRepository.save(Review.create("content", 5L, user3, team));
+
+        review3.inactivate();
+
+        ReviewScoreSummary summary = reviewRepository.summarizeActivated(team.getId());
+
+        assertThat(summary.getReviewCount()).isEqualTo(2L);
+        assertThat(summary.getScoreSum()).isEqualTo(7L);
+    }
+
+    @Test
+    void 리뷰_피드_조회__커서_페이지와_오프셋_페이지가_같음() {
+        for (int i = 0; i < 25; i++) {
+            User reviewer = userRepository.save(UserFixture.getAntherUser("reviewer" + i));
+            Review review = reviewRepository.save(Review.create("content" + i, (long) (i % 6), reviewer, team));
+
+            if (i % 5 == 0) {
+                review.inactivate();
+            }
+        }
+
+        reviewRepository.flush();
+
+        List<ReviewFeedItem> keysetItems = new ArrayList<>();
+        List<ReviewFeedItem> page = reviewRepository.findFeed(team.getId(), null, null, 7);
+
+        while (!page.isEmpty()) {
+            keysetItems.addAll(page);
+
+            ReviewFeedItem last = page.get(page.size() - 1);
+            page = reviewRepository.findFeed(team.getId(), last.createdAt(), last.id(), 7);
+        }
+
+        List<ReviewFeedItem> offsetItems = new ArrayList<>();
+        for (int pageNumber = 0; pageNumber < 3; pageNumber++) {
+            offsetItems.addAll(reviewRepository.findFeedFirstInternal(team.getId(), ACTIVATED, PageRequest.of(pageNumber, 7)));
+        }
+
+        assertThat(keysetItems).hasSize(20);
+        assertThat(keysetItems).isEqualTo(offsetItems);
+        assertThat(keysetItems.get(0).userNickname()).isNotBlank();
+    }
 }
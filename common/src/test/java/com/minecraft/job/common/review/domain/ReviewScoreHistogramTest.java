@@ -0,0 +1,45 @@
+package com.minecraft.job.common.review.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ReviewScoreHistogramTest {
+
+    @Test
+    void 점수_분포_백분위_성공() {
+        ReviewScoreHistogram histogram = new ReviewScoreHistogram(List.of(1L, 0L, 2L, 3L, 0L, 4L));
+
+        assertThat(histogram.total()).isEqualTo(10L);
+        assertThat(histogram.percentile(10)).isEqualTo(0L);
+        assertThat(histogram.percentile(25)).isEqualTo(2L);
+        assertThat(histogram.median()).isEqualTo(3L);
+        assertThat(histogram.percentile(60)).isEqualTo(3L);
+        assertThat(histogram.percentile(61)).isEqualTo(5L);
+        assertThat(histogram.percentile(100)).isEqualTo(5L);
+    }
+
+    @Test
+    void 점수_분포_백분위_성공__리뷰가_없음() {
+        ReviewScoreHistogram histogram = ReviewScoreHistogram.empty();
+
+        assertThat(histogram.total()).isZero();
+        assertThat(histogram.median()).isNull();
+    }
+
+    @Test
+    void 점수_분포_백분위_실패__범위를_벗어남() {
+        ReviewScoreHistogram histogram = ReviewScoreHistogram.empty();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.percentile(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.percentile(101));
+    }
+
+    @Test
+    void 점수_분포_생성_실패__구간_수가_다름() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ReviewScoreHistogram(List.of(1L, 2L)));
+    }
+}
@@ -5,10 +5,13 @@ import com.minecraft.job.common.fixture.UserFixture;
 import com.minecraft.job.common.review.domain.Review;
 import com.minecraft.job.common.review.domain.ReviewCreateEvent;
 import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.review.domain.ReviewScoreHistogram;
 import com.minecraft.job.common.team.domain.Team;
 import com.minecraft.job.common.team.domain.TeamRepository;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +19,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import javax.transaction.Transactional;
 
 import static com.minecraft.job.common.review.domain.ReviewStatus.ACTIVATED;
@@ -43,6 +48,12 @@ class DomainReviewServiceTest {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User user;
     private User leader;
     private Team team;
@@ -66,6 +77,27 @@ class DomainReviewServiceTest {
                 .isEqualTo(review.getId());
     }
 
+    /**
+     * 작성자, 팀(팀장 join) 조회, insert, 점수 분포 upsert. 이벤트를 만들면서 지연 로딩하지 않는다.
+     */
+    @Test
+    void 리뷰_생성__이벤트_발행까지_쿼리_4개() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        reviewService.create(user.getId(), team.getId(), "content", 3L);
+
+        ReviewCreateEvent event = applicationEvents.stream(ReviewCreateEvent.class).toList().get(0);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(event.leaderEmail()).isEqualTo(leader.getEmail());
+    }
+
     @Test
     void 리뷰_수정_성공() {
         Review review = reviewService.create(user.getId(), team.getId(), "content", 3L);
@@ -119,4 +151,23 @@ class DomainReviewServiceTest {
 
         assertThat(findReview.getStatus()).isEqualTo(INACTIVATED);
     }
+
+    @Test
+    void 리뷰_점수_분포_갱신_성공() {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+        User user2 = userRepository.save(UserFixture.getAntherUser("user2"));
+
+        Review review = reviewService.create(user.getId(), team.getId(), "content", 3L);
+        Review review1 = reviewService.create(user1.getId(), team.getId(), "content", 5L);
+        reviewService.create(user2.getId(), team.getId(), "content", 5L);
+
+        reviewService.update(review.getId(), user.getId(), team.getId(), "updateContent", 1L);
+        reviewService.inactive(review1.getId());
+
+        ReviewScoreHistogram histogram = reviewService.getScoreHistogram(team.getId());
+
+        assertThat(histogram.counts()).containsExactly(0L, 1L, 0L, 0L, 0L, 1L);
+        assertThat(histogram.total()).isEqualTo(2L);
+        assertThat(histogram.median()).isEqualTo(1L);
+    }
 }
@@ -0,0 +1,75 @@
+package com.minecraft.job.common.review.service;
+
+import com.minecraft.job.common.fixture.TeamFixture;
+import com.minecraft.job.common.fixture.UserFixture;
+import com.minecraft.job.common.review.domain.Review;
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "review.score-distribution.check.enabled=true")
+@Transactional
+class ReviewScoreDistributionCheckerTest {
+
+    @Autowired
+    private ReviewScoreDistributionChecker reviewScoreDistributionChecker;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        User leader = userRepository.save(UserFixture.getAntherUser("leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+    }
+
+    @Test
+    void 점수_분포_재구성_성공__증감분이_누락된_팀() {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+        User user2 = userRepository.save(UserFixture.getAntherUser("user2"));
+
+        reviewService.create(user1.getId(), team.getId(), "content", 4L);
+        reviewRepository.save(Review.create("content", 2L, user2, team));
+
+        reviewRepository.flush();
+
+        List<Long> driftedTeamIds = reviewScoreDistributionChecker.check();
+
+        assertThat(driftedTeamIds).contains(team.getId());
+        assertThat(reviewService.getScoreHistogram(team.getId()).counts())
+                .containsExactly(0L, 0L, 1L, 0L, 1L, 0L);
+    }
+
+    @Test
+    void 점수_분포_재구성_성공__어긋난_팀이_없음() {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+
+        reviewService.create(user1.getId(), team.getId(), "content", 4L);
+
+        List<Long> driftedTeamIds = reviewScoreDistributionChecker.check();
+
+        assertThat(driftedTeamIds).doesNotContain(team.getId());
+    }
+}
@@ -33,6 +33,8 @@ class TeamTest {
         assertThat(team.getUser()).isEqualTo(user);
         assertThat(team.getStatus()).isEqualTo(ACTIVATED);
         assertThat(team.getAveragePoint()).isEqualTo(0L);
+        assertThat(team.getReviewCount()).isZero();
+        assertThat(team.getScoreSum()).isZero();
         assertThat(team.getCreatedAt()).isNotNull();
     }
 
@@ -70,6 +72,69 @@ class TeamTest {
         assertThatIllegalArgumentException().isThrownBy(() -> team.applyAveragePoint(MAX_AVERAGE_POINT + 1));
     }
 
+    @Test
+    void 팀_리뷰점수_적용_성공() {
+        Team team = TeamFixture.create(user);
+
+        team.applyReviewScore(1L, 5L);
+        team.applyReviewScore(1L, 4L);
+        team.applyReviewScore(1L, 4L);
+
+        assertThat(team.getReviewCount()).isEqualTo(3L);
+        assertThat(team.getScoreSum()).isEqualTo(13L);
+        assertThat(team.getAveragePoint()).isEqualTo(4.3);
+    }
+
+    @Test
+    void 팀_리뷰점수_적용_성공__리뷰가_모두_빠지면_평점_0() {
+        Team team = TeamFixture.create(user);
+
+        team.applyReviewScore(1L, 3L);
+        team.applyReviewScore(-1L, -3L);
+
+        assertThat(team.getReviewCount()).isZero();
+        assertThat(team.getScoreSum()).isZero();
+        assertThat(team.getAveragePoint()).isEqualTo(MIN_AVERAGE_POINT);
+    }
+
+    @Test
+    void 팀_리뷰집계_적용_성공() {
+        Team team = TeamFixture.create(user);
+
+        team.applyReviewScore(1L, 1L);
+
+        team.applyReviewAggregate(4L, 18L);
+
+        assertThat(team.getReviewCount()).isEqualTo(4L);
+        assertThat(team.getScoreSum()).isEqualTo(18L);
+        assertThat(team.getAveragePoint()).isEqualTo(4.5);
+    }
+
+    @Test
+    void 팀_리뷰집계_적용_성공__평점은_소수_첫째_자리에서_0_05_를_올림() {
+        Team team = TeamFixture.create(user);
+
+        team.applyReviewAggregate(20L, 49L);
+        assertThat(team.getAveragePoint()).isEqualTo(2.5);
+
+        team.applyReviewAggregate(1001L, 1051L);
+        assertThat(team.getAveragePoint()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 팀_리뷰점수_적용_실패__리뷰수가_음수() {
+        Team team = TeamFixture.create(user);
+
+        assertThatIllegalStateException().isThrownBy(() -> team.applyReviewScore(-1L, 0L));
+    }
+
+    @Test
+    void 팀_리뷰점수_적용_실패__점수합이_최대값보다_높음() {
+        Team team = TeamFixture.create(user);
+
+        assertThatIllegalStateException().isThrownBy(() -> team.applyReviewScore(1L, 6L));
+    }
+
     @Test
     void 팀_업데이트_성공() {
         Team team = TeamFixture.create(user);
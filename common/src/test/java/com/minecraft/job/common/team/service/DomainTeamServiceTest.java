@@ -1,6 +1,8 @@
 package com.minecraft.job.common.team.service;
 
 import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamCreateEvent;
+import com.minecraft.job.common.team.domain.TeamRatingChangeEvent;
 import com.minecraft.job.common.team.domain.TeamRepository;
 import com.minecraft.job.common.user.domain.User;
 import com.minecraft.job.common.user.domain.UserRepository;
@@ -8,6 +10,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import static com.minecraft.job.common.fixture.UserFixture.create;
@@ -19,8 +23,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 
 @SpringBootTest
 @Transactional
+@RecordApplicationEvents
 class DomainTeamServiceTest {
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Autowired
     private TeamService teamService;
 
@@ -44,6 +52,8 @@ class DomainTeamServiceTest {
         Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
 
         assertThat(findTeam.getId()).isNotNull();
+        assertThat(applicationEvents.stream(TeamCreateEvent.class).toList().get(0).teamId())
+                .isEqualTo(team.getId());
     }
 
     @Test
@@ -57,6 +67,23 @@ class DomainTeamServiceTest {
         assertThat(findTeam.getAveragePoint()).isEqualTo(3L);
     }
 
+    @Test
+    void 팀_리뷰점수_적용_성공() {
+        Team team = teamService.create(user.getId(), "name", "description", 5L);
+
+        teamService.applyReviewScore(team.getId(), 1L, 5L);
+        teamService.applyReviewScore(team.getId(), 1L, 2L);
+        teamService.applyReviewScore(team.getId(), 0L, 1L);
+
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(findTeam.getReviewCount()).isEqualTo(2L);
+        assertThat(findTeam.getScoreSum()).isEqualTo(8L);
+        assertThat(findTeam.getAveragePoint()).isEqualTo(4L);
+        assertThat(applicationEvents.stream(TeamRatingChangeEvent.class).toList().get(2))
+                .isEqualTo(new TeamRatingChangeEvent(team.getId(), 4.0, 2L, 8L));
+    }
+
     @Test
     void 팀_수정_성공() {
         Team team = teamService.create(user.getId(), "name", "description", 5L);
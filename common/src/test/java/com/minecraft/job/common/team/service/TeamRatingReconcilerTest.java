@@ -0,0 +1,163 @@
+package com.minecraft.job.common.team.service;
+
+import com.minecraft.job.common.fixture.TeamFixture;
+import com.minecraft.job.common.fixture.UserFixture;
+import com.minecraft.job.common.review.domain.Review;
+import com.minecraft.job.common.review.domain.ReviewRepository;
+import com.minecraft.job.common.team.domain.Team;
+import com.minecraft.job.common.team.domain.TeamRatingDrift;
+import com.minecraft.job.common.team.domain.TeamRepository;
+import com.minecraft.job.common.user.domain.User;
+import com.minecraft.job.common.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "team.rating.reconcile.enabled=true")
+@Transactional
+class TeamRatingReconcilerTest {
+
+    @Autowired
+    private TeamRatingReconciler teamRatingReconciler;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        User leader = userRepository.save(UserFixture.getAntherUser("leader"));
+        team = teamRepository.save(TeamFixture.create(leader));
+    }
+
+    @Test
+    void 팀_평점_재계산_성공__증감분이_누락된_팀() {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+        User user2 = userRepository.save(UserFixture.getAntherUser("user2"));
+
+        reviewRepository.save(Review.create("content", 5L, user1, team));
+        reviewRepository.save(Review.create("content", 2L, user2, team));
+
+        teamService.applyReviewScore(team.getId(), 1L, 5L);
+
+        teamRepository.flush();
+
+        List<TeamRatingDrift> drifts = teamRatingReconciler.reconcile();
+
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(drifts).extracting(TeamRatingDrift::getTeamId).containsExactly(team.getId());
+        assertThat(findTeam.getReviewCount()).isEqualTo(2L);
+        assertThat(findTeam.getScoreSum()).isEqualTo(7L);
+        assertThat(findTeam.getAveragePoint()).isEqualTo(3.5);
+    }
+
+    @Test
+    void 팀_평점_재계산_성공__어긋난_팀이_없음() {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+
+        reviewRepository.save(Review.create("content", 4L, user1, team));
+
+        teamService.applyReviewScore(team.getId(), 1L, 4L);
+
+        teamRepository.flush();
+
+        List<TeamRatingDrift> drifts = teamRatingReconciler.reconcile();
+
+        assertThat(drifts).isEmpty();
+    }
+
+    /**
+     * 1051 / 1001 = 1.04995.. 는 소수 넷째 자리에서 끊으면 1.0500 이 되어 SQL round 로는 1.1 이었다.
+     */
+    @Test
+    void 팀_평점_재계산_성공__평점을_팀과_같은_식으로_계산() {
+        insertReviews(50, 2);
+        insertReviews(951, 1);
+
+        List<TeamRatingDrift> drifts = teamRatingReconciler.reconcile();
+
+        Team findTeam = teamRepository.findById(team.getId()).orElseThrow();
+        Team expected = TeamFixture.create(findTeam.getUser());
+        expected.applyReviewAggregate(1001L, 1051L);
+
+        assertThat(drifts).extracting(TeamRatingDrift::getTeamId).containsExactly(team.getId());
+        assertThat(findTeam.getAveragePoint()).isEqualTo(expected.getAveragePoint()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 팀_평점_재계산__다른_노드가_lock_을_잡고_있으면_건너뜀() throws Exception {
+        User user1 = userRepository.save(UserFixture.getAntherUser("user1"));
+
+        reviewRepository.save(Review.create("content", 5L, user1, team));
+        reviewRepository.flush();
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(query(connection, "select get_lock('team_rating_reconcile', 0)")).isEqualTo(1);
+
+            List<TeamRatingDrift> drifts = teamRatingReconciler.reconcile();
+
+            query(connection, "select release_lock('team_rating_reconcile')");
+
+            assertThat(drifts).isEmpty();
+        }
+
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getReviewCount()).isZero();
+    }
+
+    private void insertReviews(int count, long score) {
+        String prefix = "reviewer-" + score + "-";
+
+        jdbcTemplate.execute("set session cte_max_recursion_depth = " + Math.max(1000, count));
+
+        jdbcTemplate.update("""
+                insert into user (email, password, nickname, interest, age, status, created_at)
+                with recursive seq (n) as (select 1 union all select n + 1 from seq where n < ?)
+                select concat(?, n), 'password', concat('nickname', n), 'interest', 20, 'ACTIVATED', now()
+                from seq
+                """, count, prefix);
+
+        jdbcTemplate.update("""
+                insert into review (content, score, user_id, team_id, status, created_at)
+                select 'content', ?, u.id, ?, 'ACTIVATED', now()
+                from user u
+                where u.email like ?
+                """, score, team.getId(), prefix + "%");
+    }
+
+    private int query(Connection connection, String sql) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+}
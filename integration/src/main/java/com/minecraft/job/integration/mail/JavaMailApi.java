@@ -1,26 +1,83 @@
 package com.minecraft.job.integration.mail;
 
+import com.minecraft.job.integration.mail.SmtpTransportPool.PooledTransport;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
 
+import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
+/**
+ * SmtpTransportPool 의 연결을 재사용해서 보낸다. sendAll 은 한 연결(SMTP 세션)로 여러 메일을 보낸다.
+ * <p>
+ * 보내는 중 연결이 끊기면(유휴 연결 종료, 421) 다시 연결해서 그 메일부터 이어 보낸다.
+ */
+@Slf4j
 @Component
 @Profile({"dev", "prod"})
 @RequiredArgsConstructor
 public class JavaMailApi implements MailApi {
 
-    private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final JavaMailSenderImpl javaMailSender;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final SmtpTransportPool smtpTransportPool;
 
     @Override
     public void send(Mail mail) throws Exception {
+        MimeMessage message = createMessage(mail);
+
+        PooledTransport transport = smtpTransportPool.borrow();
+
+        try {
+            transport.send(message);
+        } finally {
+            smtpTransportPool.release(transport);
+        }
+    }
+
+    @Override
+    public List<MailFailure> sendAll(List<Mail> mails) {
+        List<MailFailure> failures = new ArrayList<>();
+
+        PooledTransport transport;
+        try {
+            transport = smtpTransportPool.borrow();
+        } catch (MessagingException | InterruptedException ex) {
+            log.error("smtp transport borrow failed. size={}", mails.size(), ex);
+
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            return mails.stream()
+                    .map(mail -> new MailFailure(mail, ex))
+                    .toList();
+        }
+
+        try {
+            for (Mail mail : mails) {
+                try {
+                    transport.send(createMessage(mail));
+                } catch (Exception ex) {
+                    failures.add(new MailFailure(mail, ex));
+                }
+            }
+        } finally {
+            smtpTransportPool.release(transport);
+        }
+
+        return failures;
+    }
+
+    private MimeMessage createMessage(Mail mail) throws MessagingException {
         MimeMessage message = javaMailSender.createMimeMessage();
 
         MimeMessageHelper mimeMessageHelper
@@ -30,13 +87,11 @@ public class JavaMailApi implements MailApi {
         mimeMessageHelper.setTo(mail.to());
         mimeMessageHelper.setSubject(mail.mailTemplate().subject);
 
-        Context context = new Context();
-        context.setVariables(mail.values());
-
-        String html = templateEngine.process(mail.mailTemplate().code, context);
+        mimeMessageHelper.setText(mailTemplateRenderer.render(mail), true);
 
-        mimeMessageHelper.setText(html, true);
+        message.setSentDate(new Date());
+        message.saveChanges();
 
-        javaMailSender.send(message);
+        return message;
     }
 }
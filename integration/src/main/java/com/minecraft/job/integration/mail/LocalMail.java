@@ -0,0 +1,17 @@
+package com.minecraft.job.integration.mail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LocalMailbox 의 index 한 줄. 본문은 mbox 파일의 offset 부터 length 바이트다.
+ */
+public record LocalMail(
+        long sequence,
+        List<String> to,
+        MailTemplate mailTemplate,
+        LocalDateTime sentAt,
+        long offset,
+        int length
+) {
+}
@@ -1,14 +1,66 @@
 package com.minecraft.job.integration.mail;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 실제 템플릿으로 렌더링해서 LocalMailbox 에 쌓는다. 네트워크 없이 렌더링과 디스크 쓰기 비용까지 포함해서 메일 경로를 측정할 수 있다.
+ */
 @Component
 @Profile({"local", "default"})
+@RequiredArgsConstructor
 public class LocalMailApi implements MailApi {
 
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final LocalMailbox localMailbox;
+
     @Override
     public void send(Mail mail) throws Exception {
+        try {
+            localMailbox.append(mail, mailTemplateRenderer.render(mail)).get();
+        } catch (ExecutionException ex) {
+            throw causeOf(ex);
+        }
+    }
+
+    /**
+     * 모두 큐에 넣은 뒤 기다리므로 한 번의 fsync 로 함께 쓰인다.
+     */
+    @Override
+    public List<MailFailure> sendAll(List<Mail> mails) {
+        List<MailFailure> failures = new ArrayList<>();
+        List<CompletableFuture<LocalMail>> futures = new ArrayList<>(mails.size());
+
+        for (Mail mail : mails) {
+            try {
+                futures.add(localMailbox.append(mail, mailTemplateRenderer.render(mail)));
+            } catch (RuntimeException ex) {
+                futures.add(CompletableFuture.failedFuture(ex));
+            }
+        }
+
+        for (int i = 0; i < mails.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException ex) {
+                failures.add(new MailFailure(mails.get(i), causeOf(ex)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+
+                failures.add(new MailFailure(mails.get(i), ex));
+            }
+        }
+
+        return failures;
+    }
 
+    private Exception causeOf(ExecutionException ex) {
+        return ex.getCause() instanceof Exception cause ? cause : ex;
     }
 }
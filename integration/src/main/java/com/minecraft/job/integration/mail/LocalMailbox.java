@@ -0,0 +1,299 @@
+package com.minecraft.job.integration.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.minecraft.job.common.support.Preconditions.check;
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.nio.file.StandardOpenOption.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * 로컬 환경에서 보낸 메일을 디렉토리의 mbox 파일(mailbox.mbox)에 쌓는다.
+ * <p>
+ * 쓰기는 전용 스레드 하나가 맡는다. 큐에 쌓인 메일을 fsync-batch-size 만큼 모아서 쓰고 fsync 는 한 번만 한다.
+ * append 가 반환한 future 는 fsync 가 끝난 뒤 완료된다.
+ * <p>
+ * 메일마다 index.tsv 에 (sequence, offset, length, sentAt, template, 받는 사람) 한 줄을 남기고,
+ * 메모리에도 받는 사람별/템플릿별 index 를 들고 있어서 테스트에서 mbox 를 훑지 않고 찾을 수 있다.
+ */
+@Slf4j
+@Component
+@Profile({"local", "default"})
+public class LocalMailbox {
+
+    private static final String MBOX_FILE = "mailbox.mbox";
+    private static final String INDEX_FILE = "index.tsv";
+    private static final String LOCK_FILE = ".lock";
+    private static final DateTimeFormatter MBOX_DATE = DateTimeFormatter.ofPattern("EEE MMM d HH:mm:ss yyyy", Locale.US);
+
+    private final Path directory;
+    private final int fsyncBatchSize;
+    private final BlockingQueue<Entry> queue;
+    private final Thread writer;
+
+    private final Map<String, Queue<LocalMail>> mailsByRecipient = new ConcurrentHashMap<>();
+    private final Map<MailTemplate, Queue<LocalMail>> mailsByTemplate = new ConcurrentHashMap<>();
+
+    private FileChannel lockChannel;
+    private FileChannel mboxChannel;
+    private FileChannel indexChannel;
+    private long sequence;
+    private volatile boolean running = true;
+
+    public LocalMailbox(
+            @Value("${mail.local.directory:${java.io.tmpdir}/minecraft-job-mailbox}") Path directory,
+            @Value("${mail.local.fsync-batch-size:256}") int fsyncBatchSize,
+            @Value("${mail.local.queue-capacity:10000}") int queueCapacity
+    ) throws IOException {
+        require(0 < fsyncBatchSize);
+        require(0 < queueCapacity);
+
+        this.directory = directory;
+        this.fsyncBatchSize = fsyncBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        open();
+
+        this.writer = new Thread(this::write, "local-mailbox-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 큐가 가득 차면 자리가 날 때까지 기다린다.
+     */
+    public CompletableFuture<LocalMail> append(Mail mail, String html) {
+        check(running);
+
+        Entry entry = new Entry(mail, html, new CompletableFuture<>());
+
+        try {
+            queue.put(entry);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+
+            entry.future.completeExceptionally(ex);
+        }
+
+        return entry.future;
+    }
+
+    public List<LocalMail> findAllByRecipient(String recipient) {
+        return List.copyOf(mailsByRecipient.getOrDefault(recipient, new ConcurrentLinkedQueue<>()));
+    }
+
+    public List<LocalMail> findAllByTemplate(MailTemplate mailTemplate) {
+        return List.copyOf(mailsByTemplate.getOrDefault(mailTemplate, new ConcurrentLinkedQueue<>()));
+    }
+
+    public String read(LocalMail localMail) {
+        try (FileChannel channel = FileChannel.open(directory.resolve(MBOX_FILE), READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(localMail.length());
+
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, localMail.offset() + buffer.position()) < 0) {
+                    break;
+                }
+            }
+
+            return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        running = false;
+        writer.join(SECONDS.toMillis(10));
+
+        mboxChannel.close();
+        indexChannel.close();
+        lockChannel.close();
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+
+        lock();
+
+        Path indexPath = directory.resolve(INDEX_FILE);
+
+        if (Files.exists(indexPath)) {
+            for (String line : Files.readAllLines(indexPath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    LocalMail localMail = parseIndex(line);
+
+                    addIndex(localMail);
+                    sequence = Math.max(sequence, localMail.sequence());
+                }
+            }
+        }
+
+        this.mboxChannel = FileChannel.open(directory.resolve(MBOX_FILE), CREATE, WRITE, APPEND);
+        this.indexChannel = FileChannel.open(indexPath, CREATE, WRITE, APPEND);
+    }
+
+    /**
+     * 한 디렉토리에 쓰는 LocalMailbox 는 하나여야 offset 이 맞는다.
+     */
+    private void lock() throws IOException {
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), CREATE, WRITE);
+
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            lock = null;
+        }
+
+        if (lock == null) {
+            lockChannel.close();
+        }
+
+        check(lock != null, "local mailbox is already in use. set mail.local.directory. directory=" + directory);
+    }
+
+    private void write() {
+        List<Entry> batch = new ArrayList<>(fsyncBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, fsyncBatchSize - 1);
+
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+
+                return;
+            } catch (IOException | RuntimeException ex) {
+                log.error("local mailbox write failed. size={}", batch.size(), ex);
+
+                batch.forEach(entry -> entry.future.completeExceptionally(ex));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> batch) throws IOException {
+        List<LocalMail> localMails = new ArrayList<>(batch.size());
+        StringBuilder index = new StringBuilder();
+
+        for (Entry entry : batch) {
+            LocalDateTime sentAt = LocalDateTime.now();
+            byte[] message = format(entry.mail, entry.html, sentAt).getBytes(StandardCharsets.UTF_8);
+
+            long offset = mboxChannel.position();
+            ByteBuffer buffer = ByteBuffer.wrap(message);
+            while (buffer.hasRemaining()) {
+                mboxChannel.write(buffer);
+            }
+
+            LocalMail localMail = new LocalMail(++sequence, List.of(entry.mail.to()), entry.mail.mailTemplate(), sentAt, offset, message.length);
+
+            localMails.add(localMail);
+            index.append(formatIndex(localMail)).append('\n');
+        }
+
+        mboxChannel.force(false);
+
+        ByteBuffer buffer = ByteBuffer.wrap(index.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            indexChannel.write(buffer);
+        }
+
+        indexChannel.force(false);
+
+        for (int i = 0; i < batch.size(); i++) {
+            addIndex(localMails.get(i));
+            batch.get(i).future.complete(localMails.get(i));
+        }
+    }
+
+    private void addIndex(LocalMail localMail) {
+        for (String recipient : localMail.to()) {
+            mailsByRecipient.computeIfAbsent(recipient, key -> new ConcurrentLinkedQueue<>()).add(localMail);
+        }
+
+        mailsByTemplate.computeIfAbsent(localMail.mailTemplate(), key -> new ConcurrentLinkedQueue<>()).add(localMail);
+    }
+
+    /**
+     * mbox 형식. 본문에서 "From " 으로 시작하는 줄은 ">From " 으로 바꾼다.
+     */
+    private String format(Mail mail, String html, LocalDateTime sentAt) {
+        return "From MAILER-DAEMON " + MBOX_DATE.format(sentAt) + "\n"
+                + "Date: " + DateTimeFormatter.RFC_1123_DATE_TIME.format(sentAt.atZone(ZoneId.systemDefault())) + "\n"
+                + "To: " + String.join(", ", mail.to()) + "\n"
+                + "Subject: " + mail.mailTemplate().subject + "\n"
+                + "X-Mail-Template: " + mail.mailTemplate().name() + "\n"
+                + "Content-Type: text/html; charset=UTF-8\n"
+                + "\n"
+                + html.replaceAll("(?m)^From ", ">From ")
+                + "\n\n";
+    }
+
+    private String formatIndex(LocalMail localMail) {
+        return String.join("\t",
+                String.valueOf(localMail.sequence()),
+                String.valueOf(localMail.offset()),
+                String.valueOf(localMail.length()),
+                localMail.sentAt().toString(),
+                localMail.mailTemplate().name(),
+                String.join(",", localMail.to())
+        );
+    }
+
+    private LocalMail parseIndex(String line) {
+        String[] columns = line.split("\t");
+
+        return new LocalMail(
+                Long.parseLong(columns[0]),
+                Arrays.asList(columns[5].split(",")),
+                MailTemplate.valueOf(columns[4]),
+                LocalDateTime.parse(columns[3]),
+                Long.parseLong(columns[1]),
+                Integer.parseInt(columns[2])
+        );
+    }
+
+    private record Entry(Mail mail, String html, CompletableFuture<LocalMail> future) {
+    }
+}
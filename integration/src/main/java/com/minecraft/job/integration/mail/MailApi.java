@@ -1,6 +1,26 @@
 package com.minecraft.job.integration.mail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface MailApi {
 
     void send(Mail mail) throws Exception;
+
+    /**
+     * 메일을 차례로 보내고, 보내지 못한 메일만 실패 원인과 함께 반환한다.
+     */
+    default List<MailFailure> sendAll(List<Mail> mails) {
+        List<MailFailure> failures = new ArrayList<>();
+
+        for (Mail mail : mails) {
+            try {
+                send(mail);
+            } catch (Exception ex) {
+                failures.add(new MailFailure(mail, ex));
+            }
+        }
+
+        return failures;
+    }
 }
@@ -4,7 +4,6 @@ import org.springframework.boot.autoconfigure.mail.MailProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
@@ -14,7 +13,7 @@ import java.util.Properties;
 public class MailConfiguration {
 
     @Bean
-    public JavaMailSender javaMailSender(MailProperties mailProperties) {
+    public JavaMailSenderImpl javaMailSender(MailProperties mailProperties) {
         JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
 
         javaMailSender.setHost(mailProperties.getHost());
@@ -0,0 +1,11 @@
+package com.minecraft.job.integration.mail;
+
+/**
+ * 발송 스레드에서 메일마다 한 번 호출된다.
+ */
+public interface MailDeliveryCallback {
+
+    void onSent(Mail mail);
+
+    void onFailed(Mail mail, Exception cause);
+}
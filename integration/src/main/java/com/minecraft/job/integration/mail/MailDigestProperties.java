@@ -0,0 +1,28 @@
+package com.minecraft.job.integration.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 템플릿별 발송 방식. windows 에 있는 템플릿은 받는 사람별로 그 시간 동안 모아서 요약 메일 한 통으로 보내고,
+ * 없는 템플릿은 바로 보낸다. 기본값은 비어 있어서 모든 메일을 바로 보낸다.
+ * 예) mail.digest.windows.recruitment-process-create=30m
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mail.digest")
+public class MailDigestProperties {
+
+    private Map<MailTemplate, Duration> windows = new EnumMap<>(MailTemplate.class);
+
+    public boolean isDigest(MailTemplate mailTemplate) {
+        return windows.containsKey(mailTemplate);
+    }
+}
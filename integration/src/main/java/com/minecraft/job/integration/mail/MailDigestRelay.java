@@ -0,0 +1,60 @@
+package com.minecraft.job.integration.mail;
+
+import com.minecraft.job.common.mail.service.MailDigestService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * digest 시간이 지난 받는 사람의 알림을 요약 메일 한 통으로 묶어서 mail_outbox 에 남긴다.
+ * <p>
+ * mail.digest.flushed: 남긴 요약 메일 수
+ */
+@Component
+public class MailDigestRelay {
+
+    private final MailDigestService mailDigestService;
+    private final MailDigestProperties mailDigestProperties;
+
+    private final Counter flushedCounter;
+
+    public MailDigestRelay(
+            MailDigestService mailDigestService,
+            MailDigestProperties mailDigestProperties,
+            MeterRegistry meterRegistry
+    ) {
+        mailDigestProperties.getWindows().keySet().forEach(mailTemplate -> require(mailTemplate.digest() != null));
+
+        this.mailDigestService = mailDigestService;
+        this.mailDigestProperties = mailDigestProperties;
+
+        this.flushedCounter = meterRegistry.counter("mail.digest.flushed");
+    }
+
+    @Scheduled(fixedDelayString = "${mail.digest.flush-millis:60000}")
+    public int flush() {
+        int flushedCount = 0;
+
+        for (Map.Entry<MailTemplate, Duration> window : mailDigestProperties.getWindows().entrySet()) {
+            MailTemplate mailTemplate = window.getKey();
+            LocalDateTime createdBefore = LocalDateTime.now().minus(window.getValue());
+
+            for (String recipient : mailDigestService.getDueRecipients(mailTemplate.name(), createdBefore)) {
+                if (mailDigestService.flush(recipient, mailTemplate.name(), mailTemplate.digest().name()).isPresent()) {
+                    flushedCount++;
+                }
+            }
+        }
+
+        flushedCounter.increment(flushedCount);
+
+        return flushedCount;
+    }
+}
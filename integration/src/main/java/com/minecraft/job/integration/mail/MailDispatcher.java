@@ -0,0 +1,172 @@
+package com.minecraft.job.integration.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * 알림 메일을 요청 스레드가 아닌 전용 스레드 풀에서 보낸다.
+ * <p>
+ * 작업 하나는 메일 여러 통이며, 한 SMTP 세션으로 보낸다.
+ * 큐는 작업 수로 크기가 정해져 있고, 가득 차면 받지 않는다. 받지 못한 메일은 MailOutboxRelay 가 바로 mail_outbox 의 PENDING 으로 되돌려 다음 relay 에 다시 보낸다.
+ * 종료 시에는 awaitTermination 동안 큐에 남은 메일을 보낸다.
+ * <p>
+ * executor.* (name=notification): 스레드/큐 지표 (active, queued, queue.remaining, pool.size 등)
+ * notification.mail.wait: 큐에서 기다린 시간
+ * notification.mail.send: 작업 하나를 보내는 데 걸린 시간
+ * notification.mail.rejected, notification.mail.failed
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final MailApi mailApi;
+    private final ThreadPoolExecutor executor;
+    private final long awaitTerminationMillis;
+
+    private final Timer waitTimer;
+    private final Timer sendTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public MailDispatcher(
+            MailApi mailApi,
+            MeterRegistry meterRegistry,
+            @Value("${notification.executor.core-size:2}") int coreSize,
+            @Value("${notification.executor.max-size:4}") int maxSize,
+            @Value("${notification.executor.queue-capacity:1000}") int queueCapacity,
+            @Value("${notification.executor.await-termination-millis:10000}") long awaitTerminationMillis
+    ) {
+        require(0 < coreSize);
+        require(coreSize <= maxSize);
+        require(0 < queueCapacity);
+
+        this.mailApi = mailApi;
+        this.awaitTerminationMillis = awaitTerminationMillis;
+        this.executor = new ThreadPoolExecutor(
+                coreSize, maxSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("notification-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        new ExecutorServiceMetrics(executor, "notification", Tags.empty()).bindTo(meterRegistry);
+
+        this.waitTimer = Timer.builder("notification.mail.wait").publishPercentileHistogram().register(meterRegistry);
+        this.sendTimer = Timer.builder("notification.mail.send").publishPercentileHistogram().register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("notification.mail.rejected");
+        this.failedCounter = meterRegistry.counter("notification.mail.failed");
+    }
+
+    /**
+     * 메일들을 한 작업으로 묶어서 한 SMTP 세션으로 보내고, 발송 스레드에서 메일마다 callback 을 호출한다.
+     * 큐가 가득 찼거나 종료 중이면 false 를 반환한다.
+     */
+    public boolean dispatch(List<Mail> mails, MailDeliveryCallback callback) {
+        try {
+            executor.execute(new MailTask(mails, callback, System.nanoTime()));
+
+            return true;
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+
+            return false;
+        }
+    }
+
+    public int getRemainingCapacity() {
+        if (executor.isShutdown()) {
+            return 0;
+        }
+
+        return executor.getQueue().remainingCapacity();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+
+        if (executor.awaitTermination(awaitTerminationMillis, MILLISECONDS)) {
+            return;
+        }
+
+        List<Runnable> pending = executor.shutdownNow();
+
+        log.warn("notification executor stopped before drain. pending={}", pending.size());
+    }
+
+    private class MailTask implements Runnable {
+
+        private final List<Mail> mails;
+        private final MailDeliveryCallback callback;
+        private final long enqueuedAt;
+
+        private MailTask(List<Mail> mails, MailDeliveryCallback callback, long enqueuedAt) {
+            this.mails = mails;
+            this.callback = callback;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            waitTimer.record(System.nanoTime() - enqueuedAt, NANOSECONDS);
+
+            long startedAt = System.nanoTime();
+
+            List<MailFailure> failures;
+            try {
+                failures = mailApi.sendAll(mails);
+            } catch (Exception ex) {
+                failures = mails.stream()
+                        .map(mail -> new MailFailure(mail, ex))
+                        .toList();
+            } finally {
+                sendTimer.record(System.nanoTime() - startedAt, NANOSECONDS);
+            }
+
+            Map<Mail, Exception> causeByMail = new IdentityHashMap<>();
+
+            for (MailFailure failure : failures) {
+                causeByMail.put(failure.mail(), failure.cause());
+
+                log.warn("mail send failed. template={}", failure.mail().mailTemplate(), failure.cause());
+            }
+
+            failedCounter.increment(failures.size());
+
+            for (Mail mail : mails) {
+                Exception cause = causeByMail.get(mail);
+
+                try {
+                    if (cause == null) {
+                        callback.onSent(mail);
+                    } else {
+                        callback.onFailed(mail, cause);
+                    }
+                } catch (Exception ex) {
+                    log.error("mail callback failed. template={}", mail.mailTemplate(), ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.minecraft.job.integration.mail;
+
+public record MailFailure(
+        Mail mail,
+        Exception cause
+) {
+}
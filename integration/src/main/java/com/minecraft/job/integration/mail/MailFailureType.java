@@ -0,0 +1,57 @@
+package com.minecraft.job.integration.mail;
+
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import com.sun.mail.smtp.SMTPSendFailedException;
+import com.sun.mail.smtp.SMTPSenderFailedException;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.AddressException;
+
+/**
+ * 다시 보내면 성공할 수 있는 실패(연결 끊김, 4xx 응답)와 다시 보내도 실패할 실패(5xx 응답, 잘못된 주소나 값)를 나눈다.
+ */
+public enum MailFailureType {
+    TRANSIENT,
+    PERMANENT;
+
+    public static MailFailureType classify(Exception ex) {
+        for (Throwable cause = ex; cause != null; cause = nextCause(cause)) {
+            if (cause instanceof IllegalArgumentException || cause instanceof AddressException) {
+                return PERMANENT;
+            }
+
+            if (isPermanentReply(cause)) {
+                return PERMANENT;
+            }
+        }
+
+        return TRANSIENT;
+    }
+
+    private static boolean isPermanentReply(Throwable cause) {
+        int returnCode;
+
+        if (cause instanceof SMTPAddressFailedException ex) {
+            returnCode = ex.getReturnCode();
+        } else if (cause instanceof SMTPSenderFailedException ex) {
+            returnCode = ex.getReturnCode();
+        } else if (cause instanceof SMTPSendFailedException ex) {
+            returnCode = ex.getReturnCode();
+        } else {
+            return false;
+        }
+
+        return 500 <= returnCode && returnCode < 600;
+    }
+
+    /**
+     * MessagingException 은 원인을 getCause 가 아닌 getNextException 으로도 잇는다.
+     */
+    private static Throwable nextCause(Throwable cause) {
+        if (cause instanceof MessagingException ex && ex.getNextException() != null) {
+            return ex.getNextException();
+        }
+
+        return cause.getCause();
+    }
+}
@@ -0,0 +1,279 @@
+package com.minecraft.job.integration.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minecraft.job.common.mail.domain.MailOutbox;
+import com.minecraft.job.common.mail.domain.MailOutboxRepository;
+import com.minecraft.job.common.mail.service.MailOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * mail_outbox 의 PENDING 메일을 batch 단위로 가져가서 MailDispatcher 로 보내고, 발송되면 SENT 로 표시한다.
+ * <p>
+ * 가져갈 때만 짧은 트랜잭션으로 row 를 잠그고 SENDING 으로 바꾸므로 SMTP 발송 중에는 DB 커넥션을 잡지 않는다.
+ * 큐가 받지 않은 메일은 바로 PENDING 으로 되돌리고, 가져간 뒤 lease 안에 SENT 가 되지 않은 메일(노드 종료)은 다시 가져간다.
+ * 따라서 발송은 최소 한 번이며, 발송 직후 노드가 죽으면 한 번 더 보낼 수 있다.
+ * <p>
+ * 일시적인 발송 실패는 MailRetryPolicy 의 시간이 지난 뒤 다시 가져가고(스레드가 기다리지 않는다),
+ * 영구적인 실패, 재시도 소진, 잘못된 row 는 mail_dead_letter 로 옮긴다.
+ * 받는 사람 도메인의 발송량 제한(MailThrottle)에 걸린 메일은 버리지 않고 outbox 로 되돌려 미룬다.
+ * <p>
+ * mail.outbox.claimed, mail.outbox.sent: relay 처리량
+ * mail.outbox.lag: 생성부터 발송 완료까지 걸린 시간
+ * mail.outbox.oldest.age: 아직 보내지 않은 가장 오래된 메일의 나이 (ms)
+ * mail.outbox.dead: dead letter 로 옮긴 수
+ * mail.delivery.attempts, mail.delivery.sent, mail.delivery.failed (template, type 태그): 템플릿별 발송 시도/성공/실패
+ */
+@Slf4j
+@Component
+public class MailOutboxRelay {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final TypeReference<Map<String, Object>> VALUES_TYPE = new TypeReference<>() {
+    };
+
+    private final MailOutboxService mailOutboxService;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDispatcher mailDispatcher;
+    private final MailRetryPolicy mailRetryPolicy;
+    private final MailThrottle mailThrottle;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int sendBatchSize;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final Counter claimedCounter;
+    private final Counter sentCounter;
+    private final Counter invalidCounter;
+    private final Timer lagTimer;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    public MailOutboxRelay(
+            MailOutboxService mailOutboxService,
+            MailOutboxRepository mailOutboxRepository,
+            MailDispatcher mailDispatcher,
+            MailRetryPolicy mailRetryPolicy,
+            MailThrottle mailThrottle,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${mail.outbox.batch-size:100}") int batchSize,
+            @Value("${mail.outbox.send-batch-size:20}") int sendBatchSize,
+            @Value("${mail.outbox.lease-millis:60000}") long leaseMillis,
+            @Value("${mail.outbox.retention-days:7}") long retentionDays
+    ) {
+        require(0 < batchSize);
+        require(0 < sendBatchSize);
+        require(0 < leaseMillis);
+
+        this.mailOutboxService = mailOutboxService;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailDispatcher = mailDispatcher;
+        this.mailRetryPolicy = mailRetryPolicy;
+        this.mailThrottle = mailThrottle;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.sendBatchSize = sendBatchSize;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retention = Duration.ofDays(retentionDays);
+
+        this.claimedCounter = meterRegistry.counter("mail.outbox.claimed");
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.invalidCounter = meterRegistry.counter("mail.outbox.invalid");
+        this.lagTimer = Timer.builder("mail.outbox.lag").publishPercentileHistogram().register(meterRegistry);
+        meterRegistry.gauge("mail.outbox.oldest.age", oldestAgeMillis);
+    }
+
+    /**
+     * dispatcher 큐에 여유가 있는 만큼만 가져가므로, 큐가 가득 차면 메일은 outbox 에 PENDING 으로 남는다.
+     * 가져온 메일은 send-batch-size 씩 묶어서 한 SMTP 세션으로 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.relay-millis:1000}")
+    public int relay() {
+        int claimedCount = 0;
+
+        while (true) {
+            int limit = (int) Math.min(batchSize, (long) mailDispatcher.getRemainingCapacity() * sendBatchSize);
+
+            if (limit == 0) {
+                break;
+            }
+
+            List<MailOutbox> mailOutboxes = mailOutboxService.claim(limit, LocalDateTime.now().minus(lease));
+
+            for (int from = 0; from < mailOutboxes.size(); from += sendBatchSize) {
+                dispatch(mailOutboxes.subList(from, Math.min(from + sendBatchSize, mailOutboxes.size())));
+            }
+
+            claimedCounter.increment(mailOutboxes.size());
+            claimedCount += mailOutboxes.size();
+
+            if (mailOutboxes.size() < limit) {
+                break;
+            }
+        }
+
+        oldestAgeMillis.set(mailOutboxRepository.findOldestUnsentCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L));
+
+        return claimedCount;
+    }
+
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 0 5 * * *}")
+    public void purge() {
+        LocalDateTime sentBefore = LocalDateTime.now().minus(retention);
+
+        int purged;
+        do {
+            purged = mailOutboxService.purgeSent(sentBefore, PURGE_BATCH_SIZE);
+        } while (purged == PURGE_BATCH_SIZE);
+    }
+
+    private void dispatch(List<MailOutbox> mailOutboxes) {
+        Map<Mail, MailOutbox> mailOutboxByMail = new IdentityHashMap<>();
+
+        for (MailOutbox mailOutbox : mailOutboxes) {
+            try {
+                mailOutboxByMail.put(toMail(mailOutbox), mailOutbox);
+            } catch (JsonProcessingException | IllegalArgumentException ex) {
+                invalidCounter.increment();
+
+                log.error("invalid mail outbox. id={}", mailOutbox.getId(), ex);
+
+                deadLetter(mailOutbox, ex);
+            }
+        }
+
+        throttle(mailOutboxByMail);
+
+        if (mailOutboxByMail.isEmpty()) {
+            return;
+        }
+
+        mailOutboxByMail.keySet().forEach(mail -> deliveryCounter("mail.delivery.attempts", mail.mailTemplate()).increment());
+
+        boolean accepted = mailDispatcher.dispatch(new ArrayList<>(mailOutboxByMail.keySet()), new MailDeliveryCallback() {
+
+            @Override
+            public void onSent(Mail mail) {
+                MailOutbox mailOutbox = mailOutboxByMail.get(mail);
+
+                mailOutboxService.markSent(mailOutbox.getId());
+
+                sentCounter.increment();
+                deliveryCounter("mail.delivery.sent", mail.mailTemplate()).increment();
+                lagTimer.record(Duration.between(mailOutbox.getCreatedAt(), LocalDateTime.now()).toMillis(), MILLISECONDS);
+            }
+
+            @Override
+            public void onFailed(Mail mail, Exception cause) {
+                MailOutbox mailOutbox = mailOutboxByMail.get(mail);
+                MailFailureType failureType = MailFailureType.classify(cause);
+
+                meterRegistry.counter("mail.delivery.failed",
+                        "template", mail.mailTemplate().name(), "type", failureType.name()).increment();
+
+                if (failureType == MailFailureType.PERMANENT || mailRetryPolicy.isExhausted(mailOutbox.getAttempts())) {
+                    deadLetter(mailOutbox, cause);
+
+                    return;
+                }
+
+                mailOutboxService.retry(
+                        mailOutbox.getId(),
+                        mailRetryPolicy.nextAttemptAt(mailOutbox.getAttempts(), LocalDateTime.now()),
+                        describe(cause)
+                );
+            }
+        });
+
+        if (!accepted) {
+            release(mailOutboxByMail.values());
+        }
+    }
+
+    /**
+     * dispatcher 큐가 받지 않은 메일은 lease 를 기다리지 않고 바로 PENDING 으로 되돌린다.
+     * SENDING 은 이미 커밋되어 있으므로 되돌리기 전에 노드가 죽어도 lease 가 지나면 다시 가져간다.
+     */
+    private void release(Collection<MailOutbox> mailOutboxes) {
+        Map<Long, LocalDateTime> nextAttemptAtById = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        mailOutboxes.forEach(mailOutbox -> nextAttemptAtById.put(mailOutbox.getId(), now));
+
+        mailOutboxService.defer(nextAttemptAtById);
+    }
+
+    /**
+     * 발송량 제한에 걸린 메일은 보내지 않고 outbox 로 되돌려서 미룬 시간 뒤에 다시 가져간다.
+     */
+    private void throttle(Map<Mail, MailOutbox> mailOutboxByMail) {
+        Map<Long, LocalDateTime> nextAttemptAtById = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Iterator<Map.Entry<Mail, MailOutbox>> iterator = mailOutboxByMail.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Mail, MailOutbox> entry = iterator.next();
+            Duration delay = mailThrottle.tryAcquire(entry.getValue().getId(), entry.getKey());
+
+            if (delay.isZero()) {
+                continue;
+            }
+
+            nextAttemptAtById.put(entry.getValue().getId(), now.plus(delay));
+            mailThrottle.recordQueued(entry.getKey(), delay);
+            iterator.remove();
+        }
+
+        if (!nextAttemptAtById.isEmpty()) {
+            mailOutboxService.defer(nextAttemptAtById);
+        }
+    }
+
+    private void deadLetter(MailOutbox mailOutbox, Exception cause) {
+        mailOutboxService.deadLetter(mailOutbox.getId(), describe(cause));
+
+        meterRegistry.counter("mail.outbox.dead", "template", mailOutbox.getTemplate()).increment();
+    }
+
+    private Counter deliveryCounter(String name, MailTemplate mailTemplate) {
+        return meterRegistry.counter(name, "template", mailTemplate.name());
+    }
+
+    private String describe(Exception cause) {
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    private Mail toMail(MailOutbox mailOutbox) throws JsonProcessingException {
+        MailTemplate mailTemplate = MailTemplate.valueOf(mailOutbox.getTemplate());
+        Map<String, Object> values = objectMapper.readValue(mailOutbox.getPayload(), VALUES_TYPE);
+
+        mailTemplate.validate(values);
+
+        return new Mail(mailOutbox.getRecipients().split(","), mailTemplate, values);
+    }
+}
@@ -0,0 +1,45 @@
+package com.minecraft.job.integration.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minecraft.job.common.mail.service.MailDigestService;
+import com.minecraft.job.common.mail.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일을 바로 보내지 않고 현재 트랜잭션에 mail_outbox row 로 남긴다. 커밋된 메일만 MailOutboxRelay 가 보낸다.
+ * <p>
+ * digest 로 보내는 템플릿이면 받는 사람별로 mail_digest 에 쌓고, MailDigestRelay 가 요약 메일로 묶어서 mail_outbox 에 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailPublisher {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailDigestService mailDigestService;
+    private final MailDigestProperties mailDigestProperties;
+    private final ObjectMapper objectMapper;
+
+    public void publish(Mail mail) {
+        String payload = toPayload(mail);
+
+        if (mailDigestProperties.isDigest(mail.mailTemplate())) {
+            for (String recipient : mail.to()) {
+                mailDigestService.append(recipient, mail.mailTemplate().name(), payload);
+            }
+
+            return;
+        }
+
+        mailOutboxService.append(String.join(",", mail.to()), mail.mailTemplate().name(), payload);
+    }
+
+    private String toPayload(Mail mail) {
+        try {
+            return objectMapper.writeValueAsString(mail.values());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
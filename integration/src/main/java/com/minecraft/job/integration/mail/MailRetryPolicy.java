@@ -0,0 +1,54 @@
+package com.minecraft.job.integration.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+
+/**
+ * 일시적인 실패는 지수 백오프로 다시 보낸다.
+ * <p>
+ * 장애가 끝났을 때 여러 노드의 재시도가 한꺼번에 몰리지 않도록 0 ~ min(max, base * 2^(attempts - 1)) 사이에서 무작위로 고른다. (full jitter)
+ */
+@Component
+public class MailRetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseMillis;
+    private final long maxMillis;
+
+    public MailRetryPolicy(
+            @Value("${mail.retry.max-attempts:8}") int maxAttempts,
+            @Value("${mail.retry.base-millis:30000}") long baseMillis,
+            @Value("${mail.retry.max-millis:3600000}") long maxMillis
+    ) {
+        require(0 < maxAttempts);
+        require(0 < baseMillis);
+        require(baseMillis <= maxMillis);
+
+        this.maxAttempts = maxAttempts;
+        this.baseMillis = baseMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    public boolean isExhausted(int attempts) {
+        return maxAttempts <= attempts;
+    }
+
+    public Duration backoff(int attempts) {
+        int exponent = Math.max(attempts - 1, 0);
+        long ceiling = exponent < Long.numberOfLeadingZeros(baseMillis) - 1
+                ? Math.min(maxMillis, baseMillis << exponent)
+                : maxMillis;
+
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    public LocalDateTime nextAttemptAt(int attempts, LocalDateTime now) {
+        return now.plus(backoff(attempts));
+    }
+}
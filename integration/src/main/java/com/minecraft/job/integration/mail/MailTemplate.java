@@ -1,17 +1,45 @@
 package com.minecraft.job.integration.mail;
 
+import java.util.Map;
+import java.util.Set;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+
 public enum MailTemplate {
-    REVIEW_CREATE("[MCJ] 팀에 리뷰가 작성되었습니다.", "review_create.html"),
-    RECRUITMENT_PROCESS_CREATE("[MCJ] 팀의 채용공고에 새로운 이력서가 도착했습니다.", "recruitmentProcess_create.html"),
-    RECRUITMENT_PROCESS_INPROGRESS("[MCJ] 지원하신 채용공고에 새로운 소식이 도착했습니다.", "recruitmentProcess_InProgress.html"),
-    RECRUITMENT_PROCESS_PASS("[MCJ] 지원하신 채용공고에 새로운 소식이 도착했습니다.", "recruitmentProcess_Pass.html"),
-    RECRUITMENT_PROCESS_FAIL("[MCJ] 지원하신 채용공고에 새로운 소식이 도착했습니다.", "recruitmentProcess_Fail.html");
+    REVIEW_CREATE("[MCJ] 팀에 리뷰가 작성되었습니다.", "review_create.html",
+            "teamName", "userNickname", "score", "averagePoint"),
+    RECRUITMENT_PROCESS_CREATE("[MCJ] 팀의 채용공고에 새로운 이력서가 도착했습니다.", "recruitmentProcess_create.html",
+            "teamName", "userNickname", "recruitmentName"),
+    RECRUITMENT_PROCESS_INPROGRESS("[MCJ] 지원하신 채용공고에 새로운 소식이 도착했습니다.", "recruitmentProcess_InProgress.html",
+            "teamName", "userNickname", "recruitmentName"),
+    RECRUITMENT_PROCESS_PASS("[MCJ] 지원하신 채용공고에 새로운 소식이 도착했습니다.", "recruitmentProcess_Pass.html",
+            "teamName", "userNickname", "recruitmentName"),
+    RECRUITMENT_PROCESS_FAIL("[MCJ] 지원하신 채용공고에 새로운 소식이 도착했습니다.", "recruitmentProcess_Fail.html",
+            "teamName", "userNickname", "recruitmentName"),
+    RECRUITMENT_PROCESS_CREATE_DIGEST("[MCJ] 팀의 채용공고에 새로운 이력서가 도착했습니다.", "recruitmentProcess_create_digest.html",
+            "items");
 
     public String subject;
     public String code;
+    public Set<String> variables;
 
-    MailTemplate(String subject, String code) {
+    MailTemplate(String subject, String code, String... variables) {
         this.subject = subject;
         this.code = code;
+        this.variables = Set.of(variables);
+    }
+
+    public void validate(Map<String, ?> values) {
+        require(values.keySet().containsAll(variables), name() + " requires " + variables);
+    }
+
+    /**
+     * 여러 알림을 한 통으로 묶어 보낼 때 쓰는 요약 템플릿. 묶어 보낼 수 없으면 null 이다.
+     */
+    public MailTemplate digest() {
+        return switch (this) {
+            case RECRUITMENT_PROCESS_CREATE -> RECRUITMENT_PROCESS_CREATE_DIGEST;
+            default -> null;
+        };
     }
 }
@@ -0,0 +1,76 @@
+package com.minecraft.job.integration.mail;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 본문을 렌더링한다. JavaMailApi 외에 digest, 미리보기에서도 쓴다.
+ * <p>
+ * 시작할 때 모든 MailTemplate 을 변수 이름을 값으로 채워 한 번 렌더링해서 템플릿이 있는지, 파싱되는지 확인하고
+ * 파싱 결과를 캐시에 올려 둔다. 요약 템플릿의 items 에는 원래 템플릿의 값 하나를 넣는다.
+ * (spring.thymeleaf.cache 가 꺼져 있으면 매번 다시 파싱한다.)
+ * 렌더링 버퍼는 스레드마다 재사용하되, 너무 커진 버퍼는 버린다.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 4 * 1024;
+    private static final int MAX_BUFFER_CAPACITY = 64 * 1024;
+
+    private final SpringTemplateEngine templateEngine;
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(INITIAL_BUFFER_CAPACITY));
+
+    public MailTemplateRenderer(SpringTemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+
+        for (MailTemplate mailTemplate : MailTemplate.values()) {
+            render(mailTemplate, sampleValues(mailTemplate));
+        }
+    }
+
+    public String render(Mail mail) {
+        return render(mail.mailTemplate(), mail.values());
+    }
+
+    public String render(MailTemplate mailTemplate, Map<String, Object> values) {
+        mailTemplate.validate(values);
+
+        Context context = new Context();
+        context.setVariables(values);
+
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+
+        templateEngine.process(mailTemplate.code, context, buffer);
+
+        String html = buffer.toString();
+
+        if (buffer.getBuffer().capacity() > MAX_BUFFER_CAPACITY) {
+            buffers.remove();
+        }
+
+        return html;
+    }
+
+    private static Map<String, Object> sampleValues(MailTemplate mailTemplate) {
+        Map<String, Object> values = new HashMap<>();
+
+        for (String variable : mailTemplate.variables) {
+            values.put(variable, variable);
+        }
+
+        for (MailTemplate source : MailTemplate.values()) {
+            if (source.digest() == mailTemplate) {
+                values.put("items", List.of(sampleValues(source)));
+            }
+        }
+
+        return values;
+    }
+}
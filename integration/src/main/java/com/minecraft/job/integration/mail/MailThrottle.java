@@ -0,0 +1,170 @@
+package com.minecraft.job.integration.mail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * 받는 사람 도메인별 token bucket.
+ * <p>
+ * 도메인마다 다음 token 이 생기는 시각 하나를 AtomicLong 으로 들고 CAS 로 갱신하므로(GCRA) 락을 잡지 않고,
+ * 도메인끼리는 서로 다른 bucket 을 쓰므로 한 도메인의 폭주가 다른 도메인을 막지 않는다.
+ * <p>
+ * bucket 은 JVM 마다 따로 있다. relay 는 api 와 admin 에서 모두 돌므로, 설정한 rate 와 burst 를
+ * mail.throttle.nodes 로 나눠서 노드마다 그만큼만 보낸다.
+ * <p>
+ * mail.throttle.queued: token 이 없어서 outbox 로 되돌린 메일 수 (domain 태그)
+ * mail.throttle.delay: 되돌리면서 미룬 시간 (domain 태그)
+ * 설정에 없는 도메인은 domain=other 로 묶는다.
+ */
+@Component
+public class MailThrottle {
+
+    private static final String OTHER_DOMAIN = "other";
+    private static final long IDLE_NANOS = Duration.ofMinutes(10).toNanos();
+
+    private final MailThrottleProperties mailThrottleProperties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> reservations = new ConcurrentHashMap<>();
+
+    public MailThrottle(MailThrottleProperties mailThrottleProperties, MeterRegistry meterRegistry) {
+        this.mailThrottleProperties = mailThrottleProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 메일의 모든 받는 사람 도메인에서 token 을 하나씩 가져간다. 모두 가져갔으면 0 을, 아니면 미룰 시간을 반환한다.
+     * 이때 이미 가져간 다른 도메인의 token 은 돌려주지 않는다.
+     * <p>
+     * 미룰 때는 그 시각의 token 을 미리 가져가 두므로, 미룬 메일들은 token 간격으로 줄을 서고
+     * 그 사이에 들어온 메일이 자리를 뺏지 못한다. 같은 outbox 가 다시 오면 새 token 을 쓰지 않고 예약한 시각까지 남은 시간을
+     * 반환하고, 그 시각이 지났을 때만 예약을 지우고 보낸다. 그래서 예약한 시각보다 일찍 PENDING 으로 되돌아온 outbox 도 rate 를 넘지 않는다.
+     * 다른 노드가 그 outbox 를 가져가면 거기서는 예약을 모르므로 한 번 더 token 을 쓴다.
+     */
+    public Duration tryAcquire(Long mailOutboxId, Mail mail) {
+        long now = System.nanoTime();
+        Long slot = reservations.get(mailOutboxId);
+
+        if (slot != null) {
+            if (slot - now > 0) {
+                return Duration.ofNanos(slot - now);
+            }
+
+            reservations.remove(mailOutboxId, slot);
+
+            return Duration.ZERO;
+        }
+
+        long waitNanos = 0;
+
+        for (String domain : domains(mail)) {
+            waitNanos = Math.max(waitNanos, acquire(domain, now));
+        }
+
+        if (waitNanos > 0) {
+            reservations.put(mailOutboxId, now + waitNanos);
+        }
+
+        return Duration.ofNanos(waitNanos);
+    }
+
+    public void recordQueued(Mail mail, Duration delay) {
+        for (String domain : domains(mail)) {
+            String tag = mailThrottleProperties.getDomains().containsKey(domain) ? domain : OTHER_DOMAIN;
+
+            meterRegistry.counter("mail.throttle.queued", "domain", tag).increment();
+            Timer.builder("mail.throttle.delay").tag("domain", tag).register(meterRegistry).record(delay.toNanos(), NANOSECONDS);
+        }
+    }
+
+    /**
+     * 오래 쓰지 않은 bucket 은 token 이 가득 찬 상태와 같으므로 지워도 된다.
+     * 지우는 중에 token 을 가져가는 스레드와 겹치지 않도록 bucket 마다 map 의 lock 안에서 idle 인지 다시 본다.
+     * 예약한 시각이 한참 지난 예약은 다른 노드가 보낸 것이므로 버린다.
+     */
+    @Scheduled(fixedDelayString = "${mail.throttle.evict-millis:600000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+
+        for (String domain : buckets.keySet()) {
+            buckets.computeIfPresent(domain, (key, bucket) -> bucket.isIdle(now) ? null : bucket);
+        }
+
+        reservations.values().removeIf(slot -> now - slot > IDLE_NANOS);
+    }
+
+    private String[] domains(Mail mail) {
+        return Arrays.stream(mail.to())
+                .map(MailThrottle::domain)
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * token 을 가져간 bucket 이 그 사이에 지워졌으면 새 bucket 에서 다시 가져간다.
+     * token 을 가져간 뒤의 bucket 은 idle 이 아니므로 그 뒤로는 지워지지 않는다.
+     */
+    private long acquire(String domain, long now) {
+        while (true) {
+            Bucket bucket = buckets.computeIfAbsent(domain,
+                    key -> new Bucket(mailThrottleProperties.getRate(key), mailThrottleProperties.getNodes()));
+
+            long waitNanos = bucket.tryAcquire(now);
+
+            if (buckets.get(domain) == bucket) {
+                return waitNanos;
+            }
+        }
+    }
+
+    private static String domain(String recipient) {
+        return recipient.substring(recipient.lastIndexOf('@') + 1).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Bucket {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        private Bucket(MailThrottleProperties.Rate rate, int nodes) {
+            require(0 < rate.getPermitsPerSecond());
+            require(0 < rate.getBurst());
+            require(0 < nodes);
+
+            this.intervalNanos = (long) (Duration.ofSeconds(1).toNanos() * nodes / rate.getPermitsPerSecond());
+            this.toleranceNanos = intervalNanos * (Math.max(1, rate.getBurst() / nodes) - 1);
+        }
+
+        /**
+         * token 이 없어도 다음 token 을 예약하고 그때까지 남은 시간을 반환한다.
+         */
+        private long tryAcquire(long now) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long base = arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival;
+
+                if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                    return Math.max(0, base - toleranceNanos - now);
+                }
+            }
+        }
+
+        private boolean isIdle(long now) {
+            long arrival = theoreticalArrival.get();
+
+            return arrival == Long.MIN_VALUE || now - arrival > IDLE_NANOS;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.minecraft.job.integration.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 받는 사람 도메인별 초당 발송 수(rate)와 한 번에 몰아 보낼 수 있는 수(burst).
+ * domains 에 없는 도메인은 default 를 쓴다. yml 에서 점이 들어간 key 는 "[gmail.com]" 처럼 적는다.
+ * rate 와 burst 는 전체 노드를 합친 값이고, 노드마다 nodes 로 나눈 만큼만 보낸다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mail.throttle")
+public class MailThrottleProperties {
+
+    private int nodes = 1;
+    private Rate defaults = new Rate();
+    private Map<String, Rate> domains = new HashMap<>();
+
+    public Rate getRate(String domain) {
+        return domains.getOrDefault(domain, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Rate {
+
+        private double permitsPerSecond = 5;
+        private int burst = 10;
+    }
+}
@@ -0,0 +1,129 @@
+package com.minecraft.job.integration.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import static com.minecraft.job.common.support.Preconditions.require;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 연결(TCP + STARTTLS + AUTH)된 SMTP transport 를 재사용한다.
+ * <p>
+ * 서버는 유휴 연결을 먼저 끊을 수 있으므로 빌려줄 때 isConnected(NOOP)로 확인하고, 끊겼으면 다시 연결한다.
+ * 발송 중 연결이 끊기면 PooledTransport 가 다시 연결해서 그 메일부터 이어 보낸다.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl javaMailSender;
+    private final LinkedBlockingQueue<Transport> idleTransports = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private final long borrowTimeoutMillis;
+
+    public SmtpTransportPool(
+            JavaMailSenderImpl javaMailSender,
+            @Value("${mail.transport.pool-size:4}") int poolSize,
+            @Value("${mail.transport.borrow-timeout-millis:30000}") long borrowTimeoutMillis
+    ) {
+        require(0 < poolSize);
+
+        this.javaMailSender = javaMailSender;
+        this.permits = new Semaphore(poolSize);
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+    }
+
+    public PooledTransport borrow() throws MessagingException, InterruptedException {
+        if (!permits.tryAcquire(borrowTimeoutMillis, MILLISECONDS)) {
+            throw new MessagingException("smtp transport pool exhausted");
+        }
+
+        try {
+            Transport transport = idleTransports.poll();
+
+            if (transport == null) {
+                transport = createTransport();
+            }
+
+            if (!transport.isConnected()) {
+                connect(transport);
+            }
+
+            return new PooledTransport(transport);
+        } catch (MessagingException | RuntimeException ex) {
+            permits.release();
+
+            throw ex;
+        }
+    }
+
+    public void release(PooledTransport pooledTransport) {
+        idleTransports.offer(pooledTransport.transport);
+        permits.release();
+    }
+
+    @PreDestroy
+    public void close() {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private Transport createTransport() throws MessagingException {
+        return javaMailSender.getSession().getTransport(javaMailSender.getProtocol());
+    }
+
+    private void connect(Transport transport) throws MessagingException {
+        String username = javaMailSender.getUsername();
+        String password = username != null ? javaMailSender.getPassword() : null;
+
+        transport.connect(javaMailSender.getHost(), javaMailSender.getPort(), username, password);
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException ex) {
+            log.debug("smtp transport close failed", ex);
+        }
+    }
+
+    public class PooledTransport {
+
+        private Transport transport;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        /**
+         * 연결이 끊겨서 실패했으면 다시 연결해서 한 번 더 보낸다.
+         */
+        public void send(MimeMessage message) throws MessagingException {
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+            } catch (MessagingException ex) {
+                if (transport.isConnected()) {
+                    throw ex;
+                }
+
+                close(transport);
+
+                transport = createTransport();
+                connect(transport);
+
+                transport.sendMessage(message, message.getAllRecipients());
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.minecraft.job.integration.mail;
+
+import com.minecraft.job.smtp.SmtpTestServer;
+import com.minecraft.job.smtp.SmtpTestServerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import javax.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :integration:benchmark 로만 돈다. 메일마다 연결하던 기존 방식과 연결 하나로 묶어 보내는 방식의 처리량을 남긴다.
+ */
+@Tag("benchmark")
+class JavaMailApiBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JavaMailApiBenchmarkTest.class);
+
+    private static final int MAIL_COUNT = 200;
+    private static final Duration GREETING_DELAY = Duration.ofMillis(5);
+    private static final String USERNAME = "minecraft";
+    private static final String PASSWORD = "secret";
+
+    private SmtpTestServer smtpServer;
+    private JavaMailSenderImpl javaMailSender;
+    private SpringTemplateEngine templateEngine;
+    private SmtpTransportPool smtpTransportPool;
+    private JavaMailApi javaMailApi;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new SmtpTestServer(SmtpTestServerConfig.defaults()
+                .withStartTls()
+                .withAuth(USERNAME, PASSWORD)
+                .withGreetingDelay(GREETING_DELAY));
+
+        Properties properties = new Properties();
+        properties.put("mail.smtp.auth", "true");
+        properties.put("mail.smtp.starttls.enable", "true");
+        properties.put("mail.smtp.starttls.required", "true");
+        properties.put("mail.smtp.ssl.trust", "*");
+
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(smtpServer.getPort());
+        javaMailSender.setUsername(USERNAME);
+        javaMailSender.setPassword(PASSWORD);
+        javaMailSender.setJavaMailProperties(properties);
+        javaMailSender.setDefaultEncoding(StandardCharsets.UTF_8.name());
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, 1, 1000);
+        javaMailApi = new JavaMailApi(javaMailSender, new MailTemplateRenderer(templateEngine), smtpTransportPool);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpTransportPool.close();
+        smtpServer.close();
+    }
+
+    @Test
+    void 메일_발송_처리량__메일별_연결_vs_묶음_발송() throws Exception {
+        List<Mail> mails = createMails();
+
+        long perMessageStartedAt = System.nanoTime();
+        for (Mail mail : mails) {
+            javaMailSender.send(createMessage(mail));
+        }
+        long perMessageNanos = System.nanoTime() - perMessageStartedAt;
+        int perMessageConnections = smtpServer.getConnectionCount();
+
+        long batchStartedAt = System.nanoTime();
+        List<MailFailure> failures = javaMailApi.sendAll(mails);
+        long batchNanos = System.nanoTime() - batchStartedAt;
+
+        log.info("per-message: {} mails in {} ms ({} mails/s), connections={}",
+                MAIL_COUNT, perMessageNanos / 1_000_000, MAIL_COUNT * 1_000_000_000L / perMessageNanos, perMessageConnections);
+        log.info("batched: {} mails in {} ms ({} mails/s), connections={}",
+                MAIL_COUNT, batchNanos / 1_000_000, MAIL_COUNT * 1_000_000_000L / batchNanos,
+                smtpServer.getConnectionCount() - perMessageConnections);
+        log.info("connection latency: {}, message latency: {}", smtpServer.getConnectionLatency(), smtpServer.getMessageLatency());
+
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.getMessageCount()).isEqualTo(MAIL_COUNT * 2);
+    }
+
+    private List<Mail> createMails() {
+        return IntStream.range(0, MAIL_COUNT)
+                .mapToObj(i -> new Mail(
+                        new String[]{"leader" + i + "@gmail.com"},
+                        MailTemplate.REVIEW_CREATE,
+                        Map.of("teamName", "team", "userNickname", "nickname", "score", 5, "averagePoint", 4.5)
+                ))
+                .toList();
+    }
+
+    private MimeMessage createMessage(Mail mail) throws Exception {
+        MimeMessage message = javaMailSender.createMimeMessage();
+
+        MimeMessageHelper mimeMessageHelper
+                = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
+
+        mimeMessageHelper.setTo(mail.to());
+        mimeMessageHelper.setSubject(mail.mailTemplate().subject);
+
+        Context context = new Context();
+        context.setVariables(mail.values());
+
+        mimeMessageHelper.setText(templateEngine.process(mail.mailTemplate().code, context), true);
+
+        return message;
+    }
+}
@@ -0,0 +1,214 @@
+package com.minecraft.job.integration.mail;
+
+import com.minecraft.job.smtp.SmtpTestServer;
+import com.minecraft.job.smtp.SmtpTestServerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import javax.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaMailApiTest {
+
+    private static final Duration GREETING_DELAY = Duration.ofMillis(5);
+    private static final String USERNAME = "minecraft";
+    private static final String PASSWORD = "secret";
+
+    private SmtpTestServer smtpServer;
+    private JavaMailSenderImpl javaMailSender;
+    private SpringTemplateEngine templateEngine;
+    private SmtpTransportPool smtpTransportPool;
+    private JavaMailApi javaMailApi;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        setUp(SmtpTestServerConfig.defaults());
+    }
+
+    private void setUp(SmtpTestServerConfig config) throws Exception {
+        smtpServer = new SmtpTestServer(config
+                .withStartTls()
+                .withAuth(USERNAME, PASSWORD)
+                .withGreetingDelay(GREETING_DELAY));
+
+        Properties properties = new Properties();
+        properties.put("mail.smtp.auth", "true");
+        properties.put("mail.smtp.starttls.enable", "true");
+        properties.put("mail.smtp.starttls.required", "true");
+        properties.put("mail.smtp.ssl.trust", "*");
+
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(smtpServer.getPort());
+        javaMailSender.setUsername(USERNAME);
+        javaMailSender.setPassword(PASSWORD);
+        javaMailSender.setJavaMailProperties(properties);
+        javaMailSender.setDefaultEncoding(StandardCharsets.UTF_8.name());
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, 1, 1000);
+        javaMailApi = new JavaMailApi(javaMailSender, new MailTemplateRenderer(templateEngine), smtpTransportPool);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpTransportPool.close();
+        smtpServer.close();
+    }
+
+    @Test
+    void 메일_묶음_발송__한_연결로_모두_발송() {
+        List<MailFailure> failures = javaMailApi.sendAll(createMails(50));
+
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.getMessageCount()).isEqualTo(50);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 메일_발송__연결을_재사용() throws Exception {
+        for (Mail mail : createMails(3)) {
+            javaMailApi.send(mail);
+        }
+
+        assertThat(smtpServer.getMessageCount()).isEqualTo(3);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 메일_발송__서버가_유휴_연결을_끊으면_다시_연결() throws Exception {
+        javaMailApi.send(createMails(1).get(0));
+
+        smtpServer.closeConnections();
+
+        javaMailApi.send(createMails(1).get(0));
+
+        assertThat(smtpServer.getMessageCount()).isEqualTo(2);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 메일_발송__TLS_와_인증을_거쳐_받은_메일이_기록됨() throws Exception {
+        javaMailApi.send(createMails(1).get(0));
+
+        assertThat(smtpServer.getMessages()).singleElement().satisfies(message -> {
+            assertThat(message.recipients()).containsExactly("leader0@gmail.com");
+            assertThat(message.data()).contains("Subject:");
+            assertThat(message.receivedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void 메일_묶음_발송__4xx_응답은_일시적_실패() throws Exception {
+        tearDown();
+        setUp(SmtpTestServerConfig.defaults().withFailedMessage(index -> index == 1, 451));
+
+        List<Mail> mails = createMails(3);
+
+        List<MailFailure> failures = javaMailApi.sendAll(mails);
+
+        assertThat(failures).singleElement().satisfies(failure -> {
+            assertThat(failure.mail()).isEqualTo(mails.get(1));
+            assertThat(MailFailureType.classify(failure.cause())).isEqualTo(MailFailureType.TRANSIENT);
+        });
+        assertThat(smtpServer.getMessageCount()).isEqualTo(2);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 메일_묶음_발송__받는_사람_거절은_영구_실패() throws Exception {
+        tearDown();
+        setUp(SmtpTestServerConfig.defaults().withRejectedRecipient(recipient -> recipient.startsWith("leader0@"), 550));
+
+        List<Mail> mails = createMails(3);
+
+        List<MailFailure> failures = javaMailApi.sendAll(mails);
+
+        assertThat(failures).singleElement().satisfies(failure -> {
+            assertThat(failure.mail()).isEqualTo(mails.get(0));
+            assertThat(MailFailureType.classify(failure.cause())).isEqualTo(MailFailureType.PERMANENT);
+        });
+        assertThat(smtpServer.getMessageCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 메일_묶음_발송__서버가_연결을_끊어도_이어서_발송() throws Exception {
+        tearDown();
+        setUp(SmtpTestServerConfig.defaults().withCloseAfterMessages(2));
+
+        List<MailFailure> failures = javaMailApi.sendAll(createMails(5));
+
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.getMessageCount()).isEqualTo(5);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(3);
+    }
+
+    /**
+     * 메일마다 연결하던 기존 방식은 메일 수만큼 연결을 연다. 시간 비교는 JavaMailApiBenchmarkTest 에서 한다.
+     */
+    @Test
+    void 메일_발송_연결_수__메일별_연결_vs_묶음_발송() throws Exception {
+        List<Mail> mails = createMails(20);
+
+        for (Mail mail : mails) {
+            javaMailSender.send(createMessage(mail));
+        }
+        int perMessageConnections = smtpServer.getConnectionCount();
+
+        List<MailFailure> failures = javaMailApi.sendAll(mails);
+        int batchConnections = smtpServer.getConnectionCount() - perMessageConnections;
+
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.getMessageCount()).isEqualTo(mails.size() * 2);
+        assertThat(perMessageConnections).isEqualTo(mails.size());
+        assertThat(batchConnections).isEqualTo(1);
+    }
+
+    private List<Mail> createMails(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Mail(
+                        new String[]{"leader" + i + "@gmail.com"},
+                        MailTemplate.REVIEW_CREATE,
+                        Map.of("teamName", "team", "userNickname", "nickname", "score", 5, "averagePoint", 4.5)
+                ))
+                .toList();
+    }
+
+    private MimeMessage createMessage(Mail mail) throws Exception {
+        MimeMessage message = javaMailSender.createMimeMessage();
+
+        MimeMessageHelper mimeMessageHelper
+                = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
+
+        mimeMessageHelper.setTo(mail.to());
+        mimeMessageHelper.setSubject(mail.mailTemplate().subject);
+
+        Context context = new Context();
+        context.setVariables(mail.values());
+
+        mimeMessageHelper.setText(templateEngine.process(mail.mailTemplate().code, context), true);
+
+        return message;
+    }
+}
@@ -0,0 +1,115 @@
+package com.minecraft.job.integration.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalMailApiTest {
+
+    @TempDir
+    private Path directory;
+
+    private MailTemplateRenderer mailTemplateRenderer;
+    private LocalMailbox localMailbox;
+    private LocalMailApi localMailApi;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+        localMailbox = new LocalMailbox(directory, 256, 10_000);
+        localMailApi = new LocalMailApi(mailTemplateRenderer, localMailbox);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        localMailbox.close();
+    }
+
+    @Test
+    void 로컬_메일_발송__렌더링된_본문을_mbox_에_남김() throws Exception {
+        localMailApi.send(createMail("leader@gmail.com", "team"));
+
+        List<LocalMail> localMails = localMailbox.findAllByRecipient("leader@gmail.com");
+
+        assertThat(localMails).hasSize(1);
+        assertThat(localMails.get(0).mailTemplate()).isEqualTo(MailTemplate.REVIEW_CREATE);
+        assertThat(localMailbox.read(localMails.get(0)))
+                .startsWith("From MAILER-DAEMON ")
+                .contains("Subject: " + MailTemplate.REVIEW_CREATE.subject)
+                .contains("소유하고 계신 team 팀에 새로운 리뷰가 작성 되었습니다.");
+    }
+
+    @Test
+    void 로컬_메일_묶음_발송__받는_사람과_템플릿으로_조회() {
+        List<Mail> mails = IntStream.range(0, 500)
+                .mapToObj(i -> createMail("user" + (i % 10) + "@gmail.com", "team" + i))
+                .toList();
+
+        List<MailFailure> failures = localMailApi.sendAll(mails);
+
+        assertThat(failures).isEmpty();
+        assertThat(localMailbox.findAllByTemplate(MailTemplate.REVIEW_CREATE)).hasSize(500);
+        assertThat(localMailbox.findAllByRecipient("user3@gmail.com")).hasSize(50)
+                .allSatisfy(localMail -> assertThat(localMailbox.read(localMail)).contains("To: user3@gmail.com"));
+    }
+
+    @Test
+    void 로컬_메일_발송_실패__필요한_값이_없음() {
+        Mail mail = new Mail(new String[]{"leader@gmail.com"}, MailTemplate.REVIEW_CREATE, Map.of("teamName", "team"));
+
+        assertThatThrownBy(() -> localMailApi.send(mail)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(localMailApi.sendAll(List.of(mail))).hasSize(1);
+        assertThat(localMailbox.findAllByRecipient("leader@gmail.com")).isEmpty();
+    }
+
+    @Test
+    void 로컬_메일함__다시_열면_index_를_읽어옴() throws Exception {
+        localMailApi.send(createMail("leader@gmail.com", "team"));
+        localMailbox.close();
+
+        localMailbox = new LocalMailbox(directory, 256, 10_000);
+        localMailApi = new LocalMailApi(mailTemplateRenderer, localMailbox);
+        localMailApi.send(createMail("leader@gmail.com", "another"));
+
+        List<LocalMail> localMails = localMailbox.findAllByRecipient("leader@gmail.com");
+
+        assertThat(localMails).extracting(LocalMail::sequence).containsExactly(1L, 2L);
+        assertThat(localMailbox.read(localMails.get(1))).contains("another");
+        assertThat(Files.readAllLines(directory.resolve("index.tsv"))).hasSize(2);
+    }
+
+    @Test
+    void 로컬_메일함__같은_디렉토리는_하나만_사용() {
+        assertThatThrownBy(() -> new LocalMailbox(directory, 256, 10_000)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private Mail createMail(String recipient, String teamName) {
+        return new Mail(
+                new String[]{recipient},
+                MailTemplate.REVIEW_CREATE,
+                Map.of("teamName", teamName, "userNickname", "nickname", "score", 5, "averagePoint", 4.5)
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.minecraft.job.integration.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MailDispatcherTest {
+
+    private final Mail mail = new Mail(new String[]{"leader@gmail.com"}, MailTemplate.REVIEW_CREATE, Map.of("teamName", "team"));
+
+    private MailApi mailApi;
+    private MailDeliveryCallback callback;
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        mailApi = mock(MailApi.class, CALLS_REAL_METHODS);
+        callback = mock(MailDeliveryCallback.class);
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void 메일_발송_성공__발송_후_콜백_호출() throws Exception {
+        MailDispatcher mailDispatcher = createDispatcher(1000);
+
+        boolean accepted = mailDispatcher.dispatch(List.of(mail), callback);
+
+        assertThat(accepted).isTrue();
+        verify(mailApi, timeout(1000)).send(mail);
+        verify(callback, timeout(1000)).onSent(mail);
+
+        mailDispatcher.shutdown();
+    }
+
+    @Test
+    void 메일_발송_실패__실패_원인과_함께_콜백_호출() throws Exception {
+        IllegalStateException cause = new IllegalStateException();
+        doThrow(cause).when(mailApi).send(any());
+
+        MailDispatcher mailDispatcher = createDispatcher(1000);
+
+        mailDispatcher.dispatch(List.of(mail), callback);
+        mailDispatcher.shutdown();
+
+        verify(callback, never()).onSent(any());
+        verify(callback).onFailed(mail, cause);
+        assertThat(meterRegistry.get("notification.mail.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 메일_묶음_발송__메일마다_결과_콜백_호출() throws Exception {
+        Mail failedMail = new Mail(new String[]{"user@gmail.com"}, MailTemplate.REVIEW_CREATE, Map.of("teamName", "team"));
+        doThrow(new IllegalStateException()).when(mailApi).send(failedMail);
+
+        MailDispatcher mailDispatcher = createDispatcher(1000);
+
+        mailDispatcher.dispatch(List.of(mail, failedMail), callback);
+        mailDispatcher.shutdown();
+
+        verify(mailApi).sendAll(List.of(mail, failedMail));
+        verify(callback).onSent(mail);
+        verify(callback).onFailed(eq(failedMail), any(IllegalStateException.class));
+        assertThat(meterRegistry.get("notification.mail.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 메일_발송__큐가_가득_차면_거절() throws Exception {
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(mailApi).send(any());
+
+        MailDispatcher mailDispatcher = createDispatcher(1000);
+
+        mailDispatcher.dispatch(List.of(mail), callback);
+        verify(mailApi, timeout(1000)).send(mail);
+
+        assertThat(mailDispatcher.dispatch(List.of(mail), callback)).isTrue();
+        assertThat(mailDispatcher.getRemainingCapacity()).isZero();
+        assertThat(mailDispatcher.dispatch(List.of(mail), callback)).isFalse();
+
+        assertThat(meterRegistry.get("notification.mail.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "notification").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        mailDispatcher.shutdown();
+    }
+
+    @Test
+    void 종료__남은_메일을_보낸_뒤_종료() throws Exception {
+        MailDispatcher mailDispatcher = createDispatcher(1000);
+
+        mailDispatcher.dispatch(List.of(mail), callback);
+        mailDispatcher.dispatch(List.of(mail), callback);
+
+        mailDispatcher.shutdown();
+
+        verify(mailApi, times(2)).send(mail);
+        assertThat(mailDispatcher.getRemainingCapacity()).isZero();
+    }
+
+    private MailDispatcher createDispatcher(long awaitTerminationMillis) {
+        return new MailDispatcher(mailApi, meterRegistry, 1, 1, 1, awaitTerminationMillis);
+    }
+}
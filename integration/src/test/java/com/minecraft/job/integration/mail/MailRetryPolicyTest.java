@@ -0,0 +1,71 @@
+package com.minecraft.job.integration.mail;
+
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.internet.InternetAddress;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailRetryPolicyTest {
+
+    private final MailRetryPolicy mailRetryPolicy = new MailRetryPolicy(5, 1000, 10_000);
+
+    @Test
+    void 재시도_간격__지수적으로_늘어나되_최대값을_넘지_않음() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(mailRetryPolicy.backoff(1)).isBetween(Duration.ZERO, Duration.ofMillis(1000));
+            assertThat(mailRetryPolicy.backoff(3)).isBetween(Duration.ZERO, Duration.ofMillis(4000));
+            assertThat(mailRetryPolicy.backoff(64)).isBetween(Duration.ZERO, Duration.ofMillis(10_000));
+        }
+    }
+
+    @Test
+    void 재시도_간격__jitter_로_흩어짐() {
+        long distinct = IntStream.range(0, 100)
+                .mapToObj(i -> mailRetryPolicy.backoff(4))
+                .distinct()
+                .count();
+
+        assertThat(distinct).isGreaterThan(50);
+    }
+
+    @Test
+    void 재시도_소진() {
+        assertThat(mailRetryPolicy.isExhausted(4)).isFalse();
+        assertThat(mailRetryPolicy.isExhausted(5)).isTrue();
+    }
+
+    @Test
+    void 실패_분류__연결_끊김은_일시적() {
+        MessagingException cause = new MessagingException("connection closed", new SocketException());
+
+        assertThat(MailFailureType.classify(new MailSendException("failed", cause))).isEqualTo(MailFailureType.TRANSIENT);
+    }
+
+    @Test
+    void 실패_분류__5xx_응답은_영구적() throws Exception {
+        SMTPAddressFailedException rejected = new SMTPAddressFailedException(new InternetAddress("nobody@gmail.com"), "RCPT", 550, "no such user");
+        SendFailedException cause = new SendFailedException("invalid address", rejected);
+
+        assertThat(MailFailureType.classify(cause)).isEqualTo(MailFailureType.PERMANENT);
+    }
+
+    @Test
+    void 실패_분류__4xx_응답은_일시적() throws Exception {
+        SMTPAddressFailedException rejected = new SMTPAddressFailedException(new InternetAddress("busy@gmail.com"), "RCPT", 451, "try again later");
+
+        assertThat(MailFailureType.classify(new SendFailedException("deferred", rejected))).isEqualTo(MailFailureType.TRANSIENT);
+    }
+
+    @Test
+    void 실패_분류__필요한_값이_없으면_영구적() {
+        assertThat(MailFailureType.classify(new IllegalArgumentException())).isEqualTo(MailFailureType.PERMANENT);
+    }
+}
@@ -0,0 +1,106 @@
+package com.minecraft.job.integration.mail;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew :integration:benchmark 로만 돈다. 템플릿마다 매번 파싱하는 기존 방식(spring.thymeleaf.cache=false)과 비교한
+ * 초당 렌더링 수, 렌더링당 할당 바이트를 남긴다.
+ */
+@Tag("benchmark")
+class MailTemplateRendererBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MailTemplateRendererBenchmarkTest.class);
+
+    private static final int WARMUP_COUNT = 2_000;
+    private static final int MEASURE_COUNT = 20_000;
+
+    private static final Map<MailTemplate, Map<String, Object>> VALUES = Map.of(
+            MailTemplate.REVIEW_CREATE, Map.of("teamName", "team", "userNickname", "nickname", "score", 5, "averagePoint", 4.5),
+            MailTemplate.RECRUITMENT_PROCESS_CREATE, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_INPROGRESS, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_PASS, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_FAIL, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_CREATE_DIGEST, Map.of("items", List.of(recruitmentProcessValues(), recruitmentProcessValues()))
+    );
+
+    @Test
+    void 메일_렌더링_처리량() {
+        MailTemplateRenderer mailTemplateRenderer = new MailTemplateRenderer(createTemplateEngine(true));
+        SpringTemplateEngine uncachedTemplateEngine = createTemplateEngine(false);
+
+        for (MailTemplate mailTemplate : MailTemplate.values()) {
+            Map<String, Object> values = VALUES.get(mailTemplate);
+
+            Result uncached = measure(() -> {
+                Context context = new Context();
+                context.setVariables(values);
+
+                return uncachedTemplateEngine.process(mailTemplate.code, context);
+            });
+            Result cached = measure(() -> mailTemplateRenderer.render(mailTemplate, values));
+
+            log.info("{} uncached: {} renders/s {} B/render | renderer: {} renders/s {} B/render",
+                    mailTemplate, uncached.rendersPerSecond(), uncached.bytesPerRender(),
+                    cached.rendersPerSecond(), cached.bytesPerRender());
+        }
+    }
+
+    private Result measure(Supplier<String> render) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long length = 0;
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            length += render.get().length();
+        }
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            length += render.get().length();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(length).isPositive();
+
+        return new Result(MEASURE_COUNT * 1_000_000_000L / elapsedNanos, allocated / MEASURE_COUNT);
+    }
+
+    private static SpringTemplateEngine createTemplateEngine(boolean cacheable) {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(cacheable);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        return templateEngine;
+    }
+
+    private static Map<String, Object> recruitmentProcessValues() {
+        return Map.of("teamName", "team", "userNickname", "nickname", "recruitmentName", "recruitment");
+    }
+
+    private record Result(long rendersPerSecond, long bytesPerRender) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.minecraft.job.integration.mail;
+
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateRendererTest {
+
+    private static final Map<MailTemplate, Map<String, Object>> VALUES = Map.of(
+            MailTemplate.REVIEW_CREATE, Map.of("teamName", "team", "userNickname", "nickname", "score", 5, "averagePoint", 4.5),
+            MailTemplate.RECRUITMENT_PROCESS_CREATE, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_INPROGRESS, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_PASS, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_FAIL, recruitmentProcessValues(),
+            MailTemplate.RECRUITMENT_PROCESS_CREATE_DIGEST, Map.of("items", List.of(recruitmentProcessValues(), recruitmentProcessValues()))
+    );
+
+    private final MailTemplateRenderer mailTemplateRenderer = new MailTemplateRenderer(createTemplateEngine());
+
+    @Test
+    void 메일_렌더링_성공() {
+        for (MailTemplate mailTemplate : MailTemplate.values()) {
+            String html = mailTemplateRenderer.render(mailTemplate, VALUES.get(mailTemplate));
+
+            assertThat(html).contains("team");
+        }
+    }
+
+    @Test
+    void 메일_렌더링_성공__digest_는_알림마다_한_줄() {
+        String html = mailTemplateRenderer.render(MailTemplate.RECRUITMENT_PROCESS_CREATE_DIGEST, VALUES.get(MailTemplate.RECRUITMENT_PROCESS_CREATE_DIGEST));
+
+        assertThat(html).contains("2 건");
+        assertThat(html.split("<li>")).hasSize(3);
+    }
+
+    @Test
+    void 메일_렌더링_실패__필요한_값이_없음() {
+        assertThatThrownBy(() -> mailTemplateRenderer.render(MailTemplate.REVIEW_CREATE, Map.of("teamName", "team")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SpringTemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        return templateEngine;
+    }
+
+    private static Map<String, Object> recruitmentProcessValues() {
+        return Map.of("teamName", "team", "userNickname", "nickname", "recruitmentName", "recruitment");
+    }
+}
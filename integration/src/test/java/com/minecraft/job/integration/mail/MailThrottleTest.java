@@ -0,0 +1,168 @@
+package com.minecraft.job.integration.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MailThrottle mailThrottle = new MailThrottle(createProperties(1), meterRegistry);
+    private final AtomicLong mailOutboxIds = new AtomicLong();
+
+    @Test
+    void 발송량_제한__burst_까지는_바로_발송() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(tryAcquire(createMail("user@gmail.com"))).isZero();
+        }
+
+        assertThat(tryAcquire(createMail("user@gmail.com"))).isPositive();
+    }
+
+    @Test
+    void 발송량_제한__미룬_메일은_token_간격으로_줄을_섬() {
+        for (int i = 0; i < 5; i++) {
+            tryAcquire(createMail("user@gmail.com"));
+        }
+
+        Duration first = tryAcquire(createMail("user@gmail.com"));
+        Duration second = tryAcquire(createMail("user@gmail.com"));
+
+        assertThat(second.minus(first)).isBetween(Duration.ofMillis(90), Duration.ofMillis(110));
+    }
+
+    @Test
+    void 발송량_제한__미룬_메일은_예약한_시각이_지나서_다시_오면_바로_발송() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            tryAcquire(createMail("user@gmail.com"));
+        }
+
+        Mail mail = createMail("user@gmail.com");
+        Duration delay = mailThrottle.tryAcquire(1_000L, mail);
+        Duration next = tryAcquire(createMail("user@gmail.com"));
+
+        assertThat(delay).isPositive();
+        assertThat(next.minus(delay)).isBetween(Duration.ofMillis(90), Duration.ofMillis(110));
+
+        Thread.sleep(delay.toMillis() + 1);
+
+        assertThat(mailThrottle.tryAcquire(1_000L, mail)).isZero();
+        assertThat(mailThrottle.tryAcquire(1_000L, mail)).isPositive();
+    }
+
+    @Test
+    void 발송량_제한__미룬_메일이_예약한_시각보다_일찍_오면_남은_시간만큼_다시_미룸() {
+        for (int i = 0; i < 5; i++) {
+            tryAcquire(createMail("user@gmail.com"));
+        }
+
+        Mail mail = createMail("user@gmail.com");
+        Duration delay = mailThrottle.tryAcquire(1_000L, mail);
+        Duration early = mailThrottle.tryAcquire(1_000L, mail);
+        Duration next = tryAcquire(createMail("user@gmail.com"));
+
+        assertThat(early).isPositive().isLessThanOrEqualTo(delay);
+        assertThat(next.minus(delay)).isBetween(Duration.ofMillis(90), Duration.ofMillis(110));
+    }
+
+    @Test
+    void 발송량_제한__노드_수로_나눠서_제한() {
+        MailThrottle nodeThrottle = new MailThrottle(createProperties(2), meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(nodeThrottle.tryAcquire(mailOutboxIds.incrementAndGet(), createMail("user@gmail.com"))).isZero();
+        }
+
+        Duration deferred = nodeThrottle.tryAcquire(mailOutboxIds.incrementAndGet(), createMail("user@gmail.com"));
+        Duration next = nodeThrottle.tryAcquire(mailOutboxIds.incrementAndGet(), createMail("user@gmail.com"));
+
+        assertThat(deferred).isPositive();
+        assertThat(next.minus(deferred)).isBetween(Duration.ofMillis(190), Duration.ofMillis(210));
+    }
+
+    @Test
+    void 발송량_제한__도메인마다_따로_제한() {
+        for (int i = 0; i < 5; i++) {
+            tryAcquire(createMail("user@gmail.com"));
+        }
+
+        assertThat(tryAcquire(createMail("user@naver.com"))).isZero();
+        assertThat(tryAcquire(createMail("user@GMAIL.com"))).isPositive();
+    }
+
+    @Test
+    void 발송량_제한__동시에_가져가도_burst_만큼만_바로_발송() throws Exception {
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+
+                for (int j = 0; j < 100; j++) {
+                    if (tryAcquire(createMail("user@gmail.com")).isZero()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        long refilled = Duration.ofNanos(System.nanoTime() - startedAt).toMillis() / 100;
+
+        assertThat(acquired.get()).isBetween(5, 5 + (int) refilled + 1);
+    }
+
+    @Test
+    void 발송량_제한__미룬_메일_지표() {
+        mailThrottle.recordQueued(createMail("user@gmail.com"), Duration.ofSeconds(1));
+        mailThrottle.recordQueued(createMail("user@naver.com"), Duration.ofSeconds(1));
+
+        assertThat(meterRegistry.get("mail.throttle.queued").tag("domain", "gmail.com").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.throttle.queued").tag("domain", "other").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.throttle.delay").tag("domain", "gmail.com").timer().count()).isEqualTo(1);
+    }
+
+    private Duration tryAcquire(Mail mail) {
+        return mailThrottle.tryAcquire(mailOutboxIds.incrementAndGet(), mail);
+    }
+
+    private MailThrottleProperties createProperties(int nodes) {
+        MailThrottleProperties.Rate gmail = new MailThrottleProperties.Rate();
+        gmail.setPermitsPerSecond(10);
+        gmail.setBurst(5);
+
+        MailThrottleProperties properties = new MailThrottleProperties();
+        properties.setNodes(nodes);
+        properties.setDomains(Map.of("gmail.com", gmail));
+
+        return properties;
+    }
+
+    private Mail createMail(String recipient) {
+        return new Mail(new String[]{recipient}, MailTemplate.REVIEW_CREATE, Map.of());
+    }
+}
@@ -0,0 +1,42 @@
+package com.minecraft.job.smtp;
+
+import java.util.Collection;
+
+/**
+ * 지연 시간 분포 (ms). 백분위는 nearest-rank.
+ */
+public record LatencySummary(
+        int count,
+        double p50,
+        double p90,
+        double p99,
+        double max
+) {
+
+    public static LatencySummary of(Collection<Long> nanos) {
+        long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        if (sorted.length == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0);
+        }
+
+        return new LatencySummary(
+                sorted.length,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / 1e6
+        );
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms", count, p50, p90, p99, max);
+    }
+}
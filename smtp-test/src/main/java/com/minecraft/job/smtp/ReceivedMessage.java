@@ -0,0 +1,13 @@
+package com.minecraft.job.smtp;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ReceivedMessage(
+        int connectionId,
+        String from,
+        List<String> recipients,
+        String data,
+        Instant receivedAt
+) {
+}
@@ -0,0 +1,377 @@
+package com.minecraft.job.smtp;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트에 넣어 쓰는 SMTP 서버. 받은 메일을 시각과 함께 기록한다.
+ * <p>
+ * STARTTLS(자체 서명 인증서, 클라이언트는 mail.smtp.ssl.trust 로 믿어야 한다), AUTH LOGIN/PLAIN,
+ * 응답 지연, 받는 사람 거절, 메일 거절, 연결 끊기를 SmtpTestServerConfig 로 설정한다.
+ * <p>
+ * 연결 지연: 연결을 받은 때부터 연결이 끝날 때까지
+ * 메일 지연: MAIL FROM 을 받은 때부터 DATA 에 응답할 때까지
+ */
+public class SmtpTestServer implements AutoCloseable {
+
+    private static final String KEYSTORE = "smtp-test.p12";
+    private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
+
+    private final SmtpTestServerConfig config;
+    private final ServerSocket serverSocket;
+    private final SSLContext sslContext;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger messageIndex = new AtomicInteger();
+    private final Queue<ReceivedMessage> messages = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> connectionNanos = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> messageNanos = new ConcurrentLinkedQueue<>();
+
+    public SmtpTestServer(SmtpTestServerConfig config) throws IOException {
+        this.config = config;
+        this.sslContext = config.startTls() ? createSslContext() : null;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+
+        executor.execute(this::accept);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public List<ReceivedMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    public int getMessageCount() {
+        return messages.size();
+    }
+
+    public LatencySummary getConnectionLatency() {
+        return LatencySummary.of(connectionNanos);
+    }
+
+    public LatencySummary getMessageLatency() {
+        return LatencySummary.of(messageNanos);
+    }
+
+    /**
+     * 서버가 유휴 연결을 끊는 상황을 흉내 낸다.
+     */
+    public void closeConnections() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        closeConnections();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+
+                sockets.add(socket);
+
+                int connectionId = connectionCount.incrementAndGet();
+                executor.execute(() -> new Session(connectionId, socket).run());
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+
+    private SSLContext createSslContext() throws IOException {
+        try (InputStream inputStream = SmtpTestServer.class.getClassLoader().getResourceAsStream(KEYSTORE)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(inputStream, KEYSTORE_PASSWORD);
+
+            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD);
+
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagerFactory.getKeyManagers(), null, null);
+
+            return context;
+        } catch (GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private class Session {
+
+        private final int connectionId;
+        private final long connectedAt = System.nanoTime();
+
+        private Socket socket;
+        private BufferedReader reader;
+        private OutputStream writer;
+
+        private boolean tls;
+        private boolean authenticated;
+        private String from;
+        private final List<String> recipients = new ArrayList<>();
+        private long messageStartedAt;
+        private int connectionMessageCount;
+
+        private Session(int connectionId, Socket socket) {
+            this.connectionId = connectionId;
+            this.socket = socket;
+        }
+
+        private void run() {
+            try {
+                open(socket);
+
+                Thread.sleep(config.greetingDelay().toMillis());
+                reply("220 localhost ESMTP");
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!handle(line)) {
+                        break;
+                    }
+                }
+            } catch (IOException | InterruptedException ex) {
+                // 연결이 끊겼다.
+            } finally {
+                close();
+            }
+        }
+
+        private boolean handle(String line) throws IOException, InterruptedException {
+            String command = line.length() < 4 ? line.toUpperCase(Locale.ROOT) : line.substring(0, 4).toUpperCase(Locale.ROOT);
+
+            switch (command) {
+                case "EHLO" -> ehlo();
+                case "HELO" -> reply("250 localhost");
+                case "STAR" -> startTls();
+                case "AUTH" -> auth(line);
+                case "MAIL" -> mail(line);
+                case "RCPT" -> rcpt(line);
+                case "DATA" -> {
+                    return data();
+                }
+                case "RSET" -> {
+                    reset();
+                    reply("250 OK");
+                }
+                case "QUIT" -> {
+                    reply("221 bye");
+                    return false;
+                }
+                default -> reply("250 OK");
+            }
+
+            return true;
+        }
+
+        private void ehlo() throws IOException, InterruptedException {
+            List<String> extensions = new ArrayList<>();
+            extensions.add("localhost");
+
+            if (config.startTls() && !tls) {
+                extensions.add("STARTTLS");
+            }
+            if (config.requiresAuth()) {
+                extensions.add("AUTH LOGIN PLAIN");
+            }
+            extensions.add("8BITMIME");
+
+            StringBuilder reply = new StringBuilder();
+            for (int i = 0; i < extensions.size(); i++) {
+                reply.append(i == extensions.size() - 1 ? "250 " : "250-").append(extensions.get(i));
+
+                if (i < extensions.size() - 1) {
+                    reply.append("\r\n");
+                }
+            }
+
+            reply(reply.toString());
+        }
+
+        private void startTls() throws IOException, InterruptedException {
+            if (!config.startTls() || tls) {
+                reply("502 STARTTLS not available");
+                return;
+            }
+
+            reply("220 Ready to start TLS");
+
+            SSLSocket sslSocket = (SSLSocket) sslContext.getSocketFactory()
+                    .createSocket(socket, socket.getInetAddress().getHostAddress(), socket.getPort(), true);
+            sslSocket.setUseClientMode(false);
+            sslSocket.startHandshake();
+
+            sockets.remove(socket);
+            sockets.add(sslSocket);
+
+            open(sslSocket);
+            tls = true;
+        }
+
+        private void auth(String line) throws IOException, InterruptedException {
+            String[] parts = line.split(" ");
+            String mechanism = parts.length > 1 ? parts[1].toUpperCase(Locale.ROOT) : "";
+
+            String username;
+            String password;
+
+            if (mechanism.equals("LOGIN")) {
+                reply("334 " + encode("Username:"));
+                username = decode(reader.readLine());
+                reply("334 " + encode("Password:"));
+                password = decode(reader.readLine());
+            } else if (mechanism.equals("PLAIN")) {
+                String response = parts.length > 2 ? parts[2] : null;
+
+                if (response == null) {
+                    reply("334 ");
+                    response = reader.readLine();
+                }
+
+                String[] credentials = decode(response).split("\0");
+                username = credentials.length > 1 ? credentials[1] : "";
+                password = credentials.length > 2 ? credentials[2] : "";
+            } else {
+                reply("504 unrecognized authentication type");
+                return;
+            }
+
+            authenticated = config.username().equals(username) && config.password().equals(password);
+
+            reply(authenticated ? "235 2.7.0 Authentication successful" : "535 5.7.8 Authentication credentials invalid");
+        }
+
+        private void mail(String line) throws IOException, InterruptedException {
+            if (config.requiresAuth() && !authenticated) {
+                reply("530 5.7.0 Authentication required");
+                return;
+            }
+
+            reset();
+            messageStartedAt = System.nanoTime();
+            from = address(line);
+
+            reply("250 OK");
+        }
+
+        private void rcpt(String line) throws IOException, InterruptedException {
+            String recipient = address(line);
+
+            if (config.rejectedRecipient().test(recipient)) {
+                reply(config.rejectCode() + " recipient rejected");
+                return;
+            }
+
+            recipients.add(recipient);
+
+            reply("250 OK");
+        }
+
+        private boolean data() throws IOException, InterruptedException {
+            reply("354 end with <CRLF>.<CRLF>");
+
+            StringBuilder data = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals(".")) {
+                data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+            }
+
+            if (config.failedMessage().test(messageIndex.getAndIncrement())) {
+                reply(config.failureCode() + " message rejected");
+            } else {
+                messages.add(new ReceivedMessage(connectionId, from, List.copyOf(recipients), data.toString(), Instant.now()));
+                reply("250 OK");
+            }
+
+            messageNanos.add(System.nanoTime() - messageStartedAt);
+            reset();
+
+            connectionMessageCount++;
+
+            return config.closeAfterMessages() == 0 || connectionMessageCount < config.closeAfterMessages();
+        }
+
+        private void reset() {
+            from = null;
+            recipients.clear();
+        }
+
+        private void open(Socket socket) throws IOException {
+            this.socket = socket;
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            this.writer = socket.getOutputStream();
+        }
+
+        private void reply(String line) throws IOException, InterruptedException {
+            if (!config.replyDelay().isZero()) {
+                Thread.sleep(config.replyDelay().toMillis());
+            }
+
+            writer.write((line + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            writer.flush();
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException ex) {
+                // 이미 닫혔다.
+            }
+
+            sockets.remove(socket);
+            connectionNanos.add(System.nanoTime() - connectedAt);
+        }
+
+        private String address(String line) {
+            int start = line.indexOf('<');
+            int end = line.indexOf('>');
+
+            return start < 0 || end < start ? line.substring(line.indexOf(':') + 1).trim() : line.substring(start + 1, end);
+        }
+
+        private String encode(String value) {
+            return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private String decode(String value) {
+            return value == null ? "" : new String(Base64.getDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.minecraft.job.smtp;
+
+import java.time.Duration;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * SmtpTestServer 설정.
+ * <p>
+ * rejectedRecipient: RCPT TO 에서 rejectCode 로 거절할 받는 사람
+ * failedMessage: 서버가 받은 n 번째(0 부터) 메일을 DATA 끝에서 failureCode 로 거절
+ * closeAfterMessages: 한 연결에서 이만큼 받으면 연결을 끊는다. (유휴 연결 종료 흉내, 0 이면 끊지 않음)
+ */
+public record SmtpTestServerConfig(
+        boolean startTls,
+        String username,
+        String password,
+        Duration greetingDelay,
+        Duration replyDelay,
+        Predicate<String> rejectedRecipient,
+        int rejectCode,
+        IntPredicate failedMessage,
+        int failureCode,
+        int closeAfterMessages
+) {
+
+    public static SmtpTestServerConfig defaults() {
+        return new SmtpTestServerConfig(false, null, null, Duration.ZERO, Duration.ZERO,
+                recipient -> false, 550, index -> false, 451, 0);
+    }
+
+    public boolean requiresAuth() {
+        return username != null;
+    }
+
+    public SmtpTestServerConfig withStartTls() {
+        return new SmtpTestServerConfig(true, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+
+    public SmtpTestServerConfig withAuth(String username, String password) {
+        return new SmtpTestServerConfig(startTls, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+
+    public SmtpTestServerConfig withGreetingDelay(Duration greetingDelay) {
+        return new SmtpTestServerConfig(startTls, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+
+    public SmtpTestServerConfig withReplyDelay(Duration replyDelay) {
+        return new SmtpTestServerConfig(startTls, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+
+    public SmtpTestServerConfig withRejectedRecipient(Predicate<String> rejectedRecipient, int rejectCode) {
+        return new SmtpTestServerConfig(startTls, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+
+    public SmtpTestServerConfig withFailedMessage(IntPredicate failedMessage, int failureCode) {
+        return new SmtpTestServerConfig(startTls, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+
+    public SmtpTestServerConfig withCloseAfterMessages(int closeAfterMessages) {
+        return new SmtpTestServerConfig(startTls, username, password, greetingDelay, replyDelay,
+                rejectedRecipient, rejectCode, failedMessage, failureCode, closeAfterMessages);
+    }
+}
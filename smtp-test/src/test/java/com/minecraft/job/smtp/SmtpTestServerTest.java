@@ -0,0 +1,104 @@
+package com.minecraft.job.smtp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmtpTestServerTest {
+
+    private SmtpTestServer smtpServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new SmtpTestServer(SmtpTestServerConfig.defaults());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    @Test
+    void 메일_수신__받은_메일이_기록됨() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), smtpServer.getPort())) {
+            SmtpClient client = new SmtpClient(socket);
+
+            assertThat(client.read()).startsWith("220");
+            assertThat(client.send("EHLO test")).contains("250 8BITMIME");
+            assertThat(client.send("MAIL FROM:<sender@gmail.com>")).startsWith("250");
+            assertThat(client.send("RCPT TO:<leader@gmail.com>")).startsWith("250");
+            assertThat(client.send("DATA")).startsWith("354");
+            assertThat(client.send("Subject: hello\r\n\r\nbody\r\n.")).startsWith("250");
+            assertThat(client.send("QUIT")).startsWith("221");
+        }
+
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+        assertThat(smtpServer.getMessages()).singleElement().satisfies(message -> {
+            assertThat(message.from()).isEqualTo("sender@gmail.com");
+            assertThat(message.recipients()).containsExactly("leader@gmail.com");
+            assertThat(message.data()).contains("Subject: hello", "body");
+            assertThat(message.receivedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void 메일_수신_실패__거절한_받는_사람() throws Exception {
+        tearDown();
+        smtpServer = new SmtpTestServer(SmtpTestServerConfig.defaults().withRejectedRecipient(recipient -> recipient.startsWith("leader@"), 550));
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), smtpServer.getPort())) {
+            SmtpClient client = new SmtpClient(socket);
+
+            client.read();
+            client.send("HELO test");
+            client.send("MAIL FROM:<sender@gmail.com>");
+
+            assertThat(client.send("RCPT TO:<leader@gmail.com>")).startsWith("550");
+        }
+
+        assertThat(smtpServer.getMessageCount()).isZero();
+    }
+
+    /**
+     * 명령 한 줄을 보내고 응답을 읽는다. 여러 줄 응답은 마지막 줄까지 이어서 반환한다.
+     */
+    private static class SmtpClient {
+
+        private final BufferedReader reader;
+        private final OutputStream writer;
+
+        private SmtpClient(Socket socket) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            this.writer = socket.getOutputStream();
+        }
+
+        private String send(String line) throws IOException {
+            writer.write((line + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            writer.flush();
+
+            return read();
+        }
+
+        private String read() throws IOException {
+            StringBuilder reply = new StringBuilder();
+
+            String line;
+            do {
+                line = reader.readLine();
+                reply.append(line).append('\n');
+            } while (line != null && line.length() > 3 && line.charAt(3) == '-');
+
+            return reply.toString();
+        }
+    }
+}